@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.caching.markets;
+
+import static org.mockito.Mockito.mock;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.sportradar.uf.sportsapi.datamodel.DescMarket;
+import com.sportradar.uf.sportsapi.datamodel.MarketDescriptions;
+import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketDescriptionCI;
+import com.sportradar.unifiedodds.sdk.entities.markets.MarketDescription;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.CacheItemNotFoundException;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.IllegalCacheStateException;
+import com.sportradar.unifiedodds.sdk.impl.DataProvider;
+import com.sportradar.unifiedodds.sdk.impl.markets.MappingValidatorFactory;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the throughput of the {@link VariantMarketDescriptionCache} read path when many threads resolve a mix
+ * of the already cached variant markets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@SuppressWarnings({ "HideUtilityClassConstructor", "MagicNumber", "VisibilityModifier" })
+public class VariantMarketDescriptionCacheBenchmark {
+
+    private static final int MARKET_ID = 534;
+    private static final List<Locale> LOCALES = ImmutableList.of(Locale.ENGLISH, Locale.GERMAN);
+
+    @Param({ "16", "1024" })
+    public int variantCount;
+
+    private VariantMarketDescriptionCache cache;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        MappingValidatorFactory mappingValidatorFactory = mock(MappingValidatorFactory.class);
+        Cache<String, MarketDescriptionCI> ciCache = CacheBuilder.newBuilder().build();
+        for (int i = 0; i < variantCount; i++) {
+            MarketDescriptionCI ci = new MarketDescriptionCI(
+                descMarket(i, Locale.ENGLISH),
+                mappingValidatorFactory,
+                Locale.ENGLISH,
+                "benchmark"
+            );
+            ci.merge(descMarket(i, Locale.GERMAN), Locale.GERMAN);
+            ciCache.put(MARKET_ID + "_" + variant(i), ci);
+        }
+        cache = new VariantMarketDescriptionCache(ciCache, mock(DataProvider.class), mappingValidatorFactory, false);
+    }
+
+    @Benchmark
+    public MarketDescription getMarketDescriptor() throws CacheItemNotFoundException, IllegalCacheStateException {
+        String variant = variant(ThreadLocalRandom.current().nextInt(variantCount));
+        return cache.getMarketDescriptor(MARKET_ID, variant, LOCALES);
+    }
+
+    private static DescMarket descMarket(int index, Locale locale) {
+        DescMarket market = new DescMarket();
+        market.setId(MARKET_ID);
+        market.setName("Variant market " + index + " " + locale.getLanguage());
+        market.setVariant(variant(index));
+        return market;
+    }
+
+    private static String variant(int index) {
+        return "pre:markettext:" + index;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(VariantMarketDescriptionCacheBenchmark.class.getSimpleName()).build())
+            .run();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.exceptions.internal.DeserializationException;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import javax.xml.bind.JAXBContext;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the {@link JaxbMessageDecoder} with the {@link StreamingMessageDecoder} on the sample odds change
+ * message. Run with the main method from the IDE or with the test classpath, it is not part of the test suite.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+// the jaxb runtime bytecode optimizer relies on Unsafe.defineClass which is not available on newer jdks
+@Fork(value = 1, jvmArgsAppend = "-Dcom.sun.xml.bind.v2.bytecode.ClassTailor.noOptimize=true")
+@SuppressWarnings({ "ClassFanOutComplexity", "HideUtilityClassConstructor", "MagicNumber", "VisibilityModifier" })
+public class MessageDecoderBenchmark {
+
+    @Param({ "odds_change.xml", "test/feed_xml/bet_settlement.xml", "test/feed_xml/bet_stop.xml" })
+    public String resource;
+
+    private byte[] body;
+    private JaxbMessageDecoder jaxbDecoder;
+    private StreamingMessageDecoder streamingDecoder;
+
+    @Setup
+    public void setup() throws Exception {
+        body =
+            Files.readAllBytes(Paths.get(this.getClass().getClassLoader().getResource(resource).toURI()));
+        jaxbDecoder = new JaxbMessageDecoder(JAXBContext.newInstance("com.sportradar.uf.datamodel"));
+        streamingDecoder = new StreamingMessageDecoder(jaxbDecoder);
+    }
+
+    @Benchmark
+    public UnmarshalledMessage jaxb() throws DeserializationException {
+        return jaxbDecoder.decode(body);
+    }
+
+    @Benchmark
+    public UnmarshalledMessage streaming() throws DeserializationException {
+        return streamingDecoder.decode(body);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MessageDecoderBenchmark.class.getSimpleName()).build()).run();
+    }
+}
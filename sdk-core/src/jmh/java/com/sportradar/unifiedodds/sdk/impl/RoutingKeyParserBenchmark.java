@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the {@link RegexRoutingKeyParser} with the {@link SinglePassRoutingKeyParser} on typical routing keys.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@SuppressWarnings({ "HideUtilityClassConstructor", "MagicNumber", "VisibilityModifier" })
+public class RoutingKeyParserBenchmark {
+
+    @Param(
+        {
+            "hi.-.live.odds_change.1.sr:match.43201589.-",
+            "lo.pre.-.bet_settlement.5.sr:simple_tournament.86027",
+            "-.-.-.snapshot_complete.-.-.-.1",
+        }
+    )
+    public String routingKey;
+
+    private final RoutingKeyParser regexParser = new RegexRoutingKeyParser();
+    private final RoutingKeyParser singlePassParser = new SinglePassRoutingKeyParser();
+
+    @Benchmark
+    public RoutingKeyInfo regex() {
+        return regexParser.getRoutingKeyInfo(routingKey);
+    }
+
+    @Benchmark
+    public RoutingKeyInfo singlePass() {
+        return singlePassParser.getRoutingKeyInfo(routingKey);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RoutingKeyParserBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -7,11 +7,11 @@ import com.sportradar.unifiedodds.sdk.entities.FixtureChange;
 import com.sportradar.unifiedodds.sdk.entities.ResultChange;
 import com.sportradar.unifiedodds.sdk.entities.SportEvent;
 import com.sportradar.unifiedodds.sdk.impl.SportsInfoManagerImpl;
+import com.sportradar.unifiedodds.sdk.impl.util.SdkThreads;
 import com.sportradar.utils.URN;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -61,9 +61,11 @@ public class EventChangeManagerImpl implements EventChangeManager {
     private static final Logger clientInteractionLogger = LoggerFactory.getLogger(
         LoggerDefinitions.UFSdkClientInteractionLog.class
     );
+    private static final String SCHEDULER_NAME_PREFIX = "UfSdk-EventChange-";
     private final SDKInternalConfiguration configuration;
     private final SportEventCache sportEventCache;
     private final SportsInfoManagerImpl sportsInfoManager;
+    private final boolean useVirtualThreads;
     private final ScheduledExecutorService fixtureTaskScheduler;
     private final ScheduledExecutorService resultTaskScheduler;
     private ScheduledFuture<?> fixtureFuture;
@@ -92,8 +94,9 @@ public class EventChangeManagerImpl implements EventChangeManager {
         this.sportsInfoManager = (SportsInfoManagerImpl) sportsInfoManager;
         this.sportEventCache = sportEventCache;
         this.configuration = configuration;
-        this.fixtureTaskScheduler = Executors.newScheduledThreadPool(1);
-        this.resultTaskScheduler = Executors.newScheduledThreadPool(1);
+        this.useVirtualThreads = configuration.getUseVirtualThreads();
+        this.fixtureTaskScheduler = SdkThreads.newScheduledExecutor(SCHEDULER_NAME_PREFIX, useVirtualThreads);
+        this.resultTaskScheduler = SdkThreads.newScheduledExecutor(SCHEDULER_NAME_PREFIX, useVirtualThreads);
 
         setFixtureChangeInterval(Duration.ofMinutes(60));
         setResultChangeInterval(Duration.ofMinutes(60));
@@ -232,7 +235,7 @@ public class EventChangeManagerImpl implements EventChangeManager {
         try {
             if (service.isShutdown()) {
                 if (isFixture) fixtureFuture = null; else resultFuture = null;
-                service = Executors.newScheduledThreadPool(1);
+                service = SdkThreads.newScheduledExecutor(SCHEDULER_NAME_PREFIX, useVirtualThreads);
             }
             if (isFixture) {
                 if (fixtureFuture == null) {
@@ -11,6 +11,7 @@ import com.sportradar.unifiedodds.sdk.oddsentities.Producer;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Used to obtain information about available markets and get translations for markets and outcomes
@@ -33,6 +34,27 @@ public interface MarketDescriptionManager {
      */
     List<MarketDescription> getMarketDescriptions(Locale locale);
 
+    /**
+     * Asynchronously provides the list of all available static market descriptions, the missing descriptions are
+     * requested without blocking the calling thread
+     *
+     * @return a future completed with the list of available static market descriptions
+     */
+    default CompletableFuture<List<MarketDescription>> getMarketDescriptionsAsync() {
+        return CompletableFuture.supplyAsync(this::getMarketDescriptions);
+    }
+
+    /**
+     * Asynchronously provides the list of all available static market descriptions in the provided {@link Locale},
+     * the missing descriptions are requested without blocking the calling thread
+     *
+     * @param locale the language in which the market static descriptions should be translated
+     * @return a future completed with the list of available market descriptions in the provided {@link Locale}
+     */
+    default CompletableFuture<List<MarketDescription>> getMarketDescriptionsAsync(Locale locale) {
+        return CompletableFuture.supplyAsync(() -> getMarketDescriptions(locale));
+    }
+
     /**
      * Returns a list of available mappings for the provided marketId/producer combination
      *
@@ -30,13 +30,18 @@ import com.sportradar.unifiedodds.sdk.impl.rabbitconnection.AMQPConnectionFactor
 import com.sportradar.unifiedodds.sdk.impl.recovery.SingleRecoveryManagerSupervisor;
 import com.sportradar.unifiedodds.sdk.replay.ReplayManager;
 import com.sportradar.utils.URN;
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 import lombok.NonNull;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -72,6 +77,11 @@ public class OddsFeed {
      */
     private static final Logger logger = LoggerFactory.getLogger(OddsFeed.class);
 
+    /**
+     * The number of messages a session dispatch lane can hold if no capacity is specified
+     */
+    private static final int DEFAULT_DISPATCH_LANE_QUEUE_CAPACITY = 1000;
+
     /**
      * The injector used by this feed instance
      */
@@ -150,6 +160,11 @@ public class OddsFeed {
      */
     private EventChangeManager eventChangeManager;
 
+    /**
+     * The cache snapshot used to warm-start the caches when the feed is opened, if any
+     */
+    private Path cacheWarmStartSnapshot;
+
     /**
      * The most basic feed constructor
      *
@@ -395,6 +410,20 @@ public class OddsFeed {
         return eventChangeManager;
     }
 
+    /**
+     * Sets the cache snapshot (written by {@link SportsInfoManager#cacheExport(EnumSet, java.io.OutputStream)})
+     * which is imported into the caches when the feed is opened, before the sessions are opened. If the snapshot
+     * does not exist or cannot be read, the feed is opened with empty caches.
+     *
+     * @param snapshotFile the path of the cache snapshot file
+     */
+    public void setCacheWarmStartSnapshot(Path snapshotFile) {
+        Preconditions.checkNotNull(snapshotFile);
+        Preconditions.checkState(!feedOpened, "The cache warm-start snapshot must be set before the feed is opened");
+
+        this.cacheWarmStartSnapshot = snapshotFile;
+    }
+
     /**
      * This method opens/starts the feed with all the built sessions and
      * creates the various tasks needed for optimal OddsFeed operation
@@ -404,6 +433,7 @@ public class OddsFeed {
     public void open() throws InitException {
         if (!this.feedOpened) {
             this.initOddsFeedInstance();
+            this.warmStartCaches();
             if (!createdSessionData.isEmpty()) {
                 // disable the producers that are not requested by specified message interests
                 Set<Integer> requestedProducers = new HashSet<>();
@@ -552,6 +582,16 @@ public class OddsFeed {
         } catch (Exception ex) {
             logger.warn("Error during close - RecoveryHttpClient", ex);
         }
+        try {
+            injector.getInstance(CloseableHttpAsyncClient.class).close();
+        } catch (Exception ex) {
+            logger.warn("Error during close - AsyncHttpClient", ex);
+        }
+        try {
+            injector.getInstance(Key.get(ExecutorService.class, Names.named("AsyncApiExecutor"))).shutdownNow();
+        } catch (Exception ex) {
+            logger.warn("Error during close - AsyncApiExecutor", ex);
+        }
         try {
             injector.getInstance(SDKTaskScheduler.class).shutdownNow();
         } catch (Exception ex) {
@@ -643,6 +683,22 @@ public class OddsFeed {
         feedInitialized = true;
     }
 
+    private void warmStartCaches() {
+        if (cacheWarmStartSnapshot == null) {
+            return;
+        }
+
+        if (Files.exists(cacheWarmStartSnapshot)) {
+            try (InputStream input = new BufferedInputStream(Files.newInputStream(cacheWarmStartSnapshot))) {
+                sportsInfoManager.cacheImport(input);
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Failed to warm-start the caches from snapshot {}", cacheWarmStartSnapshot, e);
+            }
+        } else {
+            logger.info("Cache snapshot {} does not exist, the caches are not warm-started", cacheWarmStartSnapshot);
+        }
+    }
+
     protected Injector createSdkInjector(
         SDKGlobalEventsListener listener,
         CustomisableSDKModule customisableSDKModule
@@ -708,6 +764,11 @@ public class OddsFeed {
         private MessageInterest msgInterestLevel;
         private HashSet<URN> eventIds;
         private HashSet<GenericOddsFeedListener> specificOddsFeedListeners;
+        private int dispatchLaneCount;
+        private int dispatchLaneQueueCapacity;
+        private boolean lazyMarkets;
+        private Set<Integer> marketIds;
+        private List<Set<Integer>> sportChannelPartitions;
 
         OddsFeedSessionBuilderImpl(OddsFeed oddsFeed) {
             this.oddsFeed = oddsFeed;
@@ -761,16 +822,77 @@ public class OddsFeed {
             return setSpecificEventsOnly(Collections.singleton(specificEventsOnly));
         }
 
+        @Override
+        public OddsFeedSessionBuilder setParallelDispatch(int laneCount) {
+            return setParallelDispatch(laneCount, DEFAULT_DISPATCH_LANE_QUEUE_CAPACITY);
+        }
+
+        @Override
+        public OddsFeedSessionBuilder setParallelDispatch(int laneCount, int laneQueueCapacity) {
+            Preconditions.checkArgument(laneCount > 0, "laneCount must be greater than 0");
+            Preconditions.checkArgument(laneQueueCapacity > 0, "laneQueueCapacity must be greater than 0");
+
+            this.dispatchLaneCount = laneCount;
+            this.dispatchLaneQueueCapacity = laneQueueCapacity;
+
+            return this;
+        }
+
+        @Override
+        public OddsFeedSessionBuilder setLazyMarketMaterialization(boolean enabled) {
+            this.lazyMarkets = enabled;
+            return this;
+        }
+
+        @Override
+        public OddsFeedSessionBuilder setOddsChangeMarketFilter(Set<Integer> marketIds) {
+            Preconditions.checkNotNull(marketIds, "marketIds cannot be a null reference");
+
+            this.marketIds = marketIds;
+            return this;
+        }
+
+        @Override
+        public OddsFeedSessionBuilder setSportChannelPartitions(List<Set<Integer>> sportIdPartitions) {
+            Preconditions.checkNotNull(sportIdPartitions, "sportIdPartitions cannot be a null reference");
+            Set<Integer> partitionedSports = new HashSet<>();
+            for (Set<Integer> partition : sportIdPartitions) {
+                Preconditions.checkArgument(
+                    partition != null && !partition.isEmpty(),
+                    "sport id partitions cannot be empty"
+                );
+                for (Integer sportId : partition) {
+                    Preconditions.checkArgument(partitionedSports.add(sportId), "sport id partitions must be disjoint");
+                }
+            }
+
+            this.sportChannelPartitions = sportIdPartitions;
+            return this;
+        }
+
         @Override
         public OddsFeedSession build() {
             // TODO @eti: handle specific event listeners
             OddsFeedSessionImpl session = injector.getInstance(OddsFeedSessionImpl.class);
+            if (dispatchLaneCount > 0) {
+                session.setParallelDispatch(dispatchLaneCount, dispatchLaneQueueCapacity);
+            }
+            session.setLazyMarketMaterialization(lazyMarkets);
+            session.setOddsChangeMarketFilter(marketIds);
+            if (sportChannelPartitions != null) {
+                session.setSportChannelPartitions(sportChannelPartitions);
+            }
             this.oddsFeed.createSession(session, msgInterestLevel, eventIds, mainOddsFeedListener);
 
             this.msgInterestLevel = null;
             this.eventIds = null;
             this.mainOddsFeedListener = null;
             this.specificOddsFeedListeners = null;
+            this.dispatchLaneCount = 0;
+            this.dispatchLaneQueueCapacity = 0;
+            this.lazyMarkets = false;
+            this.marketIds = null;
+            this.sportChannelPartitions = null;
 
             return session;
         }
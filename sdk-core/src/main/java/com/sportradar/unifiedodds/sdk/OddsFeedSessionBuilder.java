@@ -6,6 +6,7 @@ package com.sportradar.unifiedodds.sdk;
 
 import com.sportradar.utils.URN;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 @SuppressWarnings({ "IllegalType" })
@@ -60,6 +61,73 @@ public interface OddsFeedSessionBuilder {
         return null;
     }
 
+    /**
+     * Enables parallel dispatch for the session: the received messages are processed on the provided number of lanes,
+     * messages of the same sport event are always processed on the same lane and therefore in order, while messages
+     * of different events are processed in parallel. Each lane buffers up to 1000 messages, after that the message
+     * reception is held back until the lane catches up.
+     * Messages not associated with a sport event (snapshot_complete, alive, ...) are barriers across all the lanes:
+     * they are processed once all the lanes processed the messages received before them, and no lane processes
+     * the messages received after them until they were processed. So a snapshot_complete can not overtake the
+     * snapshot messages still queued on any lane.
+     *
+     * @param laneCount the number of lanes processing the messages in parallel
+     * @return the current session builder
+     */
+    default OddsFeedSessionBuilder setParallelDispatch(int laneCount) {
+        return null;
+    }
+
+    /**
+     * Enables parallel dispatch for the session, see {@link #setParallelDispatch(int)}
+     *
+     * @param laneCount the number of lanes processing the messages in parallel
+     * @param laneQueueCapacity the max number of messages waiting on a single lane
+     * @return the current session builder
+     */
+    default OddsFeedSessionBuilder setParallelDispatch(int laneCount, int laneQueueCapacity) {
+        return null;
+    }
+
+    /**
+     * Enables lazy market materialization for the session: the markets of the dispatched odds_change messages
+     * are built on the first {@link com.sportradar.unifiedodds.sdk.oddsentities.OddsChange#getMarkets()} call
+     * instead of before the message is dispatched. Listeners which do not read the markets of every message
+     * avoid building them altogether.
+     *
+     * @param enabled an indication whether the markets should be built on the first access
+     * @return the current session builder
+     */
+    default OddsFeedSessionBuilder setLazyMarketMaterialization(boolean enabled) {
+        return null;
+    }
+
+    /**
+     * Limits the markets of the odds_change messages dispatched by the session to the provided market ids,
+     * the other markets carried by the messages are skipped without being built
+     *
+     * @param marketIds the ids of the markets which should be provided
+     * @return the current session builder
+     */
+    default OddsFeedSessionBuilder setOddsChangeMarketFilter(Set<Integer> marketIds) {
+        return null;
+    }
+
+    /**
+     * Spreads the messages of the session over multiple AMQP channels, which are received and decoded in parallel.
+     * Each provided set of sport ids gets its own channel (and queue), while an additional channel receives the system
+     * messages and the messages of the remaining sports. All the channels share the SDK connection.
+     * The messages of the same sport event are always received on the same channel and therefore processed in order,
+     * the order of the messages received on different channels (including the system messages) is not guaranteed.
+     * Partitioning is only applied to sessions whose message interest is not limited to specific events.
+     *
+     * @param sportIdPartitions disjoint sets of sport ids (ex: 1 for soccer), one set per dedicated channel
+     * @return the current session builder
+     */
+    default OddsFeedSessionBuilder setSportChannelPartitions(List<Set<Integer>> sportIdPartitions) {
+        return null;
+    }
+
     /**
      * This function creates the newly configured session using the supplied message interest and listeners
      *
@@ -38,6 +38,27 @@ public interface RecoveryManager {
         String eventId
     );
 
+    /**
+     * Method invoked when the AMQP message processing ended, with the time spent processing the message. Unlike
+     * {@link #onMessageProcessingStarted} and {@link #onMessageProcessingEnded}, it does not keep any state per
+     * message processor, so it can be invoked concurrently for the same session (ex: by its dispatch lanes)
+     *
+     * @param producerId the source producer of the message
+     * @param requestId the recovery request id of the message (if present)
+     * @param receivedAt the timestamp of when the message was received
+     * @param processedMessageGenTimestamp the generated timestamp of the processed message
+     * @param eventId the eventId associated with feed message (if present)
+     * @param processingTime the time spent processing the message, in milliseconds
+     */
+    void onMessageProcessed(
+        int producerId,
+        Long requestId,
+        long receivedAt,
+        Long processedMessageGenTimestamp,
+        String eventId,
+        long processingTime
+    );
+
     /**
      * Method invoked when the message of type "Alive" is received
      *
@@ -236,6 +236,64 @@ public abstract class SDKConfigurationReader {
             });
     }
 
+    public Optional<Integer> readMessagingPrefetchCount() {
+        return Optional
+            .ofNullable(sdkProperties.get("uf.sdk.messagingPrefetchCount"))
+            .map(value -> {
+                int prefetchCount = Integer.parseInt(value);
+
+                if (prefetchCount < 0) {
+                    throw new IllegalArgumentException(
+                        "The provided uf.sdk.messagingPrefetchCount must not be negative, value: " + value
+                    );
+                }
+                return prefetchCount;
+            });
+    }
+
+    public Optional<Integer> readCacheImportParallelism() {
+        return Optional
+            .ofNullable(sdkProperties.get("uf.sdk.cacheImportParallelism"))
+            .map(value -> {
+                int parallelism = Integer.parseInt(value);
+
+                if (parallelism <= 0) {
+                    throw new IllegalArgumentException(
+                        "The provided uf.sdk.cacheImportParallelism must be positive, value: " + value
+                    );
+                }
+                return parallelism;
+            });
+    }
+
+    public Optional<Boolean> readUseVirtualThreads() {
+        return Optional
+            .ofNullable(sdkProperties.get("uf.sdk.useVirtualThreads"))
+            .map(value -> value.equals("true"));
+    }
+
+    public Optional<SpecifierValidationMode> readSpecifierValidationMode() {
+        return Optional
+            .ofNullable(sdkProperties.get("uf.sdk.specifierValidationMode"))
+            .map(value ->
+                Arrays
+                    .stream(SpecifierValidationMode.values())
+                    .filter(mode -> mode.name().equalsIgnoreCase(value))
+                    .findFirst()
+                    .orElseThrow(() ->
+                        new IllegalArgumentException(
+                            "The provided uf.sdk.specifierValidationMode is not a valid mode, value: " + value
+                        )
+                    )
+            );
+    }
+
+    public Optional<Boolean> readHttpClientCompression() {
+        return Optional
+            .ofNullable(sdkProperties.get("uf.sdk.httpClientCompression"))
+            .map(value -> value.equals("true"));
+    }
+
     public Optional<Integer> readRecoveryHttpClientTimeout() {
         return Optional
             .ofNullable(sdkProperties.get("uf.sdk.recoveryHttpClientTimeout"))
@@ -8,6 +8,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.sportradar.unifiedodds.sdk.cfg.Environment;
 import com.sportradar.unifiedodds.sdk.cfg.OddsFeedConfiguration;
+import com.sportradar.unifiedodds.sdk.instrumentation.FeedMessageInstrumentation;
 import com.sportradar.utils.SdkHelper;
 import java.util.*;
 import lombok.NonNull;
@@ -57,6 +58,12 @@ public class SDKInternalConfiguration {
     private final int httpClientMaxConnPerRoute;
     private final int recoveryHttpClientMaxConnTotal;
     private final int recoveryHttpClientMaxConnPerRoute;
+    private final int messagingPrefetchCount;
+    private final boolean httpClientCompression;
+    private final FeedMessageInstrumentation feedMessageInstrumentation;
+    private final int cacheImportParallelism;
+    private final boolean useVirtualThreads;
+    private final SpecifierValidationMode specifierValidationMode;
 
     SDKInternalConfiguration(
         OddsFeedConfiguration cfg,
@@ -100,6 +107,12 @@ public class SDKInternalConfiguration {
         recoveryHttpClientTimeout = cfg.getRecoveryHttpClientTimeout();
         recoveryHttpClientMaxConnTotal = cfg.getRecoveryHttpClientMaxConnTotal();
         recoveryHttpClientMaxConnPerRoute = cfg.getRecoveryHttpClientMaxConnPerRoute();
+        messagingPrefetchCount = cfg.getMessagingPrefetchCount();
+        httpClientCompression = cfg.getHttpClientCompression();
+        feedMessageInstrumentation = cfg.getFeedMessageInstrumentation();
+        cacheImportParallelism = cfg.getCacheImportParallelism();
+        useVirtualThreads = cfg.getUseVirtualThreads();
+        specifierValidationMode = cfg.getSpecifierValidationMode();
 
         cleanTrafficLogEntries =
             sdkConfigurationPropertiesReader
@@ -366,6 +379,61 @@ public class SDKInternalConfiguration {
         return recoveryHttpClientMaxConnPerRoute;
     }
 
+    /**
+     * Returns the max number of unacknowledged messages the AMQP broker delivers to a single session channel
+     *
+     * @return the max number of unacknowledged messages per channel, or 0 if the messages are acknowledged
+     * automatically upon delivery
+     */
+    public int getMessagingPrefetchCount() {
+        return messagingPrefetchCount;
+    }
+
+    /**
+     * Returns the value indicating whether the API responses are requested compressed
+     *
+     * @return true if the API responses are requested compressed; otherwise false
+     */
+    public boolean getHttpClientCompression() {
+        return httpClientCompression;
+    }
+
+    /**
+     * Returns the {@link FeedMessageInstrumentation} which receives the timings of the processed feed messages
+     *
+     * @return the {@link FeedMessageInstrumentation} which receives the timings, or null if none was set
+     */
+    public FeedMessageInstrumentation getFeedMessageInstrumentation() {
+        return feedMessageInstrumentation;
+    }
+
+    /**
+     * Returns the max number of threads used to import the cache items
+     *
+     * @return the max number of threads used to import the cache items
+     */
+    public int getCacheImportParallelism() {
+        return cacheImportParallelism;
+    }
+
+    /**
+     * Indicates if the blocking SDK work should run on virtual threads (only supported on Java 21 or newer)
+     *
+     * @return true if the blocking SDK work should run on virtual threads; otherwise false
+     */
+    public boolean getUseVirtualThreads() {
+        return useVirtualThreads;
+    }
+
+    /**
+     * Returns the mode used to validate the market specifiers of the received messages
+     *
+     * @return the mode used to validate the market specifiers of the received messages
+     */
+    public SpecifierValidationMode getSpecifierValidationMode() {
+        return specifierValidationMode;
+    }
+
     /**
      * Updates the API host - this method can be used only while in replay mode, no other SDK modes support this
      *
@@ -407,6 +475,12 @@ public class SDKInternalConfiguration {
             .add("recoveryHttpClientTimeout=" + recoveryHttpClientTimeout)
             .add("recoveryHttpClientMaxConnTotal=" + recoveryHttpClientMaxConnTotal)
             .add("recoveryHttpClientMaxConnPerRoute=" + recoveryHttpClientMaxConnPerRoute)
+            .add("messagingPrefetchCount=" + messagingPrefetchCount)
+            .add("httpClientCompression=" + httpClientCompression)
+            .add("feedMessageInstrumentation=" + feedMessageInstrumentation)
+            .add("cacheImportParallelism=" + cacheImportParallelism)
+            .add("useVirtualThreads=" + useVirtualThreads)
+            .add("specifierValidationMode=" + specifierValidationMode)
             .add("disabledProducers=" + disabledProducers)
             .add("simpleVariantCaching=" + simpleVariantCaching)
             .add("schedulerTasksToSkip=" + schedulerTasksToSkip)
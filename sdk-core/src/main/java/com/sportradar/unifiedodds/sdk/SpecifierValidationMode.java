@@ -0,0 +1,30 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk;
+
+/**
+ * An indication on how should be the market specifiers of the received messages validated against the
+ * market descriptions
+ */
+// Constant names should comply with a naming convention
+@SuppressWarnings({ "java:S115", "NoEnumTrailingComma" })
+public enum SpecifierValidationMode {
+    /**
+     * The specifiers of each market are validated against the market description
+     */
+    Always,
+
+    /**
+     * The validation result of each market id and specifier keys combination is cached until the market
+     * descriptions are reloaded
+     */
+    Cached,
+
+    /**
+     * Same as {@link #Cached}, but once the specifiers of a market passed the validation, the specifiers of the
+     * market are not validated again until the market descriptions are reloaded
+     */
+    OncePerMarket,
+}
@@ -4,15 +4,22 @@
 
 package com.sportradar.unifiedodds.sdk;
 
+import com.sportradar.unifiedodds.sdk.caching.exportable.CacheImportReport;
 import com.sportradar.unifiedodds.sdk.caching.exportable.CacheType;
 import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableCI;
 import com.sportradar.unifiedodds.sdk.cfg.OddsFeedConfiguration;
 import com.sportradar.unifiedodds.sdk.entities.*;
 import com.sportradar.utils.URN;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
 import java.util.Date;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Defines methods implemented by classes used to provide sport related data (sports, tournaments, competitions, ...)
@@ -171,6 +178,31 @@ public interface SportsInfoManager {
      */
     Competition getCompetition(URN id, Locale locale);
 
+    /**
+     * Asynchronously provides a {@link Competition} representing the specified competition
+     * (the returned data is translated in the configured {@link Locale}s using the {@link OddsFeedConfiguration}).
+     * The missing competition data is requested without blocking the calling thread.
+     *
+     * @param id - an {@link URN} identifier specifying the competition requested
+     * @return - a future completed with the {@link Competition} representing the specified competition
+     */
+    default CompletableFuture<Competition> getCompetitionAsync(URN id) {
+        return CompletableFuture.supplyAsync(() -> getCompetition(id));
+    }
+
+    /**
+     * Asynchronously provides a {@link Competition} representing the specified competition
+     * (the returned data is translated in the specified {@link Locale}).
+     * The missing competition data is requested without blocking the calling thread.
+     *
+     * @param id     - an {@link URN} identifier specifying the competition requested
+     * @param locale - the {@link Locale} in which to provide the data
+     * @return - a future completed with the {@link Competition} representing the specified competition
+     */
+    default CompletableFuture<Competition> getCompetitionAsync(URN id, Locale locale) {
+        return CompletableFuture.supplyAsync(() -> getCompetition(id, locale));
+    }
+
     /**
      * Returns a {@link Competitor} representing the specified competitor
      * (the returned data is translated in the configured {@link Locale}s using the {@link OddsFeedConfiguration})
@@ -388,6 +420,16 @@ public interface SportsInfoManager {
         return null;
     }
 
+    /**
+     * Exports current items in the cache as a compact snapshot (see {@link com.sportradar.unifiedodds.sdk.caching.exportable.CacheSnapshotWriter}), which can be
+     * imported with {@link #cacheImport(InputStream)}
+     *
+     * @param cacheType specifies what type of cache items will be exported
+     * @param output the stream to which the snapshot is written, it is closed once the snapshot is written
+     * @throws IOException if the snapshot could not be written
+     */
+    default void cacheExport(EnumSet<CacheType> cacheType, OutputStream output) throws IOException {}
+
     /**
      * Imports provided items into caches
      *
@@ -395,6 +437,29 @@ public interface SportsInfoManager {
      */
     default void cacheImport(List<ExportableCI> items) {}
 
+    /**
+     * Imports the items of a snapshot written by {@link #cacheExport(EnumSet, OutputStream)} into caches
+     *
+     * @param input the stream from which the snapshot is read, it is closed once the snapshot is read
+     * @return the number of imported items
+     * @throws IOException if the snapshot could not be read
+     */
+    default int cacheImport(InputStream input) throws IOException {
+        return 0;
+    }
+
+    /**
+     * Imports provided items into caches and reports the number of items imported into each cache, the time
+     * spent importing them and the resulting cache status
+     *
+     * @param items List of {@link ExportableCI} containing the items to be imported
+     * @return the {@link CacheImportReport} of each cache
+     */
+    default Map<CacheType, CacheImportReport> cacheImportWithReport(List<ExportableCI> items) {
+        cacheImport(items);
+        return Collections.emptyMap();
+    }
+
     /**
      * Returns all the available lotteries
      * (the returned data is translated in the specified {@link Locale})
@@ -17,6 +17,7 @@ import com.sportradar.utils.URN;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Created on 26/10/2017.
@@ -26,9 +27,48 @@ import java.util.Locale;
 public interface DataRouterManager {
     void requestSummaryEndpoint(Locale locale, URN id, CacheItem requester) throws CommunicationException;
 
+    /**
+     * Requests the summary in each of the provided locales, the implementations may request the locales concurrently
+     */
+    default void requestSummaryEndpointInLocales(List<Locale> locales, URN id, CacheItem requester)
+        throws CommunicationException {
+        for (Locale locale : locales) {
+            requestSummaryEndpoint(locale, id, requester);
+        }
+    }
+
+    /**
+     * Requests the summary without blocking the calling thread, the returned future is completed once the summary
+     * is routed to the caches, or completed exceptionally with a {@link CommunicationException}
+     */
+    default CompletableFuture<Void> requestSummaryEndpointAsync(Locale locale, URN id, CacheItem requester) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        try {
+            requestSummaryEndpoint(locale, id, requester);
+            result.complete(null);
+        } catch (CommunicationException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
     void requestFixtureEndpoint(Locale locale, URN id, boolean useCachedProvider, CacheItem requester)
         throws CommunicationException;
 
+    /**
+     * Requests the fixture in each of the provided locales, the implementations may request the locales concurrently
+     */
+    default void requestFixtureEndpointInLocales(
+        List<Locale> locales,
+        URN id,
+        boolean useCachedProvider,
+        CacheItem requester
+    ) throws CommunicationException {
+        for (Locale locale : locales) {
+            requestFixtureEndpoint(locale, id, useCachedProvider, requester);
+        }
+    }
+
     void requestDrawSummary(Locale locale, URN id, CacheItem requester) throws CommunicationException;
 
     void requestDrawFixture(Locale locale, URN id, CacheItem requester) throws CommunicationException;
@@ -49,10 +89,43 @@ public interface DataRouterManager {
     void requestPlayerProfileEndpoint(Locale locale, URN id, CacheItem requester)
         throws CommunicationException;
 
+    /**
+     * Requests the player profile in each of the provided locales, the implementations may request the locales
+     * concurrently
+     */
+    default void requestPlayerProfileEndpointInLocales(List<Locale> locales, URN id, CacheItem requester)
+        throws CommunicationException {
+        for (Locale locale : locales) {
+            requestPlayerProfileEndpoint(locale, id, requester);
+        }
+    }
+
     void requestCompetitorEndpoint(Locale locale, URN id, CacheItem requester) throws CommunicationException;
 
+    /**
+     * Requests the competitor profile in each of the provided locales, the implementations may request the locales
+     * concurrently
+     */
+    default void requestCompetitorEndpointInLocales(List<Locale> locales, URN id, CacheItem requester)
+        throws CommunicationException {
+        for (Locale locale : locales) {
+            requestCompetitorEndpoint(locale, id, requester);
+        }
+    }
+
     void requestSimpleTeamEndpoint(Locale locale, URN id, CacheItem requester) throws CommunicationException;
 
+    /**
+     * Requests the simple team profile in each of the provided locales, the implementations may request the locales
+     * concurrently
+     */
+    default void requestSimpleTeamEndpointInLocales(List<Locale> locales, URN id, CacheItem requester)
+        throws CommunicationException {
+        for (Locale locale : locales) {
+            requestSimpleTeamEndpoint(locale, id, requester);
+        }
+    }
+
     List<URN> requestSeasonsFor(Locale locale, URN tournamentID) throws CommunicationException;
 
     SAPIMatchTimelineEndpoint requestEventTimelineEndpoint(Locale locale, URN id, CacheItem requester)
@@ -85,5 +158,15 @@ public interface DataRouterManager {
         List<Integer> periods
     ) throws CommunicationException;
 
+    /**
+     * Returns the number of requests which were not sent to the API, because an identical request was already
+     * in flight
+     *
+     * @return the number of deduplicated requests
+     */
+    default long getDeduplicatedRequestCount() {
+        return 0;
+    }
+
     void close();
 }
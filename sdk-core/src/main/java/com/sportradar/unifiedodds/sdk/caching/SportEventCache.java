@@ -11,6 +11,7 @@ import com.sportradar.utils.URN;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.Consumer;
 
 /**
  * Created on 20/10/2017.
@@ -26,6 +27,16 @@ public interface SportEventCache {
      */
     SportEventCI getEventCacheItem(URN id) throws CacheItemNotFoundException;
 
+    /**
+     * Returns the already cached {@link SportEventCI} instance, without loading it if it is not cached
+     *
+     * @param id an {@link URN} specifying the id of the sport event
+     * @return the cached {@link SportEventCI} instance, or null if the sport event is not cached
+     */
+    default SportEventCI getEventCacheItemIfPresent(URN id) {
+        return null;
+    }
+
     /**
      * Returns a {@link List} containing id's of sport events, which belong to a specific tournament
      *
@@ -53,6 +64,14 @@ public interface SportEventCache {
      */
     void purgeCacheItem(URN id);
 
+    /**
+     * Registers a listener notified with the id of each item purged from the {@link SportEventCache} (purged
+     * explicitly or deleted by the schedule), so the data derived from the purged items can be released
+     *
+     * @param listener the listener notified with the ids of the purged items
+     */
+    default void addPurgeListener(Consumer<URN> listener) {}
+
     /**
      * Method that gets triggered when the associated event gets booked trough the {@link BookingManager}
      *
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.caching.ci.markets;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Memoises the immutable views built from a cache item, so the views are built once and shared until the cache
+ * item changes. Each view is stored with the version of the cache item it was built from, so a view built
+ * concurrently with a change of the cache item is never returned after the change.
+ *
+ * @param <K> the type of the key identifying the view (ex: the locales of the view)
+ * @param <V> the type of the view
+ */
+final class DescriptionSnapshots<K, V> {
+
+    private final Cache<K, Snapshot<V>> snapshots;
+    private final UnaryOperator<K> keyCopier;
+    private final AtomicLong version = new AtomicLong();
+
+    private DescriptionSnapshots(Cache<K, Snapshot<V>> snapshots, UnaryOperator<K> keyCopier) {
+        this.snapshots = snapshots;
+        this.keyCopier = keyCopier;
+    }
+
+    /**
+     * Creates snapshots identified by the equal keys
+     *
+     * @param maxSize the max number of memoised views
+     * @param keyCopier the function copying the (possibly mutable) keys before they are stored
+     * @return the created snapshots
+     */
+    static <K, V> DescriptionSnapshots<K, V> keyedByValue(long maxSize, UnaryOperator<K> keyCopier) {
+        return new DescriptionSnapshots<>(CacheBuilder.newBuilder().maximumSize(maxSize).build(), keyCopier);
+    }
+
+    /**
+     * Creates snapshots identified by the identity of the keys, the views are released once their keys are
+     * garbage collected
+     *
+     * @return the created snapshots
+     */
+    static <K, V> DescriptionSnapshots<K, V> keyedByIdentity() {
+        return new DescriptionSnapshots<>(CacheBuilder.newBuilder().weakKeys().build(), UnaryOperator.identity());
+    }
+
+    /**
+     * Returns the memoised view identified by the provided key, building it if the cache item changed since
+     * the view was built
+     *
+     * @param key the key identifying the view
+     * @param viewFactory the function building the view from the current state of the cache item
+     * @return the view identified by the provided key
+     */
+    V get(K key, Function<K, V> viewFactory) {
+        Preconditions.checkNotNull(key);
+        Preconditions.checkNotNull(viewFactory);
+
+        long currentVersion = version.get();
+        Snapshot<V> snapshot = snapshots.getIfPresent(key);
+        if (snapshot != null && snapshot.version == currentVersion) {
+            return snapshot.view;
+        }
+
+        V view = viewFactory.apply(key);
+        snapshots.put(keyCopier.apply(key), new Snapshot<>(currentVersion, view));
+        return view;
+    }
+
+    /**
+     * Discards all the memoised views, must be called each time the cache item changes
+     */
+    void invalidate() {
+        version.incrementAndGet();
+        snapshots.invalidateAll();
+    }
+
+    private static final class Snapshot<V> {
+
+        private final long version;
+        private final V view;
+
+        private Snapshot(long version, V view) {
+            this.version = version;
+            this.view = view;
+        }
+    }
+}
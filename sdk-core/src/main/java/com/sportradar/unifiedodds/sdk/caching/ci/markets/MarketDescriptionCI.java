@@ -12,11 +12,14 @@ import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.sportradar.uf.sportsapi.datamodel.DescMarket;
 import com.sportradar.uf.sportsapi.datamodel.Mappings;
+import com.sportradar.unifiedodds.sdk.entities.markets.MarketDescription;
 import com.sportradar.unifiedodds.sdk.impl.UnifiedFeedConstants;
 import com.sportradar.unifiedodds.sdk.impl.markets.MappingValidatorFactory;
 import com.sportradar.utils.SdkHelper;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,10 +45,20 @@ import org.slf4j.LoggerFactory;
 public class MarketDescriptionCI {
 
     private static final Logger logger = LoggerFactory.getLogger(MarketDescriptionCI.class);
+
+    /**
+     * The max number of memoised descriptions, one is memoised for each requested locale set
+     */
+    private static final int MAX_SNAPSHOTS = 16;
+
+    private final DescriptionSnapshots<List<Locale>, MarketDescription> snapshots = DescriptionSnapshots.keyedByValue(
+        MAX_SNAPSHOTS,
+        ImmutableList::copyOf
+    );
     private final int id;
     private final Map<Locale, String> names;
     private final Map<Locale, String> descriptions;
-    private final List<MarketMappingCI> mappings;
+    private List<MarketMappingCI> mappings;
     private final List<MarketOutcomeCI> outcomes;
     private final List<MarketSpecifierCI> specifiers;
     private final List<MarketAttributeCI> attributes;
@@ -125,7 +138,7 @@ public class MarketDescriptionCI {
                     .map(MarketAttributeCI::new)
                     .collect(Collectors.toList());
 
-        fetchedLocales = Collections.synchronizedList(new ArrayList<>());
+        fetchedLocales = new CopyOnWriteArrayList<>();
         fetchedLocales.add(locale);
 
         this.mappingValidatorFactory = mappingValidatorFactory;
@@ -198,6 +211,7 @@ public class MarketDescriptionCI {
 
         fetchedLocales.add(locale);
         this.lastDataReceived = new Date();
+        snapshots.invalidate();
     }
 
     public int getId() {
@@ -248,10 +262,39 @@ public class MarketDescriptionCI {
         return ImmutableList.copyOf(fetchedLocales);
     }
 
+    /**
+     * Checks if the translations in all the provided locales are cached, without locking or copying the cached
+     * locales
+     *
+     * @param locales the locales which should be checked
+     * @return true if the translations in all the provided locales are cached; otherwise false
+     */
+    public boolean hasCachedLocales(List<Locale> locales) {
+        return fetchedLocales.containsAll(locales);
+    }
+
+    /**
+     * Returns the immutable description in the provided locales, the description is built once and shared
+     * until this cache item changes
+     *
+     * @param locales the locales of the description
+     * @param snapshotFactory the function building the description from this cache item in the provided locales
+     * @return the description in the provided locales
+     */
+    public MarketDescription getSnapshot(
+        List<Locale> locales,
+        BiFunction<MarketDescriptionCI, List<Locale>, MarketDescription> snapshotFactory
+    ) {
+        return snapshots.get(locales, l -> snapshotFactory.apply(this, l));
+    }
+
     public void mergeAdditionalMappings(List<Mappings.Mapping> additionalMappings) {
         if (additionalMappings == null) {
             return;
         }
+        if (mappings == null) {
+            mappings = new ArrayList<>(additionalMappings.size());
+        }
 
         for (Mappings.Mapping additionalMapping : additionalMappings) {
             MarketMappingCI newMappingElement = new MarketMappingCI(
@@ -280,6 +323,7 @@ public class MarketDescriptionCI {
                 mappings.add(newMappingElement);
             }
         }
+        snapshots.invalidate();
     }
 
     private String combineOutcomeType(String outcomeType, String includesOutcomesOfType) {
@@ -302,6 +346,7 @@ public class MarketDescriptionCI {
 
     public void setLastDataReceived(Date lastDataReceived) {
         this.lastDataReceived = lastDataReceived;
+        snapshots.invalidate();
     }
 
     public boolean canBeFetched() {
@@ -7,9 +7,11 @@ package com.sportradar.unifiedodds.sdk.caching.ci.markets;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.sportradar.uf.sportsapi.datamodel.*;
+import com.sportradar.unifiedodds.sdk.entities.markets.MarketDescription;
 import com.sportradar.unifiedodds.sdk.impl.markets.MappingValidatorFactory;
 import com.sportradar.utils.SdkHelper;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +34,9 @@ public class VariantDescriptionCI {
 
     private static final Logger logger = LoggerFactory.getLogger(VariantDescriptionCI.class);
 
+    private final DescriptionSnapshots<MarketDescription, MarketDescription> snapshots =
+        DescriptionSnapshots.keyedByIdentity();
+
     private final String id;
     private final List<MarketOutcomeCI> outcomes;
     private final List<MarketMappingCI> mappings;
@@ -146,6 +151,23 @@ public class VariantDescriptionCI {
         cachedLocales.add(dataLocale);
 
         this.lastDataReceived = new Date();
+        snapshots.invalidate();
+    }
+
+    /**
+     * Returns the immutable description of the variant market, built by merging this variant into the provided
+     * market description. The description is built once for each market description and shared until this
+     * cache item changes.
+     *
+     * @param marketDescription the (memoised) description of the market into which the variant is merged
+     * @param snapshotFactory the function merging this variant into the provided market description
+     * @return the description of the variant market
+     */
+    public MarketDescription getMergedSnapshot(
+        MarketDescription marketDescription,
+        Function<MarketDescription, MarketDescription> snapshotFactory
+    ) {
+        return snapshots.get(marketDescription, snapshotFactory);
     }
 
     public List<Locale> getCachedLocales() {
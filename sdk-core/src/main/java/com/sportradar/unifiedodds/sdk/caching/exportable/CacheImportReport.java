@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.caching.exportable;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+
+/**
+ * Describes the import of the cache items into a single cache
+ */
+public final class CacheImportReport {
+
+    private final CacheType cacheType;
+    private final int itemCount;
+    private final long elapsedMillis;
+    private final Map<String, Long> cacheStatus;
+
+    /**
+     * Initializes a new {@link CacheImportReport}
+     *
+     * @param cacheType the type of the cache into which the items were imported
+     * @param itemCount the number of items imported into the cache
+     * @param elapsedMillis the time spent importing the items, in milliseconds
+     * @param cacheStatus the status of the cache once the items were imported
+     */
+    public CacheImportReport(CacheType cacheType, int itemCount, long elapsedMillis, Map<String, Long> cacheStatus) {
+        Preconditions.checkNotNull(cacheType);
+        Preconditions.checkNotNull(cacheStatus);
+
+        this.cacheType = cacheType;
+        this.itemCount = itemCount;
+        this.elapsedMillis = elapsedMillis;
+        this.cacheStatus = ImmutableMap.copyOf(cacheStatus);
+    }
+
+    /**
+     * Returns the type of the cache into which the items were imported
+     *
+     * @return the type of the cache into which the items were imported
+     */
+    public CacheType getCacheType() {
+        return cacheType;
+    }
+
+    /**
+     * Returns the number of items imported into the cache
+     *
+     * @return the number of items imported into the cache
+     */
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    /**
+     * Returns the time spent importing the items, from the start of the first to the end of the last
+     * imported partition of the cache
+     *
+     * @return the time spent importing the items, in milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Returns the status of the cache once the items were imported (see {@link ExportableSdkCache#cacheStatus()})
+     *
+     * @return a map containing all cache item types in the cache and their counts
+     */
+    public Map<String, Long> getCacheStatus() {
+        return cacheStatus;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects
+            .toStringHelper(this)
+            .add("cacheType", cacheType)
+            .add("itemCount", itemCount)
+            .add("elapsedMillis", elapsedMillis)
+            .add("cacheStatus", cacheStatus)
+            .toString();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.caching.exportable;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.util.List;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Reads the {@link ExportableCI} items from a cache snapshot written by the {@link CacheSnapshotWriter}.
+ * The items are read one by one, so the snapshot does not have to be loaded into memory at once. Only the
+ * classes used by the exported cache items can be deserialized from the snapshot.
+ */
+public final class CacheSnapshotReader implements Closeable {
+
+    /**
+     * The packages of the classes which can be deserialized from a snapshot
+     */
+    private static final List<String> ALLOWED_PACKAGES = ImmutableList.of(
+        "com.sportradar.unifiedodds.sdk.",
+        "com.google.common.collect.",
+        "java.lang.",
+        "java.util."
+    );
+
+    private final ObjectInputStream objectStream;
+    private boolean completed;
+
+    /**
+     * Initializes a new {@link CacheSnapshotReader} and reads the snapshot header from the provided stream
+     *
+     * @param input the stream from which the snapshot is read (ex: a file or a channel stream), it is closed
+     *              together with the reader
+     * @throws IOException if the header could not be read, or the stream does not contain a supported snapshot
+     */
+    public CacheSnapshotReader(InputStream input) throws IOException {
+        Preconditions.checkNotNull(input);
+
+        DataInputStream header = new DataInputStream(input);
+        if (header.readInt() != CacheSnapshotWriter.MAGIC) {
+            throw new IOException("The provided stream does not contain a cache snapshot");
+        }
+        short version = header.readShort();
+        if (version != CacheSnapshotWriter.FORMAT_VERSION) {
+            throw new IOException("Unsupported cache snapshot format version: " + version);
+        }
+
+        this.objectStream = new SnapshotObjectInputStream(new InflaterInputStream(input));
+    }
+
+    /**
+     * Reads the next item from the snapshot
+     *
+     * @return the next item, or null if all the items were read
+     * @throws IOException if the item could not be read
+     */
+    public ExportableCI read() throws IOException {
+        if (completed) {
+            return null;
+        }
+
+        byte recordType = objectStream.readByte();
+        if (recordType == CacheSnapshotWriter.END_RECORD) {
+            completed = true;
+            return null;
+        }
+        if (recordType != CacheSnapshotWriter.ITEM_RECORD) {
+            throw new IOException("Unexpected cache snapshot record: " + recordType);
+        }
+
+        try {
+            return (ExportableCI) objectStream.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Invalid cache snapshot item", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        objectStream.close();
+    }
+
+    private static final class SnapshotObjectInputStream extends ObjectInputStream {
+
+        SnapshotObjectInputStream(InputStream input) throws IOException {
+            super(input);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            if (!isAllowed(desc.getName())) {
+                throw new InvalidClassException(desc.getName(), "Class not allowed in a cache snapshot");
+            }
+            return super.resolveClass(desc);
+        }
+
+        private static boolean isAllowed(String className) {
+            String elementName = className;
+            while (elementName.startsWith("[")) {
+                elementName = elementName.substring(1);
+            }
+            if (!elementName.equals(className)) {
+                if (!elementName.startsWith("L")) {
+                    // an array of primitive values
+                    return true;
+                }
+                elementName = elementName.substring(1, elementName.length() - 1);
+            }
+            return ALLOWED_PACKAGES.stream().anyMatch(elementName::startsWith);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.caching.exportable;
+
+import com.google.common.base.Preconditions;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes {@link ExportableCI} items to a cache snapshot, which can be read by the {@link CacheSnapshotReader}.
+ *
+ * The snapshot starts with an uncompressed header (magic number and format version), followed by the deflate
+ * compressed item records. The items are written one by one, so the exported caches do not have to be copied
+ * to a list first. The class descriptors are shared by the records, and the references to the already
+ * written items are periodically released, so the memory used by the writer does not grow with the number
+ * of written items. The snapshot is only complete once {@link #finish()} was called, a snapshot of which the
+ * writing failed is rejected by the reader.
+ */
+@SuppressWarnings({ "ClassDataAbstractionCoupling" })
+public final class CacheSnapshotWriter implements Closeable {
+
+    static final int MAGIC = 0x55464353;
+    static final short FORMAT_VERSION = 1;
+    static final byte ITEM_RECORD = 1;
+    static final byte END_RECORD = 0;
+
+    /**
+     * The number of written items after which the serialization handles are released
+     */
+    private static final int RESET_INTERVAL = 512;
+
+    private final DeflaterOutputStream deflaterStream;
+    private final ObjectOutputStream objectStream;
+    private int itemCount;
+    private boolean finished;
+    private boolean closed;
+
+    /**
+     * Initializes a new {@link CacheSnapshotWriter} and writes the snapshot header to the provided stream
+     *
+     * @param output the stream to which the snapshot is written (ex: a file or a channel stream), it is closed
+     *               together with the writer
+     * @throws IOException if the header could not be written
+     */
+    public CacheSnapshotWriter(OutputStream output) throws IOException {
+        Preconditions.checkNotNull(output);
+
+        DataOutputStream header = new DataOutputStream(output);
+        header.writeInt(MAGIC);
+        header.writeShort(FORMAT_VERSION);
+        header.flush();
+
+        this.deflaterStream = new DeflaterOutputStream(output, new Deflater(Deflater.BEST_SPEED), true);
+        this.objectStream = new ObjectOutputStream(deflaterStream);
+    }
+
+    /**
+     * Writes the provided item to the snapshot
+     *
+     * @param item the item which should be written
+     * @throws IOException if the item could not be written
+     */
+    public void write(ExportableCI item) throws IOException {
+        Preconditions.checkNotNull(item);
+        Preconditions.checkState(!finished && !closed, "The snapshot writer is closed");
+
+        objectStream.writeByte(ITEM_RECORD);
+        objectStream.writeObject(item);
+        itemCount++;
+        if (itemCount % RESET_INTERVAL == 0) {
+            objectStream.reset();
+        }
+    }
+
+    /**
+     * Returns the number of items written to the snapshot
+     *
+     * @return the number of items written to the snapshot
+     */
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    /**
+     * Completes the snapshot by writing its end marker, no items can be written afterwards
+     *
+     * @throws IOException if the snapshot could not be completed
+     */
+    public void finish() throws IOException {
+        Preconditions.checkState(!finished && !closed, "The snapshot writer is closed");
+        finished = true;
+
+        objectStream.writeByte(END_RECORD);
+        objectStream.flush();
+        deflaterStream.finish();
+    }
+
+    /**
+     * Closes the underlying stream. If the snapshot was not completed by {@link #finish()}, it is left without
+     * the end marker, so it can not be mistaken for a complete snapshot
+     *
+     * @throws IOException if the underlying stream could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        objectStream.close();
+    }
+}
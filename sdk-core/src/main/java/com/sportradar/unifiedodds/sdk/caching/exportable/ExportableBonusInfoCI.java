@@ -6,6 +6,8 @@ import java.io.Serializable;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableBonusInfoCI implements Serializable {
 
+    private static final long serialVersionUID = -5687972974809923031L;
+
     private Integer bonusBalls;
     private BonusDrumType bonusDrumType;
     private String bonusRange;
@@ -11,6 +11,8 @@ import java.util.Map;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableCI implements Serializable {
 
+    private static final long serialVersionUID = -721335201704135075L;
+
     private String id;
     private Map<Locale, String> names;
 
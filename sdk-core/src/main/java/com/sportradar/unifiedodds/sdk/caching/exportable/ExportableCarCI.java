@@ -9,6 +9,8 @@ import java.io.Serializable;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableCarCI implements Serializable {
 
+    private static final long serialVersionUID = -3761673317551709107L;
+
     private String name;
     private String chassis;
     private String engineName;
@@ -11,6 +11,8 @@ import java.util.Map;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableCategoryCI extends ExportableCI {
 
+    private static final long serialVersionUID = 6736197323287829587L;
+
     private String associatedSportId;
     private List<String> associatedTournaments;
     private String countryCode;
@@ -14,6 +14,8 @@ import java.util.Map;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField", "ParameterNumber" })
 public class ExportableCompetitionCI extends ExportableSportEventCI {
 
+    private static final long serialVersionUID = -4879052930900882474L;
+
     private BookingStatus bookingStatus;
     private List<String> competitorIds;
     private ExportableVenueCI venue;
@@ -11,6 +11,8 @@ import java.util.Map;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField", "ParameterNumber" })
 public class ExportableCompetitorCI extends ExportableCI {
 
+    private static final long serialVersionUID = 5219360157027189343L;
+
     private Locale defaultLocale;
     private Map<Locale, String> countryNames;
     private Map<Locale, String> abbreviations;
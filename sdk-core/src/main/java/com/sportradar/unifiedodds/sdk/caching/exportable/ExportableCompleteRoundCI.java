@@ -8,6 +8,8 @@ import java.util.Map;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField", "ParameterNumber" })
 public class ExportableCompleteRoundCI implements Serializable {
 
+    private static final long serialVersionUID = 55620004606131549L;
+
     private Map<Locale, String> names;
     private Map<Locale, String> groupNames;
     private Map<Locale, String> phaseOrGroupLongNames;
@@ -9,6 +9,8 @@ import java.util.List;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableCoverageInfoCI implements Serializable {
 
+    private static final long serialVersionUID = -6786838281496217065L;
+
     private String level;
     private boolean isLive;
     private List<String> includes;
@@ -8,6 +8,8 @@ import java.util.Set;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableDelayedInfoCI implements Serializable {
 
+    private static final long serialVersionUID = -2650057922926991614L;
+
     private int id;
     private Map<Locale, String> descriptions;
     private Set<Locale> cachedLocales;
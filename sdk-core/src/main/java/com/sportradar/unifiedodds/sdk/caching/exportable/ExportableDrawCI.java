@@ -10,6 +10,8 @@ import java.util.*;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField", "ParameterNumber" })
 public class ExportableDrawCI extends ExportableSportEventCI {
 
+    private static final long serialVersionUID = 3299500906949410298L;
+
     private Locale defaultLocale;
     private String lotteryId;
     private DrawStatus status;
@@ -7,6 +7,8 @@ import java.io.Serializable;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableDrawInfoCI implements Serializable {
 
+    private static final long serialVersionUID = 7773116577587418488L;
+
     private DrawType drawType;
     private TimeType timeType;
     private String gameType;
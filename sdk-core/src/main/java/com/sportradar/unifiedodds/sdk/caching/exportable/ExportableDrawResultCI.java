@@ -7,6 +7,8 @@ import java.util.Map;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableDrawResultCI implements Serializable {
 
+    private static final long serialVersionUID = -1477709460918989805L;
+
     private Integer value;
     private Map<Locale, String> names;
 
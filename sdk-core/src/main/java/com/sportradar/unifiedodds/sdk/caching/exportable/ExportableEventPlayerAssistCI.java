@@ -3,6 +3,8 @@ package com.sportradar.unifiedodds.sdk.caching.exportable;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableEventPlayerAssistCI extends ExportableEventPlayerCI {
 
+    private static final long serialVersionUID = -5732188248083937521L;
+
     private String type;
 
     public ExportableEventPlayerAssistCI(String id, String name, String type) {
@@ -5,6 +5,8 @@ import java.io.Serializable;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableEventPlayerCI implements Serializable {
 
+    private static final long serialVersionUID = 3037593126671113044L;
+
     private String id;
     private String name;
     private String method;
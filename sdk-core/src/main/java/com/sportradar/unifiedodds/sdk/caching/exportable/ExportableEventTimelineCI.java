@@ -7,6 +7,8 @@ import java.util.Locale;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableEventTimelineCI implements Serializable {
 
+    private static final long serialVersionUID = 6526452133567570354L;
+
     private Locale cachedLocale;
     private List<ExportableTimelineEventCI> timelineEvents;
     private boolean isFinalized;
@@ -8,6 +8,8 @@ import java.util.Map;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField", "ParameterNumber" })
 public class ExportableFixtureCI implements Serializable {
 
+    private static final long serialVersionUID = -9142490852387036694L;
+
     private Date startTime;
     private boolean startTimeConfirmed;
     private Date nextLiveTime;
@@ -7,6 +7,8 @@ import java.util.Map;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableGroupCI implements Serializable {
 
+    private static final long serialVersionUID = 265784994252249258L;
+
     private String id;
     private String name;
     private List<String> competitorIds;
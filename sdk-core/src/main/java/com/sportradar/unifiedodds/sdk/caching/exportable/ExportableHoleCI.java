@@ -9,6 +9,8 @@ import java.io.Serializable;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableHoleCI implements Serializable {
 
+    private static final long serialVersionUID = 5410121411382101880L;
+
     private int number;
     private int par;
 
@@ -7,6 +7,8 @@ package com.sportradar.unifiedodds.sdk.caching.exportable;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField", "ParameterNumber" })
 public class ExportableJerseyCI extends ExportableCI {
 
+    private static final long serialVersionUID = 3240415001965871956L;
+
     private String base;
     private String number;
     private String sleeve;
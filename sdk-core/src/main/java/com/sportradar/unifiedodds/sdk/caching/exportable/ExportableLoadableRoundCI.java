@@ -8,6 +8,8 @@ import java.util.Map;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField", "ParameterNumber" })
 public class ExportableLoadableRoundCI implements Serializable {
 
+    private static final long serialVersionUID = 6534679517927410937L;
+
     private Map<Locale, String> names;
     private Map<Locale, String> groupNames;
     private Map<Locale, String> phaseOrGroupLongNames;
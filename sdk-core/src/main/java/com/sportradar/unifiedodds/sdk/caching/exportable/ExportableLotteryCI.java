@@ -9,6 +9,8 @@ import java.util.*;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField", "ParameterNumber" })
 public class ExportableLotteryCI extends ExportableSportEventCI {
 
+    private static final long serialVersionUID = -5209961544185791011L;
+
     private Locale defaultLocale;
     private String categoryId;
     private ExportableBonusInfoCI bonusInfo;
@@ -11,6 +11,8 @@ import java.util.Map;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableManagerCI extends ExportableCI {
 
+    private static final long serialVersionUID = -2922794637109849067L;
+
     private Map<Locale, String> nationalities;
     private String countryCode;
     private List<Locale> cachedLocales;
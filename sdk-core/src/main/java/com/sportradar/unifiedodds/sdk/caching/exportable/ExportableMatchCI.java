@@ -15,6 +15,8 @@ import java.util.Map;
 @SuppressWarnings({ "AbbreviationAsWordInName", "ClassFanOutComplexity", "HiddenField", "ParameterNumber" })
 public class ExportableMatchCI extends ExportableCompetitionCI {
 
+    private static final long serialVersionUID = 2965328668474746226L;
+
     private Locale defaultLocale;
     private ExportableFixtureCI fixture;
     private Map<String, String> competitorQualifiers;
@@ -7,6 +7,8 @@ import java.io.Serializable;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportablePitcherCI implements Serializable {
 
+    private static final long serialVersionUID = -1142903989659447021L;
+
     private String id;
     private String name;
     private HomeAway competitor;
@@ -12,6 +12,8 @@ import java.util.Map;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField", "ParameterNumber" })
 public class ExportablePlayerProfileCI extends ExportableCI {
 
+    private static final long serialVersionUID = 8733196258167076516L;
+
     private Locale defaultLocale;
     private Map<Locale, String> fullNames;
     private Map<Locale, String> nationalities;
@@ -6,6 +6,8 @@ import java.util.List;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField", "ParameterNumber" })
 public class ExportableProducerInfoCI implements Serializable {
 
+    private static final long serialVersionUID = 7834001471436549001L;
+
     private boolean isAutoTraded;
     private boolean isInHostedStatistics;
     private boolean isInLiveCenterSoccer;
@@ -5,6 +5,8 @@ import java.io.Serializable;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableProducerInfoLinkCI implements Serializable {
 
+    private static final long serialVersionUID = -104582085308832835L;
+
     private String reference;
     private String name;
 
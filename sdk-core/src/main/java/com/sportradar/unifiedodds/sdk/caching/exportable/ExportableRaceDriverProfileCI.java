@@ -7,6 +7,8 @@ package com.sportradar.unifiedodds.sdk.caching.exportable;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableRaceDriverProfileCI extends ExportableCI {
 
+    private static final long serialVersionUID = 832334055053374361L;
+
     private String raceDriverId;
     private String raceTeamId;
     private ExportableCarCI car;
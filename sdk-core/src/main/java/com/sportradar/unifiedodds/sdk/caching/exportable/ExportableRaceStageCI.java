@@ -15,6 +15,8 @@ import java.util.Map;
 @SuppressWarnings({ "HiddenField", "ParameterNumber", "AbbreviationAsWordInName" })
 public class ExportableRaceStageCI extends ExportableStageCI {
 
+    private static final long serialVersionUID = -8728981802099367066L;
+
     private Locale defaultLocale;
     private List<Locale> loadedSummaryLocales;
     private List<Locale> loadedFixtureLocales;
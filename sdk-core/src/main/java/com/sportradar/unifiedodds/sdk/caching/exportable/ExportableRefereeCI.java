@@ -7,6 +7,8 @@ import java.util.Map;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableRefereeCI implements Serializable {
 
+    private static final long serialVersionUID = 8429993738166906633L;
+
     private String id;
     private Map<Locale, String> nationalities;
     private String name;
@@ -6,6 +6,8 @@ import java.util.Date;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableScheduledStartTimeChangeCI implements Serializable {
 
+    private static final long serialVersionUID = -7006558290857597770L;
+
     private Date oldTime;
     private Date newTime;
     private Date changedAt;
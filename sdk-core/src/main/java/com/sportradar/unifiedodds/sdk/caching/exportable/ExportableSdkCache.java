@@ -6,6 +6,7 @@ package com.sportradar.unifiedodds.sdk.caching.exportable;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Defines a contract for classes implementing cache export/import functionally
@@ -18,6 +19,15 @@ public interface ExportableSdkCache {
      */
     List<ExportableCI> exportItems();
 
+    /**
+     * Exports current items in the cache one by one, without collecting them to a list first
+     *
+     * @param consumer the consumer receiving the exported items
+     */
+    default void exportItemsTo(Consumer<ExportableCI> consumer) {
+        exportItems().forEach(consumer);
+    }
+
     /**
      * Imports provided items into the cache
      * @param items List of {@link ExportableCI} to be inserted into the cache
@@ -8,6 +8,8 @@ import java.util.Map;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField", "ParameterNumber" })
 public class ExportableSeasonCI extends ExportableCI {
 
+    private static final long serialVersionUID = -4776548941997873432L;
+
     private Date startDate;
     private Date endDate;
     private String year;
@@ -5,6 +5,8 @@ import java.io.Serializable;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableSeasonCoverageCI implements Serializable {
 
+    private static final long serialVersionUID = 7766263478941117785L;
+
     private String seasonId;
     private String maxCoverageLevel;
     private String minCoverageLevel;
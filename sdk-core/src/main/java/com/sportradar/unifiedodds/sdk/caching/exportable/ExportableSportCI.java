@@ -11,6 +11,8 @@ import java.util.Map;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableSportCI extends ExportableCI {
 
+    private static final long serialVersionUID = -8357936026668853333L;
+
     private List<String> associatedCategories;
     private List<Locale> cachedLocales;
     private boolean shouldFetchCategories;
@@ -11,6 +11,8 @@ import java.util.Map;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableSportEventCI extends ExportableCI {
 
+    private static final long serialVersionUID = 1538126205281703159L;
+
     private Date scheduled;
     private Date scheduledEnd;
     private Boolean startTimeTbd;
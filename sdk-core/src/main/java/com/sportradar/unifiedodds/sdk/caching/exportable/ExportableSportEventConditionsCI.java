@@ -6,6 +6,8 @@ import java.util.List;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableSportEventConditionsCI implements Serializable {
 
+    private static final long serialVersionUID = -5742043086975503830L;
+
     private String attendance;
     private String eventMode;
     private ExportableRefereeCI referee;
@@ -11,6 +11,8 @@ import java.util.Map;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField", "ParameterNumber" })
 public class ExportableStageCI extends ExportableCompetitionCI {
 
+    private static final long serialVersionUID = 5065865206338843917L;
+
     private String parentStageId;
     private List<String> stagesIds;
     private StageType stageType;
@@ -5,6 +5,8 @@ import java.io.Serializable;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableStreamingChannelCI implements Serializable {
 
+    private static final long serialVersionUID = -1270879899184168846L;
+
     private int id;
     private String name;
 
@@ -8,6 +8,8 @@ import java.util.List;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField", "ParameterNumber" })
 public class ExportableTimelineEventCI implements Serializable {
 
+    private static final long serialVersionUID = 322414250023265933L;
+
     private int id;
     private Double awayScore;
     private Double homeScore;
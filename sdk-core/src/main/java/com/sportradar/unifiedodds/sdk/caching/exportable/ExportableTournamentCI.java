@@ -12,6 +12,8 @@ import java.util.Map;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField", "ParameterNumber" })
 public class ExportableTournamentCI extends ExportableSportEventCI {
 
+    private static final long serialVersionUID = 3956077565784253129L;
+
     private Locale defaultLocale;
     private String categoryId;
     private ExportableSeasonCI currentSeason;
@@ -5,6 +5,8 @@ import java.io.Serializable;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableTournamentCoverageCI implements Serializable {
 
+    private static final long serialVersionUID = 8763503494212465059L;
+
     private String liveCoverage;
 
     public ExportableTournamentCoverageCI(String liveCoverage) {
@@ -15,6 +15,8 @@ import java.util.Map;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField", "ParameterNumber" })
 public class ExportableTournamentStageCI extends ExportableStageCI {
 
+    private static final long serialVersionUID = 2273035509924674806L;
+
     private Locale defaultLocale;
     private List<Locale> cachedLocales;
 
@@ -7,6 +7,8 @@ import java.util.Date;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableTvChannelCI implements Serializable {
 
+    private static final long serialVersionUID = 4068975351718715825L;
+
     private String name;
     private Date time;
     private String streamUrl;
@@ -13,6 +13,8 @@ import java.util.Map;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField", "ParameterNumber" })
 public class ExportableVenueCI extends ExportableCI {
 
+    private static final long serialVersionUID = 5866220061391446006L;
+
     private Map<Locale, String> cityNames;
     private Map<Locale, String> countryNames;
     private Integer capacity;
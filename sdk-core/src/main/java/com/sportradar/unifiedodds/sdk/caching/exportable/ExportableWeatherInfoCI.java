@@ -5,6 +5,8 @@ import java.io.Serializable;
 @SuppressWarnings({ "AbbreviationAsWordInName", "HiddenField" })
 public class ExportableWeatherInfoCI implements Serializable {
 
+    private static final long serialVersionUID = -2799259848334067671L;
+
     private Integer temperatureCelsius;
     private String wind;
     private String windAdvantage;
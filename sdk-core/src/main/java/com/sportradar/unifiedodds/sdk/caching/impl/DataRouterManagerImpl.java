@@ -6,6 +6,7 @@ package com.sportradar.unifiedodds.sdk.caching.impl;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import com.sportradar.uf.custombet.datamodel.*;
@@ -34,6 +35,7 @@ import com.sportradar.unifiedodds.sdk.impl.custombetentities.CalculationImpl;
 import com.sportradar.unifiedodds.sdk.impl.entities.FixtureChangeImpl;
 import com.sportradar.unifiedodds.sdk.impl.entities.PeriodStatusImpl;
 import com.sportradar.unifiedodds.sdk.impl.entities.ResultChangeImpl;
+import com.sportradar.unifiedodds.sdk.impl.util.SdkThreads;
 import com.sportradar.utils.SdkHelper;
 import com.sportradar.utils.URN;
 import java.net.URI;
@@ -43,8 +45,17 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.utils.URLEncodedUtils;
@@ -88,6 +99,11 @@ public class DataRouterManagerImpl implements DataRouterManager {
      */
     private static final int SCHEDULE_DAYS_PREFETCH = 3;
 
+    /**
+     * The number of seconds after which the idle locale request threads are stopped
+     */
+    private static final long LOCALE_REQUEST_THREAD_KEEP_ALIVE_SECONDS = 60;
+
     /**
      * A {@link List} of locales that should be automatically available
      */
@@ -253,6 +269,17 @@ public class DataRouterManagerImpl implements DataRouterManager {
      */
     private OddsFeedExtListener oddsFeedExtListener;
 
+    /**
+     * The summary, fixture and profile requests currently in flight, shared by the concurrent callers
+     */
+    private final InFlightRequests inFlightRequests = new InFlightRequests();
+
+    /**
+     * The executor used to request the data in multiple locales concurrently, bounded by the max number of
+     * HTTP connections per route
+     */
+    private final ExecutorService localeRequestExecutor;
+
     private final ReentrantLock tournamentListLock = new ReentrantLock();
     private final ReentrantLock sportsListLock = new ReentrantLock();
     private final ReentrantLock lotteriesListLock = new ReentrantLock();
@@ -381,6 +408,8 @@ public class DataRouterManagerImpl implements DataRouterManager {
             TimeUnit.HOURS
         );
 
+        this.localeRequestExecutor = createLocaleRequestExecutor(configuration);
+
         this.isFeedClosed = false;
     }
 
@@ -395,22 +424,59 @@ public class DataRouterManagerImpl implements DataRouterManager {
         Preconditions.checkNotNull(locale);
         Preconditions.checkNotNull(id);
 
+        routeSummary(locale, id, requester, fetchSummary(locale, id));
+    }
+
+    @Override
+    public void requestSummaryEndpointInLocales(List<Locale> locales, URN id, CacheItem requester)
+        throws CommunicationException {
+        Preconditions.checkNotNull(locales);
+        Preconditions.checkNotNull(id);
+
+        requestForLocales(
+            locales,
+            locale -> fetchSummary(locale, id),
+            (locale, endpoint) -> routeSummary(locale, id, requester, endpoint)
+        );
+    }
+
+    private Object fetchSummary(Locale locale, URN id) throws CommunicationException {
         Object endpoint;
         try {
-            endpoint = summaryEndpointProvider.getData(locale, id.toString());
+            endpoint = fetchShared("summary", summaryEndpointProvider, locale, id);
         } catch (DataProviderException e) {
-            throw new CommunicationException(
-                String.format("Error executing summary request for id=%s, locale=%s", id, locale),
-                e.tryExtractCommunicationExceptionUrl(
-                    String.format("summary[%s]: %s", locale.getISO3Language(), id)
-                ),
-                e.tryExtractCommunicationExceptionHttpStatusCode(-1),
-                e
-            );
+            throw summaryRequestFailure(locale, id, e);
         }
+        return endpoint;
+    }
 
-        dispatchReceivedRawApiData(summaryEndpointProvider.getFinalUrl(locale, id.toString()), endpoint);
+    @Override
+    public CompletableFuture<Void> requestSummaryEndpointAsync(Locale locale, URN id, CacheItem requester) {
+        Preconditions.checkNotNull(locale);
+        Preconditions.checkNotNull(id);
+
+        return fetchSharedAsync("summary", summaryEndpointProvider, locale, id)
+            .thenAccept(endpoint -> routeSummary(locale, id, requester, endpoint))
+            .exceptionally(failure -> {
+                Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+                throw new CompletionException(
+                    cause instanceof DataProviderException
+                        ? summaryRequestFailure(locale, id, (DataProviderException) cause)
+                        : cause
+                );
+            });
+    }
+
+    private static CommunicationException summaryRequestFailure(Locale locale, URN id, DataProviderException e) {
+        return new CommunicationException(
+            String.format("Error executing summary request for id=%s, locale=%s", id, locale),
+            e.tryExtractCommunicationExceptionUrl(String.format("summary[%s]: %s", locale.getISO3Language(), id)),
+            e.tryExtractCommunicationExceptionHttpStatusCode(-1),
+            e
+        );
+    }
 
+    private void routeSummary(Locale locale, URN id, CacheItem requester, Object endpoint) {
         dataRouter.onSummaryFetched(id, endpoint, locale, requester);
     }
 
@@ -420,12 +486,34 @@ public class DataRouterManagerImpl implements DataRouterManager {
         Preconditions.checkNotNull(locale);
         Preconditions.checkNotNull(id);
 
+        routeFixture(locale, id, requester, fetchFixture(locale, id, useCachedProvider));
+    }
+
+    @Override
+    public void requestFixtureEndpointInLocales(
+        List<Locale> locales,
+        URN id,
+        boolean useCachedProvider,
+        CacheItem requester
+    ) throws CommunicationException {
+        Preconditions.checkNotNull(locales);
+        Preconditions.checkNotNull(id);
+
+        requestForLocales(
+            locales,
+            locale -> fetchFixture(locale, id, useCachedProvider),
+            (locale, endpoint) -> routeFixture(locale, id, requester, endpoint)
+        );
+    }
+
+    private SAPIFixturesEndpoint fetchFixture(Locale locale, URN id, boolean useCachedProvider)
+        throws CommunicationException {
         SAPIFixturesEndpoint endpoint;
         try {
-            DataProvider<SAPIFixturesEndpoint> provider = useCachedProvider
-                ? fixtureProvider
-                : fixtureChangeFixtureProvider;
-            endpoint = provider.getData(locale, id.toString());
+            endpoint =
+                useCachedProvider
+                    ? fetchShared("fixture", fixtureProvider, locale, id)
+                    : fetchShared("fixture_change_fixture", fixtureChangeFixtureProvider, locale, id);
         } catch (DataProviderException e) {
             if (
                 !useCachedProvider &&
@@ -433,7 +521,7 @@ public class DataRouterManagerImpl implements DataRouterManager {
                 SdkHelper.checkCauseReason(e.getCause(), "InternalServerError")
             ) {
                 try {
-                    endpoint = fixtureProvider.getData(locale, id.toString());
+                    endpoint = fetchShared("fixture", fixtureProvider, locale, id);
                 } catch (DataProviderException e1) {
                     throw new CommunicationException(
                         String.format(
@@ -459,12 +547,10 @@ public class DataRouterManagerImpl implements DataRouterManager {
                 );
             }
         }
+        return endpoint;
+    }
 
-        String finalUrl = useCachedProvider
-            ? fixtureProvider.getFinalUrl(locale, id.toString())
-            : fixtureChangeFixtureProvider.getFinalUrl(locale, id.toString());
-        dispatchReceivedRawApiData(finalUrl, endpoint);
-
+    private void routeFixture(Locale locale, URN id, CacheItem requester, SAPIFixturesEndpoint endpoint) {
         SAPIFixture fixture = endpoint.getFixture();
         URN fixtureId = URN.parse(fixture.getId());
         dataRouter.onFixtureFetched(fixtureId, fixture, locale, requester);
@@ -792,9 +878,26 @@ public class DataRouterManagerImpl implements DataRouterManager {
         Preconditions.checkNotNull(locale);
         Preconditions.checkNotNull(id);
 
+        routePlayerProfile(locale, id, requester, fetchPlayerProfile(locale, id));
+    }
+
+    @Override
+    public void requestPlayerProfileEndpointInLocales(List<Locale> locales, URN id, CacheItem requester)
+        throws CommunicationException {
+        Preconditions.checkNotNull(locales);
+        Preconditions.checkNotNull(id);
+
+        requestForLocales(
+            locales,
+            locale -> fetchPlayerProfile(locale, id),
+            (locale, endpoint) -> routePlayerProfile(locale, id, requester, endpoint)
+        );
+    }
+
+    private SAPIPlayerProfileEndpoint fetchPlayerProfile(Locale locale, URN id) throws CommunicationException {
         SAPIPlayerProfileEndpoint endpoint;
         try {
-            endpoint = playerProvider.getData(locale, id.toString());
+            endpoint = fetchShared("player_profile", playerProvider, locale, id);
         } catch (DataProviderException e) {
             throw new CommunicationException(
                 String.format("Error executing player profile request for id=%s, locale=%s", id, locale),
@@ -805,9 +908,10 @@ public class DataRouterManagerImpl implements DataRouterManager {
                 e
             );
         }
+        return endpoint;
+    }
 
-        dispatchReceivedRawApiData(playerProvider.getFinalUrl(locale, id.toString()), endpoint);
-
+    private void routePlayerProfile(Locale locale, URN id, CacheItem requester, SAPIPlayerProfileEndpoint endpoint) {
         SAPIPlayerExtended player = endpoint.getPlayer();
         URN playerId = URN.parse(player.getId());
         dataRouter.onPlayerFetched(playerId, player, locale, requester, null);
@@ -819,9 +923,26 @@ public class DataRouterManagerImpl implements DataRouterManager {
         Preconditions.checkNotNull(locale);
         Preconditions.checkNotNull(id);
 
+        routeCompetitorProfile(locale, id, requester, fetchCompetitorProfile(locale, id));
+    }
+
+    @Override
+    public void requestCompetitorEndpointInLocales(List<Locale> locales, URN id, CacheItem requester)
+        throws CommunicationException {
+        Preconditions.checkNotNull(locales);
+        Preconditions.checkNotNull(id);
+
+        requestForLocales(
+            locales,
+            locale -> fetchCompetitorProfile(locale, id),
+            (locale, endpoint) -> routeCompetitorProfile(locale, id, requester, endpoint)
+        );
+    }
+
+    private SAPICompetitorProfileEndpoint fetchCompetitorProfile(Locale locale, URN id) throws CommunicationException {
         SAPICompetitorProfileEndpoint endpoint;
         try {
-            endpoint = competitorProvider.getData(locale, id.toString());
+            endpoint = fetchShared("competitor_profile", competitorProvider, locale, id);
         } catch (DataProviderException e) {
             throw new CommunicationException(
                 String.format("Error executing competitor profile request for id=%s, locale=%s", id, locale),
@@ -832,9 +953,15 @@ public class DataRouterManagerImpl implements DataRouterManager {
                 e
             );
         }
+        return endpoint;
+    }
 
-        dispatchReceivedRawApiData(competitorProvider.getFinalUrl(locale, id.toString()), endpoint);
-
+    private void routeCompetitorProfile(
+        Locale locale,
+        URN id,
+        CacheItem requester,
+        SAPICompetitorProfileEndpoint endpoint
+    ) {
         SAPITeamExtended competitor = endpoint.getCompetitor();
         URN competitorId = URN.parse(competitor.getId());
         dataRouter.onCompetitorFetched(competitorId, endpoint, locale, requester);
@@ -846,9 +973,26 @@ public class DataRouterManagerImpl implements DataRouterManager {
         Preconditions.checkNotNull(locale);
         Preconditions.checkNotNull(id);
 
+        routeSimpleTeamProfile(locale, id, requester, fetchSimpleTeamProfile(locale, id));
+    }
+
+    @Override
+    public void requestSimpleTeamEndpointInLocales(List<Locale> locales, URN id, CacheItem requester)
+        throws CommunicationException {
+        Preconditions.checkNotNull(locales);
+        Preconditions.checkNotNull(id);
+
+        requestForLocales(
+            locales,
+            locale -> fetchSimpleTeamProfile(locale, id),
+            (locale, endpoint) -> routeSimpleTeamProfile(locale, id, requester, endpoint)
+        );
+    }
+
+    private SAPISimpleTeamProfileEndpoint fetchSimpleTeamProfile(Locale locale, URN id) throws CommunicationException {
         SAPISimpleTeamProfileEndpoint endpoint;
         try {
-            endpoint = simpleTeamProvider.getData(locale, id.toString());
+            endpoint = fetchShared("simpleteam_profile", simpleTeamProvider, locale, id);
         } catch (DataProviderException e) {
             throw new CommunicationException(
                 String.format("Error executing simpleteam profile request for id=%s, locale=%s", id, locale),
@@ -859,9 +1003,15 @@ public class DataRouterManagerImpl implements DataRouterManager {
                 e
             );
         }
+        return endpoint;
+    }
 
-        dispatchReceivedRawApiData(simpleTeamProvider.getFinalUrl(locale, id.toString()), endpoint);
-
+    private void routeSimpleTeamProfile(
+        Locale locale,
+        URN id,
+        CacheItem requester,
+        SAPISimpleTeamProfileEndpoint endpoint
+    ) {
         SAPITeam competitor = endpoint.getCompetitor();
         URN competitorId = URN.parse(competitor.getId());
         dataRouter.onSimpleTeamFetched(competitorId, endpoint, locale, requester);
@@ -1241,6 +1391,7 @@ public class DataRouterManagerImpl implements DataRouterManager {
     @Override
     public void close() {
         this.isFeedClosed = true;
+        localeRequestExecutor.shutdown();
     }
 
     private String getPeriodSummaryQueryString(List<URN> competitorIds, List<Integer> periods) {
@@ -1399,6 +1550,127 @@ public class DataRouterManagerImpl implements DataRouterManager {
         }
     }
 
+    /**
+     * Returns the number of summary, fixture and profile requests which were not sent to the API, because
+     * an identical request (same endpoint, locale and id) was already in flight
+     *
+     * @return the number of deduplicated requests
+     */
+    @Override
+    public long getDeduplicatedRequestCount() {
+        return inFlightRequests.getDeduplicatedCount();
+    }
+
+    /**
+     * Fetches the data in the provided locales concurrently and routes each fetched data on the caller thread
+     * as soon as it is received, so the requester merges the data one locale at a time. If any of the requests
+     * fails, the data fetched in the other locales is still routed before the first failure is thrown.
+     */
+    private <T> void requestForLocales(List<Locale> locales, LocaleRequest<T> request, BiConsumer<Locale, T> route)
+        throws CommunicationException {
+        if (locales.size() == 1) {
+            route.accept(locales.get(0), request.fetch(locales.get(0)));
+            return;
+        }
+
+        CompletionService<Map.Entry<Locale, T>> completionService = new ExecutorCompletionService<>(
+            localeRequestExecutor
+        );
+        for (Locale locale : locales) {
+            completionService.submit(() -> new AbstractMap.SimpleImmutableEntry<>(locale, request.fetch(locale)));
+        }
+
+        Throwable failure = null;
+        for (int i = 0; i < locales.size(); i++) {
+            try {
+                Map.Entry<Locale, T> fetched = completionService.take().get();
+                route.accept(fetched.getKey(), fetched.getValue());
+            } catch (ExecutionException e) {
+                failure = failure == null ? e.getCause() : failure;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CommunicationException("Interrupted while requesting data in " + locales, null, e);
+            }
+        }
+        throwIfFailed(failure);
+    }
+
+    private static void throwIfFailed(Throwable failure) throws CommunicationException {
+        if (failure instanceof CommunicationException) {
+            throw (CommunicationException) failure;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure != null) {
+            throw new IllegalStateException("Failed to request the data", failure);
+        }
+    }
+
+    private static ExecutorService createLocaleRequestExecutor(SDKInternalConfiguration configuration) {
+        if (SdkThreads.shouldUseVirtualThreads(configuration.getUseVirtualThreads())) {
+            // the virtual threads are not pooled, the concurrency is bounded by the http client connection pool
+            return SdkThreads.newVirtualThreadPerTaskExecutor("UfSdk-LocaleRequest-");
+        }
+
+        int maxConnPerRoute = configuration.getHttpClientMaxConnPerRoute();
+        // when all the threads are busy (or the manager is closed), the caller thread requests the data itself,
+        // so the requests are never queued behind the requests of other callers
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            Math.max(1, maxConnPerRoute),
+            Math.max(1, maxConnPerRoute),
+            LOCALE_REQUEST_THREAD_KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new SynchronousQueue<>(),
+            new ThreadFactoryBuilder().setNameFormat("UfSdk-LocaleRequest-%d").setDaemon(true).build(),
+            (task, pool) -> task.run()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Fetches the data from the provided provider and dispatches the raw data to the extended listener, or waits
+     * for the outcome of the identical request already in flight
+     */
+    private <T> T fetchShared(String endpointName, DataProvider<T> provider, Locale locale, URN id)
+        throws DataProviderException {
+        return inFlightRequests.execute(
+            endpointName,
+            locale,
+            id,
+            () -> {
+                T data = provider.getData(locale, id.toString());
+                dispatchReceivedRawApiData(provider.getFinalUrl(locale, id.toString()), data);
+                return data;
+            }
+        );
+    }
+
+    /**
+     * Fetches the data asynchronously from the provided provider and dispatches the raw data to the extended
+     * listener, or shares the outcome of the identical request already in flight
+     */
+    private <T> CompletableFuture<T> fetchSharedAsync(
+        String endpointName,
+        DataProvider<T> provider,
+        Locale locale,
+        URN id
+    ) {
+        return inFlightRequests.executeAsync(
+            endpointName,
+            locale,
+            id,
+            () ->
+                provider
+                    .getDataAsync(locale, id.toString())
+                    .thenApply(data -> {
+                        dispatchReceivedRawApiData(provider.getFinalUrl(locale, id.toString()), data);
+                        return data;
+                    })
+        );
+    }
+
     private void dispatchReceivedRawApiData(String uri, Object restMessage) {
         if (oddsFeedExtListener == null) {
             return;
@@ -1431,4 +1703,14 @@ public class DataRouterManagerImpl implements DataRouterManager {
         }
         // continue normal processing
     }
+
+    /**
+     * Defines a request fetching the data in the provided locale
+     *
+     * @param <T> the type of the fetched data
+     */
+    @FunctionalInterface
+    private interface LocaleRequest<T> {
+        T fetch(Locale locale) throws CommunicationException;
+    }
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.caching.impl;
+
+import com.sportradar.unifiedodds.sdk.exceptions.internal.DataProviderException;
+import com.sportradar.utils.URN;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces the concurrent requests for the same API resource (endpoint, locale and id). The first caller
+ * executes the request, while the callers requesting the same resource before it completes wait for and share
+ * its outcome (the fetched data, or the thrown exception) instead of issuing an identical request. The blocking
+ * and the asynchronous requests share the same table, so they are also coalesced with each other.
+ */
+@SuppressWarnings({ "IllegalCatch" })
+final class InFlightRequests {
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> requests = new ConcurrentHashMap<>();
+    private final LongAdder deduplicatedCount = new LongAdder();
+
+    /**
+     * Executes the provided request, or waits for the outcome of the identical request already in flight
+     *
+     * @param endpoint the name of the requested endpoint (ex: summary)
+     * @param locale the requested locale
+     * @param id the id of the requested resource
+     * @param request the request fetching the resource
+     * @param <T> the type of the fetched data
+     * @return the fetched data
+     * @throws DataProviderException if the request (executed by this or by a concurrent caller) failed
+     */
+    <T> T execute(String endpoint, Locale locale, URN id, Request<T> request) throws DataProviderException {
+        String key = buildKey(endpoint, locale, id);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = requests.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            deduplicatedCount.increment();
+            return awaitOutcome(inFlight);
+        }
+
+        try {
+            T data = request.execute();
+            flight.complete(data);
+            return data;
+        } catch (DataProviderException | RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            requests.remove(key, flight);
+            // releases the waiting callers if the request failed with an error
+            flight.cancel(false);
+        }
+    }
+
+    /**
+     * Sends the provided asynchronous request, or shares the outcome of the identical request already in flight
+     * (sent by a blocking or by an asynchronous caller)
+     *
+     * @param endpoint the name of the requested endpoint (ex: summary)
+     * @param locale the requested locale
+     * @param id the id of the requested resource
+     * @param request the asynchronous request fetching the resource
+     * @param <T> the type of the fetched data
+     * @return a future completed with the fetched data, or exceptionally if the request failed
+     */
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<T> executeAsync(
+        String endpoint,
+        Locale locale,
+        URN id,
+        Supplier<CompletableFuture<T>> request
+    ) {
+        String key = buildKey(endpoint, locale, id);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = requests.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            deduplicatedCount.increment();
+            return inFlight.thenApply(data -> (T) data);
+        }
+
+        CompletableFuture<T> sent;
+        try {
+            sent = request.get();
+        } catch (RuntimeException e) {
+            requests.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        sent.whenComplete((data, failure) -> {
+            requests.remove(key, flight);
+            if (failure == null) {
+                flight.complete(data);
+            } else {
+                flight.completeExceptionally(failure instanceof CompletionException ? failure.getCause() : failure);
+            }
+        });
+        return flight.thenApply(data -> (T) data);
+    }
+
+    /**
+     * Returns the number of requests which were not executed because an identical request was already in flight
+     *
+     * @return the number of deduplicated requests
+     */
+    long getDeduplicatedCount() {
+        return deduplicatedCount.sum();
+    }
+
+    private static String buildKey(String endpoint, Locale locale, URN id) {
+        return endpoint + '|' + locale + '|' + id;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T awaitOutcome(CompletableFuture<Object> inFlight) throws DataProviderException {
+        try {
+            return (T) inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof DataProviderException) {
+                throw (DataProviderException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Defines a request fetching the data from the API
+     *
+     * @param <T> the type of the fetched data
+     */
+    @FunctionalInterface
+    interface Request<T> {
+        T execute() throws DataProviderException;
+    }
+}
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
@@ -505,6 +506,18 @@ public class ProfileCacheImpl implements ProfileCache, DataRouterListener, Expor
             .collect(Collectors.toList());
     }
 
+    /**
+     * Exports current items in the cache one by one
+     *
+     * @param consumer the consumer receiving the exported items
+     */
+    @Override
+    public void exportItemsTo(Consumer<ExportableCI> consumer) {
+        playerCache.asMap().values().forEach(item -> consumer.accept(((ExportableCacheItem) item).export()));
+        competitorCache.asMap().values().forEach(item -> consumer.accept(((ExportableCacheItem) item).export()));
+        simpleTeamCache.asMap().values().forEach(item -> consumer.accept(((ExportableCacheItem) item).export()));
+    }
+
     /**
      * Imports provided items into the cache
      *
@@ -24,7 +24,9 @@ import com.sportradar.unifiedodds.sdk.exceptions.internal.IllegalCacheStateExcep
 import com.sportradar.unifiedodds.sdk.impl.MappingTypeProvider;
 import com.sportradar.utils.URN;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -79,6 +81,11 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
      */
     private final Locale defaultLocale;
 
+    /**
+     * The listeners notified with the ids of the purged items
+     */
+    private final List<Consumer<URN>> purgeListeners = new CopyOnWriteArrayList<>();
+
     @Inject
     SportEventCacheImpl(
         CacheItemFactory cacheItemFactory,
@@ -133,6 +140,13 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
         }
     }
 
+    @Override
+    public SportEventCI getEventCacheItemIfPresent(URN id) {
+        Preconditions.checkNotNull(id);
+
+        return sportEventsCache.getIfPresent(id);
+    }
+
     /**
      * Returns a {@link List} containing id's of sport events, which belong to a specific tournament
      *
@@ -196,6 +210,25 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
 
         logger.debug("Purging CI[{}]", id);
         sportEventsCache.invalidate(id);
+        notifyPurged(id);
+    }
+
+    /**
+     * Registers a listener notified with the id of each purged item
+     *
+     * @param listener the listener notified with the ids of the purged items
+     */
+    @Override
+    public void addPurgeListener(Consumer<URN> listener) {
+        Preconditions.checkNotNull(listener);
+
+        purgeListeners.add(listener);
+    }
+
+    private void notifyPurged(URN id) {
+        for (Consumer<URN> listener : purgeListeners) {
+            listener.accept(id);
+        }
     }
 
     @Override
@@ -705,10 +738,12 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
             if (ci.getScheduledRaw() != null) {
                 if (ci.getScheduledRaw().before(before)) {
                     sportEventsCache.invalidate(ci.getId());
+                    notifyPurged(ci.getId());
                 }
             } else if (ci.getScheduledEndRaw() != null) {
                 if (ci.getScheduledEndRaw().before(before)) {
                     sportEventsCache.invalidate(ci.getId());
+                    notifyPurged(ci.getId());
                 }
             }
         }
@@ -844,6 +879,16 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
             .collect(Collectors.toList());
     }
 
+    /**
+     * Exports current items in the cache one by one
+     *
+     * @param consumer the consumer receiving the exported items
+     */
+    @Override
+    public void exportItemsTo(Consumer<ExportableCI> consumer) {
+        sportEventsCache.asMap().values().forEach(item -> consumer.accept(((ExportableCacheItem) item).export()));
+    }
+
     /**
      * Imports provided items into the cache
      *
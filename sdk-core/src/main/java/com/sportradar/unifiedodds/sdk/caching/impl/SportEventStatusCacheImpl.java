@@ -35,10 +35,12 @@ public class SportEventStatusCacheImpl implements SportEventStatusCache, DataRou
 
     private static final Logger logger = LoggerFactory.getLogger(SportEventStatusCacheImpl.class);
 
+    private static final String ODDS_CHANGE_SOURCE = "UFOddsChange";
+
     /**
      * A {@link Cache} instance used to store sport event statuses
      */
-    private final Cache<String, SportEventStatusCI> sportEventStatusCache;
+    private final Cache<URN, SportEventStatusCI> sportEventStatusCache;
 
     /**
      * The {@link SportEventCache} instance that stores sport events
@@ -48,7 +50,7 @@ public class SportEventStatusCacheImpl implements SportEventStatusCache, DataRou
     /**
      * A {@link Cache} instance used to store event ids for which timeline SES should be ignored
      */
-    private final Cache<String, Date> ignoreEventsTimelineCache;
+    private final Cache<URN, Date> ignoreEventsTimelineCache;
 
     /**
      * Initializes a new {@link SportEventStatusCacheImpl} instance
@@ -59,9 +61,9 @@ public class SportEventStatusCacheImpl implements SportEventStatusCache, DataRou
      * @param ignoreEventsTimelineCache - the {@link Cache} instance used to store event ids for which timeline SES should be ignored
      */
     public SportEventStatusCacheImpl(
-        Cache<String, SportEventStatusCI> sportEventStatusCache,
+        Cache<URN, SportEventStatusCI> sportEventStatusCache,
         SportEventCache sportEventCache,
-        Cache<String, Date> ignoreEventsTimelineCache
+        Cache<URN, Date> ignoreEventsTimelineCache
     ) {
         Preconditions.checkNotNull(sportEventStatusCache);
         Preconditions.checkNotNull(sportEventCache);
@@ -84,14 +86,14 @@ public class SportEventStatusCacheImpl implements SportEventStatusCache, DataRou
     public SportEventStatusCI getSportEventStatusCI(URN eventId, boolean makeApiCall) {
         Preconditions.checkNotNull(eventId);
 
-        SportEventStatusCI statusCi = sportEventStatusCache.getIfPresent(eventId.toString());
+        SportEventStatusCI statusCi = sportEventStatusCache.getIfPresent(eventId);
 
         if (statusCi != null || !makeApiCall) {
             return statusCi;
         }
 
         tryFetchCacheSportEventStatus(eventId);
-        statusCi = sportEventStatusCache.getIfPresent(eventId.toString());
+        statusCi = sportEventStatusCache.getIfPresent(eventId);
 
         if (statusCi == null) {
             statusCi = new SportEventStatusCIImpl(null, SportEventStatusDTO.getNotStarted());
@@ -101,7 +103,10 @@ public class SportEventStatusCacheImpl implements SportEventStatusCache, DataRou
     }
 
     /**
-     * Adds a new {@link #sportEventStatusCache} entry
+     * Adds a new {@link #sportEventStatusCache} entry, or updates the existing one. The entry is updated by a
+     * single atomic operation, so the statuses received concurrently for the same event are not lost. The
+     * statuses of the sources which are not prioritized are only added if there is no entry, without writing
+     * to the existing entry, so its expiration is not extended
      *
      * @param id - the unique identifier of the sport event to which the status belongs to
      * @param data - a {@link SportEventStatusDTO} to store in the cache
@@ -118,60 +123,61 @@ public class SportEventStatusCacheImpl implements SportEventStatusCache, DataRou
         Preconditions.checkNotNull(id);
         Preconditions.checkNotNull(data);
 
-        // sportEventStatus from oddsChange message has priority
         if (
-            source.equalsIgnoreCase("UFOddsChange") ||
-            source.contains("Summary") ||
-            sportEventStatusCache.getIfPresent(id.toString()) == null
+            OperationManager.getIgnoreBetPalTimelineSportEventStatus() &&
+            source.contains("Timeline") &&
+            ignoreEventsTimelineCache.getIfPresent(id) != null
         ) {
-            Date d = ignoreEventsTimelineCache.getIfPresent(id.toString());
-            if (
-                OperationManager.getIgnoreBetPalTimelineSportEventStatus() &&
-                source.contains("Timeline") &&
-                d != null
-            ) {
-                logger.debug(
-                    String.format(
-                        "Received SES for %s from %s with EventStatus:%s (timeline ignored)",
-                        id,
-                        source,
-                        data.getStatus()
-                    )
-                );
-                return;
-            }
-
             logger.debug(
-                String.format("Received SES for %s from %s with EventStatus:%s", id, source, data.getStatus())
+                "Received SES for {} from {} with EventStatus:{} (timeline ignored)",
+                id,
+                source,
+                data.getStatus()
             );
+            return;
+        }
 
-            SportEventStatusCI cacheItem = sportEventStatusCache.getIfPresent(id.toString());
-            SportEventStatusDTO feedDTO = (cacheItem != null) ? cacheItem.getFeedStatusDTO() : null;
-            SportEventStatusDTO sapiDTO = (cacheItem != null) ? cacheItem.getSapiStatusDTO() : null;
-
-            if (source.equalsIgnoreCase("UFOddsChange")) {
-                feedDTO = data;
-            } else {
-                sapiDTO = data;
-            }
+        // sportEventStatus from oddsChange message has priority
+        boolean fromOddsChange = source.equalsIgnoreCase(ODDS_CHANGE_SOURCE);
+        if (!fromOddsChange && !source.contains("Summary")) {
+            addIfAbsent(id, data, source);
+            return;
+        }
+        sportEventStatusCache
+            .asMap()
+            .compute(id, (eventId, cacheItem) -> merge(eventId, cacheItem, data, fromOddsChange, source));
+    }
 
-            if (cacheItem == null) {
-                cacheItem = new SportEventStatusCIImpl(feedDTO, sapiDTO);
-            } else {
-                cacheItem.setFeedStatus(feedDTO);
-                cacheItem.setSapiStatus(sapiDTO);
-            }
-            sportEventStatusCache.put(id.toString(), cacheItem);
+    private void addIfAbsent(URN id, SportEventStatusDTO data, String source) {
+        if (
+            sportEventStatusCache.getIfPresent(id) != null ||
+            sportEventStatusCache.asMap().putIfAbsent(id, new SportEventStatusCIImpl(null, data)) != null
+        ) {
+            logger.debug("Received SES for {} from {} with EventStatus:{} (ignored)", id, source, data.getStatus());
             return;
         }
-        logger.debug(
-            String.format(
-                "Received SES for %s from %s with EventStatus:%s (ignored)",
-                id,
-                source,
-                data.getStatus()
-            )
-        );
+        logger.debug("Received SES for {} from {} with EventStatus:{}", id, source, data.getStatus());
+    }
+
+    private static SportEventStatusCI merge(
+        URN id,
+        SportEventStatusCI cacheItem,
+        SportEventStatusDTO data,
+        boolean fromOddsChange,
+        String source
+    ) {
+        logger.debug("Received SES for {} from {} with EventStatus:{}", id, source, data.getStatus());
+        if (cacheItem == null) {
+            return fromOddsChange
+                ? new SportEventStatusCIImpl(data, null)
+                : new SportEventStatusCIImpl(null, data);
+        }
+        if (fromOddsChange) {
+            cacheItem.setFeedStatus(data);
+        } else {
+            cacheItem.setSapiStatus(data);
+        }
+        return cacheItem;
     }
 
     /**
@@ -181,7 +187,7 @@ public class SportEventStatusCacheImpl implements SportEventStatusCache, DataRou
      */
     @Override
     public void purgeSportEventStatus(URN id) {
-        sportEventStatusCache.invalidate(id.toString());
+        sportEventStatusCache.invalidate(id);
     }
 
     /**
@@ -195,15 +201,8 @@ public class SportEventStatusCacheImpl implements SportEventStatusCache, DataRou
     @Override
     public void addEventIdForTimelineIgnore(URN eventId, int producerId, String messageType) {
         if (producerId == 4) { // BetPal
-            Date d = ignoreEventsTimelineCache.getIfPresent(eventId.toString());
-            if (d == null) {
-                String msg = String.format(
-                    "Received %s - added %s to the ignore timeline list",
-                    messageType,
-                    eventId
-                );
-                logger.debug(msg);
-                ignoreEventsTimelineCache.put(eventId.toString(), new Date());
+            if (ignoreEventsTimelineCache.asMap().putIfAbsent(eventId, new Date()) == null) {
+                logger.debug("Received {} - added {} to the ignore timeline list", messageType, eventId);
             }
         }
     }
@@ -17,6 +17,7 @@ import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException
 import com.sportradar.unifiedodds.sdk.exceptions.internal.IllegalCacheStateException;
 import com.sportradar.utils.URN;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
@@ -496,6 +497,17 @@ public class SportsDataCacheImpl implements SportsDataCache, DataRouterListener,
             .collect(Collectors.toList());
     }
 
+    /**
+     * Exports current items in the cache one by one
+     *
+     * @param consumer the consumer receiving the exported items
+     */
+    @Override
+    public void exportItemsTo(Consumer<ExportableCI> consumer) {
+        sportsCache.asMap().values().forEach(item -> consumer.accept(((ExportableCacheItem) item).export()));
+        categoriesCache.asMap().values().forEach(item -> consumer.accept(((ExportableCacheItem) item).export()));
+    }
+
     /**
      * Imports provided items into the cache
      *
@@ -18,7 +18,6 @@ import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableCacheItem;
 import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableCompetitorCI;
 import com.sportradar.unifiedodds.sdk.exceptions.ObjectNotFoundException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
-import com.sportradar.unifiedodds.sdk.exceptions.internal.DataRouterStreamException;
 import com.sportradar.unifiedodds.sdk.impl.UnifiedFeedConstants;
 import com.sportradar.utils.SdkHelper;
 import com.sportradar.utils.URN;
@@ -770,21 +769,12 @@ class CompetitorCIImpl implements CompetitorCI, ExportableCacheItem {
                 missingLocales.stream().map(Locale::getLanguage).collect(Collectors.joining(", "))
             );
 
-            missingLocales.forEach(l -> {
-                try {
-                    if (
-                        id.isSimpleTeam() ||
-                        id.toString().startsWith(UnifiedFeedConstants.OUTCOMETEXT_VARIANT_VALUE)
-                    ) {
-                        dataRouterManager.requestSimpleTeamEndpoint(l, id, this);
-                    } else {
-                        dataRouterManager.requestCompetitorEndpoint(l, id, this);
-                    }
-                } catch (CommunicationException e) {
-                    throw new DataRouterStreamException(e.getMessage(), e);
-                }
-            });
-        } catch (DataRouterStreamException e) {
+            if (id.isSimpleTeam() || id.toString().startsWith(UnifiedFeedConstants.OUTCOMETEXT_VARIANT_VALUE)) {
+                dataRouterManager.requestSimpleTeamEndpointInLocales(missingLocales, id, this);
+            } else {
+                dataRouterManager.requestCompetitorEndpointInLocales(missingLocales, id, this);
+            }
+        } catch (CommunicationException e) {
             handleException(String.format("requestMissingCompetitorData(%s)", missingLocales), e);
         } finally {
             fetchLock.unlock();
@@ -24,7 +24,6 @@ import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableRaceStageCI;
 import com.sportradar.unifiedodds.sdk.entities.*;
 import com.sportradar.unifiedodds.sdk.exceptions.ObjectNotFoundException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
-import com.sportradar.unifiedodds.sdk.exceptions.internal.DataRouterStreamException;
 import com.sportradar.unifiedodds.sdk.impl.dto.SportEventStatusDTO;
 import com.sportradar.utils.SdkHelper;
 import com.sportradar.utils.URN;
@@ -1231,19 +1230,13 @@ class RaceStageCIImpl implements StageCI, ExportableCacheItem {
                 .collect(Collectors.joining(", "));
             logger.debug("Fetching stage fixtures for eventId='{}' for languages '{}'", id, localesStr);
 
-            missingLocales.forEach(l -> {
-                try {
-                    dataRouterManager.requestFixtureEndpoint(
-                        l,
-                        id,
-                        fixtureTimestampCache.getIfPresent(id) == null,
-                        this
-                    );
-                } catch (CommunicationException e) {
-                    throw new DataRouterStreamException(e.getMessage(), e);
-                }
-            });
-        } catch (DataRouterStreamException e) {
+            dataRouterManager.requestFixtureEndpointInLocales(
+                missingLocales,
+                id,
+                fixtureTimestampCache.getIfPresent(id) == null,
+                this
+            );
+        } catch (CommunicationException e) {
             handleException(String.format("requestMissingFixtureData(%s)", missingLocales), e);
         } finally {
             fixtureRequest.unlock();
@@ -1280,14 +1273,8 @@ class RaceStageCIImpl implements StageCI, ExportableCacheItem {
                 .collect(Collectors.joining(", "));
             logger.debug("Fetching stage summary for eventId='{}' for languages '{}'", id, localesStr);
 
-            missingLocales.forEach(l -> {
-                try {
-                    dataRouterManager.requestSummaryEndpoint(l, id, this);
-                } catch (CommunicationException e) {
-                    throw new DataRouterStreamException(e.getMessage(), e);
-                }
-            });
-        } catch (DataRouterStreamException e) {
+            dataRouterManager.requestSummaryEndpointInLocales(missingLocales, id, this);
+        } catch (CommunicationException e) {
             handleException(String.format("requestMissingSummaryData(%s)", missingLocales), e);
         } finally {
             summaryRequest.unlock();
@@ -20,7 +20,6 @@ import com.sportradar.unifiedodds.sdk.entities.Competitor;
 import com.sportradar.unifiedodds.sdk.entities.Reference;
 import com.sportradar.unifiedodds.sdk.exceptions.ObjectNotFoundException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
-import com.sportradar.unifiedodds.sdk.exceptions.internal.DataRouterStreamException;
 import com.sportradar.utils.SdkHelper;
 import com.sportradar.utils.URN;
 import java.util.*;
@@ -956,14 +955,8 @@ class TournamentCIImpl implements TournamentCI, ExportableCacheItem {
                 .collect(Collectors.joining(", "));
             logger.debug("Fetching missing tournament data for id='{}' for languages '{}'", id, localesStr);
 
-            missingLocales.forEach(l -> {
-                try {
-                    dataRouterManager.requestSummaryEndpoint(l, id, this);
-                } catch (CommunicationException e) {
-                    throw new DataRouterStreamException(e.getMessage(), e);
-                }
-            });
-        } catch (DataRouterStreamException e) {
+            dataRouterManager.requestSummaryEndpointInLocales(missingLocales, id, this);
+        } catch (CommunicationException e) {
             handleException(String.format("requestMissingTournamentData(%s)", missingLocales), e);
         } finally {
             dataRequestLock.unlock();
@@ -22,7 +22,6 @@ import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableTournamentSta
 import com.sportradar.unifiedodds.sdk.entities.*;
 import com.sportradar.unifiedodds.sdk.exceptions.ObjectNotFoundException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
-import com.sportradar.unifiedodds.sdk.exceptions.internal.DataRouterStreamException;
 import com.sportradar.unifiedodds.sdk.impl.dto.SportEventStatusDTO;
 import com.sportradar.utils.SdkHelper;
 import com.sportradar.utils.URN;
@@ -742,14 +741,8 @@ class TournamentStageCIImpl implements StageCI, ExportableCacheItem {
                 localesStr
             );
 
-            missingLocales.forEach(l -> {
-                try {
-                    dataRouterManager.requestSummaryEndpoint(l, id, this);
-                } catch (CommunicationException e) {
-                    throw new DataRouterStreamException(e.getMessage(), e);
-                }
-            });
-        } catch (DataRouterStreamException e) {
+            dataRouterManager.requestSummaryEndpointInLocales(missingLocales, id, this);
+        } catch (CommunicationException e) {
             handleException(String.format("requestMissingStageTournamentData(%s)", missingLocales), e);
         } finally {
             fetchRequestLock.unlock();
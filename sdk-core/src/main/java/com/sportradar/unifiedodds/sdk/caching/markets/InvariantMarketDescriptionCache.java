@@ -7,6 +7,7 @@ package com.sportradar.unifiedodds.sdk.caching.markets;
 import com.google.common.base.Preconditions;
 import com.google.common.cache.Cache;
 import com.sportradar.uf.sportsapi.datamodel.DescMarket;
+import com.sportradar.uf.sportsapi.datamodel.Mappings;
 import com.sportradar.uf.sportsapi.datamodel.MarketDescriptions;
 import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketDescriptionCI;
 import com.sportradar.unifiedodds.sdk.entities.markets.MarketDescription;
@@ -20,9 +21,16 @@ import com.sportradar.unifiedodds.sdk.impl.markets.MappingValidatorFactory;
 import com.sportradar.unifiedodds.sdk.impl.markets.MarketDescriptionImpl;
 import com.sportradar.utils.SdkHelper;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
@@ -35,6 +43,7 @@ import org.slf4j.LoggerFactory;
  */
 @SuppressWarnings(
     {
+        "ClassDataAbstractionCoupling",
         "ClassFanOutComplexity",
         "ConstantName",
         "IllegalCatch",
@@ -56,7 +65,10 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
     private final List<Locale> prefetchLocales;
     private final List<Locale> fetchedLocales;
     private final ReentrantLock fetchLock = new ReentrantLock();
-    private boolean hasTimerElapsedOnce;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final MarketDescriptionFingerprints fingerprints = new MarketDescriptionFingerprints();
+    private final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
+    private volatile boolean hasTimerElapsedOnce;
 
     public InvariantMarketDescriptionCache(
         Cache<String, MarketDescriptionCI> cache,
@@ -99,18 +111,17 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
         String processingCacheId = String.valueOf(marketId);
         MarketDescriptionCI cachedItem = getMarketInternal(processingCacheId, locales);
 
-        return new MarketDescriptionImpl(cachedItem, locales);
+        return cachedItem.getSnapshot(locales, MarketDescriptionImpl::new);
     }
 
     @Override
     public boolean loadMarketDescriptions() {
         try {
-            fetchedLocales.clear();
             logger.debug(
                 "Loading invariant market descriptions for [{}] (user request).",
                 prefetchLocales.stream().map(Locale::getLanguage).collect(Collectors.joining(","))
             );
-            fetchMissingData(prefetchLocales);
+            refreshMarketDescriptions();
         } catch (Exception e) {
             logger.warn(
                 "An error occurred while fetching market description for languages [{}]",
@@ -126,6 +137,8 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
     public void deleteCacheItem(int marketId, String variant) {
         String processingCacheItemId = String.valueOf(marketId);
         cache.invalidate(processingCacheItemId);
+        fingerprints.remove(processingCacheItemId);
+        notifyReloaded();
     }
 
     @Override
@@ -136,6 +149,24 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
         }
     }
 
+    /**
+     * Registers a listener notified each time the cached descriptions are reloaded or removed
+     *
+     * @param listener the listener notified once the cached descriptions changed
+     */
+    @Override
+    public void addReloadListener(Runnable listener) {
+        Preconditions.checkNotNull(listener);
+
+        reloadListeners.add(listener);
+    }
+
+    private void notifyReloaded() {
+        for (Runnable listener : reloadListeners) {
+            listener.run();
+        }
+    }
+
     public List<MarketDescription> getAllInvariantMarketDescriptions(List<Locale> locales)
         throws IllegalCacheStateException, CacheItemNotFoundException {
         Preconditions.checkNotNull(locales);
@@ -148,33 +179,119 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
             .asMap()
             .values()
             .stream()
-            .map(ci -> new MarketDescriptionImpl(ci, locales))
+            .map(ci -> ci.getSnapshot(locales, MarketDescriptionImpl::new))
             .collect(Collectors.toList());
     }
 
+    /**
+     * Asynchronously provides all the invariant market descriptions, the missing locales are requested without
+     * blocking the calling thread and merged into the cache once they are received
+     *
+     * @param locales the locales in which the descriptions should be translated
+     * @return a future completed with the market descriptions
+     */
+    public CompletableFuture<List<MarketDescription>> getAllInvariantMarketDescriptionsAsync(List<Locale> locales) {
+        Preconditions.checkNotNull(locales);
+        Preconditions.checkArgument(!locales.isEmpty());
+
+        List<Locale> missingLocales;
+        fetchLock.lock();
+        try {
+            missingLocales = SdkHelper.findMissingLocales(fetchedLocales, locales);
+        } finally {
+            fetchLock.unlock();
+        }
+
+        CompletableFuture<?>[] fetches = missingLocales
+            .stream()
+            .map(locale -> dataProvider.getDataAsync(locale).thenAccept(data -> mergeFetched(locale, data)))
+            .toArray(CompletableFuture<?>[]::new);
+        return CompletableFuture
+            .allOf(fetches)
+            .thenApply(ignored -> {
+                try {
+                    return getAllInvariantMarketDescriptions(locales);
+                } catch (IllegalCacheStateException | CacheItemNotFoundException e) {
+                    throw new CompletionException(e);
+                }
+            });
+    }
+
+    /**
+     * Refreshes the cached descriptions of all the markets in the prefetch locales and in the locales fetched on
+     * demand. The descriptions are fetched and compared with the cached ones without holding the fetch lock, then
+     * only the cache items of the added and changed markets are swapped in. The cache items of the unchanged
+     * markets are kept, so the views memoised by them remain valid.
+     *
+     * @return the report describing the changes applied by the refresh
+     * @throws IllegalCacheStateException if the descriptions could not be fetched
+     */
+    MarketDescriptionsRefreshReport refreshMarketDescriptions() throws IllegalCacheStateException {
+        refreshLock.lock();
+        try {
+            final long start = System.currentTimeMillis();
+            List<Locale> refreshedLocales = getRefreshedLocales();
+            MarketDescriptionFingerprints refreshed = new MarketDescriptionFingerprints();
+            Map<String, Map<Locale, DescMarket>> markets = fetchAllMarkets(refreshedLocales, refreshed);
+            Map<String, List<Mappings.Mapping>> additionalMappings = getAdditionalMappings();
+            additionalMappings.forEach(refreshed::putAdditionalMappings);
+
+            Map<String, MarketDescriptionCI> changedItems = new HashMap<>();
+            List<Integer> addedMarkets = new ArrayList<>();
+            List<Integer> changedMarkets = new ArrayList<>();
+            markets.forEach((id, localizedMarkets) -> {
+                MarketDescriptionCI cachedItem = cache.getIfPresent(id);
+                if (cachedItem != null && fingerprints.matches(id, refreshed, refreshedLocales)) {
+                    return;
+                }
+                (cachedItem == null ? addedMarkets : changedMarkets).add(Integer.valueOf(id));
+                changedItems.put(id, buildCacheItem(localizedMarkets, additionalMappings.get(id)));
+            });
+
+            swapCacheItems(changedItems, refreshed, refreshedLocales);
+
+            MarketDescriptionsRefreshReport report = new MarketDescriptionsRefreshReport(
+                addedMarkets,
+                changedMarkets,
+                markets.size() - changedItems.size(),
+                System.currentTimeMillis() - start
+            );
+            logger.info("Invariant market descriptions refreshed: {}", report);
+            if (report.hasChanges()) {
+                notifyReloaded();
+            }
+            return report;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
     private void onTimerElapsed() {
         logger.info("Executing invariant market cache refresh");
 
-        List<Locale> locales2fetch;
-
         if (hasTimerElapsedOnce) {
-            locales2fetch = prefetchLocales;
-        } else {
-            locales2fetch =
-                prefetchLocales
-                    .stream()
-                    .filter(pLocale -> !fetchedLocales.contains(pLocale))
-                    .collect(Collectors.toList());
+            try {
+                refreshMarketDescriptions();
+            } catch (Exception e) { // so the timer does not die
+                logger.warn(
+                    "An error occurred while periodically refreshing market description for languages [{}]",
+                    prefetchLocales.stream().map(Locale::getLanguage).collect(Collectors.joining(",")),
+                    e
+                );
+            }
+            return;
         }
+
+        List<Locale> locales2fetch = prefetchLocales
+            .stream()
+            .filter(pLocale -> !fetchedLocales.contains(pLocale))
+            .collect(Collectors.toList());
         logger.debug(
             "Loading invariant market descriptions for [{}] (timer).",
             locales2fetch.stream().map(Locale::getLanguage).collect(Collectors.joining(","))
         );
         fetchLock.lock();
         try {
-            if (hasTimerElapsedOnce) {
-                fetchedLocales.clear();
-            }
             if (!locales2fetch.isEmpty()) {
                 fetchMissingData(locales2fetch);
             }
@@ -237,6 +354,7 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
                 merge(missingLocale, dataProvider.getData(missingLocale));
             }
             initStaticMappingsEnrichment();
+            notifyReloaded();
         } catch (DataProviderException e) {
             throw new IllegalCacheStateException(
                 "An error occurred while fetching invariant descriptors in [" + missingLocales + "]",
@@ -245,6 +363,100 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
         }
     }
 
+    private List<Locale> getRefreshedLocales() {
+        fetchLock.lock();
+        try {
+            List<Locale> locales = new ArrayList<>(prefetchLocales);
+            fetchedLocales.stream().filter(locale -> !locales.contains(locale)).forEach(locales::add);
+            return locales;
+        } finally {
+            fetchLock.unlock();
+        }
+    }
+
+    private Map<String, Map<Locale, DescMarket>> fetchAllMarkets(
+        List<Locale> locales,
+        MarketDescriptionFingerprints refreshed
+    ) throws IllegalCacheStateException {
+        Map<String, Map<Locale, DescMarket>> markets = new LinkedHashMap<>();
+        for (Locale locale : locales) {
+            MarketDescriptions data;
+            try {
+                data = dataProvider.getData(locale);
+            } catch (DataProviderException e) {
+                throw new IllegalCacheStateException(
+                    "An error occurred while fetching invariant descriptors in [" + locale + "]",
+                    e
+                );
+            }
+            for (DescMarket market : data.getMarket()) {
+                markets
+                    .computeIfAbsent(String.valueOf(market.getId()), id -> new LinkedHashMap<>())
+                    .put(locale, market);
+                refreshed.putMarket(locale, market);
+            }
+        }
+        return markets;
+    }
+
+    private MarketDescriptionCI buildCacheItem(
+        Map<Locale, DescMarket> localizedMarkets,
+        List<Mappings.Mapping> additionalMappings
+    ) {
+        MarketDescriptionCI cachedItem = null;
+        for (Map.Entry<Locale, DescMarket> localizedMarket : localizedMarkets.entrySet()) {
+            if (cachedItem == null) {
+                cachedItem =
+                    new MarketDescriptionCI(
+                        localizedMarket.getValue(),
+                        mappingValidatorFactory,
+                        localizedMarket.getKey(),
+                        SdkHelper.InVariantMarketListCache
+                    );
+            } else {
+                cachedItem.merge(localizedMarket.getValue(), localizedMarket.getKey());
+            }
+        }
+        if (cachedItem != null && additionalMappings != null) {
+            cachedItem.mergeAdditionalMappings(additionalMappings);
+        }
+        return cachedItem;
+    }
+
+    private void swapCacheItems(
+        Map<String, MarketDescriptionCI> changedItems,
+        MarketDescriptionFingerprints refreshed,
+        List<Locale> refreshedLocales
+    ) {
+        fetchLock.lock();
+        try {
+            changedItems.forEach((id, cachedItem) -> {
+                cache.put(id, cachedItem);
+                fingerprints.replace(id, refreshed);
+            });
+            // the locales fetched on demand while refreshing are missing from the replaced items, so they must be
+            // fetched again
+            fetchedLocales.retainAll(refreshedLocales);
+            refreshedLocales
+                .stream()
+                .filter(locale -> !fetchedLocales.contains(locale))
+                .forEach(fetchedLocales::add);
+        } finally {
+            fetchLock.unlock();
+        }
+    }
+
+    private void mergeFetched(Locale locale, MarketDescriptions data) {
+        fetchLock.lock();
+        try {
+            merge(locale, data);
+            initStaticMappingsEnrichment();
+            notifyReloaded();
+        } finally {
+            fetchLock.unlock();
+        }
+    }
+
     private void merge(Locale locale, MarketDescriptions data) {
         Preconditions.checkNotNull(locale);
         Preconditions.checkNotNull(data);
@@ -264,9 +476,11 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
                             SdkHelper.InVariantMarketListCache
                         );
                     cache.put(processingCacheItemId, cachedItem);
+                    fingerprints.remove(processingCacheItemId);
                 } else {
                     cachedItem.merge(market, locale);
                 }
+                fingerprints.putMarket(locale, market);
             });
         if (!fetchedLocales.contains(locale)) {
             fetchedLocales.add(locale);
@@ -274,16 +488,42 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
     }
 
     private void initStaticMappingsEnrichment() {
+        getAdditionalMappings()
+            .forEach((id, mappings) -> {
+                MarketDescriptionCI cachedItem = cache.getIfPresent(id);
+                if (cachedItem == null) {
+                    if (additionalMappingsProvider.logErrors()) {
+                        logger.warn("Handling additional mappings for unknown market: {}", id);
+                    }
+                    return;
+                }
+
+                cachedItem.mergeAdditionalMappings(mappings);
+                fingerprints.putAdditionalMappings(id, mappings);
+            });
+    }
+
+    private Map<String, List<Mappings.Mapping>> getAdditionalMappings() {
         try {
             MarketDescriptions data = additionalMappingsProvider.getData();
             if (data == null || data.getMarket() == null) {
                 if (additionalMappingsProvider.logErrors()) {
                     logger.warn("Additional mappings provider returned null data");
                 }
-                return;
+                return Collections.emptyMap();
             }
 
-            enrichStaticMappings(data.getMarket());
+            Map<String, List<Mappings.Mapping>> additionalMappings = new HashMap<>();
+            for (DescMarket m : data.getMarket()) {
+                if (!hasMappings(m)) {
+                    if (additionalMappingsProvider.logErrors()) {
+                        logger.warn("Handling empty/null additional mappings for market: {}", m.getId());
+                    }
+                    continue;
+                }
+                additionalMappings.put(String.valueOf(m.getId()), m.getMappings().getMapping());
+            }
+            return additionalMappings;
         } catch (Exception e) {
             if (additionalMappingsProvider.logErrors()) {
                 logger.warn(
@@ -291,43 +531,22 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
                     e
                 );
             }
+            return Collections.emptyMap();
         }
     }
 
-    private void enrichStaticMappings(List<DescMarket> markets) {
-        Preconditions.checkNotNull(markets);
-
-        markets.forEach(m -> {
-            String processingCacheItemId = String.valueOf(m.getId());
-            MarketDescriptionCI cachedItem = cache.getIfPresent(processingCacheItemId);
-            if (cachedItem == null) {
-                if (additionalMappingsProvider.logErrors()) {
-                    logger.warn("Handling additional mappings for unknown market: {}", m.getId());
-                }
-                return;
-            }
-
-            if (
-                m.getMappings() == null ||
-                m.getMappings().getMapping() == null ||
-                m.getMappings().getMapping().isEmpty()
-            ) {
-                if (additionalMappingsProvider.logErrors()) {
-                    logger.warn("Handling empty/null additional mappings for market: {}", m.getId());
-                }
-                return;
-            }
-
-            cachedItem.mergeAdditionalMappings(m.getMappings().getMapping());
-        });
-    }
-
     private void additionalMappingsChanged() {
         logger.info("Additional mappings callback invoked - triggering cache refresh");
 
         onTimerElapsed();
     }
 
+    private static boolean hasMappings(DescMarket market) {
+        return market.getMappings() != null &&
+            market.getMappings().getMapping() != null &&
+            !market.getMappings().getMapping().isEmpty();
+    }
+
     private List<Locale> getMissingLocales(MarketDescriptionCI item, List<Locale> requiredLocales) {
         Preconditions.checkNotNull(requiredLocales);
         Preconditions.checkArgument(!requiredLocales.isEmpty());
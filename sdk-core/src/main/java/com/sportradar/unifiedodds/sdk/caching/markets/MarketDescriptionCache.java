@@ -23,4 +23,12 @@ public interface MarketDescriptionCache {
     void deleteCacheItem(int marketId, String variant);
 
     void updateCacheItem(int marketId, String variant);
+
+    /**
+     * Registers a listener notified each time the cached descriptions are reloaded or removed, so the data
+     * derived from the cached descriptions can be invalidated
+     *
+     * @param listener the listener notified once the cached descriptions changed
+     */
+    default void addReloadListener(Runnable listener) {}
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.caching.markets;
+
+import com.google.common.base.Preconditions;
+import com.sportradar.uf.sportsapi.datamodel.Attributes;
+import com.sportradar.uf.sportsapi.datamodel.DescMarket;
+import com.sportradar.uf.sportsapi.datamodel.DescOutcomes;
+import com.sportradar.uf.sportsapi.datamodel.DescSpecifiers;
+import com.sportradar.uf.sportsapi.datamodel.Mappings;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the content of the market descriptions received from the API (per market and locale) and of the
+ * additional market mappings, in a form which can be compared, so a refresh of the market descriptions can tell
+ * which markets actually changed
+ */
+final class MarketDescriptionFingerprints {
+
+    private final Map<String, Map<Locale, List<Object>>> markets = new ConcurrentHashMap<>();
+    private final Map<String, List<Object>> additionalMappings = new ConcurrentHashMap<>();
+
+    /**
+     * Records the content of the market description received in the provided locale
+     *
+     * @param locale the locale of the received market description
+     * @param market the received market description
+     */
+    void putMarket(Locale locale, DescMarket market) {
+        Preconditions.checkNotNull(locale);
+        Preconditions.checkNotNull(market);
+
+        markets
+            .computeIfAbsent(String.valueOf(market.getId()), id -> new ConcurrentHashMap<>())
+            .put(locale, fingerprint(market));
+    }
+
+    /**
+     * Records the content of the additional mappings of the provided market
+     *
+     * @param marketId the id of the market
+     * @param mappings the additional mappings of the market
+     */
+    void putAdditionalMappings(String marketId, List<Mappings.Mapping> mappings) {
+        Preconditions.checkNotNull(marketId);
+        Preconditions.checkNotNull(mappings);
+
+        additionalMappings.put(marketId, fingerprint(mappings, MarketDescriptionFingerprints::fingerprint));
+    }
+
+    /**
+     * Removes the recorded content of the market
+     *
+     * @param marketId the id of the market
+     */
+    void remove(String marketId) {
+        markets.remove(marketId);
+        additionalMappings.remove(marketId);
+    }
+
+    /**
+     * Replaces the recorded content of the market with the content recorded by the provided instance
+     *
+     * @param marketId the id of the market
+     * @param source the instance holding the new content of the market
+     */
+    void replace(String marketId, MarketDescriptionFingerprints source) {
+        remove(marketId);
+        Map<Locale, List<Object>> market = source.markets.get(marketId);
+        if (market != null) {
+            markets.put(marketId, new ConcurrentHashMap<>(market));
+        }
+        List<Object> mappings = source.additionalMappings.get(marketId);
+        if (mappings != null) {
+            additionalMappings.put(marketId, mappings);
+        }
+    }
+
+    /**
+     * Indicates if the content of the market recorded by the provided instance is the same as the recorded one
+     *
+     * @param marketId the id of the market
+     * @param other the instance holding the content to compare
+     * @param locales the locales in which the content should be compared
+     * @return true if the content of the market is the same in all the provided locales; otherwise false
+     */
+    boolean matches(String marketId, MarketDescriptionFingerprints other, List<Locale> locales) {
+        Map<Locale, List<Object>> market = markets.get(marketId);
+        Map<Locale, List<Object>> otherMarket = other.markets.get(marketId);
+        if (market == null || otherMarket == null) {
+            return false;
+        }
+        for (Locale locale : locales) {
+            if (!Objects.equals(market.get(locale), otherMarket.get(locale))) {
+                return false;
+            }
+        }
+        return Objects.equals(additionalMappings.get(marketId), other.additionalMappings.get(marketId));
+    }
+
+    private static List<Object> fingerprint(DescMarket market) {
+        return Arrays.asList(
+            market.getId(),
+            market.getName(),
+            market.getDescription(),
+            market.getGroups(),
+            market.getIncludesOutcomesOfType(),
+            market.getVariant(),
+            market.getOutcomeType(),
+            market.getOutcomes() == null
+                ? null
+                : fingerprint(market.getOutcomes().getOutcome(), MarketDescriptionFingerprints::fingerprint),
+            market.getSpecifiers() == null
+                ? null
+                : fingerprint(market.getSpecifiers().getSpecifier(), MarketDescriptionFingerprints::fingerprint),
+            market.getMappings() == null
+                ? null
+                : fingerprint(market.getMappings().getMapping(), MarketDescriptionFingerprints::fingerprint),
+            market.getAttributes() == null
+                ? null
+                : fingerprint(market.getAttributes().getAttribute(), MarketDescriptionFingerprints::fingerprint)
+        );
+    }
+
+    private static List<Object> fingerprint(DescOutcomes.Outcome outcome) {
+        return Arrays.asList(outcome.getId(), outcome.getName(), outcome.getDescription());
+    }
+
+    private static List<Object> fingerprint(DescSpecifiers.Specifier specifier) {
+        return Arrays.asList(specifier.getName(), specifier.getType(), specifier.getDescription());
+    }
+
+    private static List<Object> fingerprint(Mappings.Mapping mapping) {
+        return Arrays.asList(
+            mapping.getProductId(),
+            mapping.getProductIds(),
+            mapping.getSportId(),
+            mapping.getMarketId(),
+            mapping.getSovTemplate(),
+            mapping.getValidFor(),
+            fingerprint(
+                mapping.getMappingOutcome(),
+                outcome ->
+                    Arrays.asList(
+                        outcome.getOutcomeId(),
+                        outcome.getProductOutcomeId(),
+                        outcome.getProductOutcomeName()
+                    )
+            )
+        );
+    }
+
+    private static List<Object> fingerprint(Attributes.Attribute attribute) {
+        return Arrays.asList(attribute.getName(), attribute.getDescription());
+    }
+
+    private static <T> List<Object> fingerprint(List<T> items, Function<T, List<Object>> itemFingerprint) {
+        if (items == null) {
+            return Collections.emptyList();
+        }
+        return items.stream().map(itemFingerprint).collect(Collectors.toList());
+    }
+}
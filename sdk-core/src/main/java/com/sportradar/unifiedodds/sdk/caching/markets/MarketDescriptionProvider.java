@@ -29,4 +29,12 @@ public interface MarketDescriptionProvider {
      * @return true if succeeded, false otherwise
      */
     boolean reloadMarketDescription(int marketId, Map<String, String> marketSpecifiers);
+
+    /**
+     * Registers a listener notified each time the provided market descriptions are reloaded or removed from
+     * the underlying caches, so the data derived from the descriptions (ex: generated names) can be invalidated
+     *
+     * @param listener the listener notified once the market descriptions changed
+     */
+    default void addReloadListener(Runnable listener) {}
 }
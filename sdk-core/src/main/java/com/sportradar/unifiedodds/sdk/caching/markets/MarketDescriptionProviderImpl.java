@@ -114,19 +114,12 @@ public class MarketDescriptionProviderImpl implements MarketDescriptionProvider
                 locales
             );
 
-            ((MarketDescriptionImpl) marketDescriptor).mergeOutcomes(
-                    variantDescriptionCI.getOutcomes(),
-                    locales
-                );
-            ((MarketDescriptionImpl) marketDescriptor).setStaticMappingsData(
-                    variantDescriptionCI.getMappings()
-                );
-            ((MarketDescriptionImpl) marketDescriptor).setFetchInfo(
-                    variantDescriptionCI.getSourceCache(),
-                    variantDescriptionCI.getLastDataReceived()
-                );
-
-            return Optional.of(marketDescriptor);
+            return Optional.of(
+                variantDescriptionCI.getMergedSnapshot(
+                    marketDescriptor,
+                    d -> ((MarketDescriptionImpl) d).withVariantDescription(variantDescriptionCI, locales)
+                )
+            );
         } catch (CacheItemNotFoundException e) {
             return Optional.empty();
         } catch (IllegalCacheStateException e) {
@@ -179,6 +172,15 @@ public class MarketDescriptionProviderImpl implements MarketDescriptionProvider
         );
     }
 
+    @Override
+    public void addReloadListener(Runnable listener) {
+        Preconditions.checkNotNull(listener);
+
+        invariantMarketCache.addReloadListener(listener);
+        variantMarketCache.addReloadListener(listener);
+        variantDescriptionCache.addReloadListener(listener);
+    }
+
     /**
      * Reloads market description (one or list)
      * @param marketId the market identifier
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.caching.markets;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSortedSet;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Describes the changes applied to the cached market descriptions by a refresh
+ */
+public final class MarketDescriptionsRefreshReport {
+
+    private final Set<Integer> addedMarkets;
+    private final Set<Integer> changedMarkets;
+    private final int unchangedMarketCount;
+    private final long elapsedMillis;
+
+    /**
+     * Initializes a new {@link MarketDescriptionsRefreshReport}
+     *
+     * @param addedMarkets the ids of the markets which were not cached before the refresh
+     * @param changedMarkets the ids of the markets of which the description changed
+     * @param unchangedMarketCount the number of markets of which the description did not change
+     * @param elapsedMillis the time spent by the refresh, in milliseconds
+     */
+    public MarketDescriptionsRefreshReport(
+        Collection<Integer> addedMarkets,
+        Collection<Integer> changedMarkets,
+        int unchangedMarketCount,
+        long elapsedMillis
+    ) {
+        Preconditions.checkNotNull(addedMarkets);
+        Preconditions.checkNotNull(changedMarkets);
+
+        this.addedMarkets = ImmutableSortedSet.copyOf(addedMarkets);
+        this.changedMarkets = ImmutableSortedSet.copyOf(changedMarkets);
+        this.unchangedMarketCount = unchangedMarketCount;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Returns the ids of the markets which were not cached before the refresh
+     *
+     * @return the ids of the added markets
+     */
+    public Set<Integer> getAddedMarkets() {
+        return addedMarkets;
+    }
+
+    /**
+     * Returns the ids of the markets of which the description changed, the cached items of those markets were
+     * replaced
+     *
+     * @return the ids of the changed markets
+     */
+    public Set<Integer> getChangedMarkets() {
+        return changedMarkets;
+    }
+
+    /**
+     * Returns the number of markets of which the description did not change, the cached items of those markets
+     * were kept as they were
+     *
+     * @return the number of unchanged markets
+     */
+    public int getUnchangedMarketCount() {
+        return unchangedMarketCount;
+    }
+
+    /**
+     * Returns the time spent by the refresh, including the API requests
+     *
+     * @return the time spent by the refresh, in milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Indicates if the refresh changed the cached market descriptions
+     *
+     * @return true if any market was added or changed; otherwise false
+     */
+    public boolean hasChanges() {
+        return !addedMarkets.isEmpty() || !changedMarkets.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects
+            .toStringHelper(this)
+            .add("addedMarkets", addedMarkets)
+            .add("changedMarkets", changedMarkets)
+            .add("unchangedMarketCount", unchangedMarketCount)
+            .add("elapsedMillis", elapsedMillis)
+            .toString();
+    }
+}
@@ -19,4 +19,12 @@ public interface VariantDescriptionCache {
         throws IllegalCacheStateException, CacheItemNotFoundException;
 
     boolean loadMarketDescriptions();
+
+    /**
+     * Registers a listener notified each time the cached variant descriptions are reloaded, so the data
+     * derived from the cached descriptions can be invalidated
+     *
+     * @param listener the listener notified once the cached variant descriptions changed
+     */
+    default void addReloadListener(Runnable listener) {}
 }
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
@@ -32,6 +33,7 @@ import org.slf4j.LoggerFactory;
  */
 @SuppressWarnings(
     {
+        "ClassFanOutComplexity",
         "ConstantName",
         "IllegalCatch",
         "LambdaBodyLength",
@@ -51,6 +53,7 @@ public class VariantDescriptionCacheImpl implements VariantDescriptionCache {
     private final List<Locale> prefetchLocales;
     private final List<Locale> fetchedLocales;
     private final ReentrantLock fetchLock = new ReentrantLock();
+    private final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
     private boolean hasTimerElapsedOnce;
 
     public VariantDescriptionCacheImpl(
@@ -147,6 +150,24 @@ public class VariantDescriptionCacheImpl implements VariantDescriptionCache {
         return true;
     }
 
+    /**
+     * Registers a listener notified each time the cached descriptions are reloaded
+     *
+     * @param listener the listener notified once the cached descriptions changed
+     */
+    @Override
+    public void addReloadListener(Runnable listener) {
+        Preconditions.checkNotNull(listener);
+
+        reloadListeners.add(listener);
+    }
+
+    private void notifyReloaded() {
+        for (Runnable listener : reloadListeners) {
+            listener.run();
+        }
+    }
+
     private VariantDescriptionCI getVariantDescriptionInternal(String id, List<Locale> locales2fetch)
         throws CacheItemNotFoundException, IllegalCacheStateException {
         Preconditions.checkNotNull(id);
@@ -192,6 +213,7 @@ public class VariantDescriptionCacheImpl implements VariantDescriptionCache {
             for (Locale missingLocale : missingLocales) {
                 merge(missingLocale, dataProvider.getData(missingLocale));
             }
+            notifyReloaded();
         } catch (DataProviderException e) {
             throw new IllegalCacheStateException(
                 "An error occurred while fetching variant descriptors in [" + missingLocales + "]",
@@ -7,6 +7,7 @@ package com.sportradar.unifiedodds.sdk.caching.markets;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.google.common.cache.Cache;
+import com.google.common.util.concurrent.Striped;
 import com.sportradar.uf.sportsapi.datamodel.DescMarket;
 import com.sportradar.uf.sportsapi.datamodel.MarketDescriptions;
 import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketDescriptionCI;
@@ -20,8 +21,9 @@ import com.sportradar.unifiedodds.sdk.impl.markets.MarketDescriptionImpl;
 import com.sportradar.utils.SdkHelper;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.Lock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,13 +42,20 @@ import org.slf4j.LoggerFactory;
 public class VariantMarketDescriptionCache implements MarketDescriptionCache {
 
     private static final Logger logger = LoggerFactory.getLogger(VariantMarketDescriptionCache.class);
+
+    /**
+     * The number of locks used to fetch the missing translations, the cache keys are spread among them
+     */
+    private static final int FETCH_LOCK_STRIPES = 64;
+
     private final Cache<String, MarketDescriptionCI> cache;
     private final DataProvider<MarketDescriptions> dataProvider;
     private final MappingValidatorFactory mappingValidatorFactory;
-    private final ReentrantLock lock = new ReentrantLock();
+    private final Striped<Lock> fetchLocks = Striped.lock(FETCH_LOCK_STRIPES);
     private final boolean simpleVariantCaching;
-    private Map<String, Date> fetchedVariants = new ConcurrentHashMap<>();
-    private Date lastTimeFetchedVariantsWereCleared;
+    private final Map<String, Date> fetchedVariants = new ConcurrentHashMap<>();
+    private volatile Date lastTimeFetchedVariantsWereCleared;
+    private final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
 
     public VariantMarketDescriptionCache(
         Cache<String, MarketDescriptionCI> cache,
@@ -65,6 +74,11 @@ public class VariantMarketDescriptionCache implements MarketDescriptionCache {
         this.lastTimeFetchedVariantsWereCleared = new Date();
     }
 
+    /**
+     * Returns the variant market description. The fully cached descriptions are returned without locking, the
+     * missing translations of the cached descriptions are fetched under a lock associated with the cache key,
+     * so the fetches of the different variant markets do not block each other.
+     */
     @Override
     public MarketDescription getMarketDescriptor(int marketId, String variant, List<Locale> locales)
         throws CacheItemNotFoundException, IllegalCacheStateException {
@@ -73,45 +87,45 @@ public class VariantMarketDescriptionCache implements MarketDescriptionCache {
         Preconditions.checkNotNull(locales);
         Preconditions.checkArgument(!locales.isEmpty());
 
-        MarketDescriptionCI marketCI;
-        try {
-            marketCI =
-                cache.get(
-                    getCacheKey(marketId, variant),
-                    () -> loadMarketDescriptorData(null, marketId, variant, locales)
-                );
-        } catch (ExecutionException e) {
-            throw new CacheItemNotFoundException("The requested market descriptor could not be found", e);
+        String cacheKey = getCacheKey(marketId, variant);
+        MarketDescriptionCI marketCI = cache.getIfPresent(cacheKey);
+        if (marketCI == null) {
+            try {
+                marketCI = cache.get(cacheKey, () -> loadMarketDescriptorData(null, marketId, variant, locales));
+            } catch (ExecutionException e) {
+                throw new CacheItemNotFoundException("The requested market descriptor could not be found", e);
+            }
         }
 
-        List<Locale> missingLocales;
-        try {
-            lock.lock();
-            missingLocales = getMissingLocales(marketCI, locales);
-        } finally {
-            lock.unlock();
+        if (!marketCI.hasCachedLocales(locales)) {
+            fetchMissingLocales(marketCI, cacheKey, marketId, variant, locales);
         }
 
-        if (!missingLocales.isEmpty()) {
-            try {
-                lock.lock();
-                if (!isFetchingAllowed(marketId, variant, missingLocales)) {
-                    return new MarketDescriptionImpl(marketCI, locales);
-                }
-                missingLocales = getMissingLocales(marketCI, locales);
-                if (!missingLocales.isEmpty()) {
-                    loadMarketDescriptorData(marketCI, marketId, variant, missingLocales);
+        return marketCI.getSnapshot(locales, MarketDescriptionImpl::new);
+    }
 
-                    for (Locale l : missingLocales) {
-                        fetchedVariants.put(getFetchedVariantsKey(marketId, variant, l), new Date());
-                    }
-                }
-            } finally {
-                lock.unlock();
+    private void fetchMissingLocales(
+        MarketDescriptionCI marketCI,
+        String cacheKey,
+        int marketId,
+        String variant,
+        List<Locale> locales
+    ) throws IllegalCacheStateException {
+        Lock fetchLock = fetchLocks.get(cacheKey);
+        fetchLock.lock();
+        try {
+            List<Locale> missingLocales = getMissingLocales(marketCI, locales);
+            if (missingLocales.isEmpty() || !isFetchingAllowed(marketId, variant, missingLocales)) {
+                return;
             }
-        }
 
-        return new MarketDescriptionImpl(marketCI, locales);
+            loadMarketDescriptorData(marketCI, marketId, variant, missingLocales);
+            for (Locale l : missingLocales) {
+                fetchedVariants.put(getFetchedVariantsKey(marketId, variant, l), new Date());
+            }
+        } finally {
+            fetchLock.unlock();
+        }
     }
 
     @Override
@@ -125,6 +139,7 @@ public class VariantMarketDescriptionCache implements MarketDescriptionCache {
         if (cache.asMap().containsKey(cacheId)) {
             logger.debug("Delete variant market: {}", cacheId);
             cache.invalidate(cacheId);
+            notifyReloaded();
         }
     }
 
@@ -137,6 +152,24 @@ public class VariantMarketDescriptionCache implements MarketDescriptionCache {
         }
     }
 
+    /**
+     * Registers a listener notified each time the cached descriptions are removed
+     *
+     * @param listener the listener notified once the cached descriptions changed
+     */
+    @Override
+    public void addReloadListener(Runnable listener) {
+        Preconditions.checkNotNull(listener);
+
+        reloadListeners.add(listener);
+    }
+
+    private void notifyReloaded() {
+        for (Runnable listener : reloadListeners) {
+            listener.run();
+        }
+    }
+
     private MarketDescriptionCI loadMarketDescriptorData(
         MarketDescriptionCI existingMarketDescriptor,
         int marketId,
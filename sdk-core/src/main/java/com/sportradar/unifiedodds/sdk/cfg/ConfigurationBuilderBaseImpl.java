@@ -9,6 +9,8 @@ import com.sportradar.unifiedodds.sdk.ExceptionHandlingStrategy;
 import com.sportradar.unifiedodds.sdk.SDKConfigurationPropertiesReader;
 import com.sportradar.unifiedodds.sdk.SDKConfigurationReader;
 import com.sportradar.unifiedodds.sdk.SDKConfigurationYamlReader;
+import com.sportradar.unifiedodds.sdk.SpecifierValidationMode;
+import com.sportradar.unifiedodds.sdk.instrumentation.FeedMessageInstrumentation;
 import java.util.*;
 
 /**
@@ -33,6 +35,12 @@ abstract class ConfigurationBuilderBaseImpl<T> implements ConfigurationBuilderBa
     Integer recoveryHttpClientTimeout = null;
     Integer recoveryHttpClientMaxConnTotal = null;
     Integer recoveryHttpClientMaxConnPerRoute = null;
+    Integer messagingPrefetchCount = null;
+    Boolean httpClientCompression = null;
+    FeedMessageInstrumentation feedMessageInstrumentation = null;
+    Integer cacheImportParallelism = null;
+    Boolean useVirtualThreads = null;
+    SpecifierValidationMode specifierValidationMode = null;
     Environment environment;
 
     ConfigurationBuilderBaseImpl(
@@ -253,6 +261,102 @@ abstract class ConfigurationBuilderBaseImpl<T> implements ConfigurationBuilderBa
         return (T) this;
     }
 
+    /**
+     * Sets the max number of unacknowledged messages the AMQP broker delivers to a single session channel.
+     * Default: 0 (messages are acknowledged automatically upon delivery and the count is not limited)
+     *
+     * @param messagingPrefetchCount the max number of unacknowledged messages per channel, 0 to disable
+     * @return a {@link ConfigurationBuilderBase} derived instance used to set general configuration properties
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T setMessagingPrefetchCount(Integer messagingPrefetchCount) {
+        Preconditions.checkNotNull(messagingPrefetchCount);
+        Preconditions.checkArgument(messagingPrefetchCount >= 0, "messagingPrefetchCount must not be negative");
+
+        this.messagingPrefetchCount = messagingPrefetchCount;
+        return (T) this;
+    }
+
+    /**
+     * Sets the value indicating whether the API responses should be requested compressed (gzip/deflate content
+     * encoding). Default: true
+     *
+     * @param httpClientCompression true if the API responses should be requested compressed; otherwise false
+     * @return a {@link ConfigurationBuilderBase} derived instance used to set general configuration properties
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T setHttpClientCompression(Boolean httpClientCompression) {
+        Preconditions.checkNotNull(httpClientCompression);
+
+        this.httpClientCompression = httpClientCompression;
+        return (T) this;
+    }
+
+    /**
+     * Sets the {@link FeedMessageInstrumentation} which receives the time spent in each processing stage of the
+     * received feed messages. Default: none
+     *
+     * @param instrumentation the instrumentation receiving the timings of the processed messages
+     * @return a {@link ConfigurationBuilderBase} derived instance used to set general configuration properties
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T setFeedMessageInstrumentation(FeedMessageInstrumentation instrumentation) {
+        Preconditions.checkNotNull(instrumentation);
+
+        this.feedMessageInstrumentation = instrumentation;
+        return (T) this;
+    }
+
+    /**
+     * Sets the max number of threads used to import the cache items. Default: 1
+     *
+     * @param cacheImportParallelism the max number of threads used to import the cache items
+     * @return a {@link ConfigurationBuilderBase} derived instance used to set general configuration properties
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T setCacheImportParallelism(Integer cacheImportParallelism) {
+        Preconditions.checkNotNull(cacheImportParallelism);
+        Preconditions.checkArgument(cacheImportParallelism > 0, "cacheImportParallelism must be positive");
+
+        this.cacheImportParallelism = cacheImportParallelism;
+        return (T) this;
+    }
+
+    /**
+     * Sets the value indicating if the blocking SDK work should run on virtual threads. Default: false
+     *
+     * @param useVirtualThreads true if the blocking SDK work should run on virtual threads; otherwise false
+     * @return a {@link ConfigurationBuilderBase} derived instance used to set general configuration properties
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T setUseVirtualThreads(Boolean useVirtualThreads) {
+        Preconditions.checkNotNull(useVirtualThreads);
+
+        this.useVirtualThreads = useVirtualThreads;
+        return (T) this;
+    }
+
+    /**
+     * Sets the mode used to validate the market specifiers of the received messages.
+     * Default: {@link SpecifierValidationMode#Cached}
+     *
+     * @param specifierValidationMode the mode used to validate the market specifiers
+     * @return a {@link ConfigurationBuilderBase} derived instance used to set general configuration properties
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T setSpecifierValidationMode(SpecifierValidationMode specifierValidationMode) {
+        Preconditions.checkNotNull(specifierValidationMode);
+
+        this.specifierValidationMode = specifierValidationMode;
+        return (T) this;
+    }
+
     /**
      * Loads the properties that are relevant to the builder from the provided {@link SDKConfigurationReader}
      *
@@ -276,6 +380,11 @@ abstract class ConfigurationBuilderBaseImpl<T> implements ConfigurationBuilderBa
         sdkConfigurationReader
             .readRecoveryHttpClientMaxConnPerRoute()
             .ifPresent(this::setRecoveryHttpClientMaxConnPerRoute);
+        sdkConfigurationReader.readMessagingPrefetchCount().ifPresent(this::setMessagingPrefetchCount);
+        sdkConfigurationReader.readHttpClientCompression().ifPresent(this::setHttpClientCompression);
+        sdkConfigurationReader.readCacheImportParallelism().ifPresent(this::setCacheImportParallelism);
+        sdkConfigurationReader.readUseVirtualThreads().ifPresent(this::setUseVirtualThreads);
+        sdkConfigurationReader.readSpecifierValidationMode().ifPresent(this::setSpecifierValidationMode);
         this.environment = sdkConfigurationReader.readUfEnvironment();
     }
 }
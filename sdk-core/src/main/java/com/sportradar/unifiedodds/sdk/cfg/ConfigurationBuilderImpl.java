@@ -84,7 +84,13 @@ class ConfigurationBuilderImpl
             httpClientMaxConnPerRoute,
             recoveryHttpClientTimeout,
             recoveryHttpClientMaxConnTotal,
-            recoveryHttpClientMaxConnPerRoute
+            recoveryHttpClientMaxConnPerRoute,
+            messagingPrefetchCount,
+            httpClientCompression,
+            feedMessageInstrumentation,
+            cacheImportParallelism,
+            useVirtualThreads,
+            specifierValidationMode
         );
     }
 }
@@ -247,7 +247,13 @@ class CustomConfigurationBuilderImpl
             httpClientMaxConnPerRoute,
             recoveryHttpClientTimeout,
             recoveryHttpClientMaxConnTotal,
-            recoveryHttpClientMaxConnPerRoute
+            recoveryHttpClientMaxConnPerRoute,
+            messagingPrefetchCount,
+            httpClientCompression,
+            feedMessageInstrumentation,
+            cacheImportParallelism,
+            useVirtualThreads,
+            specifierValidationMode
         );
     }
 
@@ -5,6 +5,8 @@
 package com.sportradar.unifiedodds.sdk.cfg;
 
 import com.sportradar.unifiedodds.sdk.ExceptionHandlingStrategy;
+import com.sportradar.unifiedodds.sdk.SpecifierValidationMode;
+import com.sportradar.unifiedodds.sdk.instrumentation.FeedMessageInstrumentation;
 import com.sportradar.utils.SdkHelper;
 import java.util.List;
 import java.util.Locale;
@@ -18,6 +20,8 @@ import org.slf4j.LoggerFactory;
 @SuppressWarnings(
     {
         "AbbreviationAsWordInName",
+        "CyclomaticComplexity",
+        "ExecutableStatementCount",
         "MethodLength",
         "NPathComplexity",
         "ParameterNumber",
@@ -59,6 +63,12 @@ public class OddsFeedConfiguration {
     private final int recoveryHttpClientTimeout;
     private final int recoveryHttpClientMaxConnTotal;
     private final int recoveryHttpClientMaxConnPerRoute;
+    private final int messagingPrefetchCount;
+    private final boolean httpClientCompression;
+    private final FeedMessageInstrumentation feedMessageInstrumentation;
+    private final int cacheImportParallelism;
+    private final boolean useVirtualThreads;
+    private final SpecifierValidationMode specifierValidationMode;
 
     OddsFeedConfiguration(
         String accessToken,
@@ -86,7 +96,13 @@ public class OddsFeedConfiguration {
         Integer httpClientMaxConnPerRoute,
         Integer recoveryHttpClientTimeout,
         Integer recoveryHttpClientMaxConnTotal,
-        Integer recoveryHttpClientMaxConnPerRoute
+        Integer recoveryHttpClientMaxConnPerRoute,
+        Integer messagingPrefetchCount,
+        Boolean httpClientCompression,
+        FeedMessageInstrumentation feedMessageInstrumentation,
+        Integer cacheImportParallelism,
+        Boolean useVirtualThreads,
+        SpecifierValidationMode specifierValidationMode
     ) {
         // ctor parameters are validated in the cfg builder instance
         this.accessToken = accessToken;
@@ -119,6 +135,13 @@ public class OddsFeedConfiguration {
             recoveryHttpClientMaxConnPerRoute != null
                 ? recoveryHttpClientMaxConnPerRoute
                 : RECOVERY_HTTP_CLIENT_MAX_CONN_PER_ROUTE;
+        this.messagingPrefetchCount = messagingPrefetchCount != null ? messagingPrefetchCount : 0;
+        this.httpClientCompression = !Boolean.FALSE.equals(httpClientCompression);
+        this.feedMessageInstrumentation = feedMessageInstrumentation;
+        this.cacheImportParallelism = cacheImportParallelism != null ? cacheImportParallelism : 1;
+        this.useVirtualThreads = Boolean.TRUE.equals(useVirtualThreads);
+        this.specifierValidationMode =
+            specifierValidationMode != null ? specifierValidationMode : SpecifierValidationMode.Cached;
         if (sdkNodeId != null && sdkNodeId < 0) {
             LoggerFactory
                 .getLogger(OddsFeedConfiguration.class)
@@ -371,6 +394,61 @@ public class OddsFeedConfiguration {
         return recoveryHttpClientMaxConnPerRoute;
     }
 
+    /**
+     * Returns the max number of unacknowledged messages the AMQP broker delivers to a single session channel
+     *
+     * @return the max number of unacknowledged messages per channel, or 0 if the messages are acknowledged
+     * automatically upon delivery
+     */
+    public int getMessagingPrefetchCount() {
+        return messagingPrefetchCount;
+    }
+
+    /**
+     * Returns the value indicating whether the API responses are requested compressed
+     *
+     * @return true if the API responses are requested compressed; otherwise false
+     */
+    public boolean getHttpClientCompression() {
+        return httpClientCompression;
+    }
+
+    /**
+     * Returns the {@link FeedMessageInstrumentation} which receives the timings of the processed feed messages
+     *
+     * @return the {@link FeedMessageInstrumentation} which receives the timings, or null if none was set
+     */
+    public FeedMessageInstrumentation getFeedMessageInstrumentation() {
+        return feedMessageInstrumentation;
+    }
+
+    /**
+     * Returns the max number of threads used to import the cache items
+     *
+     * @return the max number of threads used to import the cache items
+     */
+    public int getCacheImportParallelism() {
+        return cacheImportParallelism;
+    }
+
+    /**
+     * Indicates if the blocking SDK work should run on virtual threads (only supported on Java 21 or newer)
+     *
+     * @return true if the blocking SDK work should run on virtual threads; otherwise false
+     */
+    public boolean getUseVirtualThreads() {
+        return useVirtualThreads;
+    }
+
+    /**
+     * Returns the mode used to validate the market specifiers of the received messages
+     *
+     * @return the mode used to validate the market specifiers of the received messages
+     */
+    public SpecifierValidationMode getSpecifierValidationMode() {
+        return specifierValidationMode;
+    }
+
     @Override
     public String toString() {
         String obfuscatedToken = SdkHelper.obfuscate(accessToken);
@@ -434,6 +512,18 @@ public class OddsFeedConfiguration {
             recoveryHttpClientMaxConnTotal +
             ", recoveryHttpClientMaxConnPerRoute=" +
             recoveryHttpClientMaxConnPerRoute +
+            ", messagingPrefetchCount=" +
+            messagingPrefetchCount +
+            ", httpClientCompression=" +
+            httpClientCompression +
+            ", feedMessageInstrumentation=" +
+            feedMessageInstrumentation +
+            ", cacheImportParallelism=" +
+            cacheImportParallelism +
+            ", useVirtualThreads=" +
+            useVirtualThreads +
+            ", specifierValidationMode=" +
+            specifierValidationMode +
             "}"
         );
     }
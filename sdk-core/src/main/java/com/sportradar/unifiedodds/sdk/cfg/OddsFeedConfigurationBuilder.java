@@ -4,6 +4,8 @@
 
 package com.sportradar.unifiedodds.sdk.cfg;
 
+import com.sportradar.unifiedodds.sdk.SpecifierValidationMode;
+import com.sportradar.unifiedodds.sdk.instrumentation.FeedMessageInstrumentation;
 import java.util.List;
 import java.util.Locale;
 
@@ -155,6 +157,60 @@ public interface OddsFeedConfigurationBuilder {
      */
     OddsFeedConfigurationBuilder setDisabledProducers(List<Integer> disabledProducers);
 
+    /**
+     * Sets the max number of unacknowledged messages the AMQP broker delivers to a single session channel.
+     * When set, the messages are acknowledged manually (in batches) once the session processed them, so the
+     * broker holds back the messages the SDK is not able to process in time instead of pushing them into memory.
+     * Default: 0 (messages are acknowledged automatically upon delivery and the count is not limited)
+     *
+     * @param messagingPrefetchCount the max number of unacknowledged messages per channel, 0 to disable
+     * @return the current instance {@link OddsFeedConfigurationBuilder}
+     */
+    OddsFeedConfigurationBuilder setMessagingPrefetchCount(int messagingPrefetchCount);
+
+    /**
+     * Sets the {@link FeedMessageInstrumentation} which receives the time spent in each processing stage of the
+     * received feed messages (ex: {@link com.sportradar.unifiedodds.sdk.instrumentation.InMemoryFeedMessageMetrics}).
+     * Default: none (the timings are not reported)
+     *
+     * @param instrumentation the instrumentation receiving the timings of the processed messages
+     * @return the current instance {@link OddsFeedConfigurationBuilder}
+     */
+    OddsFeedConfigurationBuilder setFeedMessageInstrumentation(FeedMessageInstrumentation instrumentation);
+
+    /**
+     * Sets the max number of threads used to import the cache items (see
+     * {@link com.sportradar.unifiedodds.sdk.SportsInfoManager#cacheImport(List)}). The items are partitioned
+     * by cache and item type, and the partitions are imported concurrently.
+     * Default: 1 (the items are imported on the calling thread)
+     *
+     * @param cacheImportParallelism the max number of threads used to import the cache items
+     * @return the current instance {@link OddsFeedConfigurationBuilder}
+     */
+    OddsFeedConfigurationBuilder setCacheImportParallelism(int cacheImportParallelism);
+
+    /**
+     * Sets the value indicating if the blocking SDK work (API requests of the cache items, recovery requests,
+     * event change polling and the scheduled tasks) should run on virtual threads. Virtual threads are only
+     * supported on Java 21 or newer, on older runtimes the SDK keeps using platform threads.
+     * Default: false
+     *
+     * @param useVirtualThreads true if the blocking SDK work should run on virtual threads; otherwise false
+     * @return the current instance {@link OddsFeedConfigurationBuilder}
+     */
+    OddsFeedConfigurationBuilder setUseVirtualThreads(boolean useVirtualThreads);
+
+    /**
+     * Sets the mode used to validate the market specifiers of the received messages against the market
+     * descriptions. The validation results can be cached until the market descriptions are reloaded, or the
+     * specifiers of a market can be validated only until they pass the validation once.
+     * Default: {@link SpecifierValidationMode#Cached}
+     *
+     * @param specifierValidationMode the mode used to validate the market specifiers
+     * @return the current instance {@link OddsFeedConfigurationBuilder}
+     */
+    OddsFeedConfigurationBuilder setSpecifierValidationMode(SpecifierValidationMode specifierValidationMode);
+
     /**
      * Reads the SDK properties file and sets the available properties
      *
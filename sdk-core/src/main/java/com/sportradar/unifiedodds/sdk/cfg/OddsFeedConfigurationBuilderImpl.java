@@ -8,6 +8,8 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.sportradar.unifiedodds.sdk.ExceptionHandlingStrategy;
 import com.sportradar.unifiedodds.sdk.SDKConfigurationPropertiesReader;
+import com.sportradar.unifiedodds.sdk.SpecifierValidationMode;
+import com.sportradar.unifiedodds.sdk.instrumentation.FeedMessageInstrumentation;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
@@ -17,7 +19,7 @@ import java.util.Optional;
  * An implementation of all the SDK builder interfaces which is used to build the {@link OddsFeedConfiguration} used to
  * initialize the {@link com.sportradar.unifiedodds.sdk.OddsFeed} object
  */
-@SuppressWarnings({ "HiddenField", "LineLength", "MagicNumber" })
+@SuppressWarnings({ "HiddenField", "LineLength", "MagicNumber", "MethodLength" })
 public class OddsFeedConfigurationBuilderImpl
     implements ConfigurationAccessTokenSetter, OddsFeedConfigurationBuilder {
 
@@ -53,6 +55,11 @@ public class OddsFeedConfigurationBuilderImpl
     private Integer sdkNodeId;
     private boolean useIntegrationEnvironment;
     private List<Integer> disabledProducers;
+    private int messagingPrefetchCount;
+    private FeedMessageInstrumentation feedMessageInstrumentation;
+    private int cacheImportParallelism;
+    private boolean useVirtualThreads;
+    private SpecifierValidationMode specifierValidationMode;
 
     public OddsFeedConfigurationBuilderImpl(
         SDKConfigurationPropertiesReader sdkConfigurationPropertiesReader
@@ -326,6 +333,81 @@ public class OddsFeedConfigurationBuilderImpl
         return this;
     }
 
+    /**
+     * Sets the max number of unacknowledged messages the AMQP broker delivers to a single session channel.
+     * Default: 0 (messages are acknowledged automatically upon delivery and the count is not limited)
+     *
+     * @param messagingPrefetchCount the max number of unacknowledged messages per channel, 0 to disable
+     * @return the current instance {@link OddsFeedConfigurationBuilder}
+     */
+    @Override
+    public OddsFeedConfigurationBuilder setMessagingPrefetchCount(int messagingPrefetchCount) {
+        Preconditions.checkArgument(messagingPrefetchCount >= 0, "messagingPrefetchCount must not be negative");
+
+        this.messagingPrefetchCount = messagingPrefetchCount;
+        return this;
+    }
+
+    /**
+     * Sets the {@link FeedMessageInstrumentation} which receives the time spent in each processing stage of the
+     * received feed messages. Default: none
+     *
+     * @param instrumentation the instrumentation receiving the timings of the processed messages
+     * @return the current instance {@link OddsFeedConfigurationBuilder}
+     */
+    @Override
+    public OddsFeedConfigurationBuilder setFeedMessageInstrumentation(FeedMessageInstrumentation instrumentation) {
+        Preconditions.checkNotNull(instrumentation);
+
+        this.feedMessageInstrumentation = instrumentation;
+        return this;
+    }
+
+    /**
+     * Sets the max number of threads used to import the cache items (see
+     * {@link com.sportradar.unifiedodds.sdk.SportsInfoManager#cacheImport(List)}). Default: 1
+     *
+     * @param cacheImportParallelism the max number of threads used to import the cache items
+     * @return the current instance {@link OddsFeedConfigurationBuilder}
+     */
+    @Override
+    public OddsFeedConfigurationBuilder setCacheImportParallelism(int cacheImportParallelism) {
+        Preconditions.checkArgument(cacheImportParallelism > 0, "cacheImportParallelism must be positive");
+
+        this.cacheImportParallelism = cacheImportParallelism;
+        return this;
+    }
+
+    /**
+     * Sets the value indicating if the blocking SDK work should run on virtual threads (only supported on
+     * Java 21 or newer). Default: false
+     *
+     * @param useVirtualThreads true if the blocking SDK work should run on virtual threads; otherwise false
+     * @return the current instance {@link OddsFeedConfigurationBuilder}
+     */
+    @Override
+    public OddsFeedConfigurationBuilder setUseVirtualThreads(boolean useVirtualThreads) {
+        this.useVirtualThreads = useVirtualThreads;
+        return this;
+    }
+
+    /**
+     * Sets the mode used to validate the market specifiers of the received messages.
+     * Default: {@link SpecifierValidationMode#Cached}
+     *
+     * @param specifierValidationMode the mode used to validate the market specifiers
+     * @return the current instance {@link OddsFeedConfigurationBuilder}
+     */
+    @Override
+    public OddsFeedConfigurationBuilder setSpecifierValidationMode(
+        SpecifierValidationMode specifierValidationMode
+    ) {
+        Preconditions.checkNotNull(specifierValidationMode);
+
+        this.specifierValidationMode = specifierValidationMode;
+        return this;
+    }
+
     /**
      * Set the setting property which will ensure the SDK connects to the integration environment
      * (please note that the integration environment requires different access tokens than the production ones)
@@ -377,6 +459,9 @@ public class OddsFeedConfigurationBuilderImpl
             .ifPresent(val -> useIntegrationEnvironment = val);
         sdkConfigurationPropertiesReader.readSdkNodeId().ifPresent(val -> sdkNodeId = val);
         sdkConfigurationPropertiesReader.readDefaultLocale().ifPresent(val -> defaultLocale = val);
+        sdkConfigurationPropertiesReader
+            .readMessagingPrefetchCount()
+            .ifPresent(val -> messagingPrefetchCount = val);
 
         desiredLocales.addAll(sdkConfigurationPropertiesReader.readDesiredLocales());
         disabledProducers.addAll(sdkConfigurationPropertiesReader.readDisabledProducers());
@@ -429,7 +514,13 @@ public class OddsFeedConfigurationBuilderImpl
             HTTP_CLIENT_MAX_CONN_PER_ROUTE,
             RECOVERY_HTTP_CLIENT_TIMEOUT,
             RECOVERY_HTTP_CLIENT_MAX_CONN_TOTAL,
-            RECOVERY_HTTP_CLIENT_MAX_CONN_PER_ROUTE
+            RECOVERY_HTTP_CLIENT_MAX_CONN_PER_ROUTE,
+            messagingPrefetchCount,
+            null,
+            feedMessageInstrumentation,
+            cacheImportParallelism,
+            useVirtualThreads,
+            specifierValidationMode
         );
 
         setDefaultValues();
@@ -453,5 +544,10 @@ public class OddsFeedConfigurationBuilderImpl
         sdkNodeId = null;
         useIntegrationEnvironment = false;
         disabledProducers = new ArrayList<>();
+        messagingPrefetchCount = 0;
+        feedMessageInstrumentation = null;
+        cacheImportParallelism = 1;
+        useVirtualThreads = false;
+        specifierValidationMode = SpecifierValidationMode.Cached;
     }
 }
@@ -81,7 +81,13 @@ class ReplayConfigurationBuilderImpl
             httpClientMaxConnPerRoute,
             recoveryHttpClientTimeout,
             recoveryHttpClientMaxConnTotal,
-            recoveryHttpClientMaxConnPerRoute
+            recoveryHttpClientMaxConnPerRoute,
+            messagingPrefetchCount,
+            httpClientCompression,
+            feedMessageInstrumentation,
+            cacheImportParallelism,
+            useVirtualThreads,
+            specifierValidationMode
         );
     }
 }
@@ -213,12 +213,14 @@ public class CachingModule extends AbstractModule {
     protected DataProvider<MarketDescriptions> providesMarketDescriptionsProvider(
         SDKInternalConfiguration cfg,
         LogHttpDataFetcher httpDataFetcher,
+        AsyncHttpDataFetcher asyncHttpDataFetcher,
         @Named("SportsApiJaxbDeserializer") Deserializer deserializer
     ) {
         return new DataProvider<>(
             "/descriptions/%s/markets.xml?include_mappings=true",
             cfg,
             httpDataFetcher,
+            asyncHttpDataFetcher,
             deserializer
         );
     }
@@ -25,6 +25,8 @@ public class CustomisableSDKModule extends AbstractModule {
     @Override
     protected final void configure() {
         bind(ChannelMessageConsumer.class).to(provideMessageConsumerImplementationClass());
+        bind(MessageDecoder.class).to(provideMessageDecoderImplementationClass()).in(Singleton.class);
+        bind(RoutingKeyParser.class).to(provideRoutingKeyParserImplementationClass()).in(Singleton.class);
         bind(SnapshotRequestManager.class)
             .to(provideSnapshotRequestSchedulerImplementationClass())
             .in(Singleton.class);
@@ -42,6 +44,20 @@ public class CustomisableSDKModule extends AbstractModule {
         return ChannelMessageConsumerImpl.class;
     }
 
+    /**
+     * Binds the decoder that should be used to decode the received message payloads
+     */
+    protected Class<? extends MessageDecoder> provideMessageDecoderImplementationClass() {
+        return StreamingMessageDecoder.class;
+    }
+
+    /**
+     * Binds the parser that should be used to parse the routing keys of the received messages
+     */
+    protected Class<? extends RoutingKeyParser> provideRoutingKeyParserImplementationClass() {
+        return SinglePassRoutingKeyParser.class;
+    }
+
     /**
      * Binds the snapshot request manager that should be used to manage recovery requests
      */
@@ -26,6 +26,7 @@ public class DataProvidersModule extends AbstractModule {
     private DataProvider<Object> provideSummaryEndpointDataProvider(
         SDKInternalConfiguration cfg,
         LogFastHttpDataFetcher httpDataFetcher,
+        AsyncHttpDataFetcher asyncHttpDataFetcher,
         @Named("SportsApiJaxbDeserializer") Deserializer deserializer
     ) {
         String nodeIdStr = cfg.getSdkNodeId() != null && cfg.getSdkNodeId() != 0
@@ -38,6 +39,7 @@ public class DataProvidersModule extends AbstractModule {
             cfg.isReplaySession() ? replaySummary : "/sports/%s/sport_events/%s/summary.xml",
             cfg,
             httpDataFetcher,
+            asyncHttpDataFetcher,
             deserializer
         );
     }
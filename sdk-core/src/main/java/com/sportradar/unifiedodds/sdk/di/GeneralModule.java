@@ -27,6 +27,7 @@ import com.sportradar.unifiedodds.sdk.impl.rabbitconnection.*;
 import com.sportradar.unifiedodds.sdk.impl.recovery.RecoveryManagerImpl;
 import com.sportradar.unifiedodds.sdk.impl.recovery.SingleRecoveryManagerSupervisor;
 import com.sportradar.unifiedodds.sdk.impl.util.MdcScheduledExecutorService;
+import com.sportradar.unifiedodds.sdk.impl.util.SdkThreads;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.management.ManagementFactory;
@@ -42,6 +43,7 @@ import javax.xml.bind.JAXBException;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.Unmarshaller;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.CloseableHttpClient;
@@ -185,11 +187,10 @@ public class GeneralModule implements Module {
         binder.bind(EventRecoveryRequestIssuer.class).to(RecoveryManagerImpl.class);
 
         // util
-        binder.bind(RoutingKeyParser.class).to(RegexRoutingKeyParser.class);
         binder.bind(FeedMessageFactory.class).to(FeedMessageFactoryImpl.class);
         binder.bind(MappingValidatorFactory.class).to(MappingValidatorFactoryImpl.class);
         binder.bind(SportEventStatusFactory.class).to(SportEventStatusFactoryImpl.class);
-        binder.bind(FeedMessageValidator.class).to(FeedMessageValidatorImpl.class);
+        binder.bind(FeedMessageValidator.class).to(FeedMessageValidatorImpl.class).in(Singleton.class);
         binder.bind(TimeUtils.class).to(TimeUtilsImpl.class);
     }
 
@@ -281,7 +282,7 @@ public class GeneralModule implements Module {
         MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
         try {
             ObjectName name = new ObjectName("com.sportradar.unifiedodds.sdk.impl:type=UnifiedOdds");
-            statsBean = new UnifiedOddsStatistics();
+            statsBean = new UnifiedOddsStatistics(configuration.getFeedMessageInstrumentation());
             if (!mbeanServer.isRegistered(name)) {
                 mbeanServer.registerMBean(statsBean, name);
             }
@@ -316,6 +317,25 @@ public class GeneralModule implements Module {
         );
     }
 
+    /**
+     * Provides the non-blocking http client used to fetch data from the API asynchronously
+     */
+    @Provides
+    @Singleton
+    CloseableHttpAsyncClient provideAsyncHttpClient() {
+        int maxTimeoutInMillis = Math.toIntExact(
+            TimeUnit.MILLISECONDS.convert(configuration.getHttpClientTimeout(), TimeUnit.SECONDS)
+        );
+        int connectionPoolSize = configuration.getHttpClientMaxConnTotal();
+        int maxConcurrentConnectionsPerRoute = configuration.getHttpClientMaxConnPerRoute();
+
+        return httpClientFactory.createAsync(
+            maxTimeoutInMillis,
+            connectionPoolSize,
+            maxConcurrentConnectionsPerRoute
+        );
+    }
+
     /**
      * Provides the http client used to fetch data from the API on feed queue thread (profiles, variant market or summary)
      */
@@ -383,12 +403,9 @@ public class GeneralModule implements Module {
 
         String sdkContextDescription = whoAmIReader.getSdkContextDescription();
 
-        ThreadFactory namedThreadFactory = new ThreadFactoryBuilder()
-            .setNameFormat(sdkContextDescription + "-t-%d")
-            .build();
-        ScheduledExecutorService scheduledExecutorService = Executors.newScheduledThreadPool(
-            1,
-            namedThreadFactory
+        ScheduledExecutorService scheduledExecutorService = SdkThreads.newScheduledExecutor(
+            sdkContextDescription + "-t-",
+            configuration.getUseVirtualThreads()
         );
 
         Map<String, String> mdcContext = whoAmIReader.getAssociatedSdkMdcContextMap();
@@ -418,12 +435,9 @@ public class GeneralModule implements Module {
 
         String sdkContextDescription = whoAmIReader.getSdkContextDescription();
 
-        ThreadFactory namedThreadFactory = new ThreadFactoryBuilder()
-            .setNameFormat(sdkContextDescription + "-rm-t-%d")
-            .build();
-        ScheduledExecutorService scheduledExecutorService = Executors.newScheduledThreadPool(
-            1,
-            namedThreadFactory
+        ScheduledExecutorService scheduledExecutorService = SdkThreads.newScheduledExecutor(
+            sdkContextDescription + "-rm-t-",
+            configuration.getUseVirtualThreads()
         );
 
         Map<String, String> mdcContext = whoAmIReader.getAssociatedSdkMdcContextMap();
@@ -431,6 +445,44 @@ public class GeneralModule implements Module {
         return new MdcScheduledExecutorService(scheduledExecutorService, mdcContext);
     }
 
+    /**
+     * Provides an {@link ExecutorService} used to complete the asynchronous API requests, so the received data is
+     * handled outside of the http client I/O threads
+     *
+     * @return the {@link ExecutorService} used to complete the asynchronous API requests
+     */
+    @Provides
+    @Singleton
+    @Named("AsyncApiExecutor")
+    private ExecutorService provideAsyncApiExecutor(
+        SDKInternalConfiguration configuration,
+        WhoAmIReader whoAmIReader
+    ) {
+        Preconditions.checkNotNull(configuration);
+        Preconditions.checkNotNull(whoAmIReader);
+
+        if (SdkThreads.shouldUseVirtualThreads(configuration.getUseVirtualThreads())) {
+            return SdkThreads.newVirtualThreadPerTaskExecutor(whoAmIReader.getSdkContextDescription() + "-async-t-");
+        }
+
+        ThreadFactory namedThreadFactory = new ThreadFactoryBuilder()
+            .setNameFormat(whoAmIReader.getSdkContextDescription() + "-async-t-%d")
+            .setDaemon(true)
+            .build();
+
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            threadCount,
+            threadCount,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            namedThreadFactory
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     /**
      * Provides an {@link ExecutorService} which is being used exclusively in the {@link SingleInstanceAMQPConnectionFactory}
      *
@@ -1,5 +1,13 @@
 package com.sportradar.unifiedodds.sdk.di;
 
+import com.sportradar.unifiedodds.sdk.impl.AsyncHttpDataFetcher;
+import org.apache.hc.client5.http.impl.DefaultRedirectStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.util.Timeout;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
@@ -9,6 +17,20 @@ class HttpClientFactory {
 
     private static final LaxRedirectStrategy LAX_REDIRECT_STRATEGY = new LaxRedirectStrategy();
 
+    private final boolean contentCompression;
+
+    HttpClientFactory() {
+        this(true);
+    }
+
+    /**
+     * @param contentCompression true if the created clients should request compressed (gzip/deflate) responses
+     *                           and transparently decompress them while they are being read; otherwise false
+     */
+    HttpClientFactory(boolean contentCompression) {
+        this.contentCompression = contentCompression;
+    }
+
     public CloseableHttpClient create(
         int maxTimeoutInMillis,
         int connectionPoolSize,
@@ -21,13 +43,56 @@ class HttpClientFactory {
             .setSocketTimeout(maxTimeoutInMillis)
             .build();
 
-        return HttpClientBuilder
+        HttpClientBuilder builder = HttpClientBuilder
             .create()
             .useSystemProperties()
             .setRedirectStrategy(LAX_REDIRECT_STRATEGY)
             .setDefaultRequestConfig(requestConfig)
             .setMaxConnTotal(connectionPoolSize)
-            .setMaxConnPerRoute(maxConcurrentConnectionsPerRoute)
+            .setMaxConnPerRoute(maxConcurrentConnectionsPerRoute);
+        if (!contentCompression) {
+            builder.disableContentCompression();
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates a non-blocking client, the client is not started (the I/O threads are created when it is started).
+     * The non-blocking client does not decompress the responses, so when the content compression is enabled it
+     * only requests compressed responses, which are decompressed by the {@link AsyncHttpDataFetcher}
+     */
+    public CloseableHttpAsyncClient createAsync(
+        int maxTimeoutInMillis,
+        int connectionPoolSize,
+        int maxConcurrentConnectionsPerRoute
+    ) {
+        Timeout timeout = Timeout.ofMilliseconds(maxTimeoutInMillis);
+        org.apache.hc.client5.http.config.RequestConfig requestConfig =
+            org.apache.hc.client5.http.config.RequestConfig
+            .custom()
+            .setConnectTimeout(timeout)
+            .setConnectionRequestTimeout(timeout)
+            .setResponseTimeout(timeout)
             .build();
+
+        HttpAsyncClientBuilder builder = HttpAsyncClients
+            .custom()
+            .useSystemProperties()
+            // follows the redirects of any method, as the LaxRedirectStrategy of the blocking clients
+            .setRedirectStrategy(DefaultRedirectStrategy.INSTANCE)
+            .setDefaultRequestConfig(requestConfig)
+            .setConnectionManager(
+                PoolingAsyncClientConnectionManagerBuilder
+                    .create()
+                    .setMaxConnTotal(connectionPoolSize)
+                    .setMaxConnPerRoute(maxConcurrentConnectionsPerRoute)
+                    .build()
+            );
+        if (contentCompression) {
+            builder.addRequestInterceptorFirst((request, entity, context) ->
+                request.setHeader(HttpHeaders.ACCEPT_ENCODING, AsyncHttpDataFetcher.ACCEPTED_ENCODINGS)
+            );
+        }
+        return builder.build();
     }
 }
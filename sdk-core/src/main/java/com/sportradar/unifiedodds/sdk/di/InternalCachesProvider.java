@@ -26,7 +26,7 @@ public interface InternalCachesProvider extends Closeable {
 
     Cache<URN, CompetitorCI> getSimpleTeamCompetitorCache();
 
-    Cache<String, SportEventStatusCI> getSportEventStatusCache();
+    Cache<URN, SportEventStatusCI> getSportEventStatusCache();
 
     Cache<String, MarketDescriptionCI> getInvariantMarketCache();
 
@@ -38,5 +38,5 @@ public interface InternalCachesProvider extends Closeable {
 
     Cache<URN, Date> getFixtureTimestampCache();
 
-    Cache<String, Date> getIgnoreEventsTimelineCache();
+    Cache<URN, Date> getIgnoreEventsTimelineCache();
 }
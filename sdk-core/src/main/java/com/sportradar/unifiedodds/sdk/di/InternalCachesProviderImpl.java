@@ -25,13 +25,13 @@ class InternalCachesProviderImpl implements InternalCachesProvider {
     private final Cache<URN, PlayerProfileCI> playerProfileCache;
     private final Cache<URN, CompetitorCI> competitorCache;
     private final Cache<URN, CompetitorCI> simpleTeamCompetitorCache;
-    private final Cache<String, SportEventStatusCI> sportEventStatusCache;
+    private final Cache<URN, SportEventStatusCI> sportEventStatusCache;
     private final Cache<String, MarketDescriptionCI> invariantMarketCache;
     private final Cache<String, MarketDescriptionCI> variantMarketCache;
     private final Cache<String, String> dispatchedFixtureChanges;
     private final Cache<String, VariantDescriptionCI> variantDescriptionCache;
     private final Cache<URN, Date> fixtureTimestampCache;
-    private final Cache<String, Date> ignoreEventsTimelineCache;
+    private final Cache<URN, Date> ignoreEventsTimelineCache;
     private final SDKCacheRemovalListener removalListenerSportEventCache;
     private final SDKCacheRemovalListener removalListenerPlayerProfileCache;
     private final SDKCacheRemovalListener removalListenerCompetitorProfileCache;
@@ -138,7 +138,7 @@ class InternalCachesProviderImpl implements InternalCachesProvider {
     }
 
     @Override
-    public Cache<String, SportEventStatusCI> getSportEventStatusCache() {
+    public Cache<URN, SportEventStatusCI> getSportEventStatusCache() {
         return sportEventStatusCache;
     }
 
@@ -168,7 +168,7 @@ class InternalCachesProviderImpl implements InternalCachesProvider {
     }
 
     @Override
-    public Cache<String, Date> getIgnoreEventsTimelineCache() {
+    public Cache<URN, Date> getIgnoreEventsTimelineCache() {
         return ignoreEventsTimelineCache;
     }
 
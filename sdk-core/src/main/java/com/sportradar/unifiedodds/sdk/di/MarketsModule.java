@@ -6,6 +6,7 @@ package com.sportradar.unifiedodds.sdk.di;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Binder;
+import com.google.inject.Singleton;
 import com.sportradar.unifiedodds.sdk.impl.markets.*;
 import com.sportradar.unifiedodds.sdk.impl.oddsentities.markets.MarketFactory;
 import com.sportradar.unifiedodds.sdk.impl.oddsentities.markets.MarketFactoryImpl;
@@ -21,8 +22,9 @@ public class MarketsModule extends AbstractModule {
     @Override
     protected void configure() {
         bind(MarketFactory.class).to(MarketFactoryImpl.class);
-        bind(NameProviderFactory.class).to(NameProviderFactoryImpl.class);
+        bind(NameProviderFactory.class).to(NameProviderFactoryImpl.class).in(Singleton.class);
         bind(NameExpressionFactory.class).to(NameExpressionFactoryImpl.class);
         bind(OperandFactory.class).to(OperandFactoryImpl.class);
+        bind(SpecifierParser.class).in(Singleton.class);
     }
 }
@@ -48,7 +48,9 @@ public class MasterInjectionModule extends AbstractModule {
         InternalCachesProvider internalCachesProvider = new InternalCachesProviderImpl();
         bind(InternalCachesProvider.class).toInstance(internalCachesProvider);
 
-        install(new GeneralModule(sdkListener, config, new HttpClientFactory()));
+        install(
+            new GeneralModule(sdkListener, config, new HttpClientFactory(config.getHttpClientCompression()))
+        );
         install(new ReadersModule());
         install(new DataProvidersModule());
         install(new CachingModule(internalCachesProvider));
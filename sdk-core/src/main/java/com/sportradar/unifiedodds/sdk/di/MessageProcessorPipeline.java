@@ -13,6 +13,7 @@ import com.sportradar.unifiedodds.sdk.caching.SportEventCache;
 import com.sportradar.unifiedodds.sdk.caching.SportEventStatusCache;
 import com.sportradar.unifiedodds.sdk.impl.FeedMessageProcessor;
 import com.sportradar.unifiedodds.sdk.impl.SDKProducerManager;
+import com.sportradar.unifiedodds.sdk.impl.UnifiedOddsStatistics;
 import com.sportradar.unifiedodds.sdk.impl.processing.pipeline.CacheMessageProcessor;
 import com.sportradar.unifiedodds.sdk.impl.processing.pipeline.CompositeMessageProcessor;
 import com.sportradar.unifiedodds.sdk.impl.processing.pipeline.NoOpProcessedFixtureChangesTracker;
@@ -36,13 +37,15 @@ public class MessageProcessorPipeline extends AbstractModule {
         SportEventStatusCache sportEventStatusCache,
         SportEventCache sportEventCache,
         ProcessedFixtureChangesTracker processedFixtureChangesTracker,
-        SDKProducerManager producerManager
+        SDKProducerManager producerManager,
+        UnifiedOddsStatistics statistics
     ) {
         return new CacheMessageProcessor(
             sportEventStatusCache,
             sportEventCache,
             processedFixtureChangesTracker,
-            producerManager
+            producerManager,
+            statistics
         );
     }
 
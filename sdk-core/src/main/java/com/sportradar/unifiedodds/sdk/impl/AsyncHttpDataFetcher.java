@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Stopwatch;
+import com.google.common.io.ByteStreams;
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import com.sportradar.unifiedodds.sdk.LoggerDefinitions;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.DeserializationException;
+import com.sportradar.unifiedodds.sdk.impl.apireaders.HttpHelper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequests;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.apache.http.message.BasicHeader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fetches content from the Unified API without blocking the calling thread. The requests are sent by a
+ * non-blocking http client, and the returned futures are completed on the provided executor, so neither the
+ * caller nor the http client I/O threads are tied up while the response is awaited or handled. The non-blocking
+ * client does not decompress the responses, so the compressed (gzip/deflate) responses are decompressed here.
+ */
+@SuppressWarnings({ "ClassDataAbstractionCoupling", "ClassFanOutComplexity", "ConstantName", "IllegalCatch" })
+public class AsyncHttpDataFetcher {
+
+    /**
+     * The content encodings which can be decompressed, requested when the http client compression is enabled
+     */
+    public static final String ACCEPTED_ENCODINGS = "gzip, deflate";
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncHttpDataFetcher.class);
+    private static final Logger trafficLogger = LoggerFactory.getLogger(
+        LoggerDefinitions.UFSdkRestTrafficLog.class
+    );
+
+    private final SDKInternalConfiguration config;
+    private final CloseableHttpAsyncClient httpClient;
+    private final UnifiedOddsStatistics statsBean;
+    private final Deserializer apiDeserializer;
+    private final Executor completionExecutor;
+
+    @Inject
+    public AsyncHttpDataFetcher(
+        SDKInternalConfiguration config,
+        CloseableHttpAsyncClient httpClient,
+        UnifiedOddsStatistics statsBean,
+        @Named("SportsApiJaxbDeserializer") Deserializer apiDeserializer,
+        @Named("AsyncApiExecutor") ExecutorService completionExecutor
+    ) {
+        Preconditions.checkNotNull(config);
+        Preconditions.checkNotNull(httpClient);
+        Preconditions.checkNotNull(statsBean);
+        Preconditions.checkNotNull(apiDeserializer);
+        Preconditions.checkNotNull(completionExecutor);
+
+        this.config = config;
+        this.httpClient = httpClient;
+        this.statsBean = statsBean;
+        this.apiDeserializer = apiDeserializer;
+        this.completionExecutor = completionExecutor;
+
+        httpClient.start();
+    }
+
+    /**
+     * Gets the content on the given path trough a GET request and hands it to the provided reader once it is
+     * received. The returned future is completed exceptionally with a {@link CommunicationException} if the
+     * request failed, or with a {@link DeserializationException} if the content could not be read.
+     *
+     * @param path a valid HTTP GET request path
+     * @param reader the {@link HttpDataFetcher.ContentReader} used to read the received content
+     * @param <T> the type of the read content
+     * @return a future completed with the read content together with the response headers
+     */
+    public <T> CompletableFuture<DataWrapper<T>> get(String path, HttpDataFetcher.ContentReader<T> reader) {
+        Preconditions.checkNotNull(path);
+        Preconditions.checkNotNull(reader);
+
+        logger.info("Fetching data asynchronously from: " + path);
+        statsBean.onStreamingHttpGet(path);
+        SimpleHttpRequest request = SimpleHttpRequests.get(path);
+        request.addHeader("x-access-token", config.getAccessToken());
+
+        CompletableFuture<DataWrapper<T>> result = new CompletableFuture<>();
+        Stopwatch timer = Stopwatch.createStarted();
+        httpClient.execute(
+            request,
+            new FutureCallback<SimpleHttpResponse>() {
+                @Override
+                public void completed(SimpleHttpResponse response) {
+                    completeOnExecutor(result, path, () -> read(path, response, reader, timer));
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    logFailure(path, timer, e);
+                    result.completeExceptionally(
+                        new CommunicationException("There was a problem retrieving the requested data", path, e)
+                    );
+                }
+
+                @Override
+                public void cancelled() {
+                    result.completeExceptionally(new CommunicationException("The request was cancelled", path));
+                }
+            }
+        );
+        return result;
+    }
+
+    private <T> void completeOnExecutor(CompletableFuture<DataWrapper<T>> result, String path, Read<T> read) {
+        try {
+            completionExecutor.execute(() -> {
+                try {
+                    result.complete(read.read());
+                } catch (CommunicationException | DeserializationException | RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(
+                new CommunicationException("The received data could not be handled", path, e)
+            );
+        }
+    }
+
+    private <T> DataWrapper<T> read(
+        String path,
+        SimpleHttpResponse response,
+        HttpDataFetcher.ContentReader<T> reader,
+        Stopwatch timer
+    ) throws CommunicationException, DeserializationException {
+        int statusCode = response.getCode();
+        byte[] body = decompress(path, response);
+        if (statusCode != HttpStatus.SC_OK && statusCode != HttpStatus.SC_ACCEPTED) {
+            String errorMessage = body == null || body.length == 0
+                ? null
+                : HttpHelper.tryDeserializeResponseMessage(apiDeserializer, new ByteArrayInputStream(body));
+            logger.warn("Bad API response: {}, message: '{}' {}", statusCode, errorMessage, path);
+            CommunicationException failure = HttpDataFetcher.invalidResponse(errorMessage, path, statusCode);
+            logFailure(path, timer, failure);
+            throw failure;
+        }
+        if (body == null || body.length == 0) {
+            throw HttpDataFetcher.invalidResponse(null, path, statusCode);
+        }
+
+        if (trafficLogger.isInfoEnabled()) {
+            trafficLogger.info(
+                "Request[AsyncDataFetcher]: {}, response - OK({} ms): {}",
+                path,
+                timer.stop().elapsed(TimeUnit.MILLISECONDS),
+                new String(body, StandardCharsets.UTF_8).replace("\n", "")
+            );
+        }
+        return new DataWrapper<>(reader.read(new ByteArrayInputStream(body)), toHeaders(response.getHeaders()));
+    }
+
+    private static byte[] decompress(String path, SimpleHttpResponse response) throws CommunicationException {
+        byte[] body = response.getBodyBytes();
+        Header encoding = response.getFirstHeader(HttpHeaders.CONTENT_ENCODING);
+        if (body == null || body.length == 0 || encoding == null) {
+            return body;
+        }
+        try {
+            switch (encoding.getValue().trim().toLowerCase(Locale.ROOT)) {
+                case "gzip":
+                case "x-gzip":
+                    return ByteStreams.toByteArray(new GZIPInputStream(new ByteArrayInputStream(body)));
+                case "deflate":
+                    return ByteStreams.toByteArray(new InflaterInputStream(new ByteArrayInputStream(body)));
+                default:
+                    return body;
+            }
+        } catch (IOException e) {
+            throw new CommunicationException("The received data could not be decompressed", path, e);
+        }
+    }
+
+    private static void logFailure(String path, Stopwatch timer, Exception e) {
+        trafficLogger.info(
+            "Request[AsyncDataFetcher]: {}, response - FAILED({} ms), ex:",
+            path,
+            timer.elapsed(TimeUnit.MILLISECONDS),
+            e
+        );
+    }
+
+    private static org.apache.http.Header[] toHeaders(Header[] headers) {
+        org.apache.http.Header[] converted = new org.apache.http.Header[headers.length];
+        for (int i = 0; i < headers.length; i++) {
+            converted[i] = new BasicHeader(headers[i].getName(), headers[i].getValue());
+        }
+        return converted;
+    }
+
+    @FunctionalInterface
+    private interface Read<T> {
+        DataWrapper<T> read() throws CommunicationException, DeserializationException;
+    }
+}
@@ -28,4 +28,26 @@ public interface ChannelMessageConsumer {
      * @param receivedAt - the time when message was received (in milliseconds since EPOCH UTC)
      */
     void onMessageReceived(String routingKey, byte[] body, AMQP.BasicProperties properties, long receivedAt);
+
+    /**
+     * Consumes the provided message payload and notifies the provided listener once the payload was processed.
+     * Implementations which process the payloads asynchronously notify the listener from the processing thread,
+     * after this method returned. The listener is not notified if this method throws.
+     *
+     * @param routingKey - the source routing key of the payload
+     * @param body - the message payload
+     * @param properties - the BasicProperties associated to the message
+     * @param receivedAt - the time when message was received (in milliseconds since EPOCH UTC)
+     * @param listener - the {@link ProcessedMessageListener} notified once the payload was processed
+     */
+    default void onMessageReceived(
+        String routingKey,
+        byte[] body,
+        AMQP.BasicProperties properties,
+        long receivedAt,
+        ProcessedMessageListener listener
+    ) {
+        onMessageReceived(routingKey, body, properties, receivedAt);
+        listener.onProcessed(true);
+    }
 }
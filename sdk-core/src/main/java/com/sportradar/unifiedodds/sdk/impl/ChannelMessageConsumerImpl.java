@@ -6,20 +6,15 @@ package com.sportradar.unifiedodds.sdk.impl;
 
 import com.google.common.base.Preconditions;
 import com.google.inject.Inject;
-import com.google.inject.name.Named;
 import com.rabbitmq.client.AMQP;
 import com.sportradar.unifiedodds.sdk.LoggerDefinitions;
 import com.sportradar.unifiedodds.sdk.ProducerManager;
 import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.DeserializationException;
 import com.sportradar.unifiedodds.sdk.impl.oddsentities.MessageTimestampImpl;
-import com.sportradar.unifiedodds.sdk.impl.util.FeedMessageHelper;
+import com.sportradar.unifiedodds.sdk.instrumentation.FeedMessageStage;
 import com.sportradar.unifiedodds.sdk.oddsentities.MessageTimestamp;
-import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
 import com.sportradar.utils.URN;
-import java.io.ByteArrayInputStream;
-import javax.xml.bind.JAXBContext;
-import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -94,32 +89,41 @@ public class ChannelMessageConsumerImpl implements ChannelMessageConsumer {
     private final ProducerManager producerManager;
 
     /**
-     * JAXBContext for threads to create own jabx unmarshaller because it is not thread safe by itself
+     * The {@link MessageDecoder} used to decode the received payloads
      */
-    private final JAXBContext messageJAXBContext;
+    private final MessageDecoder messageDecoder;
 
-    private final ThreadLocal<Unmarshaller> messageJAXBUnmarshaller = new ThreadLocal<>();
+    /**
+     * The {@link UnifiedOddsStatistics} used to record the time spent decoding the payloads and the broker lag
+     */
+    private final UnifiedOddsStatistics statistics;
 
     /**
      * @param routingKeyParser a {@link RoutingKeyParser} used to parse the rabbit's routing key
      * @param configuration    the associated feed configuration
      * @param producerManager  the producer manager
+     * @param messageDecoder   the decoder used to decode the received payloads
+     * @param statistics       the statistics used to record the time spent decoding the payloads and the broker lag
      */
     @Inject
     public ChannelMessageConsumerImpl(
         RoutingKeyParser routingKeyParser,
         SDKInternalConfiguration configuration,
         SDKProducerManager producerManager,
-        @Named("MessageJAXBContext") JAXBContext messageJAXBContext
+        MessageDecoder messageDecoder,
+        UnifiedOddsStatistics statistics
     ) {
         Preconditions.checkNotNull(routingKeyParser);
         Preconditions.checkNotNull(configuration);
         Preconditions.checkNotNull(producerManager);
+        Preconditions.checkNotNull(messageDecoder);
+        Preconditions.checkNotNull(statistics);
 
         this.routingKeyParser = routingKeyParser;
         this.configuration = configuration;
         this.producerManager = producerManager;
-        this.messageJAXBContext = messageJAXBContext;
+        this.messageDecoder = messageDecoder;
+        this.statistics = statistics;
     }
 
     /**
@@ -192,16 +196,21 @@ public class ChannelMessageConsumerImpl implements ChannelMessageConsumer {
             return;
         }
 
-        UnmarshalledMessage unmarshalledMessage;
+        FeedMessageEnvelope envelope;
         int producerId;
         try {
-            long time = System.currentTimeMillis();
-
-            Unmarshaller unmarshallerTLS = getMessageJAXBUnmarshaller();
-            unmarshalledMessage =
-                (UnmarshalledMessage) unmarshallerTLS.unmarshal(new ByteArrayInputStream(body));
+            long decodeStart = System.nanoTime();
+            envelope = FeedMessageEnvelope.of(messageDecoder.decode(body));
+            statistics.onMessageStageCompleted(
+                envelope,
+                FeedMessageStage.Decode,
+                System.nanoTime() - decodeStart
+            );
+            if (sentAt > 0) {
+                statistics.onBrokerLag(envelope, receivedAt - sentAt);
+            }
 
-            producerId = FeedMessageHelper.provideProducerIdFromMessage(unmarshalledMessage);
+            producerId = envelope.getProducerId();
 
             if (producerManager.isProducerEnabled(producerId)) {
                 loggerTraffic.info(
@@ -224,7 +233,7 @@ public class ChannelMessageConsumerImpl implements ChannelMessageConsumer {
                     );
                 }
             }
-        } catch (JAXBException jaxbException) {
+        } catch (DeserializationException deserializationException) {
             loggerTrafficFailure.warn(
                 "{} {} {} {} {}",
                 messageConsumer.getConsumerDescription(),
@@ -238,7 +247,7 @@ public class ChannelMessageConsumerImpl implements ChannelMessageConsumer {
                     "Problem deserializing received message. RoutingKey:%s, Message:%s, ex: %s",
                     routingKey,
                     new String(body),
-                    jaxbException
+                    deserializationException.getCause()
                 ),
                 body,
                 routingKeyInfo.getEventId(),
@@ -273,7 +282,7 @@ public class ChannelMessageConsumerImpl implements ChannelMessageConsumer {
             if (producerManager.isProducerEnabled(producerId)) {
                 messageConsumer.onRawFeedMessageReceived(
                     routingKeyInfo,
-                    unmarshalledMessage,
+                    envelope.getMessage(),
                     timestamp,
                     messageConsumer.getMessageInterest()
                 );
@@ -284,7 +293,7 @@ public class ChannelMessageConsumerImpl implements ChannelMessageConsumer {
         // continue normal processing
 
         // there are other checks on
-        messageConsumer.onMessageReceived(unmarshalledMessage, body, routingKeyInfo, timestamp);
+        messageConsumer.onMessageReceived(envelope, body, routingKeyInfo, timestamp);
     }
 
     private void dispatchUnparsableMessage(String msg, byte[] body, URN eventId, MessageTimestamp timestamp) {
@@ -297,16 +306,4 @@ public class ChannelMessageConsumerImpl implements ChannelMessageConsumer {
 
         return configuration.isCleanTrafficLogEntriesEnabled() ? s.replace("\n", "") : s;
     }
-
-    private Unmarshaller getMessageJAXBUnmarshaller() {
-        if (messageJAXBUnmarshaller.get() == null) {
-            try {
-                messageJAXBUnmarshaller.set(messageJAXBContext.createUnmarshaller());
-            } catch (JAXBException e) {
-                throw new IllegalStateException("Failed to create unmarshaller for 'AMQP messages', ex: ", e);
-            }
-        }
-
-        return messageJAXBUnmarshaller.get();
-    }
 }
@@ -5,16 +5,15 @@
 package com.sportradar.unifiedodds.sdk.impl;
 
 import com.google.common.base.Preconditions;
-import com.google.common.base.Strings;
 import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.DataProviderException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.DataProviderStreamException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.DeserializationException;
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.apache.http.HttpEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
@@ -29,6 +28,7 @@ public class DataProvider<TOut> {
 
     private final String uriFormat;
     private final HttpDataFetcher logHttpDataFetcher;
+    private final AsyncHttpDataFetcher asyncHttpDataFetcher;
     private final Deserializer deserializer;
     private final String apiHostAndPort;
     private final boolean useApiSsl;
@@ -39,6 +39,20 @@ public class DataProvider<TOut> {
         SDKInternalConfiguration config,
         HttpDataFetcher logHttpDataFetcher,
         Deserializer deserializer
+    ) {
+        this(uriFormat, config, logHttpDataFetcher, null, deserializer);
+    }
+
+    /**
+     * @param asyncHttpDataFetcher the fetcher used by {@link #getDataAsync(Locale, String...)}, or null if the
+     *                             asynchronous requests should fall back to the blocking fetch
+     */
+    public DataProvider(
+        String uriFormat,
+        SDKInternalConfiguration config,
+        HttpDataFetcher logHttpDataFetcher,
+        AsyncHttpDataFetcher asyncHttpDataFetcher,
+        Deserializer deserializer
     ) {
         Preconditions.checkNotNull(uriFormat);
         Preconditions.checkNotNull(config);
@@ -48,6 +62,7 @@ public class DataProvider<TOut> {
         this.uriFormat = uriFormat;
         this.deserializer = deserializer;
         this.logHttpDataFetcher = logHttpDataFetcher;
+        this.asyncHttpDataFetcher = asyncHttpDataFetcher;
 
         useApiSsl = config.getUseApiSsl();
         apiHostAndPort = config.getApiHostAndPort();
@@ -70,6 +85,7 @@ public class DataProvider<TOut> {
 
         this.uriFormat = uriFormat;
         this.logHttpDataFetcher = logHttpDataFetcher;
+        this.asyncHttpDataFetcher = null;
         this.deserializer = deserializer;
         this.apiHostAndPort = apiHostAndPort;
         this.useApiSsl = useApiSsl;
@@ -101,9 +117,7 @@ public class DataProvider<TOut> {
      * @return the requested API endpoint object
      */
     public TOut getData(Locale locale, String... args) throws DataProviderException {
-        HttpData fetchedContent = fetchData(null, locale, args);
-
-        return deserializeData(fetchedContent);
+        return fetchData(null, locale, args).getData();
     }
 
     /**
@@ -115,11 +129,33 @@ public class DataProvider<TOut> {
      */
     public DataWrapper<TOut> getDataWithAdditionalInfo(Locale locale, String... args)
         throws DataProviderException {
-        HttpData fetchedContent = fetchData(null, locale, args);
+        return fetchData(null, locale, args);
+    }
 
-        TOut deserializeData = deserializeData(fetchedContent);
+    /**
+     * Requests the API endpoint object without blocking the calling thread (unless the provider has no
+     * asynchronous fetcher, in which case the data is fetched before the method returns)
+     *
+     * @param locale the locale that is used with the supplied URI format
+     * @param args   that are used with the supplied URI format
+     * @return a future completed with the requested API endpoint object, or completed exceptionally with a
+     *         {@link DataProviderException} if the data could not be provided
+     */
+    public CompletableFuture<TOut> getDataAsync(Locale locale, String... args) {
+        CompletableFuture<TOut> result = new CompletableFuture<>();
+        if (asyncHttpDataFetcher == null) {
+            try {
+                result.complete(getData(locale, args));
+            } catch (DataProviderException e) {
+                result.completeExceptionally(e);
+            }
+            return result;
+        }
 
-        return new DataWrapper<>(deserializeData, fetchedContent.getHeaders());
+        asyncHttpDataFetcher
+            .get(getFinalUrl(locale, args), this::deserializeData)
+            .whenComplete((fetchedContent, failure) -> complete(result, fetchedContent, failure));
+        return result;
     }
 
     /**
@@ -134,45 +170,59 @@ public class DataProvider<TOut> {
                 deserializer.serialize(content),
                 ContentType.APPLICATION_XML
             );
-            HttpData fetchedContent = fetchData(entity, null, null);
-            return deserializeData(fetchedContent);
+            return fetchData(entity, null, null).getData();
         } catch (DeserializationException e) {
             throw new DataProviderException("Data serialization failed", e);
         }
     }
 
     @SuppressWarnings("unchecked")
-    private TOut deserializeData(HttpData fetchedContent) throws DataProviderException {
-        try {
-            InputStream inputStream = new ByteArrayInputStream(
-                fetchedContent.getResponse().getBytes(StandardCharsets.UTF_8)
-            );
-            return (TOut) deserializer.deserialize(inputStream);
-        } catch (DeserializationException e) {
-            throw new DataProviderException("Data deserialization failed", e);
-        }
+    private TOut deserializeData(InputStream content) throws DeserializationException {
+        return (TOut) deserializer.deserialize(content);
     }
 
-    private HttpData fetchData(HttpEntity content, Locale locale, String[] args)
+    /**
+     * Fetches the data from the API, the response is deserialized while it is being received
+     */
+    private DataWrapper<TOut> fetchData(HttpEntity content, Locale locale, String[] args)
         throws DataProviderException {
-        HttpData fetchedContent;
+        DataWrapper<TOut> fetchedContent;
         try {
             String finalUrl = getFinalUrl(locale, args);
             fetchedContent =
                 content == null
-                    ? logHttpDataFetcher.get(finalUrl)
-                    : logHttpDataFetcher.post(finalUrl, content);
+                    ? logHttpDataFetcher.get(finalUrl, this::deserializeData)
+                    : logHttpDataFetcher.post(finalUrl, content, this::deserializeData);
         } catch (CommunicationException e) {
             throw new DataProviderException("The requested data was not accessible on the provided URL", e);
+        } catch (DeserializationException e) {
+            throw new DataProviderException("Data deserialization failed", e);
         }
 
-        if (Strings.isNullOrEmpty(fetchedContent.getResponse())) {
+        if (fetchedContent == null || fetchedContent.getData() == null) {
             throw new DataProviderException("Response data is null");
         }
 
         return fetchedContent;
     }
 
+    private void complete(CompletableFuture<TOut> result, DataWrapper<TOut> fetchedContent, Throwable failure) {
+        Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+        if (cause instanceof CommunicationException) {
+            result.completeExceptionally(
+                new DataProviderException("The requested data was not accessible on the provided URL", cause)
+            );
+        } else if (cause instanceof DeserializationException) {
+            result.completeExceptionally(new DataProviderException("Data deserialization failed", cause));
+        } else if (cause != null) {
+            result.completeExceptionally(cause);
+        } else if (fetchedContent == null || fetchedContent.getData() == null) {
+            result.completeExceptionally(new DataProviderException("Response data is null"));
+        } else {
+            result.complete(fetchedContent.getData());
+        }
+    }
+
     public String getFinalUrl(Locale locale, String arg) {
         String[] forwardArgs = new String[0];
         if (arg != null && !arg.isEmpty()) {
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects the back-pressure metrics of the lanes used by a {@link PartitionedChannelMessageConsumer}
+ */
+public class DispatchLaneStatistics implements DispatchLaneStatisticsMBean {
+
+    private final List<BlockingQueue<Runnable>> laneQueues;
+    private final int laneQueueCapacity;
+    private final AtomicLong dispatchedMessages = new AtomicLong();
+    private final AtomicLong blockedDispatches = new AtomicLong();
+    private final AtomicLong blockedNanos = new AtomicLong();
+
+    /**
+     * @param laneQueues the queues of the observed lanes
+     * @param laneQueueCapacity the capacity of each lane queue
+     */
+    DispatchLaneStatistics(List<BlockingQueue<Runnable>> laneQueues, int laneQueueCapacity) {
+        Preconditions.checkNotNull(laneQueues);
+
+        this.laneQueues = laneQueues;
+        this.laneQueueCapacity = laneQueueCapacity;
+    }
+
+    void onMessageDispatched() {
+        dispatchedMessages.incrementAndGet();
+    }
+
+    void onDispatchBlocked(long nanos) {
+        blockedDispatches.incrementAndGet();
+        blockedNanos.addAndGet(nanos);
+    }
+
+    @Override
+    public int getNumberOfLanes() {
+        return laneQueues.size();
+    }
+
+    @Override
+    public int getLaneQueueCapacity() {
+        return laneQueueCapacity;
+    }
+
+    @Override
+    public long getNumberOfDispatchedMessages() {
+        return dispatchedMessages.get();
+    }
+
+    @Override
+    public int getNumberOfQueuedMessages() {
+        int queued = 0;
+        for (BlockingQueue<Runnable> queue : laneQueues) {
+            queued += queue.size();
+        }
+        return queued;
+    }
+
+    @Override
+    public int getMaxLaneQueueSize() {
+        int max = 0;
+        for (BlockingQueue<Runnable> queue : laneQueues) {
+            max = Math.max(max, queue.size());
+        }
+        return max;
+    }
+
+    @Override
+    public long getNumberOfBlockedDispatches() {
+        return blockedDispatches.get();
+    }
+
+    @Override
+    public long getTimeSpentBlockedInMs() {
+        return TimeUnit.NANOSECONDS.toMillis(blockedNanos.get());
+    }
+}
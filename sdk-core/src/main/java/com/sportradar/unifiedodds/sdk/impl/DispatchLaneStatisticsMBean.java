@@ -0,0 +1,25 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+/**
+ * Back-pressure metrics of a session which dispatches messages on per-event ordered lanes
+ */
+@SuppressWarnings({ "AbbreviationAsWordInName" })
+public interface DispatchLaneStatisticsMBean {
+    int getNumberOfLanes();
+
+    int getLaneQueueCapacity();
+
+    long getNumberOfDispatchedMessages();
+
+    int getNumberOfQueuedMessages();
+
+    int getMaxLaneQueueSize();
+
+    long getNumberOfBlockedDispatches();
+
+    long getTimeSpentBlockedInMs();
+}
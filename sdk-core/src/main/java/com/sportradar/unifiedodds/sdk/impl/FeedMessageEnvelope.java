@@ -0,0 +1,236 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Sets;
+import com.sportradar.uf.datamodel.*;
+import com.sportradar.unifiedodds.sdk.instrumentation.FeedMessageMetadata;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+import com.sportradar.utils.URN;
+import java.util.Set;
+
+/**
+ * An immutable wrapper of a received feed message which holds the message fields required by the
+ * processing pipeline. The fields are resolved once when the message is decoded, so the pipeline stages
+ * do not have to inspect the message type each time they need them.
+ */
+@SuppressWarnings({ "CyclomaticComplexity", "MethodLength", "ReturnCount" })
+public final class FeedMessageEnvelope implements FeedMessageMetadata {
+
+    /**
+     * The event id description used for messages which are not associated with a sport event
+     */
+    private static final String SYSTEM_MESSAGE_EVENT_ID = "System message";
+
+    /**
+     * The kinds of messages whose timestamp is used to track the producer state
+     */
+    private static final Set<FeedMessageKind> GEN_TIMESTAMP_KINDS = Sets.immutableEnumSet(
+        FeedMessageKind.OddsChange,
+        FeedMessageKind.BetStop,
+        FeedMessageKind.Alive
+    );
+
+    private final UnmarshalledMessage message;
+    private final FeedMessageKind kind;
+    private final int producerId;
+    private final String rawEventId;
+    private final Long requestId;
+    private final Long genTimestamp;
+    private final long timestamp;
+
+    /**
+     * The parsed event id, resolved on the first access since only some pipeline stages need it.
+     * Concurrent first accesses may parse the id more than once, which is harmless as {@link URN} is immutable.
+     */
+    private URN eventId;
+
+    private FeedMessageEnvelope(
+        UnmarshalledMessage message,
+        FeedMessageKind kind,
+        int producerId,
+        String rawEventId,
+        Long requestId,
+        long timestamp
+    ) {
+        this.message = message;
+        this.kind = kind;
+        this.producerId = producerId;
+        this.rawEventId = rawEventId;
+        this.requestId = requestId;
+        this.genTimestamp = GEN_TIMESTAMP_KINDS.contains(kind) ? timestamp : null;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Builds a new {@link FeedMessageEnvelope} for the provided message
+     *
+     * @param o the decoded message
+     * @return a new {@link FeedMessageEnvelope} for the provided message
+     */
+    public static FeedMessageEnvelope of(UnmarshalledMessage o) {
+        Preconditions.checkNotNull(o);
+
+        if (o instanceof UFOddsChange) {
+            UFOddsChange m = (UFOddsChange) o;
+            return new FeedMessageEnvelope(
+                o,
+                FeedMessageKind.OddsChange,
+                m.getProduct(),
+                m.getEventId(),
+                m.getRequestId(),
+                m.getTimestamp()
+            );
+        } else if (o instanceof UFBetStop) {
+            UFBetStop m = (UFBetStop) o;
+            return new FeedMessageEnvelope(
+                o,
+                FeedMessageKind.BetStop,
+                m.getProduct(),
+                m.getEventId(),
+                m.getRequestId(),
+                m.getTimestamp()
+            );
+        } else if (o instanceof UFBetSettlement) {
+            UFBetSettlement m = (UFBetSettlement) o;
+            return new FeedMessageEnvelope(
+                o,
+                FeedMessageKind.BetSettlement,
+                m.getProduct(),
+                m.getEventId(),
+                m.getRequestId(),
+                m.getTimestamp()
+            );
+        } else if (o instanceof UFRollbackBetSettlement) {
+            UFRollbackBetSettlement m = (UFRollbackBetSettlement) o;
+            return new FeedMessageEnvelope(
+                o,
+                FeedMessageKind.RollbackBetSettlement,
+                m.getProduct(),
+                m.getEventId(),
+                m.getRequestId(),
+                m.getTimestamp()
+            );
+        } else if (o instanceof UFBetCancel) {
+            UFBetCancel m = (UFBetCancel) o;
+            return new FeedMessageEnvelope(
+                o,
+                FeedMessageKind.BetCancel,
+                m.getProduct(),
+                m.getEventId(),
+                m.getRequestId(),
+                m.getTimestamp()
+            );
+        } else if (o instanceof UFFixtureChange) {
+            UFFixtureChange m = (UFFixtureChange) o;
+            return new FeedMessageEnvelope(
+                o,
+                FeedMessageKind.FixtureChange,
+                m.getProduct(),
+                m.getEventId(),
+                m.getRequestId(),
+                m.getTimestamp()
+            );
+        } else if (o instanceof UFRollbackBetCancel) {
+            UFRollbackBetCancel m = (UFRollbackBetCancel) o;
+            return new FeedMessageEnvelope(
+                o,
+                FeedMessageKind.RollbackBetCancel,
+                m.getProduct(),
+                m.getEventId(),
+                m.getRequestId(),
+                m.getTimestamp()
+            );
+        } else if (o instanceof UFSnapshotComplete) {
+            UFSnapshotComplete m = (UFSnapshotComplete) o;
+            return new FeedMessageEnvelope(
+                o,
+                FeedMessageKind.SnapshotComplete,
+                m.getProduct(),
+                null,
+                m.getRequestId(),
+                m.getTimestamp()
+            );
+        } else if (o instanceof UFAlive) {
+            UFAlive m = (UFAlive) o;
+            return new FeedMessageEnvelope(o, FeedMessageKind.Alive, m.getProduct(), null, null, m.getTimestamp());
+        }
+
+        return new FeedMessageEnvelope(
+            o,
+            FeedMessageKind.Unknown,
+            UnifiedFeedConstants.UNKNOWN_PRODUCER_ID,
+            null,
+            null,
+            0
+        );
+    }
+
+    @Override
+    public UnmarshalledMessage getMessage() {
+        return message;
+    }
+
+    /**
+     * Returns the kind of the wrapped message
+     *
+     * @return the kind of the wrapped message
+     */
+    public FeedMessageKind getKind() {
+        return kind;
+    }
+
+    @Override
+    public int getProducerId() {
+        return producerId;
+    }
+
+    /**
+     * Returns the id of the associated sport event
+     *
+     * @return the id of the associated sport event, or null for system messages
+     * @throws com.sportradar.unifiedodds.sdk.exceptions.UnsupportedUrnFormatException if the id has an invalid format
+     */
+    @Override
+    public URN getEventId() {
+        URN result = eventId;
+        if (result == null && rawEventId != null) {
+            result = URN.parse(rawEventId);
+            eventId = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the id of the associated sport event as received, or an explanation why the id is not
+     * available (ex: for a snapshot complete -> system message)
+     *
+     * @return the id of the associated sport event or a system message description
+     */
+    public String getEventIdDescription() {
+        return rawEventId == null ? SYSTEM_MESSAGE_EVENT_ID : rawEventId;
+    }
+
+    @Override
+    public Long getRequestId() {
+        return requestId;
+    }
+
+    /**
+     * Returns the generation timestamp used to track the producer state, which is available only
+     * on the odds_change, bet_stop and alive messages
+     *
+     * @return the message generation timestamp if available; otherwise null
+     */
+    public Long getGenTimestamp() {
+        return genTimestamp;
+    }
+
+    @Override
+    public long getTimestamp() {
+        return timestamp;
+    }
+}
@@ -8,6 +8,7 @@ import com.sportradar.uf.datamodel.*;
 import com.sportradar.unifiedodds.sdk.entities.SportEvent;
 import com.sportradar.unifiedodds.sdk.oddsentities.*;
 import com.sportradar.utils.URN;
+import java.util.Set;
 
 /**
  * Created on 22/06/2017.
@@ -64,11 +65,22 @@ public interface FeedMessageFactory {
         MessageTimestamp timestamp
     );
 
-    <T extends SportEvent> OddsChange<T> buildOddsChange(
+    default <T extends SportEvent> OddsChange<T> buildOddsChange(
         T sportEvent,
         UFOddsChange message,
         byte[] rawMessage,
         MessageTimestamp timestamp
+    ) {
+        return buildOddsChange(sportEvent, message, rawMessage, timestamp, false, null);
+    }
+
+    <T extends SportEvent> OddsChange<T> buildOddsChange(
+        T sportEvent,
+        UFOddsChange message,
+        byte[] rawMessage,
+        MessageTimestamp timestamp,
+        boolean lazyMarkets,
+        Set<Integer> marketIds
     );
 
     <T extends SportEvent> RollbackBetCancel<T> buildRollbackBetCancel(
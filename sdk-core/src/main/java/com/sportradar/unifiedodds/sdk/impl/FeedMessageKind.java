@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+/**
+ * Defines the kinds of messages received from the feed
+ */
+@SuppressWarnings({ "NoEnumTrailingComma" })
+public enum FeedMessageKind {
+    /**
+     * An odds_change message
+     */
+    OddsChange,
+
+    /**
+     * A bet_stop message
+     */
+    BetStop,
+
+    /**
+     * A bet_settlement message
+     */
+    BetSettlement,
+
+    /**
+     * A rollback_bet_settlement message
+     */
+    RollbackBetSettlement,
+
+    /**
+     * A bet_cancel message
+     */
+    BetCancel,
+
+    /**
+     * A rollback_bet_cancel message
+     */
+    RollbackBetCancel,
+
+    /**
+     * A fixture_change message
+     */
+    FixtureChange,
+
+    /**
+     * A snapshot_complete message
+     */
+    SnapshotComplete,
+
+    /**
+     * An alive message
+     */
+    Alive,
+
+    /**
+     * A message which is not supported by the SDK
+     */
+    Unknown,
+}
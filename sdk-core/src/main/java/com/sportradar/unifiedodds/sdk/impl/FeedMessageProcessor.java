@@ -5,7 +5,6 @@
 package com.sportradar.unifiedodds.sdk.impl;
 
 import com.sportradar.unifiedodds.sdk.oddsentities.MessageTimestamp;
-import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
 
 /**
  * Defines methods implemented by classes capable of processing feed messages
@@ -23,13 +22,13 @@ public interface FeedMessageProcessor {
      * trough the {@link #setNextMessageProcessor(FeedMessageProcessor)}, the instance should forward the
      * message to the defined <i>next message processor</i> after the processing is completed
      *
-     * @param message - the message that should be processed
+     * @param envelope - the message that should be processed with its resolved fields
      * @param body - the raw body of the received message
      * @param routingKeyInfo - a {@link RoutingKeyInfo} instance describing the message routing key
      * @param timestamp - all message timestamps
      */
     void processMessage(
-        UnmarshalledMessage message,
+        FeedMessageEnvelope envelope,
         byte[] body,
         RoutingKeyInfo routingKeyInfo,
         MessageTimestamp timestamp
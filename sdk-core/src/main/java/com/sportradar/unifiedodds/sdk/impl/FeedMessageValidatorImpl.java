@@ -9,6 +9,7 @@ import com.google.common.base.Strings;
 import com.google.inject.Inject;
 import com.sportradar.uf.datamodel.*;
 import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.SpecifierValidationMode;
 import com.sportradar.unifiedodds.sdk.caching.NamedValuesProvider;
 import com.sportradar.unifiedodds.sdk.caching.markets.MarketDescriptionProvider;
 import com.sportradar.unifiedodds.sdk.entities.markets.MarketDescription;
@@ -42,10 +43,13 @@ import org.slf4j.LoggerFactory;
 public class FeedMessageValidatorImpl implements FeedMessageValidator {
 
     private static final Logger logger = LoggerFactory.getLogger(FeedMessageValidatorImpl.class);
+    private static final long MAX_CACHED_VALIDATION_RESULTS = 50_000;
 
     private final MarketDescriptionProvider marketDescriptionProvider;
     private final List<Locale> defaultLocales;
     private final NamedValuesProvider namedValuesProvider;
+    private final SpecifierValidationMode specifierValidationMode;
+    private final SpecifierValidationCache specifierValidationCache;
 
     @Inject
     FeedMessageValidatorImpl(
@@ -60,6 +64,12 @@ public class FeedMessageValidatorImpl implements FeedMessageValidator {
         this.marketDescriptionProvider = marketDescriptionProvider;
         this.defaultLocales = Collections.singletonList(configuration.getDefaultLocale());
         this.namedValuesProvider = namedValuesProvider;
+        this.specifierValidationMode = configuration.getSpecifierValidationMode();
+        this.specifierValidationCache = new SpecifierValidationCache(MAX_CACHED_VALIDATION_RESULTS);
+
+        if (specifierValidationMode != SpecifierValidationMode.Always) {
+            marketDescriptionProvider.addReloadListener(specifierValidationCache::invalidate);
+        }
     }
 
     /**
@@ -376,7 +386,8 @@ public class FeedMessageValidatorImpl implements FeedMessageValidator {
     }
 
     /**
-     * Checks the provided specifiers with the associated market descriptor
+     * Checks the provided specifiers with the associated market descriptor, or returns the cached result of
+     * the check if the specifiers with the same keys were already checked for the associated market
      *
      * @param marketId the associated market id
      * @param producerId the associated producer id
@@ -388,6 +399,59 @@ public class FeedMessageValidatorImpl implements FeedMessageValidator {
             return true;
         }
 
+        if (specifierValidationMode == SpecifierValidationMode.Always) {
+            return validateSpecifiers(marketId, producerId, receivedSpecifiers);
+        }
+
+        if (
+            specifierValidationMode == SpecifierValidationMode.OncePerMarket &&
+            specifierValidationCache.isValidatedMarket(marketId)
+        ) {
+            return true;
+        }
+
+        String key = SpecifierValidationCache.buildKey(marketId, receivedSpecifiers);
+        if (key == null) {
+            return validateSpecifiers(marketId, producerId, receivedSpecifiers);
+        }
+
+        Boolean cachedResult = specifierValidationCache.getResult(key);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+
+        long generation = specifierValidationCache.getGeneration();
+        MarketDescription descriptor = getMarketDescription(marketId);
+        if (descriptor == null) {
+            return false;
+        }
+
+        boolean valid = matchSpecifiers(descriptor, marketId, producerId, receivedSpecifiers);
+        specifierValidationCache.putResult(generation, marketId, key, valid);
+        return valid;
+    }
+
+    /**
+     * Checks the provided specifiers with the associated market descriptor
+     *
+     * @param marketId the associated market id
+     * @param producerId the associated producer id
+     * @param receivedSpecifiers the specifiers received as a part of a message
+     * @return <code>true</code> if the specifiers validation passed, otherwise <code>false</code>
+     */
+    private boolean validateSpecifiers(int marketId, int producerId, String receivedSpecifiers) {
+        MarketDescription descriptor = getMarketDescription(marketId);
+
+        return descriptor != null && matchSpecifiers(descriptor, marketId, producerId, receivedSpecifiers);
+    }
+
+    /**
+     * Retrieves the descriptor of the associated market
+     *
+     * @param marketId the associated market id
+     * @return the market descriptor or a null reference if the descriptor could not be retrieved
+     */
+    private MarketDescription getMarketDescription(int marketId) {
         MarketDescription descriptor;
         try {
             descriptor =
@@ -398,9 +462,26 @@ public class FeedMessageValidatorImpl implements FeedMessageValidator {
                 marketId,
                 e
             );
-            return false;
+            return null;
         }
+        return descriptor;
+    }
 
+    /**
+     * Checks the provided specifiers with the provided market descriptor
+     *
+     * @param descriptor the descriptor of the associated market
+     * @param marketId the associated market id
+     * @param producerId the associated producer id
+     * @param receivedSpecifiers the specifiers received as a part of a message
+     * @return <code>true</code> if the specifiers validation passed, otherwise <code>false</code>
+     */
+    private boolean matchSpecifiers(
+        MarketDescription descriptor,
+        int marketId,
+        int producerId,
+        String receivedSpecifiers
+    ) {
         if (descriptor.getId() != marketId) {
             logger.info(
                 "Market validation failed. Retrieved market descriptor has different market id. RequestedId={}, RetrievedId={}",
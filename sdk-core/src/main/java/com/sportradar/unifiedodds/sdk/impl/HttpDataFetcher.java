@@ -8,8 +8,12 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.DeserializationException;
 import com.sportradar.unifiedodds.sdk.impl.apireaders.HttpHelper;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
 import java.nio.charset.StandardCharsets;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpStatus;
@@ -24,11 +28,13 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Class used to fetch content from the Unified API, the output of this.get() is usually
- * used in combination with a {@link Deserializer} to get a valid useful Java object.
+ * used in combination with a {@link Deserializer} to get a valid useful Java object. The content can also
+ * be handed to a {@link ContentReader} while it is being received, so it does not have to be buffered.
  */
 @SuppressWarnings(
     {
         "BooleanExpressionComplexity",
+        "ClassFanOutComplexity",
         "ConstantName",
         "LineLength",
         "MethodLength",
@@ -72,6 +78,20 @@ abstract class HttpDataFetcher {
         return send(new HttpGet(path));
     }
 
+    /**
+     * Gets the content on the given path trough a GET request and hands it to the provided reader while it is
+     * being received, without buffering the whole response
+     *
+     * @param path a valid HTTP GET request path
+     * @param reader the {@link ContentReader} used to read the received content
+     * @param <T> the type of the read content
+     * @return the read content together with the response headers
+     */
+    public <T> DataWrapper<T> get(String path, ContentReader<T> reader)
+        throws CommunicationException, DeserializationException {
+        return send(new HttpGet(path), reader);
+    }
+
     /**
      * Gets the content on the given path trough a POST request
      *
@@ -85,6 +105,23 @@ abstract class HttpDataFetcher {
         return send(httpPost);
     }
 
+    /**
+     * Gets the content on the given path trough a POST request and hands it to the provided reader while it is
+     * being received, without buffering the whole response
+     *
+     * @param path a valid HTTP POST request path
+     * @param content a content to send using POST request
+     * @param reader the {@link ContentReader} used to read the received content
+     * @param <T> the type of the read content
+     * @return the read content together with the response headers
+     */
+    public <T> DataWrapper<T> post(String path, HttpEntity content, ContentReader<T> reader)
+        throws CommunicationException, DeserializationException {
+        HttpPost httpPost = new HttpPost(path);
+        httpPost.setEntity(content);
+        return send(httpPost, reader);
+    }
+
     /**
      * Gets the content on the given HTTP request
      *
@@ -93,70 +130,119 @@ abstract class HttpDataFetcher {
      */
     protected HttpData send(HttpRequestBase request) throws CommunicationException {
         String path = request.getURI().toString();
-        try {
-            if (statsBean != null) {
-                statsBean.onStreamingHttpGet(path);
-            }
-            request.addHeader("x-access-token", config.getAccessToken());
-
-            CloseableHttpResponse resp = null;
-            String respString = null;
-            String errorMessage = null;
-            int statusCode;
-            try {
-                resp = httpClient.execute(request);
-                statusCode = resp.getStatusLine().getStatusCode();
-
-                // the whoami endpoint is a special case since we are interested in the response even if the response code is forbidden
-                boolean isWhoAmI = path.endsWith("whoami.xml");
-
-                if (
-                    statusCode == HttpStatus.SC_OK ||
-                    statusCode == HttpStatus.SC_ACCEPTED ||
-                    (isWhoAmI && statusCode == HttpStatus.SC_FORBIDDEN)
-                ) {
-                    respString = EntityUtils.toString(resp.getEntity(), StandardCharsets.UTF_8);
-                } else {
-                    errorMessage =
-                        HttpHelper.tryDeserializeResponseMessage(
-                            apiDeserializer,
-                            resp.getEntity().getContent()
-                        );
-                    logger.warn(
-                        "Bad API response: " +
-                        resp.getStatusLine() +
-                        " " +
-                        statusCode +
-                        ", message: '" +
-                        errorMessage +
-                        "' " +
-                        path
-                    );
-                }
-            } finally {
-                if (resp != null) {
-                    resp.close();
-                }
+        try (CloseableHttpResponse resp = execute(request)) {
+            String respString = EntityUtils.toString(resp.getEntity(), StandardCharsets.UTF_8);
+            if (Strings.isNullOrEmpty(respString)) {
+                throw invalidResponse(null, path, resp.getStatusLine().getStatusCode());
             }
+            return new HttpData(respString, resp.getAllHeaders());
+        } catch (IOException e) {
+            throw new CommunicationException("There was a problem retrieving the requested data", path, e);
+        } finally {
+            request.releaseConnection();
+        }
+    }
 
-            if (!Strings.isNullOrEmpty(respString)) {
-                return new HttpData(respString, resp.getAllHeaders());
-            } else {
-                if (Strings.isNullOrEmpty(errorMessage)) {
-                    errorMessage = "no message";
-                }
-                throw new CommunicationException(
-                    "Invalid server response. Message=" + errorMessage,
-                    path,
-                    statusCode
-                );
+    /**
+     * Gets the content on the given HTTP request and hands it to the provided reader while it is being received
+     *
+     * @param request a valid HTTP request
+     * @param reader the {@link ContentReader} used to read the received content
+     * @param <T> the type of the read content
+     * @return the read content together with the response headers
+     */
+    protected <T> DataWrapper<T> send(HttpRequestBase request, ContentReader<T> reader)
+        throws CommunicationException, DeserializationException {
+        String path = request.getURI().toString();
+        try (CloseableHttpResponse resp = execute(request)) {
+            HttpEntity entity = resp.getEntity();
+            PushbackInputStream content = new PushbackInputStream(entity.getContent());
+            int firstByte = content.read();
+            if (firstByte < 0) {
+                throw invalidResponse(null, path, resp.getStatusLine().getStatusCode());
             }
+            content.unread(firstByte);
+
+            T data = reader.read(content);
+            // the remaining content (if any) must be consumed so the connection can be reused
+            EntityUtils.consume(entity);
+            return new DataWrapper<>(data, resp.getAllHeaders());
         } catch (IOException e) {
             throw new CommunicationException("There was a problem retrieving the requested data", path, e);
-        } catch (CommunicationException e) {
-            throw e;
         } finally {
             request.releaseConnection();
         }
     }
+
+    /**
+     * Hands the already received content to the provided reader
+     *
+     * @param data the received content
+     * @param reader the {@link ContentReader} used to read the received content
+     * @param <T> the type of the read content
+     * @return the read content together with the response headers
+     */
+    static <T> DataWrapper<T> read(HttpData data, ContentReader<T> reader) throws DeserializationException {
+        InputStream content = new ByteArrayInputStream(data.getResponse().getBytes(StandardCharsets.UTF_8));
+        return new DataWrapper<>(reader.read(content), data.getHeaders());
+    }
+
+    private CloseableHttpResponse execute(HttpRequestBase request) throws IOException, CommunicationException {
+        String path = request.getURI().toString();
+        if (statsBean != null) {
+            statsBean.onStreamingHttpGet(path);
+        }
+        request.addHeader("x-access-token", config.getAccessToken());
+
+        CloseableHttpResponse resp = httpClient.execute(request);
+        int statusCode = resp.getStatusLine().getStatusCode();
+
+        // the whoami endpoint is a special case since we are interested in the response even if the response code is forbidden
+        boolean isWhoAmI = path.endsWith("whoami.xml");
+
+        if (
+            statusCode == HttpStatus.SC_OK ||
+            statusCode == HttpStatus.SC_ACCEPTED ||
+            (isWhoAmI && statusCode == HttpStatus.SC_FORBIDDEN)
+        ) {
+            return resp;
+        }
+
+        try {
+            String errorMessage = HttpHelper.tryDeserializeResponseMessage(
+                apiDeserializer,
+                resp.getEntity().getContent()
+            );
+            logger.warn("Bad API response: {} {}, message: '{}' {}", resp.getStatusLine(), statusCode, errorMessage, path);
+            throw invalidResponse(errorMessage, path, statusCode);
+        } finally {
+            resp.close();
+        }
+    }
+
+    static CommunicationException invalidResponse(String errorMessage, String path, int statusCode) {
+        return new CommunicationException(
+            "Invalid server response. Message=" +
+            (Strings.isNullOrEmpty(errorMessage) ? "no message" : errorMessage),
+            path,
+            statusCode
+        );
+    }
+
+    /**
+     * Reads the content of a successful API response
+     *
+     * @param <T> the type of the read content
+     */
+    @FunctionalInterface
+    interface ContentReader<T> {
+        /**
+         * Reads the provided content, the stream is closed by the caller
+         *
+         * @param content the received content
+         * @return the read content
+         * @throws DeserializationException if the content could not be read
+         */
+        T read(InputStream content) throws DeserializationException;
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.DeserializationException;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+import java.io.ByteArrayInputStream;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+
+/**
+ * A {@link MessageDecoder} implementation which unmarshals the complete payload with JAXB
+ */
+@SuppressWarnings({ "AbbreviationAsWordInName" })
+public class JaxbMessageDecoder implements MessageDecoder {
+
+    /**
+     * Per-thread unmarshallers, since a jaxb {@link Unmarshaller} is not thread safe by itself
+     */
+    private final ThreadLocal<Unmarshaller> messageJAXBUnmarshaller;
+
+    /**
+     * @param messageJAXBContext the {@link JAXBContext} used to unmarshal feed messages
+     */
+    @Inject
+    public JaxbMessageDecoder(@Named("MessageJAXBContext") JAXBContext messageJAXBContext) {
+        Preconditions.checkNotNull(messageJAXBContext);
+
+        this.messageJAXBUnmarshaller =
+            ThreadLocal.withInitial(() -> {
+                try {
+                    return messageJAXBContext.createUnmarshaller();
+                } catch (JAXBException e) {
+                    throw new IllegalStateException(
+                        "Failed to create unmarshaller for 'AMQP messages', ex: ",
+                        e
+                    );
+                }
+            });
+    }
+
+    /**
+     * Decodes the provided message payload
+     *
+     * @param body - the raw message payload
+     * @return - the decoded {@link UnmarshalledMessage}
+     * @throws DeserializationException if the payload could not be unmarshalled
+     */
+    @Override
+    public UnmarshalledMessage decode(byte[] body) throws DeserializationException {
+        try {
+            return (UnmarshalledMessage) getUnmarshaller().unmarshal(new ByteArrayInputStream(body));
+        } catch (JAXBException | ClassCastException e) {
+            throw new DeserializationException("There was a problem unmarshalling the received message", e);
+        }
+    }
+
+    /**
+     * Returns the {@link Unmarshaller} associated with the calling thread
+     *
+     * @return the {@link Unmarshaller} associated with the calling thread
+     */
+    Unmarshaller getUnmarshaller() {
+        return messageJAXBUnmarshaller.get();
+    }
+}
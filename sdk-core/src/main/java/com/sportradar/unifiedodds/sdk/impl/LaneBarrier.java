@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A task queued on all the lanes of a {@link PartitionedChannelMessageConsumer}. The lane which reaches the
+ * barrier last runs the wrapped task, while the other lanes wait until the task completed - so the task runs
+ * after everything queued before it on any lane, and before everything queued after it.
+ */
+class LaneBarrier implements Runnable {
+
+    private final Runnable task;
+    private final AtomicInteger remainingLanes;
+    private final CountDownLatch processed = new CountDownLatch(1);
+
+    /**
+     * Initializes a new {@link LaneBarrier} instance
+     *
+     * @param task the task which should run once all the lanes reached the barrier
+     * @param laneCount the number of lanes on which the barrier is queued
+     */
+    LaneBarrier(Runnable task, int laneCount) {
+        Preconditions.checkNotNull(task);
+        Preconditions.checkArgument(laneCount > 0, "laneCount must be greater than 0");
+
+        this.task = task;
+        this.remainingLanes = new AtomicInteger(laneCount);
+    }
+
+    @Override
+    public void run() {
+        if (remainingLanes.decrementAndGet() > 0) {
+            try {
+                processed.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return;
+        }
+
+        try {
+            task.run();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Releases the lanes waiting on the barrier, used also when the barrier could not be queued on all the lanes
+     */
+    void release() {
+        processed.countDown();
+    }
+}
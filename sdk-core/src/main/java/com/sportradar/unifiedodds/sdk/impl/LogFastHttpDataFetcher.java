@@ -10,6 +10,7 @@ import com.google.inject.name.Named;
 import com.sportradar.unifiedodds.sdk.LoggerDefinitions;
 import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.DeserializationException;
 import java.util.concurrent.TimeUnit;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.impl.client.CloseableHttpClient;
@@ -19,7 +20,7 @@ import org.slf4j.LoggerFactory;
 /**
  * Wrapper class for the {@link HttpDataFetcher} with the sole purpose of API request logging
  */
-@SuppressWarnings({ "ConstantName" })
+@SuppressWarnings({ "ClassFanOutComplexity", "ConstantName" })
 public class LogFastHttpDataFetcher extends HttpDataFetcher {
 
     private static final Logger logger = LoggerFactory.getLogger(LogFastHttpDataFetcher.class);
@@ -70,4 +71,16 @@ public class LogFastHttpDataFetcher extends HttpDataFetcher {
 
         return result;
     }
+
+    @Override
+    protected <T> DataWrapper<T> send(HttpRequestBase request, ContentReader<T> reader)
+        throws CommunicationException, DeserializationException {
+        if (trafficLogger.isInfoEnabled()) {
+            // the traffic log contains the whole response, so it has to be received as a string first
+            return read(send(request), reader);
+        }
+
+        logger.info("Fetching data from: " + request.getURI());
+        return super.send(request, reader);
+    }
 }
@@ -16,13 +16,13 @@ public interface MessageConsumer {
     /**
      * Consumes the provided message
      *
-     * @param unmarshalledMessage - an unmarshalled message payload
+     * @param envelope - the unmarshalled message payload with its resolved fields
      * @param body - the raw payload (mainly used for logging and user exposure)
      * @param routingKeyInfo - a {@link RoutingKeyInfo} instance describing the message routing key
      * @param timestamp - all message timestamps
      */
     void onMessageReceived(
-        UnmarshalledMessage unmarshalledMessage,
+        FeedMessageEnvelope envelope,
         byte[] body,
         RoutingKeyInfo routingKeyInfo,
         MessageTimestamp timestamp
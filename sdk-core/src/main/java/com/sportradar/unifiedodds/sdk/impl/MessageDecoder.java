@@ -0,0 +1,23 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.exceptions.internal.DeserializationException;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+
+/**
+ * Defines methods implemented by classes used to decode raw AMQP message payloads into
+ * {@link UnmarshalledMessage} instances
+ */
+public interface MessageDecoder {
+    /**
+     * Decodes the provided message payload
+     *
+     * @param body - the raw message payload
+     * @return - the decoded {@link UnmarshalledMessage}
+     * @throws DeserializationException if the payload could not be decoded
+     */
+    UnmarshalledMessage decode(byte[] body) throws DeserializationException;
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.instrumentation.FeedMessageStage;
+import com.sportradar.unifiedodds.sdk.instrumentation.LatencyHistogram;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The processing latencies of the received messages, recorded (in microseconds) per message kind and processing
+ * stage, and the broker to SDK lag (in milliseconds) of the received messages
+ */
+@SuppressWarnings({ "MagicNumber" })
+final class MessageLatencies {
+
+    /**
+     * The latency histograms indexed by the message kind and processing stage ordinals
+     */
+    private final LatencyHistogram[][] histograms;
+
+    private final LatencyHistogram brokerLag = new LatencyHistogram();
+
+    MessageLatencies() {
+        histograms = new LatencyHistogram[FeedMessageKind.values().length][FeedMessageStage.values().length];
+        for (LatencyHistogram[] kindHistograms : histograms) {
+            for (int i = 0; i < kindHistograms.length; i++) {
+                kindHistograms[i] = new LatencyHistogram();
+            }
+        }
+    }
+
+    void recordLatency(FeedMessageKind kind, FeedMessageStage stage, long durationNanos) {
+        histograms[kind.ordinal()][stage.ordinal()].recordValue(TimeUnit.NANOSECONDS.toMicros(durationNanos));
+    }
+
+    void recordBrokerLag(long lagMillis) {
+        brokerLag.recordValue(lagMillis);
+    }
+
+    long getValueAtPercentile(FeedMessageKind kind, FeedMessageStage stage, double percentile) {
+        return histograms[kind.ordinal()][stage.ordinal()].getValueAtPercentile(percentile);
+    }
+
+    long getBrokerLagAtPercentile(double percentile) {
+        return brokerLag.getValueAtPercentile(percentile);
+    }
+
+    /**
+     * Describes the p50, p99 and p999 broker lag and latencies of each message kind and stage which was recorded
+     *
+     * @return one description for the broker lag and per recorded message kind and stage
+     */
+    String[] describePercentiles() {
+        List<String> result = new ArrayList<>();
+        if (brokerLag.getCount() > 0) {
+            result.add(
+                String.format(
+                    "BrokerLag: count=%d, p50=%dms, p99=%dms, p999=%dms",
+                    brokerLag.getCount(),
+                    brokerLag.getValueAtPercentile(50),
+                    brokerLag.getValueAtPercentile(99),
+                    brokerLag.getValueAtPercentile(99.9)
+                )
+            );
+        }
+        for (FeedMessageKind kind : FeedMessageKind.values()) {
+            for (FeedMessageStage stage : FeedMessageStage.values()) {
+                LatencyHistogram histogram = histograms[kind.ordinal()][stage.ordinal()];
+                long count = histogram.getCount();
+                if (count > 0) {
+                    result.add(
+                        String.format(
+                            "%s %s: count=%d, p50=%dus, p99=%dus, p999=%dus",
+                            kind,
+                            stage,
+                            count,
+                            histogram.getValueAtPercentile(50),
+                            histogram.getValueAtPercentile(99),
+                            histogram.getValueAtPercentile(99.9)
+                        )
+                    );
+                }
+            }
+        }
+        return result.toArray(new String[0]);
+    }
+}
@@ -6,6 +6,7 @@ package com.sportradar.unifiedodds.sdk.impl;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Defines methods implemented by classes capable of receiving messages from the feed
@@ -20,6 +21,27 @@ public interface MessageReceiver {
      */
     void open(List<String> routingKeys, MessageConsumer messageConsumer) throws IOException;
 
+    /**
+     * Opens the current instance so it starts receiving messages, which are dispatched to the
+     * provided {@link MessageConsumer} on per-event ordered lanes
+     *
+     * @param routingKeys - a {@link List} of requested routing keys
+     * @param messageConsumer - a {@link MessageConsumer} instance which will receive messages
+     * @param laneCount - the number of lanes processing the messages in parallel
+     * @param laneQueueCapacity - the max number of messages waiting on a single lane
+     * @throws IOException if the channel failed to open
+     */
+    void open(List<String> routingKeys, MessageConsumer messageConsumer, int laneCount, int laneQueueCapacity)
+        throws IOException;
+
+    /**
+     * Spreads the received messages over multiple channels, one for each provided sport partition plus one for
+     * the system messages and the messages of the remaining sports. Must be invoked before the receiver is opened.
+     *
+     * @param sportChannelPartitions the sport ids received on dedicated channels, one set per channel
+     */
+    void setSportChannelPartitions(List<Set<Integer>> sportChannelPartitions);
+
     /**
      * Closes the current instance so it will no longer receive messages
      *
@@ -9,6 +9,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.base.Stopwatch;
 import com.google.common.cache.Cache;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.inject.name.Named;
 import com.sportradar.uf.datamodel.*;
 import com.sportradar.unifiedodds.sdk.*;
@@ -20,10 +22,12 @@ import com.sportradar.unifiedodds.sdk.extended.OddsFeedExtListener;
 import com.sportradar.unifiedodds.sdk.impl.oddsentities.MessageTimestampImpl;
 import com.sportradar.unifiedodds.sdk.impl.processing.pipeline.CompositeMessageProcessor;
 import com.sportradar.unifiedodds.sdk.impl.util.FeedMessageHelper;
+import com.sportradar.unifiedodds.sdk.instrumentation.FeedMessageStage;
 import com.sportradar.unifiedodds.sdk.oddsentities.*;
 import com.sportradar.utils.URN;
 import java.io.IOException;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
@@ -73,6 +77,11 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
     private MessageInterest messageInterest;
     private OddsFeedExtListener oddsFeedExtListener;
     private boolean isFeedClosed;
+    private int dispatchLaneCount;
+    private int dispatchLaneQueueCapacity;
+    private boolean lazyMarkets;
+    private Set<Integer> marketIds;
+    private List<Set<Integer>> sportChannelPartitions = ImmutableList.of();
 
     @Inject
     public OddsFeedSessionImpl(
@@ -131,11 +140,63 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
         this.oddsFeedExtListener = oddsFeedExtListener;
 
         messageProcessor.init(this);
-        messageReceiver.open(routingKeys, this);
+        if (!sportChannelPartitions.isEmpty()) {
+            messageReceiver.setSportChannelPartitions(sportChannelPartitions);
+        }
+        if (dispatchLaneCount > 0) {
+            messageReceiver.open(routingKeys, this, dispatchLaneCount, dispatchLaneQueueCapacity);
+        } else {
+            messageReceiver.open(routingKeys, this);
+        }
 
         logger.info("OddsFeedSession opened(Message interest: {})", messageInterest);
     }
 
+    /**
+     * Enables the processing of the received messages on per-event ordered lanes, must be invoked before the session is opened
+     *
+     * @param laneCount the number of lanes processing the messages in parallel
+     * @param laneQueueCapacity the max number of messages waiting on a single lane
+     */
+    public void setParallelDispatch(int laneCount, int laneQueueCapacity) {
+        checkArgument(laneCount > 0, "laneCount must be greater than 0");
+        checkArgument(laneQueueCapacity > 0, "laneQueueCapacity must be greater than 0");
+
+        this.dispatchLaneCount = laneCount;
+        this.dispatchLaneQueueCapacity = laneQueueCapacity;
+    }
+
+    /**
+     * Enables building the markets of the dispatched {@link OddsChange} messages on the first access
+     *
+     * @param lazyMarkets an indication whether the markets should be built on the first access
+     */
+    public void setLazyMarketMaterialization(boolean lazyMarkets) {
+        this.lazyMarkets = lazyMarkets;
+    }
+
+    /**
+     * Limits the markets of the dispatched {@link OddsChange} messages to the provided market ids
+     *
+     * @param marketIds the ids of the markets which should be built, or null if all markets should be built
+     */
+    public void setOddsChangeMarketFilter(Set<Integer> marketIds) {
+        this.marketIds = marketIds == null ? null : ImmutableSet.copyOf(marketIds);
+    }
+
+    /**
+     * Spreads the received messages over a channel per provided sport partition plus one for the remaining messages,
+     * must be invoked before the session is opened
+     *
+     * @param sportChannelPartitions the sport ids received on dedicated channels, one set per channel
+     */
+    public void setSportChannelPartitions(List<Set<Integer>> sportChannelPartitions) {
+        checkNotNull(sportChannelPartitions, "sportChannelPartitions cannot be a null reference");
+
+        this.sportChannelPartitions =
+            sportChannelPartitions.stream().map(ImmutableSet::copyOf).collect(ImmutableList.toImmutableList());
+    }
+
     public void close() {
         try {
             isFeedClosed = true;
@@ -146,13 +207,13 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
     /**
      * Consumes the provided message
      *
-     * @param unmarshalledMessage - an unmarshalled message payload
+     * @param envelope - the unmarshalled message payload with its resolved fields
      * @param body - the raw payload (mainly used for logging and user exposure)
      * @param routingKeyInfo - a {@link RoutingKeyInfo} instance describing the message routing key
      */
     @Override
     public void onMessageReceived(
-        UnmarshalledMessage unmarshalledMessage,
+        FeedMessageEnvelope envelope,
         byte[] body,
         RoutingKeyInfo routingKeyInfo,
         MessageTimestamp timestamp
@@ -161,22 +222,30 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
             return;
         }
 
-        if (isMessageDiscardable(unmarshalledMessage)) {
+        if (isMessageDiscardable(envelope)) {
             return;
         }
 
+        UnmarshalledMessage unmarshalledMessage = envelope.getMessage();
+        int producerId = envelope.getProducerId();
+        String eventId = envelope.getEventIdDescription();
         long now = System.currentTimeMillis();
+        long validationStart = System.nanoTime();
         ValidationResult validationResult = feedMessageValidator.validate(
             unmarshalledMessage,
             routingKeyInfo
         );
-        String eventId = FeedMessageHelper.provideEventIdFromMessage(unmarshalledMessage);
+        statisticsMBean.onMessageStageCompleted(
+            envelope,
+            FeedMessageStage.Validation,
+            System.nanoTime() - validationStart
+        );
         switch (validationResult) {
             case Success:
                 logger.debug(
                     "Message {} successfully validated. ProducerId:{}, EventId:'{}'. Message processing continues",
                     unmarshalledMessage.getClass().getSimpleName(),
-                    FeedMessageHelper.provideProducerIdFromMessage(unmarshalledMessage),
+                    producerId,
                     eventId
                 );
                 break;
@@ -184,7 +253,7 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
                 logger.warn(
                     "Problems were detected while validating message {}, but the message is still eligible for further processing. ProducerId:{}, EventId:'{}'",
                     unmarshalledMessage.getClass().getName(),
-                    FeedMessageHelper.provideProducerIdFromMessage(unmarshalledMessage),
+                    producerId,
                     eventId
                 );
                 break;
@@ -192,27 +261,22 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
                 logger.warn(
                     "Validation of message {} failed. Raising onUnparseableMessage event. ProducerId:{}, EventId:'{}'",
                     unmarshalledMessage.getClass().getName(),
-                    FeedMessageHelper.provideProducerIdFromMessage(unmarshalledMessage),
+                    producerId,
                     eventId
                 );
 
                 SportEvent event = routingKeyInfo.getEventId() == null
                     ? null
-                    : getSportEventFor(routingKeyInfo.getEventId().toString(), routingKeyInfo.getSportId());
+                    : getSportEventFor(routingKeyInfo.getEventId(), routingKeyInfo.getSportId());
 
-                dispatchUnparsableMessage(
-                    body,
-                    event,
-                    FeedMessageHelper.provideProducerIdFromMessage(unmarshalledMessage),
-                    timestamp
-                );
+                dispatchUnparsableMessage(body, event, producerId, timestamp);
                 return;
             default:
                 logger.error(
                     "Validation result '{}' is not supported. Aborting message processing. Type:{} ProducerId:{}, EventId:'{}'",
                     validationResult,
                     unmarshalledMessage.getClass().getName(),
-                    FeedMessageHelper.provideProducerIdFromMessage(unmarshalledMessage),
+                    producerId,
                     eventId
                 );
                 return;
@@ -220,33 +284,30 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
 
         Stopwatch timer = Stopwatch.createStarted();
 
-        int producerId = FeedMessageHelper.provideProducerIdFromMessage(unmarshalledMessage);
-
-        recoveryManager.onMessageProcessingStarted(
-            this.hashCode(),
+        messageProcessor.processMessage(envelope, body, routingKeyInfo, timestamp);
+        // the processing time is measured here rather than tracked per session by the recovery manager, since
+        // the dispatch lanes of the session process messages concurrently
+        recoveryManager.onMessageProcessed(
             producerId,
-            FeedMessageHelper.provideRequestIdFromMessage(unmarshalledMessage),
-            now
-        );
-        messageProcessor.processMessage(unmarshalledMessage, body, routingKeyInfo, timestamp);
-        recoveryManager.onMessageProcessingEnded(
-            this.hashCode(),
-            producerId,
-            FeedMessageHelper.provideMessageGenTimestampFromMessage(unmarshalledMessage),
-            eventId
+            envelope.getRequestId(),
+            now,
+            envelope.getGenTimestamp(),
+            eventId,
+            System.currentTimeMillis() - now
         );
 
         clientInteractionLog.info(
             "Message -> ({}|{}|{}|{}) processing finished on {}, duration: {} ms",
             producerId,
-            FeedMessageHelper.provideEventIdFromMessage(unmarshalledMessage),
+            eventId,
             unmarshalledMessage.getClass().getSimpleName(),
-            FeedMessageHelper.provideGenTimestampFromMessage(unmarshalledMessage),
+            envelope.getTimestamp(),
             getConsumerDescription(),
             timer.stop().elapsed(TimeUnit.MILLISECONDS)
         );
 
-        statisticsMBean.onMessageReceived(now, System.currentTimeMillis(), unmarshalledMessage);
+        int messageSize = body == null ? 0 : body.length;
+        statisticsMBean.onMessageReceived(now, System.currentTimeMillis(), envelope, messageSize);
     }
 
     /**
@@ -282,162 +343,145 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
     /**
      * Dispatches the processed message to the client
      *
-     * @param o - the message that should be processed
+     * @param envelope - the message that should be processed with its resolved fields
      * @param body - the raw body of the received message
      * @param routingKeyInfo - a {@link RoutingKeyInfo} instance describing the message routing key
      * @param timestamp - all message timestamps
      */
     public void processMessage(
-        UnmarshalledMessage o,
+        FeedMessageEnvelope envelope,
         byte[] body,
         RoutingKeyInfo routingKeyInfo,
         MessageTimestamp timestamp
     ) {
-        //        long now = System.currentTimeMillis();
+        UnmarshalledMessage o = envelope.getMessage();
+        long dispatchStart = System.nanoTime();
         try {
-            if (o instanceof UFOddsChange) {
-                UFOddsChange message = (UFOddsChange) o;
-                timestamp =
-                    new MessageTimestampImpl(
-                        message.getTimestamp(),
-                        timestamp.getSent(),
-                        timestamp.getReceived(),
-                        new TimeUtilsImpl().now()
+            if (envelope.getKind() == FeedMessageKind.Unknown) {
+                logger.warn("Unsupported Message: " + o.getClass().getName());
+                throw new UnsupportedOperationException("Unsupported message");
+            }
+            timestamp =
+                new MessageTimestampImpl(
+                    envelope.getTimestamp(),
+                    timestamp.getSent(),
+                    timestamp.getReceived(),
+                    new TimeUtilsImpl().now()
+                );
+            switch (envelope.getKind()) {
+                case OddsChange:
+                    OddsChange<SportEvent> oc = messageFactory.buildOddsChange(
+                        getSportEventFor(envelope, routingKeyInfo),
+                        (UFOddsChange) o,
+                        body,
+                        timestamp,
+                        lazyMarkets,
+                        marketIds
                     );
-                SportEvent se = getSportEventFor(message.getEventId(), routingKeyInfo.getSportId());
-                OddsChange<SportEvent> oc = messageFactory.buildOddsChange(se, message, body, timestamp);
-                checkUserException(() -> oddsFeedListener.onOddsChange(this, oc));
-            } else if (o instanceof UFBetStop) {
-                UFBetStop message = (UFBetStop) o;
-                timestamp =
-                    new MessageTimestampImpl(
-                        message.getTimestamp(),
-                        timestamp.getSent(),
-                        timestamp.getReceived(),
-                        new TimeUtilsImpl().now()
+                    dispatchToListener(
+                        envelope,
+                        dispatchStart,
+                        () -> oddsFeedListener.onOddsChange(this, oc)
                     );
-                SportEvent se = getSportEventFor(message.getEventId(), routingKeyInfo.getSportId());
-                BetStop<SportEvent> sdkBetStop = messageFactory.buildBetStop(se, message, body, timestamp);
-                checkUserException(() -> oddsFeedListener.onBetStop(this, sdkBetStop));
-            } else if (o instanceof UFBetSettlement) {
-                UFBetSettlement message = (UFBetSettlement) o;
-                timestamp =
-                    new MessageTimestampImpl(
-                        message.getTimestamp(),
-                        timestamp.getSent(),
-                        timestamp.getReceived(),
-                        new TimeUtilsImpl().now()
+                    break;
+                case BetStop:
+                    BetStop<SportEvent> sdkBetStop = messageFactory.buildBetStop(
+                        getSportEventFor(envelope, routingKeyInfo),
+                        (UFBetStop) o,
+                        body,
+                        timestamp
                     );
-                SportEvent se = getSportEventFor(message.getEventId(), routingKeyInfo.getSportId());
-                BetSettlement<SportEvent> bs = messageFactory.buildBetSettlement(
-                    se,
-                    message,
-                    body,
-                    timestamp
-                );
-                logger.trace("Bet Settlement");
-                checkUserException(() -> oddsFeedListener.onBetSettlement(this, bs));
-            } else if (o instanceof UFRollbackBetSettlement) {
-                UFRollbackBetSettlement message = (UFRollbackBetSettlement) o;
-                timestamp =
-                    new MessageTimestampImpl(
-                        message.getTimestamp(),
-                        timestamp.getSent(),
-                        timestamp.getReceived(),
-                        new TimeUtilsImpl().now()
+                    dispatchToListener(
+                        envelope,
+                        dispatchStart,
+                        () -> oddsFeedListener.onBetStop(this, sdkBetStop)
                     );
-                SportEvent se = getSportEventFor(message.getEventId(), routingKeyInfo.getSportId());
-                RollbackBetSettlement<SportEvent> rbs = messageFactory.buildRollbackBetSettlement(
-                    se,
-                    message,
-                    body,
-                    timestamp
-                );
-                checkUserException(() -> oddsFeedListener.onRollbackBetSettlement(this, rbs));
-            } else if (o instanceof UFBetCancel) {
-                UFBetCancel message = (UFBetCancel) o;
-                timestamp =
-                    new MessageTimestampImpl(
-                        message.getTimestamp(),
-                        timestamp.getSent(),
-                        timestamp.getReceived(),
-                        new TimeUtilsImpl().now()
+                    break;
+                case BetSettlement:
+                    BetSettlement<SportEvent> bs = messageFactory.buildBetSettlement(
+                        getSportEventFor(envelope, routingKeyInfo),
+                        (UFBetSettlement) o,
+                        body,
+                        timestamp
                     );
-                SportEvent se = getSportEventFor(message.getEventId(), routingKeyInfo.getSportId());
-                BetCancel<SportEvent> cb = messageFactory.buildBetCancel(se, message, body, timestamp);
-                logger.trace("Bet Cancel");
-                checkUserException(() -> oddsFeedListener.onBetCancel(this, cb));
-            } else if (o instanceof UFFixtureChange) {
-                UFFixtureChange message = (UFFixtureChange) o;
-                timestamp =
-                    new MessageTimestampImpl(
-                        message.getTimestamp(),
-                        timestamp.getSent(),
-                        timestamp.getReceived(),
-                        new TimeUtilsImpl().now()
+                    logger.trace("Bet Settlement");
+                    dispatchToListener(
+                        envelope,
+                        dispatchStart,
+                        () -> oddsFeedListener.onBetSettlement(this, bs)
                     );
-                SportEvent se = getSportEventFor(message.getEventId(), routingKeyInfo.getSportId());
-                FixtureChange<SportEvent> fc = messageFactory.buildFixtureChange(
-                    se,
-                    message,
-                    body,
-                    timestamp
-                );
-                logger.trace("Fixture Change");
-                checkUserException(() -> oddsFeedListener.onFixtureChange(this, fc));
-            } else if (o instanceof UFRollbackBetCancel) {
-                UFRollbackBetCancel message = (UFRollbackBetCancel) o;
-                timestamp =
-                    new MessageTimestampImpl(
-                        message.getTimestamp(),
-                        timestamp.getSent(),
-                        timestamp.getReceived(),
-                        new TimeUtilsImpl().now()
+                    break;
+                case RollbackBetSettlement:
+                    RollbackBetSettlement<SportEvent> rbs = messageFactory.buildRollbackBetSettlement(
+                        getSportEventFor(envelope, routingKeyInfo),
+                        (UFRollbackBetSettlement) o,
+                        body,
+                        timestamp
                     );
-                SportEvent se = getSportEventFor(message.getEventId(), routingKeyInfo.getSportId());
-                RollbackBetCancel<SportEvent> rbc = messageFactory.buildRollbackBetCancel(
-                    se,
-                    message,
-                    body,
-                    timestamp
-                );
-                logger.trace("Rollback Bet Cancel");
-                checkUserException(() -> oddsFeedListener.onRollbackBetCancel(this, rbc));
-            } else if (o instanceof UFSnapshotComplete) {
-                UFSnapshotComplete sc = (UFSnapshotComplete) o;
-                timestamp =
-                    new MessageTimestampImpl(
-                        sc.getTimestamp(),
-                        timestamp.getSent(),
-                        timestamp.getReceived(),
-                        new TimeUtilsImpl().now()
+                    dispatchToListener(
+                        envelope,
+                        dispatchStart,
+                        () -> oddsFeedListener.onRollbackBetSettlement(this, rbs)
                     );
-                recoveryManager.onSnapshotCompleteReceived(
-                    sc.getProduct(),
-                    timestamp.getDispatched(),
-                    sc.getRequestId(),
-                    messageInterest
-                );
-            } else if (o instanceof UFAlive) {
-                logger.trace("Alive");
-                UFAlive message = (UFAlive) o;
-                timestamp =
-                    new MessageTimestampImpl(
-                        message.getTimestamp(),
-                        timestamp.getSent(),
-                        timestamp.getReceived(),
-                        new TimeUtilsImpl().now()
+                    break;
+                case BetCancel:
+                    BetCancel<SportEvent> cb = messageFactory.buildBetCancel(
+                        getSportEventFor(envelope, routingKeyInfo),
+                        (UFBetCancel) o,
+                        body,
+                        timestamp
                     );
-                recoveryManager.onAliveReceived(
-                    message.getProduct(),
-                    message.getTimestamp(),
-                    timestamp.getDispatched(),
-                    message.getSubscribed() == 1,
-                    messageInterest == MessageInterest.SystemAliveMessages
-                );
-            } else {
-                logger.warn("Unsupported Message: " + o.getClass().getName());
-                throw new UnsupportedOperationException("Unsupported message");
+                    logger.trace("Bet Cancel");
+                    dispatchToListener(envelope, dispatchStart, () -> oddsFeedListener.onBetCancel(this, cb));
+                    break;
+                case FixtureChange:
+                    FixtureChange<SportEvent> fc = messageFactory.buildFixtureChange(
+                        getSportEventFor(envelope, routingKeyInfo),
+                        (UFFixtureChange) o,
+                        body,
+                        timestamp
+                    );
+                    logger.trace("Fixture Change");
+                    dispatchToListener(
+                        envelope,
+                        dispatchStart,
+                        () -> oddsFeedListener.onFixtureChange(this, fc)
+                    );
+                    break;
+                case RollbackBetCancel:
+                    RollbackBetCancel<SportEvent> rbc = messageFactory.buildRollbackBetCancel(
+                        getSportEventFor(envelope, routingKeyInfo),
+                        (UFRollbackBetCancel) o,
+                        body,
+                        timestamp
+                    );
+                    logger.trace("Rollback Bet Cancel");
+                    dispatchToListener(
+                        envelope,
+                        dispatchStart,
+                        () -> oddsFeedListener.onRollbackBetCancel(this, rbc)
+                    );
+                    break;
+                case SnapshotComplete:
+                    recoveryManager.onSnapshotCompleteReceived(
+                        envelope.getProducerId(),
+                        timestamp.getDispatched(),
+                        envelope.getRequestId(),
+                        messageInterest
+                    );
+                    break;
+                case Alive:
+                    logger.trace("Alive");
+                    recoveryManager.onAliveReceived(
+                        envelope.getProducerId(),
+                        envelope.getTimestamp(),
+                        timestamp.getDispatched(),
+                        ((UFAlive) o).getSubscribed() == 1,
+                        messageInterest == MessageInterest.SystemAliveMessages
+                    );
+                    break;
+                default:
+                    break;
             }
         } catch (Exception re) {
             logger.warn("Problems processing a message: \n" + new String(body), re);
@@ -446,7 +490,7 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
                 routingKeyInfo.getEventId() == null
                     ? null
                     : getSportEventFor(routingKeyInfo.getEventId(), routingKeyInfo.getSportId()),
-                FeedMessageHelper.provideProducerIdFromMessage(o),
+                envelope.getProducerId(),
                 timestamp
             );
         }
@@ -563,10 +607,8 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
         }
     }
 
-    private SportEvent getSportEventFor(String eventId, URN sportId) {
-        URN parsedEventId = URN.parse(eventId);
-
-        return getSportEventFor(parsedEventId, sportId);
+    private SportEvent getSportEventFor(FeedMessageEnvelope envelope, RoutingKeyInfo routingKeyInfo) {
+        return getSportEventFor(envelope.getEventId(), routingKeyInfo.getSportId());
     }
 
     private SportEvent getSportEventFor(URN eventId, URN sportId) {
@@ -583,11 +625,11 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
     /**
      * Check if the provided message can/should be discarded (ex: message from a disabled producer)
      *
-     * @param o - the message object that should be checked
+     * @param envelope - the message object that should be checked
      * @return - <code>true</code> if the message can be discarded, else <code>false</code>
      */
-    private boolean isMessageDiscardable(UnmarshalledMessage o) {
-        int producerId = FeedMessageHelper.provideProducerIdFromMessage(o);
+    private boolean isMessageDiscardable(FeedMessageEnvelope envelope) {
+        int producerId = envelope.getProducerId();
 
         if (
             config.getEnvironment() == Environment.Replay ||
@@ -604,9 +646,9 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
             return true;
         }
 
-        if (o instanceof UFFixtureChange) {
+        if (envelope.getKind() == FeedMessageKind.FixtureChange) {
             String fixtureChangeCacheKey = FeedMessageHelper.generateFixtureChangeCacheKey(
-                (UFFixtureChange) o
+                (UFFixtureChange) envelope.getMessage()
             );
             if (dispatchedFixtureChangesCache.getIfPresent(fixtureChangeCacheKey) == null) {
                 dispatchedFixtureChangesCache.put(fixtureChangeCacheKey, fixtureChangeCacheKey);
@@ -618,11 +660,31 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
         return false;
     }
 
-    private void checkUserException(Runnable runnable) {
+    /**
+     * Invokes the user listener, recording the time spent building the dispatched message (since the dispatching
+     * started) and the time spent in the listener
+     *
+     * @param envelope - the dispatched message
+     * @param dispatchStart - the {@link System#nanoTime()} when the dispatching of the message started
+     * @param listenerCallback - the invocation of the user listener
+     */
+    private void dispatchToListener(FeedMessageEnvelope envelope, long dispatchStart, Runnable listenerCallback) {
+        long callbackStart = System.nanoTime();
+        statisticsMBean.onMessageStageCompleted(
+            envelope,
+            FeedMessageStage.MessageBuilding,
+            callbackStart - dispatchStart
+        );
         try {
-            runnable.run();
+            listenerCallback.run();
         } catch (Exception ex) {
             dispatchUserUnhandledException(ex);
+        } finally {
+            statisticsMBean.onMessageStageCompleted(
+                envelope,
+                FeedMessageStage.ListenerCallback,
+                System.nanoTime() - callbackStart
+            );
         }
     }
 
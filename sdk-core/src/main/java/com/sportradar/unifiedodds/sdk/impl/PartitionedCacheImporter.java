@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.sportradar.unifiedodds.sdk.caching.exportable.*;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Imports the exported cache items into the {@link ExportableSdkCache} instances. The items are partitioned once
+ * by the cache and the item type, the large partitions are further split into chunks by the item id (so the
+ * items with the same id always end up in the same chunk), and the chunks are imported concurrently on a
+ * {@link ForkJoinPool} with the configured parallelism.
+ */
+@SuppressWarnings({ "ClassDataAbstractionCoupling", "ClassFanOutComplexity", "ConstantName" })
+final class PartitionedCacheImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionedCacheImporter.class);
+
+    /**
+     * The min number of items in a chunk, smaller partitions are not split
+     */
+    private static final int MIN_CHUNK_SIZE = 256;
+
+    private final Map<CacheType, ExportableSdkCache> caches;
+    private final int parallelism;
+
+    /**
+     * Initializes a new {@link PartitionedCacheImporter}
+     *
+     * @param caches the caches into which the items are imported
+     * @param parallelism the max number of threads used to import the items, 1 to import them on the caller thread
+     */
+    PartitionedCacheImporter(Map<CacheType, ExportableSdkCache> caches, int parallelism) {
+        Preconditions.checkNotNull(caches);
+        Preconditions.checkArgument(parallelism > 0);
+
+        this.caches = new EnumMap<>(caches);
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Imports the provided items into the caches
+     *
+     * @param items the items which should be imported
+     * @return the import report of each cache
+     */
+    Map<CacheType, CacheImportReport> importItems(List<ExportableCI> items) {
+        Preconditions.checkNotNull(items);
+
+        List<ImportChunk> chunks = partition(items);
+        List<ChunkResult> results = parallelism == 1 || chunks.size() <= 1
+            ? importOnCallerThread(chunks)
+            : importConcurrently(chunks);
+        return report(results);
+    }
+
+    private List<ImportChunk> partition(List<ExportableCI> items) {
+        Map<Class<?>, List<ExportableCI>> itemsByType = new LinkedHashMap<>();
+        for (ExportableCI item : items) {
+            itemsByType.computeIfAbsent(item.getClass(), type -> new ArrayList<>()).add(item);
+        }
+
+        List<ImportChunk> chunks = new ArrayList<>();
+        for (List<ExportableCI> partition : itemsByType.values()) {
+            CacheType cacheType = cacheTypeOf(partition.get(0));
+            if (cacheType == null || !caches.containsKey(cacheType)) {
+                logger.debug("Skipping import of {} unsupported cache items", partition.size());
+                continue;
+            }
+            for (List<ExportableCI> chunkItems : split(partition)) {
+                chunks.add(new ImportChunk(cacheType, chunkItems));
+            }
+        }
+        return chunks;
+    }
+
+    private Collection<List<ExportableCI>> split(List<ExportableCI> partition) {
+        int chunkCount = Math.min(parallelism, partition.size() / MIN_CHUNK_SIZE);
+        if (chunkCount <= 1) {
+            return Collections.singletonList(partition);
+        }
+
+        List<List<ExportableCI>> chunks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            chunks.add(new ArrayList<>(partition.size() / chunkCount + 1));
+        }
+        for (ExportableCI item : partition) {
+            chunks.get(Math.floorMod(Objects.hashCode(item.getId()), chunkCount)).add(item);
+        }
+        return chunks;
+    }
+
+    private static CacheType cacheTypeOf(ExportableCI item) {
+        if (item instanceof ExportableSportCI || item instanceof ExportableCategoryCI) {
+            return CacheType.SportData;
+        }
+        if (item instanceof ExportablePlayerProfileCI || item instanceof ExportableCompetitorCI) {
+            return CacheType.Profile;
+        }
+        if (item instanceof ExportableSportEventCI) {
+            return CacheType.SportEvent;
+        }
+        return null;
+    }
+
+    private List<ChunkResult> importOnCallerThread(List<ImportChunk> chunks) {
+        List<ChunkResult> results = new ArrayList<>(chunks.size());
+        for (ImportChunk chunk : chunks) {
+            results.add(chunk.call());
+        }
+        return results;
+    }
+
+    private List<ChunkResult> importConcurrently(List<ImportChunk> chunks) {
+        ForkJoinPool pool = new ForkJoinPool(
+            Math.min(parallelism, chunks.size()),
+            PartitionedCacheImporter::newWorkerThread,
+            null,
+            false
+        );
+        try {
+            List<ChunkResult> results = new ArrayList<>(chunks.size());
+            for (Future<ChunkResult> future : pool.invokeAll(chunks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while importing cache items", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Failed to import cache items", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static ForkJoinWorkerThread newWorkerThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("UfSdk-CacheImport-" + thread.getPoolIndex());
+        return thread;
+    }
+
+    private Map<CacheType, CacheImportReport> report(List<ChunkResult> results) {
+        Map<CacheType, CacheImportReport> reports = new EnumMap<>(CacheType.class);
+        for (Map.Entry<CacheType, ExportableSdkCache> cache : caches.entrySet()) {
+            int itemCount = 0;
+            long start = Long.MAX_VALUE;
+            long end = Long.MIN_VALUE;
+            for (ChunkResult result : results) {
+                if (result.cacheType == cache.getKey()) {
+                    itemCount += result.itemCount;
+                    start = Math.min(start, result.startNanos);
+                    end = Math.max(end, result.endNanos);
+                }
+            }
+            long elapsedMillis = itemCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(end - start);
+            reports.put(
+                cache.getKey(),
+                new CacheImportReport(cache.getKey(), itemCount, elapsedMillis, cache.getValue().cacheStatus())
+            );
+        }
+        return reports;
+    }
+
+    private final class ImportChunk implements Callable<ChunkResult> {
+
+        private final CacheType cacheType;
+        private final List<ExportableCI> items;
+
+        private ImportChunk(CacheType cacheType, List<ExportableCI> items) {
+            this.cacheType = cacheType;
+            this.items = items;
+        }
+
+        @Override
+        public ChunkResult call() {
+            long start = System.nanoTime();
+            caches.get(cacheType).importItems(items);
+            return new ChunkResult(cacheType, items.size(), start, System.nanoTime());
+        }
+    }
+
+    private static final class ChunkResult {
+
+        private final CacheType cacheType;
+        private final int itemCount;
+        private final long startNanos;
+        private final long endNanos;
+
+        private ChunkResult(CacheType cacheType, int itemCount, long startNanos, long endNanos) {
+            this.cacheType = cacheType;
+            this.itemCount = itemCount;
+            this.startNanos = startNanos;
+            this.endNanos = endNanos;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.rabbitmq.client.AMQP;
+import com.sportradar.utils.URN;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * A {@link ChannelMessageConsumer} which hands the received payloads over to a fixed number of
+ * single threaded lanes. Payloads are assigned to a lane by the sport event id from the routing key,
+ * so messages of the same event are processed in the order they were received while messages of
+ * different events are processed in parallel. Payloads without an event id (snapshot_complete, alive, ...) are
+ * barriers: they are processed once all the lanes processed the payloads received before them, and the lanes
+ * wait until they were processed - so a snapshot_complete can not overtake the snapshot messages still queued
+ * on the other lanes.
+ *
+ * Each lane has a bounded queue, when the queue is full the receiving (AMQP) thread is blocked until
+ * the lane catches up.
+ */
+@SuppressWarnings({ "ClassFanOutComplexity", "ConstantName", "IllegalCatch" })
+public class PartitionedChannelMessageConsumer implements ChannelMessageConsumer {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionedChannelMessageConsumer.class);
+
+    /**
+     * The consumer which processes the payloads on the lanes
+     */
+    private final ChannelMessageConsumer channelMessageConsumer;
+
+    /**
+     * A {@link RoutingKeyParser} used to extract the sport event id from the routing key
+     */
+    private final RoutingKeyParser routingKeyParser;
+
+    /**
+     * The SDK MDC context map, applied on the lane threads
+     */
+    private final Map<String, String> sdkMdcContextDescription;
+
+    /**
+     * The single threaded lanes
+     */
+    private final ThreadPoolExecutor[] lanes;
+
+    /**
+     * The back-pressure metrics of the lanes
+     */
+    private final DispatchLaneStatistics statistics;
+
+    /**
+     * Serializes the dispatching of the barriers, so all the lanes receive the barriers in the same order
+     */
+    private final Object barrierLock = new Object();
+
+    /**
+     * Initializes a new instance of the {@link PartitionedChannelMessageConsumer}
+     *
+     * @param channelMessageConsumer the consumer which processes the payloads on the lanes
+     * @param routingKeyParser a {@link RoutingKeyParser} used to extract the sport event id from the routing key
+     * @param laneCount the number of lanes
+     * @param laneQueueCapacity the max number of payloads waiting on a single lane
+     * @param threadFactory the factory used to create the lane threads
+     * @param sdkMdcContextDescription the SDK MDC context map
+     */
+    public PartitionedChannelMessageConsumer(
+        ChannelMessageConsumer channelMessageConsumer,
+        RoutingKeyParser routingKeyParser,
+        int laneCount,
+        int laneQueueCapacity,
+        ThreadFactory threadFactory,
+        Map<String, String> sdkMdcContextDescription
+    ) {
+        Preconditions.checkNotNull(channelMessageConsumer);
+        Preconditions.checkNotNull(routingKeyParser);
+        Preconditions.checkArgument(laneCount > 0, "laneCount must be greater than 0");
+        Preconditions.checkArgument(laneQueueCapacity > 0, "laneQueueCapacity must be greater than 0");
+        Preconditions.checkNotNull(threadFactory);
+        Preconditions.checkNotNull(sdkMdcContextDescription);
+
+        this.channelMessageConsumer = channelMessageConsumer;
+        this.routingKeyParser = routingKeyParser;
+        this.sdkMdcContextDescription = sdkMdcContextDescription;
+        this.lanes = new ThreadPoolExecutor[laneCount];
+
+        List<BlockingQueue<Runnable>> laneQueues = new ArrayList<>(laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(laneQueueCapacity);
+            laneQueues.add(queue);
+            lanes[i] =
+                new ThreadPoolExecutor(
+                    1,
+                    1,
+                    0L,
+                    TimeUnit.MILLISECONDS,
+                    queue,
+                    threadFactory,
+                    new BlockingDispatchPolicy()
+                );
+        }
+        this.statistics = new DispatchLaneStatistics(Collections.unmodifiableList(laneQueues), laneQueueCapacity);
+    }
+
+    @Override
+    public void open(MessageConsumer messageConsumer) {
+        channelMessageConsumer.open(messageConsumer);
+    }
+
+    /**
+     * Assigns the provided message payload to the lane of its sport event, without being notified once processed
+     */
+    @Override
+    public void onMessageReceived(String routingKey, byte[] body, AMQP.BasicProperties properties, long receivedAt) {
+        onMessageReceived(routingKey, body, properties, receivedAt, ProcessedMessageListener.NONE);
+    }
+
+    /**
+     * Assigns the provided message payload to the lane of its sport event, payloads without a sport event
+     * are dispatched as barriers to all the lanes. The listener is notified by the lane, once the payload
+     * was processed.
+     *
+     * @param routingKey - the source routing key of the payload
+     * @param body       - the message payload
+     * @param properties - the BasicProperties associated to the message
+     * @param receivedAt - the time when message was received (in milliseconds since EPOCH UTC)
+     * @param listener   - the {@link ProcessedMessageListener} notified once the payload was processed
+     */
+    @Override
+    public void onMessageReceived(
+        String routingKey,
+        byte[] body,
+        AMQP.BasicProperties properties,
+        long receivedAt,
+        ProcessedMessageListener listener
+    ) {
+        URN eventId = routingKeyParser.getRoutingKeyInfo(routingKey).getEventId();
+        Runnable task = () -> process(routingKey, body, properties, receivedAt, listener);
+
+        if (eventId == null && lanes.length > 1) {
+            dispatchBarrier(task);
+        } else {
+            int lane = eventId == null ? 0 : Math.floorMod(eventId.hashCode(), lanes.length);
+            lanes[lane].execute(task);
+        }
+        statistics.onMessageDispatched();
+    }
+
+    /**
+     * Queues the provided task on all the lanes, see {@link LaneBarrier}
+     *
+     * @param task the task processing the barrier payload
+     */
+    private void dispatchBarrier(Runnable task) {
+        LaneBarrier barrier = new LaneBarrier(task, lanes.length);
+        synchronized (barrierLock) {
+            try {
+                for (ThreadPoolExecutor lane : lanes) {
+                    lane.execute(barrier);
+                }
+            } catch (RejectedExecutionException e) {
+                // the lanes are closing, release the lanes which already reached the barrier
+                barrier.release();
+                throw e;
+            }
+        }
+    }
+
+    private void process(
+        String routingKey,
+        byte[] body,
+        AMQP.BasicProperties properties,
+        long receivedAt,
+        ProcessedMessageListener listener
+    ) {
+        MDC.setContextMap(sdkMdcContextDescription);
+        boolean successful = false;
+        try {
+            channelMessageConsumer.onMessageReceived(routingKey, body, properties, receivedAt);
+            successful = true;
+        } catch (Exception e) {
+            logger.error(
+                String.format(
+                    "An exception occurred while processing AMQP message. Routing key: '%s', body: '%s'",
+                    routingKey,
+                    body == null ? "null" : new String(body)
+                ),
+                e
+            );
+        } finally {
+            MDC.clear();
+        }
+        listener.onProcessed(successful);
+    }
+
+    /**
+     * Returns the back-pressure metrics of the lanes
+     *
+     * @return the back-pressure metrics of the lanes
+     */
+    public DispatchLaneStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Stops the lanes, the already queued payloads are still processed
+     */
+    public void close() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+    }
+
+    /**
+     * Blocks the dispatching thread until the lane queue has room for the payload
+     */
+    private class BlockingDispatchPolicy implements RejectedExecutionHandler {
+
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("Message dispatched to a closed lane");
+            }
+
+            long start = System.nanoTime();
+            try {
+                executor.getQueue().put(task);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for a lane", e);
+            }
+            statistics.onDispatchBlocked(System.nanoTime() - start);
+        }
+    }
+}
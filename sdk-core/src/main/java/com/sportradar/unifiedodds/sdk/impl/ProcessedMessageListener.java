@@ -0,0 +1,22 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+/**
+ * Defines a method invoked once a received message payload was processed
+ */
+public interface ProcessedMessageListener {
+    /**
+     * A listener which ignores the notifications
+     */
+    ProcessedMessageListener NONE = successful -> {};
+
+    /**
+     * Invoked once the message payload was processed
+     *
+     * @param successful true if the payload was processed; false if the processing failed
+     */
+    void onProcessed(boolean successful);
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.sportradar.utils.URN;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A {@link RoutingKeyParser} implementation which parses the routing key in a single pass over its characters,
+ * accepting exactly the same keys as the {@link RegexRoutingKeyParser}.
+ *
+ * Sport identifiers and event types are cached, so apart from the {@link RoutingKeyInfo} and the event
+ * {@link URN} no objects are created while parsing.
+ */
+@SuppressWarnings(
+    {
+        "BooleanExpressionComplexity",
+        "CyclomaticComplexity",
+        "ExecutableStatementCount",
+        "MagicNumber",
+        "MethodLength",
+        "NPathComplexity",
+        "ReturnCount",
+        "UnnecessaryParentheses",
+    }
+)
+public class SinglePassRoutingKeyParser implements RoutingKeyParser {
+
+    /**
+     * The prefix which is used to build sport {@link URN} identifiers
+     */
+    private static final String SPORT_ID_PREFIX = "sr:sport:";
+
+    /**
+     * The number of segments of a routing key without and with the optional node id
+     */
+    private static final int SEGMENTS = 7;
+    private static final int SEGMENTS_WITH_NODE_ID = 8;
+
+    /**
+     * The number of segments preceding the sport id segment
+     */
+    private static final int SPORT_SEGMENT = 4;
+
+    /**
+     * Sport ids up to this value are cached
+     */
+    private static final int SPORT_CACHE_SIZE = 1024;
+
+    /**
+     * The max number of distinct event types (sr:match, sr:stage,...) which are cached
+     */
+    private static final int EVENT_TYPE_CACHE_SIZE = 64;
+
+    /**
+     * The sport {@link URN}s indexed by the sport id
+     */
+    private final AtomicReferenceArray<URN> sports = new AtomicReferenceArray<>(SPORT_CACHE_SIZE);
+
+    /**
+     * The already seen event types, replaced as a whole when a new type is added
+     */
+    private volatile EventType[] eventTypes = new EventType[0];
+
+    /**
+     * Returns a {@link RoutingKeyInfo} containing the parsed routing key data
+     *
+     * @param routingKey - a complete RabbitMq routing key
+     * @return - a {@link RoutingKeyInfo} containing the parsed routing key data
+     */
+    @Override
+    public RoutingKeyInfo getRoutingKeyInfo(String routingKey) {
+        Preconditions.checkNotNull(routingKey);
+
+        int sportStart = -1;
+        int eventTypeStart = -1;
+        int eventIdStart = -1;
+        int nodeIdStart = -1;
+        int segments = 0;
+        int start = 0;
+        int length = routingKey.length();
+        for (int i = 0; i <= length; i++) {
+            if (i == length || routingKey.charAt(i) == '.') {
+                if (i == start || segments == SEGMENTS_WITH_NODE_ID) {
+                    return new RoutingKeyInfo(routingKey, true);
+                }
+                segments++;
+                start = i + 1;
+                if (segments == SPORT_SEGMENT) {
+                    sportStart = start;
+                } else if (segments == SPORT_SEGMENT + 1) {
+                    eventTypeStart = start;
+                } else if (segments == SPORT_SEGMENT + 2) {
+                    eventIdStart = start;
+                } else if (segments == SPORT_SEGMENT + 3) {
+                    nodeIdStart = start;
+                }
+            }
+        }
+        if (segments < SEGMENTS) {
+            return new RoutingKeyInfo(routingKey, true);
+        }
+        int sportEnd = eventTypeStart - 1;
+        int eventTypeEnd = eventIdStart - 1;
+        int eventIdEnd = segments == SEGMENTS_WITH_NODE_ID ? nodeIdStart - 1 : length;
+        boolean noSport = isDash(routingKey, sportStart, sportEnd);
+        boolean noEventType = isDash(routingKey, eventTypeStart, eventTypeEnd);
+        boolean noEventId = isDash(routingKey, eventIdStart, eventIdEnd);
+        if (
+            (!noSport && !isDigits(routingKey, sportStart, sportEnd)) ||
+            (!noEventType && !isEventType(routingKey, eventTypeStart, eventTypeEnd)) ||
+            (!noEventId && !isDigits(routingKey, eventIdStart, eventIdEnd)) ||
+            (segments == SEGMENTS_WITH_NODE_ID && !isNodeId(routingKey, nodeIdStart, length)) ||
+            (noSport && noEventId)
+        ) {
+            return new RoutingKeyInfo(routingKey, true);
+        }
+
+        URN sportId = noSport ? null : getSport(routingKey, sportStart, sportEnd);
+        URN eventId = null;
+        if (!noEventType && !noEventId) {
+            long id = parseId(routingKey, eventIdStart, eventIdEnd);
+            if (id > 0) {
+                EventType eventType = getEventType(routingKey, eventTypeStart, eventTypeEnd);
+                eventId = new URN(eventType.prefix, eventType.type, id);
+            }
+        }
+
+        return new RoutingKeyInfo(routingKey, sportId, eventId);
+    }
+
+    private URN getSport(String routingKey, int start, int end) {
+        long id = parseId(routingKey, start, end);
+        if (id <= 0 || id >= SPORT_CACHE_SIZE) {
+            // uncached and invalid ids are handled exactly as by the regex parser
+            return URN.parse(SPORT_ID_PREFIX + routingKey.substring(start, end));
+        }
+
+        URN sport = sports.get((int) id);
+        if (sport == null) {
+            sport = new URN("sr", "sport", id);
+            sports.set((int) id, sport);
+        }
+        return sport;
+    }
+
+    private EventType getEventType(String routingKey, int start, int end) {
+        EventType[] known = eventTypes;
+        for (EventType eventType : known) {
+            if (eventType.matches(routingKey, start, end)) {
+                return eventType;
+            }
+        }
+
+        EventType eventType = new EventType(routingKey.substring(start, end));
+        if (known.length < EVENT_TYPE_CACHE_SIZE) {
+            EventType[] extended = Arrays.copyOf(known, known.length + 1);
+            extended[known.length] = eventType;
+            eventTypes = extended;
+        }
+        return eventType;
+    }
+
+    /**
+     * Parses the digits between the provided indexes
+     *
+     * @return the parsed value, or -1 if the value does not fit into a long
+     */
+    private static long parseId(String value, int start, int end) {
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            int digit = value.charAt(i) - '0';
+            if (result > (Long.MAX_VALUE - digit) / 10) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    private static boolean isDash(String value, int start, int end) {
+        return end - start == 1 && value.charAt(start) == '-';
+    }
+
+    private static boolean isDigits(String value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isNodeId(String value, int start, int end) {
+        if (isDash(value, start, end)) {
+            return true;
+        }
+        int digitsStart = value.charAt(start) == '-' ? start + 1 : start;
+        return digitsStart < end && isDigits(value, digitsStart, end);
+    }
+
+    /**
+     * Checks the event type has the "prefix:type" format accepted by the {@link RegexRoutingKeyParser}
+     */
+    private static boolean isEventType(String value, int start, int end) {
+        int colon = value.indexOf(':', start);
+        if (colon <= start || colon >= end - 1) {
+            return false;
+        }
+        for (int i = start; i < colon; i++) {
+            char c = value.charAt(i);
+            if (c < 'a' || c > 'z') {
+                return false;
+            }
+        }
+        for (int i = colon + 1; i < end; i++) {
+            char c = value.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == '2')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A cached event type, e.g. sr:match
+     */
+    private static final class EventType {
+
+        private final String value;
+        private final String prefix;
+        private final String type;
+
+        EventType(String value) {
+            int colon = value.indexOf(':');
+            this.value = value;
+            this.prefix = value.substring(0, colon);
+            this.type = value.substring(colon + 1);
+        }
+
+        boolean matches(String routingKey, int start, int end) {
+            return end - start == value.length() && routingKey.regionMatches(start, value, 0, value.length());
+        }
+    }
+}
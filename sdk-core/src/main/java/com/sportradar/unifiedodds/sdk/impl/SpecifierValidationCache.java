@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the results of the market specifiers validation, keyed by the market id and the keys of the received
+ * specifiers (the specifier values do not affect the validation). The results must be invalidated once the
+ * market descriptions are reloaded.
+ */
+final class SpecifierValidationCache {
+
+    private static final char SPECIFIERS_DELIMITER = '|';
+    private static final char KEY_VALUE_SEPARATOR = '=';
+
+    private final Cache<String, Boolean> results;
+    private final Set<Integer> validatedMarkets = ConcurrentHashMap.newKeySet();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Initializes a new {@link SpecifierValidationCache}
+     *
+     * @param maxResults the max number of cached validation results
+     */
+    SpecifierValidationCache(long maxResults) {
+        Preconditions.checkArgument(maxResults > 0);
+
+        this.results = CacheBuilder.newBuilder().maximumSize(maxResults).build();
+    }
+
+    /**
+     * Builds the key identifying the validation result of the provided specifiers. Only the well-formed
+     * specifiers (non-empty <code>k=v</code> pairs separated by <code>|</code>) have a key, so the malformed
+     * ones are always validated and reported.
+     *
+     * @param marketId the associated market id
+     * @param receivedSpecifiers the specifiers received as a part of a message
+     * @return the key identifying the validation result or a null reference if the specifiers are malformed
+     */
+    static String buildKey(int marketId, String receivedSpecifiers) {
+        Preconditions.checkNotNull(receivedSpecifiers);
+
+        StringBuilder key = new StringBuilder(receivedSpecifiers.length()).append(marketId);
+        int start = 0;
+        while (start <= receivedSpecifiers.length()) {
+            int end = receivedSpecifiers.indexOf(SPECIFIERS_DELIMITER, start);
+            if (end < 0) {
+                end = receivedSpecifiers.length();
+            }
+            int separator = receivedSpecifiers.indexOf(KEY_VALUE_SEPARATOR, start);
+            if (
+                separator < 0 ||
+                separator >= end - 1 ||
+                receivedSpecifiers.lastIndexOf(KEY_VALUE_SEPARATOR, end - 1) != separator
+            ) {
+                return null;
+            }
+            key.append(SPECIFIERS_DELIMITER).append(receivedSpecifiers, start, separator);
+            start = end + 1;
+        }
+        return key.toString();
+    }
+
+    /**
+     * Returns the cached validation result
+     *
+     * @param key the key built by {@link #buildKey(int, String)}
+     * @return the cached validation result or a null reference if the result is not cached
+     */
+    Boolean getResult(String key) {
+        return results.getIfPresent(key);
+    }
+
+    /**
+     * Indicates if the specifiers of the market passed the validation since the results were last invalidated
+     *
+     * @param marketId the market id
+     * @return true if the specifiers of the market passed the validation; otherwise false
+     */
+    boolean isValidatedMarket(int marketId) {
+        return validatedMarkets.contains(marketId);
+    }
+
+    /**
+     * Returns the generation of the cached results, which is changed each time the results are invalidated.
+     * The generation should be read before the market description used for the validation is retrieved.
+     *
+     * @return the generation of the cached results
+     */
+    long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Caches the validation result, unless the results were invalidated while the specifiers were being validated
+     *
+     * @param resultGeneration the generation of the cached results read before the specifiers were validated
+     * @param marketId the associated market id
+     * @param key the key built by {@link #buildKey(int, String)}
+     * @param valid the validation result
+     */
+    void putResult(long resultGeneration, int marketId, String key, boolean valid) {
+        Preconditions.checkNotNull(key);
+
+        results.put(key, valid);
+        if (valid) {
+            validatedMarkets.add(marketId);
+        }
+        if (generation.get() != resultGeneration) {
+            results.invalidate(key);
+            validatedMarkets.remove(marketId);
+        }
+    }
+
+    /**
+     * Removes all the cached results, so the specifiers are validated against the reloaded market descriptions
+     */
+    void invalidate() {
+        generation.incrementAndGet();
+        results.invalidateAll();
+        validatedMarkets.clear();
+    }
+}
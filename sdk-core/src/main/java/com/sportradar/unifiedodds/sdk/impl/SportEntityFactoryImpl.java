@@ -45,6 +45,12 @@ import org.slf4j.LoggerFactory;
 public class SportEntityFactoryImpl implements SportEntityFactory {
 
     private static final Logger logger = LoggerFactory.getLogger(SportEntityFactoryImpl.class);
+
+    /**
+     * The max number of built sport event entities kept for reuse
+     */
+    private static final long MAX_CACHED_SPORT_EVENTS = 10_000;
+
     /**
      * A {@link SportsDataCache} instance used to retrieve sport related info
      */
@@ -80,6 +86,11 @@ public class SportEntityFactoryImpl implements SportEntityFactory {
      */
     private final MappingTypeProvider mappingTypeProvider;
 
+    /**
+     * The built sport event entities, reused until the associated event is purged from the {@link SportEventCache}
+     */
+    private final SportEventEntityCache sportEventEntities = new SportEventEntityCache(MAX_CACHED_SPORT_EVENTS);
+
     private final List<URN> soccerSportUrns = new ArrayList<URN>(
         Arrays.asList(URN.parse("sr:sport:1"), URN.parse("sr:sport:137"))
     );
@@ -117,6 +128,8 @@ public class SportEntityFactoryImpl implements SportEntityFactory {
         this.mappingTypeProvider = mappingTypeProvider;
         this.exceptionHandlingStrategy = oddsFeedConfiguration.getExceptionHandlingStrategy();
         this.defaultLocale = oddsFeedConfiguration.getDefaultLocale();
+
+        sportEventCache.addPurgeListener(sportEventEntities::invalidate);
     }
 
     /**
@@ -431,7 +444,14 @@ public class SportEntityFactoryImpl implements SportEntityFactory {
         Optional<Class> mappingType = mappingTypeProvider.getMappingType(id);
 
         if (mappingType.isPresent()) {
-            return buildEntityWithType(mappingType.get(), id, sportId, locales);
+            SportEvent cachedEntity = sportEventEntities.get(id, sportId, locales);
+            if (cachedEntity != null) {
+                return cachedEntity;
+            }
+
+            SportEvent entity = buildEntityWithType(mappingType.get(), id, sportId, locales);
+            sportEventEntities.put(id, sportId, locales, entity);
+            return entity;
         }
 
         if (buildBasicEventImpl) {
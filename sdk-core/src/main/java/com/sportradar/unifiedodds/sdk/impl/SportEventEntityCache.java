@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.sportradar.unifiedodds.sdk.entities.SportEvent;
+import com.sportradar.utils.URN;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A bounded cache of the built {@link SportEvent} entities. The entities are views over the cached sport event
+ * data, so the entity built for an event (with the same sport id and locales) can be shared by all the feed
+ * messages of that event, instead of building a new entity for each message.
+ */
+final class SportEventEntityCache {
+
+    private final Cache<URN, Entry> entities;
+
+    /**
+     * Initializes a new {@link SportEventEntityCache}
+     *
+     * @param maxSize the max number of cached entities
+     */
+    SportEventEntityCache(long maxSize) {
+        Preconditions.checkArgument(maxSize > 0);
+
+        this.entities = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+    }
+
+    /**
+     * Returns the entity cached for the provided event, sport id and locales
+     *
+     * @param id the id of the event
+     * @param sportId the sport id used to build the entity, or null if not provided
+     * @param locales the locales used to build the entity
+     * @return the cached entity, or null if no matching entity is cached
+     */
+    SportEvent get(URN id, URN sportId, List<Locale> locales) {
+        Entry entry = entities.getIfPresent(id);
+        return entry != null && entry.matches(sportId, locales) ? entry.entity : null;
+    }
+
+    /**
+     * Caches the entity built for the provided event, sport id and locales
+     *
+     * @param id the id of the event
+     * @param sportId the sport id used to build the entity, or null if not provided
+     * @param locales the locales used to build the entity
+     * @param entity the built entity
+     */
+    void put(URN id, URN sportId, List<Locale> locales, SportEvent entity) {
+        entities.put(id, new Entry(sportId, ImmutableList.copyOf(locales), entity));
+    }
+
+    /**
+     * Removes the entity cached for the provided event
+     *
+     * @param id the id of the event
+     */
+    void invalidate(URN id) {
+        entities.invalidate(id);
+    }
+
+    /**
+     * Returns the number of cached entities
+     *
+     * @return the number of cached entities
+     */
+    long size() {
+        return entities.size();
+    }
+
+    private static final class Entry {
+
+        private final URN sportId;
+        private final List<Locale> locales;
+        private final SportEvent entity;
+
+        private Entry(URN sportId, List<Locale> locales, SportEvent entity) {
+            this.sportId = sportId;
+            this.locales = locales;
+            this.entity = entity;
+        }
+
+        private boolean matches(URN requestedSportId, List<Locale> requestedLocales) {
+            boolean sameLocales = locales == requestedLocales || locales.equals(requestedLocales);
+            return sameLocales && Objects.equals(sportId, requestedSportId);
+        }
+    }
+}
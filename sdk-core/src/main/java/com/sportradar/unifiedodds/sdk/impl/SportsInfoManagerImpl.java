@@ -12,6 +12,9 @@ import com.sportradar.uf.sportsapi.datamodel.SAPIMatchTimelineEndpoint;
 import com.sportradar.unifiedodds.sdk.*;
 import com.sportradar.unifiedodds.sdk.caching.*;
 import com.sportradar.unifiedodds.sdk.caching.ci.EventTimelineCI;
+import com.sportradar.unifiedodds.sdk.caching.exportable.CacheImportReport;
+import com.sportradar.unifiedodds.sdk.caching.exportable.CacheSnapshotReader;
+import com.sportradar.unifiedodds.sdk.caching.exportable.CacheSnapshotWriter;
 import com.sportradar.unifiedodds.sdk.caching.exportable.CacheType;
 import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableCI;
 import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableSdkCache;
@@ -23,7 +26,15 @@ import com.sportradar.unifiedodds.sdk.exceptions.internal.IllegalCacheStateExcep
 import com.sportradar.unifiedodds.sdk.exceptions.internal.ObjectNotFoundException;
 import com.sportradar.unifiedodds.sdk.impl.entities.EventTimelineImpl;
 import com.sportradar.utils.URN;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import javax.inject.Inject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +45,7 @@ import org.slf4j.LoggerFactory;
 @SuppressWarnings(
     {
         "AbbreviationAsWordInName",
+        "ClassDataAbstractionCoupling",
         "ClassFanOutComplexity",
         "ConstantName",
         "IllegalCatch",
@@ -60,6 +72,11 @@ public class SportsInfoManagerImpl implements SportsInfoManager {
      */
     private static final Logger logger = LoggerFactory.getLogger(SportsInfoManagerImpl.class);
 
+    /**
+     * The number of snapshot items imported into caches at once
+     */
+    private static final int SNAPSHOT_IMPORT_BATCH_SIZE = 10000;
+
     /**
      * A {@link SportEntityFactory} instance used to build sport related instances
      */
@@ -85,6 +102,11 @@ public class SportsInfoManagerImpl implements SportsInfoManager {
      */
     private final SportsDataCache sportsDataCache;
 
+    /**
+     * The max number of threads used to import the cache items
+     */
+    private final int cacheImportParallelism;
+
     /**
      * A {@link Locale} which is the desired default locale
      */
@@ -144,6 +166,7 @@ public class SportsInfoManagerImpl implements SportsInfoManager {
         this.sportEventStatusCache = sportEventStatusCache;
         this.sportsDataCache = sportsDataCache;
         this.dataRouterManager = dataRouterManager;
+        this.cacheImportParallelism = config.getCacheImportParallelism();
     }
 
     /**
@@ -626,6 +649,21 @@ public class SportsInfoManagerImpl implements SportsInfoManager {
         }
     }
 
+    @Override
+    public CompletableFuture<Competition> getCompetitionAsync(URN id) {
+        Preconditions.checkNotNull(id);
+
+        return internalGetCompetitionAsync(id, desiredLocales);
+    }
+
+    @Override
+    public CompletableFuture<Competition> getCompetitionAsync(URN id, Locale locale) {
+        Preconditions.checkNotNull(id);
+        Preconditions.checkNotNull(locale);
+
+        return internalGetCompetitionAsync(id, Lists.newArrayList(locale));
+    }
+
     /**
      * Returns a {@link Competitor} representing the specified competitor
      * (the returned data is translated in the configured {@link Locale}s using the {@link OddsFeedConfiguration})
@@ -1071,6 +1109,50 @@ public class SportsInfoManagerImpl implements SportsInfoManager {
         return exportables;
     }
 
+    /**
+     * Exports current items in the cache as a compact snapshot. The items are written as they are exported
+     * from the caches, without collecting them to a list first
+     *
+     * @param cacheType specifies what type of cache items will be exported
+     * @param output the stream to which the snapshot is written, it is closed once the snapshot is written
+     * @throws IOException if the snapshot could not be written
+     */
+    @Override
+    public void cacheExport(EnumSet<CacheType> cacheType, OutputStream output) throws IOException {
+        Preconditions.checkNotNull(cacheType);
+        Preconditions.checkNotNull(output);
+
+        Stopwatch timer = Stopwatch.createStarted();
+        try (CacheSnapshotWriter writer = new CacheSnapshotWriter(output)) {
+            Consumer<ExportableCI> itemWriter = item -> {
+                try {
+                    writer.write(item);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            };
+            try {
+                if (cacheType.contains(CacheType.SportData)) {
+                    ((ExportableSdkCache) sportsDataCache).exportItemsTo(itemWriter);
+                }
+                if (cacheType.contains(CacheType.Profile)) {
+                    ((ExportableSdkCache) profileCache).exportItemsTo(itemWriter);
+                }
+                if (cacheType.contains(CacheType.SportEvent)) {
+                    ((ExportableSdkCache) sportEventCache).exportItemsTo(itemWriter);
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.finish();
+            logger.info(
+                "Exported {} cache items to a snapshot in {} ms",
+                writer.getItemCount(),
+                timer.elapsed(TimeUnit.MILLISECONDS)
+            );
+        }
+    }
+
     /**
      * Imports provided items into caches
      *
@@ -1078,9 +1160,65 @@ public class SportsInfoManagerImpl implements SportsInfoManager {
      */
     @Override
     public void cacheImport(List<ExportableCI> items) {
-        ((ExportableSdkCache) sportsDataCache).importItems(items);
-        ((ExportableSdkCache) profileCache).importItems(items);
-        ((ExportableSdkCache) sportEventCache).importItems(items);
+        cacheImportWithReport(items);
+    }
+
+    /**
+     * Imports the items of a snapshot written by {@link #cacheExport(EnumSet, OutputStream)} into caches. The items
+     * are imported in batches while the snapshot is being read
+     *
+     * @param input the stream from which the snapshot is read, it is closed once the snapshot is read
+     * @return the number of imported items
+     * @throws IOException if the snapshot could not be read
+     */
+    @Override
+    public int cacheImport(InputStream input) throws IOException {
+        Preconditions.checkNotNull(input);
+
+        Stopwatch timer = Stopwatch.createStarted();
+        int importedCount = 0;
+        try (CacheSnapshotReader reader = new CacheSnapshotReader(input)) {
+            List<ExportableCI> batch = new ArrayList<>(SNAPSHOT_IMPORT_BATCH_SIZE);
+            for (ExportableCI item = reader.read(); item != null; item = reader.read()) {
+                batch.add(item);
+                if (batch.size() == SNAPSHOT_IMPORT_BATCH_SIZE) {
+                    cacheImport(batch);
+                    importedCount += batch.size();
+                    batch.clear();
+                }
+            }
+            cacheImport(batch);
+            importedCount += batch.size();
+        }
+        logger.info(
+            "Imported {} cache items from a snapshot in {} ms",
+            importedCount,
+            timer.elapsed(TimeUnit.MILLISECONDS)
+        );
+        return importedCount;
+    }
+
+    /**
+     * Imports provided items into caches and reports the number of items imported into each cache, the time
+     * spent importing them and the resulting cache status. The items are partitioned by cache and item type
+     * and imported concurrently (see {@link SDKInternalConfiguration#getCacheImportParallelism()})
+     *
+     * @param items List of {@link ExportableCI} containing the items to be imported
+     * @return the {@link CacheImportReport} of each cache
+     */
+    @Override
+    public Map<CacheType, CacheImportReport> cacheImportWithReport(List<ExportableCI> items) {
+        Preconditions.checkNotNull(items);
+
+        Map<CacheType, ExportableSdkCache> caches = new EnumMap<>(CacheType.class);
+        caches.put(CacheType.SportData, (ExportableSdkCache) sportsDataCache);
+        caches.put(CacheType.Profile, (ExportableSdkCache) profileCache);
+        caches.put(CacheType.SportEvent, (ExportableSdkCache) sportEventCache);
+
+        Map<CacheType, CacheImportReport> reports = new PartitionedCacheImporter(caches, cacheImportParallelism)
+            .importItems(items);
+        reports.values().forEach(report -> logger.info("Cache import completed: {}", report));
+        return reports;
     }
 
     /**
@@ -1307,6 +1445,44 @@ public class SportsInfoManagerImpl implements SportsInfoManager {
         }
     }
 
+    /**
+     * Requests the missing summaries without blocking the calling thread, and builds the competition from the
+     * cache once they are received
+     */
+    private CompletableFuture<Competition> internalGetCompetitionAsync(URN id, List<Locale> locales) {
+        Stopwatch timer = Stopwatch.createStarted();
+        SportEventCI cachedItem = sportEventCache.getEventCacheItemIfPresent(id);
+        CompletableFuture<?>[] summaryRequests = cachedItem != null && cachedItem.hasTranslationsLoadedFor(locales)
+            ? new CompletableFuture<?>[0]
+            : locales
+                .stream()
+                .map(locale -> dataRouterManager.requestSummaryEndpointAsync(locale, id, null))
+                .toArray(CompletableFuture<?>[]::new);
+
+        return CompletableFuture
+            .allOf(summaryRequests)
+            .handle((ignored, failure) ->
+                failure == null
+                    ? completeGetCompetitionAsync(id, locales, timer)
+                    : handleAsyncException("getCompetitionAsync[" + id + "]", failure)
+            );
+    }
+
+    private Competition completeGetCompetitionAsync(URN id, List<Locale> locales, Stopwatch timer) {
+        Competition competition = internalGetCompetition(id, locales);
+        clientInteractionLog.info(
+            "SportsInfoManager.getCompetitionAsync({}) completed. Execution time: {}",
+            id,
+            timer.stop()
+        );
+        return competition;
+    }
+
+    private <T> T handleAsyncException(String request, Throwable failure) {
+        Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+        return handleException(request, cause instanceof Exception ? (Exception) cause : new IllegalStateException(cause));
+    }
+
     private Competitor internalGetCompetitor(URN id, List<Locale> locales) {
         try {
             return sportEntityFactory.buildCompetitor(id, null, null, null, null, locales);
@@ -0,0 +1,599 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.inject.Inject;
+import com.sportradar.uf.datamodel.*;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.DeserializationException;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+import java.io.ByteArrayInputStream;
+import javax.xml.bind.JAXBException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link MessageDecoder} implementation which decodes the high-volume feed messages (odds_change,
+ * bet_stop, bet_settlement and alive) with a hand-written StAX pull parser. The produced objects are the
+ * same JAXB generated types the {@link JaxbMessageDecoder} produces.
+ * <p>
+ * The rarely used and attribute heavy <code>sport_event_status</code> sub-tree is handed over to JAXB,
+ * all other message types and any payload the streaming parser can not fully understand are decoded
+ * by the {@link JaxbMessageDecoder}, so the outcome is always equal to the plain JAXB result.
+ * <p>
+ * The StAX implementation is resolved through {@link XMLInputFactory#newFactory()}, so a faster
+ * implementation (ex: Aalto) is picked up automatically when available on the classpath.
+ */
+@SuppressWarnings(
+    {
+        "BooleanExpressionComplexity",
+        "ClassDataAbstractionCoupling",
+        "ClassFanOutComplexity",
+        "ConstantName",
+        "CyclomaticComplexity",
+        "IllegalCatch",
+        "MethodLength",
+        "MultipleStringLiterals",
+        "ReturnCount",
+        "UnnecessaryParentheses",
+    }
+)
+public class StreamingMessageDecoder implements MessageDecoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamingMessageDecoder.class);
+
+    private static final XMLInputFactory inputFactory = createInputFactory();
+
+    /**
+     * The decoder used for message types which are not handled by the streaming parser
+     */
+    private final JaxbMessageDecoder jaxbDecoder;
+
+    /**
+     * @param jaxbDecoder the decoder used for message types which are not handled by the streaming parser
+     */
+    @Inject
+    public StreamingMessageDecoder(JaxbMessageDecoder jaxbDecoder) {
+        Preconditions.checkNotNull(jaxbDecoder);
+
+        this.jaxbDecoder = jaxbDecoder;
+    }
+
+    /**
+     * Decodes the provided message payload
+     *
+     * @param body - the raw message payload
+     * @return - the decoded {@link UnmarshalledMessage}
+     * @throws DeserializationException if the payload could not be decoded
+     */
+    @Override
+    public UnmarshalledMessage decode(byte[] body) throws DeserializationException {
+        if (body != null && body.length > 0) {
+            try {
+                UnmarshalledMessage message = decodeStreaming(body);
+                if (message != null) {
+                    return message;
+                }
+            } catch (XMLStreamException | JAXBException | RuntimeException e) {
+                logger.debug("Streaming decoding of message failed, falling back to JAXB. ex:", e);
+            }
+        }
+
+        return jaxbDecoder.decode(body);
+    }
+
+    /**
+     * Decodes the supported message types
+     *
+     * @param body the raw message payload
+     * @return the decoded message or null if the root element is not supported by the streaming parser
+     */
+    private UnmarshalledMessage decodeStreaming(byte[] body) throws XMLStreamException, JAXBException {
+        XMLStreamReader reader = inputFactory.createXMLStreamReader(new ByteArrayInputStream(body));
+        try {
+            reader.nextTag();
+            String namespace = reader.getNamespaceURI();
+            if (namespace != null && !namespace.isEmpty()) {
+                return null;
+            }
+
+            switch (reader.getLocalName()) {
+                case "odds_change":
+                    return readOddsChange(reader);
+                case "bet_stop":
+                    return readBetStop(reader);
+                case "bet_settlement":
+                    return readBetSettlement(reader);
+                case "alive":
+                    return readAlive(reader);
+                default:
+                    return null;
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    private UFOddsChange readOddsChange(XMLStreamReader reader) throws XMLStreamException, JAXBException {
+        UFOddsChange message = new UFOddsChange();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (attributeName(reader, i)) {
+                case "product":
+                    message.setProduct(parseInt(value));
+                    break;
+                case "event_id":
+                    message.setEventId(value);
+                    break;
+                case "timestamp":
+                    message.setTimestamp(parseLong(value));
+                    break;
+                case "request_id":
+                    message.setRequestId(parseLong(value));
+                    break;
+                case "odds_change_reason":
+                    message.setOddsChangeReason(UFOddsChangeReason.fromValue(parseInt(value)));
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        int event = reader.next();
+        while (event != XMLStreamConstants.END_ELEMENT) {
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "sport_event_status":
+                        message.setSportEventStatus(
+                            jaxbDecoder.getUnmarshaller().unmarshal(reader, UFSportEventStatus.class).getValue()
+                        );
+                        // the JAXB unmarshaller already moved the reader beyond the sub-tree end tag
+                        event = reader.getEventType();
+                        continue;
+                    case "odds_generation_properties":
+                        message.setOddsGenerationProperties(readOddsGenerationProperties(reader));
+                        break;
+                    case "odds":
+                        message.setOdds(readOdds(reader));
+                        break;
+                    default:
+                        skipElement(reader);
+                        break;
+                }
+            }
+            event = reader.next();
+        }
+
+        return message;
+    }
+
+    private UFOddsGenerationProperties readOddsGenerationProperties(XMLStreamReader reader)
+        throws XMLStreamException {
+        UFOddsGenerationProperties properties = new UFOddsGenerationProperties();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (attributeName(reader, i)) {
+                case "expected_totals":
+                    properties.setExpectedTotals(parseDouble(value));
+                    break;
+                case "expected_supremacy":
+                    properties.setExpectedSupremacy(parseDouble(value));
+                    break;
+                default:
+                    break;
+            }
+        }
+        skipElement(reader);
+
+        return properties;
+    }
+
+    private UFOddsChange.UFOdds readOdds(XMLStreamReader reader) throws XMLStreamException {
+        UFOddsChange.UFOdds odds = new UFOddsChange.UFOdds();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (attributeName(reader, i)) {
+                case "betting_status":
+                    odds.setBettingStatus(parseInt(value));
+                    break;
+                case "betstop_reason":
+                    odds.setBetstopReason(parseInt(value));
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        int event = reader.next();
+        while (event != XMLStreamConstants.END_ELEMENT) {
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if ("market".equals(reader.getLocalName())) {
+                    odds.getMarket().add(readOddsChangeMarket(reader));
+                } else {
+                    skipElement(reader);
+                }
+            }
+            event = reader.next();
+        }
+
+        return odds;
+    }
+
+    private UFOddsChangeMarket readOddsChangeMarket(XMLStreamReader reader) throws XMLStreamException {
+        UFOddsChangeMarket market = new UFOddsChangeMarket();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (attributeName(reader, i)) {
+                case "id":
+                    market.setId(parseInt(value));
+                    break;
+                case "specifiers":
+                    market.setSpecifiers(value);
+                    break;
+                case "extended_specifiers":
+                    market.setExtendedSpecifiers(value);
+                    break;
+                case "favourite":
+                    market.setFavourite(UFFavourite.fromValue(parseInt(value)));
+                    break;
+                case "status":
+                    market.setStatus(UFMarketStatus.fromValue(parseInt(value)));
+                    break;
+                case "cashout_status":
+                    market.setCashoutStatus(parseInt(value));
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        int event = reader.next();
+        while (event != XMLStreamConstants.END_ELEMENT) {
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "outcome":
+                        market.getOutcome().add(readOddsChangeOutcome(reader));
+                        break;
+                    case "market_metadata":
+                        market.setMarketMetadata(readMarketMetadata(reader));
+                        break;
+                    default:
+                        skipElement(reader);
+                        break;
+                }
+            }
+            event = reader.next();
+        }
+
+        return market;
+    }
+
+    private UFOddsChangeMarket.UFOutcome readOddsChangeOutcome(XMLStreamReader reader)
+        throws XMLStreamException {
+        UFOddsChangeMarket.UFOutcome outcome = new UFOddsChangeMarket.UFOutcome();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (attributeName(reader, i)) {
+                case "id":
+                    outcome.setId(value);
+                    break;
+                case "odds":
+                    outcome.setOdds(parseDouble(value));
+                    break;
+                case "probabilities":
+                    outcome.setProbabilities(parseDouble(value));
+                    break;
+                case "win_probabilities":
+                    outcome.setWinProbabilities(parseDouble(value));
+                    break;
+                case "lose_probabilities":
+                    outcome.setLoseProbabilities(parseDouble(value));
+                    break;
+                case "refund_probabilities":
+                    outcome.setRefundProbabilities(parseDouble(value));
+                    break;
+                case "half_win_probabilities":
+                    outcome.setHalfWinProbabilities(parseDouble(value));
+                    break;
+                case "half_lose_probabilities":
+                    outcome.setHalfLoseProbabilities(parseDouble(value));
+                    break;
+                case "active":
+                    outcome.setActive(UFOutcomeActive.fromValue(parseInt(value)));
+                    break;
+                case "team":
+                    outcome.setTeam(parseInt(value));
+                    break;
+                default:
+                    break;
+            }
+        }
+        skipElement(reader);
+
+        return outcome;
+    }
+
+    private UFMarketMetadata readMarketMetadata(XMLStreamReader reader) throws XMLStreamException {
+        UFMarketMetadata metadata = new UFMarketMetadata();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (attributeName(reader, i)) {
+                case "next_betstop":
+                    metadata.setNextBetstop(parseLong(value));
+                    break;
+                case "start_time":
+                    metadata.setStartTime(parseLong(value));
+                    break;
+                case "end_time":
+                    metadata.setEndTime(parseLong(value));
+                    break;
+                case "aams_id":
+                    metadata.setAamsId(parseLong(value));
+                    break;
+                default:
+                    break;
+            }
+        }
+        skipElement(reader);
+
+        return metadata;
+    }
+
+    private UFBetStop readBetStop(XMLStreamReader reader) throws XMLStreamException {
+        UFBetStop message = new UFBetStop();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (attributeName(reader, i)) {
+                case "product":
+                    message.setProduct(parseInt(value));
+                    break;
+                case "event_id":
+                    message.setEventId(value);
+                    break;
+                case "timestamp":
+                    message.setTimestamp(parseLong(value));
+                    break;
+                case "request_id":
+                    message.setRequestId(parseLong(value));
+                    break;
+                case "groups":
+                    message.setGroups(value);
+                    break;
+                case "market_status":
+                    message.setMarketStatus(UFMarketStatus.fromValue(parseInt(value)));
+                    break;
+                default:
+                    break;
+            }
+        }
+        skipElement(reader);
+
+        return message;
+    }
+
+    private UFBetSettlement readBetSettlement(XMLStreamReader reader) throws XMLStreamException {
+        UFBetSettlement message = new UFBetSettlement();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (attributeName(reader, i)) {
+                case "product":
+                    message.setProduct(parseInt(value));
+                    break;
+                case "event_id":
+                    message.setEventId(value);
+                    break;
+                case "timestamp":
+                    message.setTimestamp(parseLong(value));
+                    break;
+                case "request_id":
+                    message.setRequestId(parseLong(value));
+                    break;
+                case "certainty":
+                    message.setCertainty(parseInt(value));
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        int event = reader.next();
+        while (event != XMLStreamConstants.END_ELEMENT) {
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if ("outcomes".equals(reader.getLocalName())) {
+                    message.setOutcomes(readBetSettlementOutcomes(reader));
+                } else {
+                    skipElement(reader);
+                }
+            }
+            event = reader.next();
+        }
+
+        return message;
+    }
+
+    private UFBetSettlement.UFOutcomes readBetSettlementOutcomes(XMLStreamReader reader)
+        throws XMLStreamException {
+        UFBetSettlement.UFOutcomes outcomes = new UFBetSettlement.UFOutcomes();
+
+        int event = reader.next();
+        while (event != XMLStreamConstants.END_ELEMENT) {
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if ("market".equals(reader.getLocalName())) {
+                    outcomes.getMarket().add(readBetSettlementMarket(reader));
+                } else {
+                    skipElement(reader);
+                }
+            }
+            event = reader.next();
+        }
+
+        return outcomes;
+    }
+
+    private UFBetSettlementMarket readBetSettlementMarket(XMLStreamReader reader) throws XMLStreamException {
+        UFBetSettlementMarket market = new UFBetSettlementMarket();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (attributeName(reader, i)) {
+                case "id":
+                    market.setId(parseInt(value));
+                    break;
+                case "specifiers":
+                    market.setSpecifiers(value);
+                    break;
+                case "extended_specifiers":
+                    market.setExtendedSpecifiers(value);
+                    break;
+                case "void_reason":
+                    market.setVoidReason(parseInt(value));
+                    break;
+                case "result":
+                    market.setResult(value);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        int event = reader.next();
+        while (event != XMLStreamConstants.END_ELEMENT) {
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if ("outcome".equals(reader.getLocalName())) {
+                    market.getOutcome().add(readBetSettlementOutcome(reader));
+                } else {
+                    skipElement(reader);
+                }
+            }
+            event = reader.next();
+        }
+
+        return market;
+    }
+
+    private UFBetSettlementMarket.UFOutcome readBetSettlementOutcome(XMLStreamReader reader)
+        throws XMLStreamException {
+        UFBetSettlementMarket.UFOutcome outcome = new UFBetSettlementMarket.UFOutcome();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (attributeName(reader, i)) {
+                case "id":
+                    outcome.setId(value);
+                    break;
+                case "result":
+                    outcome.setResult(UFResult.fromValue(parseInt(value)));
+                    break;
+                case "void_factor":
+                    outcome.setVoidFactor(UFVoidFactor.fromValue(parseDouble(value)));
+                    break;
+                case "dead_heat_factor":
+                    outcome.setDeadHeatFactor(parseDouble(value));
+                    break;
+                default:
+                    break;
+            }
+        }
+        skipElement(reader);
+
+        return outcome;
+    }
+
+    private UFAlive readAlive(XMLStreamReader reader) throws XMLStreamException {
+        UFAlive message = new UFAlive();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (attributeName(reader, i)) {
+                case "product":
+                    message.setProduct(parseInt(value));
+                    break;
+                case "timestamp":
+                    message.setTimestamp(parseLong(value));
+                    break;
+                case "subscribed":
+                    message.setSubscribed(parseInt(value));
+                    break;
+                default:
+                    break;
+            }
+        }
+        skipElement(reader);
+
+        return message;
+    }
+
+    /**
+     * Returns the local name of the attribute on the provided index, attributes bound to a namespace
+     * (ex: xsi:*) are not part of the feed schema and are reported with an empty name
+     */
+    private static String attributeName(XMLStreamReader reader, int index) {
+        String namespace = reader.getAttributeNamespace(index);
+        if (namespace != null && !namespace.isEmpty()) {
+            return "";
+        }
+        return reader.getAttributeLocalName(index);
+    }
+
+    /**
+     * Moves the reader, currently positioned on a start element, to the matching end element
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static int parseInt(String value) {
+        return Integer.parseInt(value.trim());
+    }
+
+    private static long parseLong(String value) {
+        return Long.parseLong(value.trim());
+    }
+
+    /**
+     * Parses the provided xs:double lexical value the same way the JAXB runtime does
+     */
+    private static double parseDouble(String value) {
+        String trimmed = value.trim();
+        switch (trimmed) {
+            case "NaN":
+                return Double.NaN;
+            case "INF":
+                return Double.POSITIVE_INFINITY;
+            case "-INF":
+                return Double.NEGATIVE_INFINITY;
+            default:
+                if (
+                    trimmed.isEmpty() ||
+                    !isDigitOrPeriodOrSign(trimmed.charAt(0)) ||
+                    !isDigitOrPeriodOrSign(trimmed.charAt(trimmed.length() - 1))
+                ) {
+                    throw new NumberFormatException(trimmed);
+                }
+                return Double.parseDouble(trimmed);
+        }
+    }
+
+    private static boolean isDigitOrPeriodOrSign(char ch) {
+        return (ch >= '0' && ch <= '9') || ch == '+' || ch == '-' || ch == '.';
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        return factory;
+    }
+}
@@ -4,64 +4,72 @@
 
 package com.sportradar.unifiedodds.sdk.impl;
 
-import com.sportradar.uf.datamodel.*;
+import com.sportradar.unifiedodds.sdk.instrumentation.FeedMessageInstrumentation;
+import com.sportradar.unifiedodds.sdk.instrumentation.FeedMessageStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-@SuppressWarnings(
-    {
-        "ConstantName",
-        "CyclomaticComplexity",
-        "DeclarationOrder",
-        "MagicNumber",
-        "NPathComplexity",
-        "NeedBraces",
-        "OneStatementPerLine",
-        "UnnecessaryParentheses",
-    }
-)
+/**
+ * The SDK statistics exposed trough JMX. The counters are updated concurrently by the threads receiving the
+ * messages, so they are backed by {@link LongAdder}s which do not lose updates and do not contend on a single
+ * memory location. The processing latencies are recorded per message kind and processing stage, and are also
+ * reported to the user provided {@link FeedMessageInstrumentation}, if any.
+ */
+@SuppressWarnings({ "ClassDataAbstractionCoupling", "ConstantName", "CyclomaticComplexity", "IllegalCatch" })
 public class UnifiedOddsStatistics implements UnifiedOddsStatisticsMBean {
 
+    private static final Logger logger = LoggerFactory.getLogger(UnifiedOddsStatistics.class);
     private static final int LONG_PROCESSING_TIME_THRESHOLD = 50; // ms
+    private static final int LIVE_PRODUCER_ID = 1;
     private static final long start = System.currentTimeMillis();
 
-    private int messages;
-    private long lastMessageReceived;
-    private int betSettlements;
-    private int betCancels;
-    private int betSettlementRollbacks;
-    private int oddsChanges;
-    private int streamingHttpGet;
-    private int jaxbHttpGet;
-    private int recoveryMessages;
-    private int fixtureChanges;
-    private int betCancelRollbacks;
-    private String lastUrl;
-    private int purgesDone;
-    private long totalPurgeTime;
-    private static final Logger logger = LoggerFactory.getLogger(UnifiedOddsStatistics.class);
-    private long totalXmlDeserTime;
-    private long totalLongProcTime;
-    private int longProcessing;
-    private int liveMessages;
-    private int prematchMessages;
-    private long totalMsgSizeReceived;
-
-    private final ThreadLocal<byte[]> tmpBuf = new ThreadLocal<byte[]>() {
-        @Override
-        public byte[] initialValue() {
-            return new byte[200];
-        }
-    };
+    private final LongAdder messages = new LongAdder();
+    private volatile long lastMessageReceived;
+    private final LongAdder betSettlements = new LongAdder();
+    private final LongAdder betCancels = new LongAdder();
+    private final LongAdder betSettlementRollbacks = new LongAdder();
+    private final LongAdder oddsChanges = new LongAdder();
+    private final LongAdder streamingHttpGet = new LongAdder();
+    private final LongAdder jaxbHttpGet = new LongAdder();
+    private final LongAdder recoveryMessages = new LongAdder();
+    private final LongAdder fixtureChanges = new LongAdder();
+    private final LongAdder betCancelRollbacks = new LongAdder();
+    private volatile String lastUrl;
+    private final LongAdder purgesDone = new LongAdder();
+    private final LongAdder totalPurgeTime = new LongAdder();
+    private final LongAdder totalXmlDeserTime = new LongAdder();
+    private final LongAdder totalLongProcTime = new LongAdder();
+    private final LongAdder longProcessing = new LongAdder();
+    private final LongAdder liveMessages = new LongAdder();
+    private final LongAdder prematchMessages = new LongAdder();
+    private final LongAdder totalMsgSizeReceived = new LongAdder();
+
+    private final MessageLatencies latencies = new MessageLatencies();
+    private final FeedMessageInstrumentation instrumentation;
+
+    public UnifiedOddsStatistics() {
+        this(null);
+    }
+
+    /**
+     * Initializes a new {@link UnifiedOddsStatistics} instance
+     *
+     * @param instrumentation the user provided {@link FeedMessageInstrumentation}, or null if none was provided
+     */
+    public UnifiedOddsStatistics(FeedMessageInstrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+    }
 
     @Override
     public int getNumberOfMessagesReceived() {
-        return messages;
+        return messages.intValue();
     }
 
     @Override
     public int getNumberOfRecoveryMessagesReceived() {
-        return recoveryMessages;
+        return recoveryMessages.intValue();
     }
 
     @Override
@@ -71,86 +79,139 @@ public class UnifiedOddsStatistics implements UnifiedOddsStatisticsMBean {
 
     @Override
     public int getNumberOfOddsChangesReceived() {
-        return oddsChanges;
+        return oddsChanges.intValue();
     }
 
     @Override
     public int getNumberOfBetSettlementsReceived() {
-        return betSettlements;
+        return betSettlements.intValue();
     }
 
     @Override
     public int getNumberOfRollbackBetSettlementsReceived() {
-        return betSettlementRollbacks;
+        return betSettlementRollbacks.intValue();
     }
 
-    public void onMessageReceived(long now, long finished, Object o) {
+    public void onMessageReceived(long now, long finished, FeedMessageEnvelope envelope, int messageSize) {
         lastMessageReceived = now;
-        messages++;
-        //totalXmlDeserTime += xmlDeserTimeNs;
+        messages.increment();
+        totalMsgSizeReceived.add(messageSize);
         if ((finished - now) > LONG_PROCESSING_TIME_THRESHOLD) {
-            longProcessing++;
-            totalLongProcTime += (finished - now);
+            longProcessing.increment();
+            totalLongProcTime.add(finished - now);
+        }
+        switch (envelope.getKind()) {
+            case OddsChange:
+                oddsChanges.increment();
+                break;
+            case BetSettlement:
+                betSettlements.increment();
+                break;
+            case BetCancel:
+                betCancels.increment();
+                break;
+            case RollbackBetCancel:
+                betCancelRollbacks.increment();
+                break;
+            case RollbackBetSettlement:
+                betSettlementRollbacks.increment();
+                break;
+            case FixtureChange:
+                fixtureChanges.increment();
+                break;
+            default:
+                break;
+        }
+        if (envelope.getRequestId() != null) {
+            recoveryMessages.increment();
+        }
+        if (envelope.getProducerId() == LIVE_PRODUCER_ID) {
+            liveMessages.increment();
+        } else {
+            prematchMessages.increment();
+        }
+    }
+
+    /**
+     * Records the time spent in the provided processing stage
+     *
+     * @param envelope the processed message
+     * @param stage the processing stage
+     * @param durationNanos the time spent in the stage, in nanoseconds
+     */
+    public void onMessageStageCompleted(FeedMessageEnvelope envelope, FeedMessageStage stage, long durationNanos) {
+        latencies.recordLatency(envelope.getKind(), stage, durationNanos);
+        if (stage == FeedMessageStage.Decode) {
+            totalXmlDeserTime.add(durationNanos);
         }
-        //totalMsgSizeReceived += body.length;
-        if (o instanceof UFOddsChange) oddsChanges++; else if (
-            o instanceof UFBetSettlement
-        ) betSettlements++; else if (o instanceof UFBetCancel) betCancels++; else if (
-            o instanceof UFRollbackBetCancel
-        ) betCancelRollbacks++; else if (
-            o instanceof UFRollbackBetSettlement
-        ) betSettlementRollbacks++; else if (o instanceof UFFixtureChange) fixtureChanges++;
-        String msgExcerpt = new String(tmpBuf.get());
-        if (msgExcerpt.contains("request_id")) recoveryMessages++;
-        int pid = msgExcerpt.indexOf("product=\"");
-        if (pid != -1) {
-            int p = msgExcerpt.charAt(pid + 9) - '0';
-            if (p == 1) liveMessages++; else prematchMessages++;
+        if (instrumentation != null) {
+            try {
+                instrumentation.onStageCompleted(stage, envelope, durationNanos);
+            } catch (RuntimeException e) {
+                logger.warn("Feed message instrumentation failed to record the {} stage", stage, e);
+            }
+        }
+    }
+
+    /**
+     * Records the time elapsed between the message was sent by the AMQP broker and received by the SDK
+     *
+     * @param envelope the received message
+     * @param lagMillis the broker to SDK lag, in milliseconds
+     */
+    public void onBrokerLag(FeedMessageEnvelope envelope, long lagMillis) {
+        latencies.recordBrokerLag(lagMillis);
+        if (instrumentation != null) {
+            try {
+                instrumentation.onBrokerLag(envelope, lagMillis);
+            } catch (RuntimeException e) {
+                logger.warn("Feed message instrumentation failed to record the broker lag", e);
+            }
         }
     }
 
     public void unload() {
-        tmpBuf.remove();
+        // no thread bound resources are held
     }
 
     public void onStreamingHttpGet(String path) {
-        streamingHttpGet++;
+        streamingHttpGet.increment();
         lastUrl = path;
     }
 
     public void onJaxbHttpGet(String path) {
-        jaxbHttpGet++;
+        jaxbHttpGet.increment();
         lastUrl = path;
     }
 
     @Override
     public int getNumberOfBetCancelsReceived() {
-        return betCancels;
+        return betCancels.intValue();
     }
 
     @Override
     public int getNumberOfRollbackBetCancelsReceived() {
-        return betCancelRollbacks;
+        return betCancelRollbacks.intValue();
     }
 
     @Override
     public int getNumberOfFixtureChangesReceived() {
-        return fixtureChanges;
+        return fixtureChanges.intValue();
     }
 
     @Override
     public int getSecondsSinceStart() {
-        return (int) ((System.currentTimeMillis() - start) / 1000);
+        return (int) TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - start);
     }
 
     @Override
     public int getNumberOfHttpGetStreaming() {
-        return streamingHttpGet;
+        return streamingHttpGet.intValue();
     }
 
     @Override
     public int getNumberOfHttpGetJaxb() {
-        return jaxbHttpGet;
+        return jaxbHttpGet.intValue();
     }
 
     @Override
@@ -160,47 +221,66 @@ public class UnifiedOddsStatistics implements UnifiedOddsStatisticsMBean {
 
     @Override
     public int getNumberOfCachePurgesDone() {
-        return purgesDone;
+        return purgesDone.intValue();
     }
 
     @Override
     public long getTimeSpentPurgingCaches() {
-        return totalPurgeTime;
+        return totalPurgeTime.sum();
     }
 
     public void cachePurgeRun(long purgeTime) {
-        logger.debug("Trimmed all caches. Took " + purgeTime + "ms");
-        purgesDone++;
-        totalPurgeTime += purgeTime;
+        logger.debug("Trimmed all caches. Took {}ms", purgeTime);
+        purgesDone.increment();
+        totalPurgeTime.add(purgeTime);
     }
 
     @Override
     public int getNumberOfLongProcessingTimes() {
-        return longProcessing;
+        return longProcessing.intValue();
     }
 
     @Override
     public long getLongMessageProcessingTimeInMs() {
-        return totalLongProcTime;
+        return totalLongProcTime.sum();
     }
 
     @Override
     public long getXmlDeserilizationTimeInMs() {
-        return totalXmlDeserTime / 1000 / 1000;
+        return TimeUnit.NANOSECONDS.toMillis(totalXmlDeserTime.sum());
     }
 
     @Override
     public int getNumberOfLiveMessages() {
-        return liveMessages;
+        return liveMessages.intValue();
     }
 
     @Override
     public int getNumberOfPrematchMessages() {
-        return prematchMessages;
+        return prematchMessages.intValue();
     }
 
     @Override
     public long getBytesReceived() {
-        return totalMsgSizeReceived;
+        return totalMsgSizeReceived.sum();
+    }
+
+    @Override
+    public String[] getMessageLatencyPercentiles() {
+        return latencies.describePercentiles();
+    }
+
+    @Override
+    public long getMessageLatencyInMicros(String messageKind, String stage, double percentile) {
+        return latencies.getValueAtPercentile(
+            FeedMessageKind.valueOf(messageKind),
+            FeedMessageStage.valueOf(stage),
+            percentile
+        );
+    }
+
+    @Override
+    public long getBrokerLagInMillis(double percentile) {
+        return latencies.getBrokerLagAtPercentile(percentile);
     }
 }
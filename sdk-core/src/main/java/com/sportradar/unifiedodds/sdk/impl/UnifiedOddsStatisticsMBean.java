@@ -47,4 +47,31 @@ public interface UnifiedOddsStatisticsMBean {
     public int getNumberOfPrematchMessages();
 
     public long getBytesReceived();
+
+    /**
+     * Returns the p50, p99 and p999 broker to SDK lag and processing latencies of each message kind and processing
+     * stage (decode, validation, cache processing, message building and listener callback) recorded since the start
+     *
+     * @return one entry for the broker lag and per message kind and stage which was recorded
+     */
+    public String[] getMessageLatencyPercentiles();
+
+    /**
+     * Returns the processing latency of the provided message kind and stage at the provided percentile
+     *
+     * @param messageKind the name of the {@link FeedMessageKind} (ex: OddsChange)
+     * @param stage the name of the {@link FeedMessageStage} (ex: ListenerCallback)
+     * @param percentile the requested percentile, between 0 and 100 (ex: 99.9)
+     * @return the latency in microseconds, or 0 if no latency was recorded
+     */
+    public long getMessageLatencyInMicros(String messageKind, String stage, double percentile);
+
+    /**
+     * Returns the time elapsed between the messages were sent by the AMQP broker and received by the SDK
+     * at the provided percentile
+     *
+     * @param percentile the requested percentile, between 0 and 100 (ex: 99.9)
+     * @return the lag in milliseconds, or 0 if no lag was recorded
+     */
+    public long getBrokerLagInMillis(double percentile);
 }
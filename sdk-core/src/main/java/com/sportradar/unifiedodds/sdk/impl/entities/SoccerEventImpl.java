@@ -11,7 +11,6 @@ import com.sportradar.unifiedodds.sdk.caching.SportEventCache;
 import com.sportradar.unifiedodds.sdk.entities.SoccerEvent;
 import com.sportradar.unifiedodds.sdk.entities.Tournament;
 import com.sportradar.unifiedodds.sdk.entities.status.CompetitionStatus;
-import com.sportradar.unifiedodds.sdk.entities.status.MatchStatus;
 import com.sportradar.unifiedodds.sdk.entities.status.SoccerStatus;
 import com.sportradar.unifiedodds.sdk.impl.SportEventStatusFactory;
 import com.sportradar.utils.URN;
@@ -30,11 +29,6 @@ public class SoccerEventImpl extends MatchImpl implements SoccerEvent {
      */
     private final SportEventStatusFactory sportEventStatusFactory;
 
-    /**
-     * A {@link MatchStatus} containing information about the progress of the match associated with the current instance
-     */
-    private SoccerStatus status;
-
     /**
      * Initializes a new instance of the {@link SoccerEventImpl}
      *
@@ -78,11 +72,7 @@ public class SoccerEventImpl extends MatchImpl implements SoccerEvent {
      */
     @Override
     public SoccerStatus getStatus() {
-        if (status == null) {
-            status = sportEventStatusFactory.buildSportEventStatus(id, SoccerStatus.class, true);
-        }
-
-        return status;
+        return sportEventStatusFactory.buildSportEventStatus(id, SoccerStatus.class, true);
     }
 
     /**
@@ -94,12 +84,6 @@ public class SoccerEventImpl extends MatchImpl implements SoccerEvent {
      */
     @Override
     public Optional<CompetitionStatus> getStatusIfPresent() {
-        if (status == null) {
-            status = sportEventStatusFactory.buildSportEventStatus(id, SoccerStatus.class, false);
-        }
-        if (status == null) {
-            return Optional.empty();
-        }
-        return Optional.of(status);
+        return Optional.ofNullable(sportEventStatusFactory.buildSportEventStatus(id, SoccerStatus.class, false));
     }
 }
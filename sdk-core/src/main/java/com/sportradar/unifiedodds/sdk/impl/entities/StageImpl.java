@@ -62,11 +62,6 @@ public class StageImpl extends SportEventImpl implements Stage {
      */
     private final SportEntityFactory sportEntityFactory;
 
-    /**
-     * A {@link StageStatus} containing information about the progress of the event associated with the current instance
-     */
-    private StageStatus status;
-
     /**
      * The exception strategy that should be used within the instance
      */
@@ -262,11 +257,7 @@ public class StageImpl extends SportEventImpl implements Stage {
             return null;
         }
 
-        if (status == null) {
-            status = sportEventStatusFactory.buildSportEventStatus(id, StageStatus.class, true);
-        }
-
-        return status;
+        return sportEventStatusFactory.buildSportEventStatus(id, StageStatus.class, true);
     }
 
     /**
@@ -278,13 +269,7 @@ public class StageImpl extends SportEventImpl implements Stage {
      */
     @Override
     public Optional<CompetitionStatus> getStatusIfPresent() {
-        if (status == null) {
-            status = sportEventStatusFactory.buildSportEventStatus(id, StageStatus.class, false);
-        }
-        if (status == null) {
-            return Optional.empty();
-        }
-        return Optional.of(status);
+        return Optional.ofNullable(sportEventStatusFactory.buildSportEventStatus(id, StageStatus.class, false));
     }
 
     /**
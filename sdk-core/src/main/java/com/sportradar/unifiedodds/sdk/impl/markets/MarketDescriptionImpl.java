@@ -13,13 +13,14 @@ import com.google.common.collect.ImmutableMap;
 import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketDescriptionCI;
 import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketMappingCI;
 import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketOutcomeCI;
+import com.sportradar.unifiedodds.sdk.caching.ci.markets.VariantDescriptionCI;
 import com.sportradar.unifiedodds.sdk.entities.markets.*;
 import com.sportradar.utils.SdkHelper;
 import java.util.*;
 
 /**
- * Created on 14/06/2017.
- * // TODO @eti: Javadoc
+ * An immutable view of the cached market description in the requested locales. The views are memoised by the
+ * cache items and shared by all the callers, so they must not be modified.
  */
 @SuppressWarnings(
     {
@@ -40,12 +41,12 @@ public class MarketDescriptionImpl implements MarketDescription {
     private final List<Specifier> specifiers;
     private final List<MarketAttribute> attributes;
     private final List<String> groups;
-    private List<MarketMappingCI> staticMappingsData;
-    private List<OutcomeDescription> outcomes;
-    private List<MarketMappingData> mappings;
-    private boolean mappingsBuilt;
-    private Date lastDataReceived;
-    private String sourceCache;
+    private final List<MarketMappingCI> staticMappingsData;
+    private final List<OutcomeDescription> outcomes;
+    private final Date lastDataReceived;
+    private final String sourceCache;
+    private volatile Map<String, OutcomeDescription> outcomesById;
+    private volatile List<MarketMappingData> mappings;
 
     @SuppressWarnings("UnstableApiUsage")
     public MarketDescriptionImpl(MarketDescriptionCI cachedItem, List<Locale> locales) {
@@ -90,6 +91,55 @@ public class MarketDescriptionImpl implements MarketDescription {
         this.lastDataReceived = cachedItem.getLastDataReceived();
     }
 
+    private MarketDescriptionImpl(
+        MarketDescriptionImpl invariantDescription,
+        List<OutcomeDescription> outcomes,
+        List<MarketMappingCI> staticMappingsData,
+        String sourceCache,
+        Date lastDataReceived
+    ) {
+        this.id = invariantDescription.id;
+        this.outcomeType = invariantDescription.outcomeType;
+        this.groups = invariantDescription.groups;
+        this.names = invariantDescription.names;
+        this.descriptions = invariantDescription.descriptions;
+        this.specifiers = invariantDescription.specifiers;
+        this.attributes = invariantDescription.attributes;
+        this.outcomes = outcomes;
+        this.staticMappingsData = staticMappingsData;
+        this.sourceCache = sourceCache;
+        this.lastDataReceived = lastDataReceived;
+    }
+
+    /**
+     * Builds a new description of the variant market, which contains the outcomes of this description followed
+     * by the outcomes of the variant and the mappings of the variant. This description is not modified.
+     *
+     * @param variantDescription the cached description of the variant
+     * @param locales the locales in which the variant outcomes should be translated
+     * @return the description of the variant market
+     */
+    public MarketDescriptionImpl withVariantDescription(VariantDescriptionCI variantDescription, List<Locale> locales) {
+        Preconditions.checkNotNull(variantDescription);
+        Preconditions.checkNotNull(locales);
+
+        // outcomes get only merged because some of them might be static
+        List<OutcomeDescription> mergedOutcomes = ImmutableList
+            .<OutcomeDescription>builder()
+            .addAll(outcomes)
+            .addAll(buildOutcomes(variantDescription.getOutcomes(), locales))
+            .build();
+        return new MarketDescriptionImpl(
+            this,
+            mergedOutcomes,
+            variantDescription.getMappings(),
+            variantDescription.getSourceCache() == null ? sourceCache : variantDescription.getSourceCache(),
+            variantDescription.getLastDataReceived() == null
+                ? lastDataReceived
+                : variantDescription.getLastDataReceived()
+        );
+    }
+
     @Override
     public int getId() {
         return id;
@@ -114,6 +164,23 @@ public class MarketDescriptionImpl implements MarketDescription {
         return outcomes;
     }
 
+    /**
+     * Returns the outcome with the provided id, the outcomes are indexed by their ids on the first lookup
+     *
+     * @param outcomeId the id of the outcome
+     * @return the outcome with the provided id or a null reference if the market has no such outcome
+     */
+    public OutcomeDescription getOutcome(String outcomeId) {
+        Preconditions.checkNotNull(outcomeId);
+
+        Map<String, OutcomeDescription> index = outcomesById;
+        if (index == null) {
+            index = indexOutcomes(outcomes);
+            outcomesById = index;
+        }
+        return index.get(outcomeId);
+    }
+
     @Override
     public List<Specifier> getSpecifiers() {
         return specifiers;
@@ -122,17 +189,16 @@ public class MarketDescriptionImpl implements MarketDescription {
     @SuppressWarnings("UnstableApiUsage")
     @Override
     public List<MarketMappingData> getMappings() {
-        if (!mappingsBuilt) {
-            mappingsBuilt = true;
-            mappings =
-                staticMappingsData == null
-                    ? null
-                    : staticMappingsData
-                        .stream()
-                        .map(MarketMappingDataImpl::new)
-                        .collect(ImmutableList.toImmutableList());
+        List<MarketMappingData> builtMappings = mappings;
+        if (builtMappings == null && staticMappingsData != null) {
+            builtMappings =
+                staticMappingsData
+                    .stream()
+                    .map(MarketMappingDataImpl::new)
+                    .collect(ImmutableList.toImmutableList());
+            mappings = builtMappings;
         }
-        return mappings;
+        return builtMappings;
     }
 
     @Override
@@ -165,28 +231,23 @@ public class MarketDescriptionImpl implements MarketDescription {
         return names.keySet();
     }
 
-    // outcomes get only merged because some of them might be static
-    public void mergeOutcomes(List<MarketOutcomeCI> outcomeCIs, List<Locale> locales) {
-        if (this.outcomes == null) {
-            this.outcomes = buildOutcomes(outcomeCIs, locales);
-        } else {
-            List<OutcomeDescription> newOutcomes = new ArrayList<>(this.outcomes);
-            if (outcomeCIs != null) {
-                newOutcomes.addAll(buildOutcomes(outcomeCIs, locales));
-            }
+    private static Map<String, OutcomeDescription> indexOutcomes(List<OutcomeDescription> outcomes) {
+        if (outcomes == null) {
+            return Collections.emptyMap();
+        }
 
-            this.outcomes = ImmutableList.copyOf(newOutcomes);
+        // the first outcome wins, the same as with a linear search of the outcomes
+        Map<String, OutcomeDescription> index = new HashMap<>(outcomes.size() * 2);
+        for (OutcomeDescription outcome : outcomes) {
+            index.putIfAbsent(outcome.getId(), outcome);
         }
+        return index;
     }
 
     public List<MarketMappingCI> getStaticMappingsData() {
         return staticMappingsData;
     }
 
-    public void setStaticMappingsData(List<MarketMappingCI> staticMappingsData) {
-        this.staticMappingsData = staticMappingsData;
-    }
-
     @SuppressWarnings("UnstableApiUsage")
     private static List<OutcomeDescription> buildOutcomes(
         List<MarketOutcomeCI> outcomeCis,
@@ -208,15 +269,6 @@ public class MarketDescriptionImpl implements MarketDescription {
         return lastDataReceived;
     }
 
-    public void setFetchInfo(String sourceCache, Date lastDataReceived) {
-        if (sourceCache != null) {
-            this.sourceCache = sourceCache;
-        }
-        if (lastDataReceived != null) {
-            this.lastDataReceived = lastDataReceived;
-        }
-    }
-
     public boolean canBeFetched() {
         return (
             Math.abs(new Date().getTime() - lastDataReceived.getTime()) /
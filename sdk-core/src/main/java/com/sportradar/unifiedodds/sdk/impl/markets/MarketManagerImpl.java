@@ -27,6 +27,8 @@ import com.sportradar.unifiedodds.sdk.oddsentities.Producer;
 import com.sportradar.utils.SdkHelper;
 import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -119,6 +121,30 @@ public class MarketManagerImpl implements MarketDescriptionManager {
         }
     }
 
+    @Override
+    public CompletableFuture<List<MarketDescription>> getMarketDescriptionsAsync() {
+        return getMarketDescriptionsAsync(config.getDefaultLocale());
+    }
+
+    @Override
+    public CompletableFuture<List<MarketDescription>> getMarketDescriptionsAsync(Locale locale) {
+        return invariantMarketDescriptionCache
+            .getAllInvariantMarketDescriptionsAsync(Lists.newArrayList(locale))
+            .handle((descriptions, failure) ->
+                failure == null ? descriptions : handleMarketDescriptionsFailure(locale, failure)
+            );
+    }
+
+    private List<MarketDescription> handleMarketDescriptionsFailure(Locale locale, Throwable failure) {
+        Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+        Exception exception = cause instanceof Exception ? (Exception) cause : new IllegalStateException(cause);
+        if (exceptionHandlingStrategy == ExceptionHandlingStrategy.Throw) {
+            throw new ObjectNotFoundException("Market descriptions(" + locale + ") could not be provided", exception);
+        }
+        logger.warn("Market descriptions with the {} locale could not be provided, ex:", locale, exception);
+        return null;
+    }
+
     @Override
     public List<MarketMappingData> getMarketMapping(int marketId, Producer producer) {
         MarketDescription marketDescriptor;
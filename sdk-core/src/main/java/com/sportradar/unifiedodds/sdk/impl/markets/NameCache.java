@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.markets;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the parsed name descriptors and the generated market/outcome names which depend only on the market
+ * description and the market specifiers. The generated names must be invalidated once the market descriptions
+ * are reloaded, the parsed descriptors are keyed by the descriptor itself, so they never become stale.
+ */
+final class NameCache {
+
+    private final Cache<String, NameTemplate> templates;
+    private final Cache<Key, String> names;
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Initializes a new {@link NameCache}
+     *
+     * @param maxTemplates the max number of cached parsed descriptors
+     * @param maxNames the max number of cached generated names
+     */
+    NameCache(long maxTemplates, long maxNames) {
+        Preconditions.checkArgument(maxTemplates > 0);
+        Preconditions.checkArgument(maxNames > 0);
+
+        this.templates = CacheBuilder.newBuilder().maximumSize(maxTemplates).build();
+        this.names = CacheBuilder.newBuilder().maximumSize(maxNames).build();
+    }
+
+    /**
+     * Returns the parsed name descriptor, parsing and caching it if needed
+     *
+     * @param descriptor the name descriptor
+     * @return the parsed name descriptor
+     * @throws IllegalArgumentException if the format of the descriptor is not correct
+     */
+    NameTemplate getTemplate(String descriptor) {
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(descriptor));
+
+        NameTemplate template = templates.getIfPresent(descriptor);
+        if (template == null) {
+            template = NameTemplate.compile(descriptor);
+            templates.put(descriptor, template);
+        }
+        return template;
+    }
+
+    /**
+     * Returns the cached name
+     *
+     * @param marketId the market id
+     * @param specifiers the market specifiers or a null reference
+     * @param outcomeId the outcome id or a null reference for the market name
+     * @param locale the locale of the name
+     * @return the cached name or a null reference if the name is not cached
+     */
+    String getName(int marketId, Map<String, String> specifiers, String outcomeId, Locale locale) {
+        return names.getIfPresent(new Key(marketId, specifiers, outcomeId, locale));
+    }
+
+    /**
+     * Returns the generation of the cached names, which is changed each time the names are invalidated. The
+     * generation should be read before the market description used to generate a name is retrieved.
+     *
+     * @return the generation of the cached names
+     */
+    long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Caches the generated name, unless the names were invalidated while it was being generated
+     *
+     * @param nameGeneration the generation of the cached names read before the name was generated
+     * @param marketId the market id
+     * @param specifiers the market specifiers or a null reference
+     * @param outcomeId the outcome id or a null reference for the market name
+     * @param locale the locale of the name
+     * @param name the generated name
+     */
+    void putName(
+        long nameGeneration,
+        int marketId,
+        Map<String, String> specifiers,
+        String outcomeId,
+        Locale locale,
+        String name
+    ) {
+        Preconditions.checkNotNull(name);
+
+        Map<String, String> specifiersCopy = specifiers == null ? null : new HashMap<>(specifiers);
+        Key key = new Key(marketId, specifiersCopy, outcomeId, locale);
+        names.put(key, name);
+        if (generation.get() != nameGeneration) {
+            names.invalidate(key);
+        }
+    }
+
+    /**
+     * Removes all the cached names, so they are generated from the reloaded market descriptions
+     */
+    void invalidateNames() {
+        generation.incrementAndGet();
+        names.invalidateAll();
+    }
+
+    private static final class Key {
+
+        private final int marketId;
+        private final Map<String, String> specifiers;
+        private final String outcomeId;
+        private final Locale locale;
+        private final int hash;
+
+        private Key(int marketId, Map<String, String> specifiers, String outcomeId, Locale locale) {
+            this.marketId = marketId;
+            this.specifiers = specifiers;
+            this.outcomeId = outcomeId;
+            this.locale = locale;
+            this.hash = Objects.hash(marketId, specifiers, outcomeId, locale);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return marketId == other.marketId &&
+                Objects.equals(outcomeId, other.outcomeId) &&
+                Objects.equals(locale, other.locale) &&
+                Objects.equals(specifiers, other.specifiers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
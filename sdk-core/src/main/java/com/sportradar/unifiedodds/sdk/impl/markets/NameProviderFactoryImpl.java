@@ -19,10 +19,14 @@ import java.util.Map;
  */
 public class NameProviderFactoryImpl implements NameProviderFactory {
 
+    private static final int MAX_CACHED_NAME_TEMPLATES = 10_000;
+    private static final int MAX_CACHED_NAMES = 100_000;
+
     private final MarketDescriptionProvider descriptorProvider;
     private final ProfileCache profileCache;
     private final NameExpressionFactory expressionFactory;
     private final ExceptionHandlingStrategy exceptionHandlingStrategy;
+    private final NameCache nameCache = new NameCache(MAX_CACHED_NAME_TEMPLATES, MAX_CACHED_NAMES);
 
     @Inject
     public NameProviderFactoryImpl(
@@ -39,6 +43,8 @@ public class NameProviderFactoryImpl implements NameProviderFactory {
         this.profileCache = profileCache;
         this.expressionFactory = expressionFactory;
         this.exceptionHandlingStrategy = cfg.getExceptionHandlingStrategy();
+
+        descriptorProvider.addReloadListener(nameCache::invalidateNames);
     }
 
     @Override
@@ -56,7 +62,8 @@ public class NameProviderFactoryImpl implements NameProviderFactory {
             marketId,
             specifiers,
             producerId,
-            exceptionHandlingStrategy
+            exceptionHandlingStrategy,
+            nameCache
         );
     }
 }
@@ -66,6 +66,7 @@ public class NameProviderImpl implements NameProvider {
     private final int producerId;
     private final ExceptionHandlingStrategy exceptionHandlingStrategy;
     private final Supplier<List<URN>> competitorList;
+    private final NameCache nameCache;
 
     private Date lastReload = new Date(0);
 
@@ -77,7 +78,8 @@ public class NameProviderImpl implements NameProvider {
         int marketId,
         Map<String, String> marketSpecifiers,
         int producerId,
-        ExceptionHandlingStrategy exceptionHandlingStrategy
+        ExceptionHandlingStrategy exceptionHandlingStrategy,
+        NameCache nameCache
     ) {
         Preconditions.checkNotNull(descriptorProvider);
         Preconditions.checkNotNull(profileCache);
@@ -86,6 +88,7 @@ public class NameProviderImpl implements NameProvider {
         Preconditions.checkArgument(marketId > 0);
         Preconditions.checkArgument(producerId > 0);
         Preconditions.checkNotNull(exceptionHandlingStrategy);
+        Preconditions.checkNotNull(nameCache);
 
         this.descriptorProvider = descriptorProvider;
         this.profileCache = profileCache;
@@ -96,6 +99,7 @@ public class NameProviderImpl implements NameProvider {
         this.producerId = producerId;
         this.exceptionHandlingStrategy = exceptionHandlingStrategy;
         this.competitorList = () -> provideSportEventCompetitorIds(sportEvent);
+        this.nameCache = nameCache;
     }
 
     @Override
@@ -105,6 +109,12 @@ public class NameProviderImpl implements NameProvider {
 
     @Override
     public Map<Locale, String> getMarketNames(List<Locale> locales) {
+        long nameGeneration = nameCache.getGeneration();
+        Map<Locale, String> cachedNames = getCachedNames(null, locales);
+        if (cachedNames != null) {
+            return cachedNames;
+        }
+
         MarketDescription marketDescriptor;
         try {
             marketDescriptor = getMarketDescriptor(locales);
@@ -125,23 +135,18 @@ public class NameProviderImpl implements NameProvider {
 
         Map<Locale, String> names = new HashMap<>();
         for (Locale locale : locales) {
-            names.put(locale, mapMarketNames(marketDescriptor, locale));
+            names.put(locale, mapMarketNames(marketDescriptor, locale, nameGeneration));
         }
         return names;
     }
 
-    private String mapMarketNames(MarketDescription marketDescriptor, Locale locale) {
+    private String mapMarketNames(MarketDescription marketDescriptor, Locale locale, long nameGeneration) {
         String nameDescriptor = marketDescriptor.getName(locale);
-        String nameDescriptorFormat = null;
-        List<NameExpression> expressions = null;
+        NameTemplate template;
+        List<NameExpression> expressions;
         try {
-            AbstractMap.SimpleImmutableEntry<String, List<NameExpression>> nameExpressions = getNameExpressions(
-                nameDescriptor
-            );
-            if (nameExpressions != null) {
-                nameDescriptorFormat = nameExpressions.getKey();
-                expressions = nameExpressions.getValue();
-            }
+            template = nameCache.getTemplate(nameDescriptor);
+            expressions = template.buildExpressions(expressionFactory, sportEvent, marketSpecifiers);
         } catch (IllegalArgumentException | UnsupportedUrnFormatException ex) {
             return handleErrorCondition(
                 "The name description parsing failed",
@@ -152,13 +157,9 @@ public class NameProviderImpl implements NameProvider {
             );
         }
 
-        if (expressions == null) {
-            return nameDescriptor;
-        }
-
-        List<String> collect;
+        String name;
         try {
-            collect = expressions.stream().map(e -> e.buildName(locale)).collect(Collectors.toList());
+            name = template.render(buildNames(expressions, locale));
         } catch (IllegalArgumentException | IllegalStateException e) {
             return handleErrorCondition(
                 "Error occurred while evaluating the name expression",
@@ -169,7 +170,8 @@ public class NameProviderImpl implements NameProvider {
             );
         }
 
-        return String.format(nameDescriptorFormat, collect.toArray());
+        cacheName(template, nameGeneration, null, locale, name);
+        return name;
     }
 
     @Override
@@ -203,20 +205,21 @@ public class NameProviderImpl implements NameProvider {
             }
         }
 
+        long nameGeneration = nameCache.getGeneration();
+        Map<Locale, String> cachedNames = getCachedNames(outcomeId, locales);
+        if (cachedNames != null) {
+            return cachedNames;
+        }
+
         MarketDescription marketDescription = getMarketDescriptionForOutcome(outcomeId, locales, true);
         if (marketDescription == null) {
             return Collections.emptyMap();
         }
 
-        Optional<OutcomeDescription> optDesc = marketDescription
-            .getOutcomes()
-            .stream()
-            .filter(o -> o.getId().equals(outcomeId))
-            .findFirst();
-
+        OutcomeDescription outcomeDescription = findOutcome(marketDescription, outcomeId);
         if (
-            !optDesc.isPresent() ||
-            !SdkHelper.findMissingLocales(optDesc.get().getLocales(), locales).isEmpty()
+            outcomeDescription == null ||
+            !SdkHelper.findMissingLocales(outcomeDescription.getLocales(), locales).isEmpty()
         ) {
             return handleErrorCondition(
                 "Retrieved market descriptor does not contain name descriptor for associated outcome in the specified language",
@@ -227,7 +230,6 @@ public class NameProviderImpl implements NameProvider {
             );
         }
 
-        OutcomeDescription outcomeDescription = optDesc.get();
         if (
             marketDescription.getAttributes() != null &&
             marketDescription
@@ -251,16 +253,11 @@ public class NameProviderImpl implements NameProvider {
         Map<Locale, String> names = new HashMap<>();
         for (Locale locale : locales) {
             String nameDescription = outcomeDescription.getName(locale);
-            String nameDescriptionFormat = null;
-            List<NameExpression> expressions = null;
+            NameTemplate template;
+            List<NameExpression> expressions;
             try {
-                AbstractMap.SimpleImmutableEntry<String, List<NameExpression>> nameExpressions = getNameExpressions(
-                    nameDescription
-                );
-                if (nameExpressions != null) {
-                    nameDescriptionFormat = nameExpressions.getKey();
-                    expressions = nameExpressions.getValue();
-                }
+                template = nameCache.getTemplate(nameDescription);
+                expressions = template.buildExpressions(expressionFactory, sportEvent, marketSpecifiers);
             } catch (IllegalArgumentException e) {
                 return handleErrorCondition(
                     "The name description parsing failed",
@@ -271,19 +268,9 @@ public class NameProviderImpl implements NameProvider {
                 );
             }
 
-            if (expressions == null || nameDescriptionFormat == null) {
-                names.put(locale, nameDescription);
-                continue;
-            }
-
+            String name;
             try {
-                names.put(
-                    locale,
-                    String.format(
-                        nameDescriptionFormat,
-                        expressions.stream().map(e -> e.buildName(locale)).toArray()
-                    )
-                );
+                name = template.render(buildNames(expressions, locale));
             } catch (IllegalStateException | IllegalArgumentException | UnsupportedUrnFormatException e) {
                 return handleErrorCondition(
                     "Error occurred while evaluating the name expression",
@@ -293,10 +280,50 @@ public class NameProviderImpl implements NameProvider {
                     e
                 );
             }
+            names.put(locale, name);
+            cacheName(template, nameGeneration, outcomeId, locale, name);
         }
         return names;
     }
 
+    private Map<Locale, String> getCachedNames(String outcomeId, List<Locale> locales) {
+        Map<Locale, String> names = new HashMap<>();
+        for (Locale locale : locales) {
+            String name = nameCache.getName(marketId, marketSpecifiers, outcomeId, locale);
+            if (name == null) {
+                return null;
+            }
+            names.put(locale, name);
+        }
+        return names;
+    }
+
+    private void cacheName(NameTemplate template, long nameGeneration, String outcomeId, Locale locale, String name) {
+        if (template.isSpecifierOnly() && name != null) {
+            nameCache.putName(nameGeneration, marketId, marketSpecifiers, outcomeId, locale, name);
+        }
+    }
+
+    private static List<String> buildNames(List<NameExpression> expressions, Locale locale) {
+        List<String> names = new ArrayList<>(expressions.size());
+        for (NameExpression expression : expressions) {
+            names.add(expression.buildName(locale));
+        }
+        return names;
+    }
+
+    private static OutcomeDescription findOutcome(MarketDescription marketDescription, String outcomeId) {
+        if (marketDescription instanceof MarketDescriptionImpl) {
+            return ((MarketDescriptionImpl) marketDescription).getOutcome(outcomeId);
+        }
+        return marketDescription
+            .getOutcomes()
+            .stream()
+            .filter(o -> o.getId().equals(outcomeId))
+            .findFirst()
+            .orElse(null);
+    }
+
     private Map<Locale, String> getOutcomeNamesFromProfile(String outcomeId, List<Locale> locales)
         throws IllegalCacheStateException, CacheItemNotFoundException {
         Preconditions.checkArgument(!Strings.isNullOrEmpty(outcomeId));
@@ -364,36 +391,6 @@ public class NameProviderImpl implements NameProvider {
         }
     }
 
-    private AbstractMap.SimpleImmutableEntry<String, List<NameExpression>> getNameExpressions(
-        String nameDescriptor
-    ) {
-        Preconditions.checkArgument(!Strings.isNullOrEmpty(nameDescriptor));
-
-        AbstractMap.SimpleImmutableEntry<String, List<String>> descriptorData = NameExpressionHelper.parseDescriptor(
-            nameDescriptor
-        );
-        if (descriptorData == null || descriptorData.getValue() == null) {
-            return null;
-        }
-
-        List<NameExpression> expressions = new ArrayList<>(descriptorData.getValue().size());
-        for (String expr : descriptorData.getValue()) {
-            AbstractMap.SimpleImmutableEntry<String, String> expressionParse = NameExpressionHelper.parseExpression(
-                expr
-            );
-            expressions.add(
-                expressionFactory.buildExpression(
-                    sportEvent,
-                    marketSpecifiers,
-                    expressionParse.getValue(),
-                    expressionParse.getKey()
-                )
-            );
-        }
-
-        return new AbstractMap.SimpleImmutableEntry<>(descriptorData.getKey(), expressions);
-    }
-
     private String handleErrorCondition(
         String message,
         String outcomeId,
@@ -524,14 +521,10 @@ public class NameProviderImpl implements NameProvider {
             return null;
         }
 
-        Optional<OutcomeDescription> optDesc = marketDescription
-            .getOutcomes()
-            .stream()
-            .filter(o -> o.getId().equals(outcomeId))
-            .findFirst();
+        OutcomeDescription outcomeDescription = findOutcome(marketDescription, outcomeId);
         if (
-            !optDesc.isPresent() ||
-            !SdkHelper.findMissingLocales(optDesc.get().getLocales(), locales).isEmpty()
+            outcomeDescription == null ||
+            !SdkHelper.findMissingLocales(outcomeDescription.getLocales(), locales).isEmpty()
         ) {
             if (firstTime) {
                 handleErrorCondition(
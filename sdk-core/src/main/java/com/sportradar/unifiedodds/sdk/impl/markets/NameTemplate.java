@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.markets;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.sportradar.unifiedodds.sdk.entities.SportEvent;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A parsed name descriptor (ex: "{!periodnr} period - {$competitor1} total"). The descriptor is parsed once, the
+ * parsed template is bound to the sport event and market specifiers each time a name is generated.
+ */
+final class NameTemplate {
+
+    /**
+     * The operators whose expressions are evaluated from the market specifiers only, the other operators
+     * depend on the sport event competitors or the player/competitor profiles
+     */
+    private static final Set<String> SPECIFIER_OPERATORS = ImmutableSet.of("+", "-", "!");
+
+    private final String descriptor;
+    private final String format;
+    private final List<String> literals;
+    private final List<String> operators;
+    private final List<String> operands;
+    private final boolean specifierOnly;
+
+    private NameTemplate(
+        String descriptor,
+        String format,
+        List<String> literals,
+        List<String> operators,
+        List<String> operands
+    ) {
+        this.descriptor = descriptor;
+        this.format = format;
+        this.literals = literals;
+        this.operators = operators;
+        this.operands = operands;
+        this.specifierOnly = operators.stream().allMatch(o -> o == null || SPECIFIER_OPERATORS.contains(o));
+    }
+
+    /**
+     * Parses the provided name descriptor
+     *
+     * @param descriptor the name descriptor which should be parsed
+     * @return the parsed {@link NameTemplate}
+     * @throws IllegalArgumentException if the format of the descriptor is not correct
+     */
+    static NameTemplate compile(String descriptor) {
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(descriptor));
+
+        AbstractMap.SimpleImmutableEntry<String, List<String>> descriptorData = NameExpressionHelper.parseDescriptor(
+            descriptor
+        );
+        if (descriptorData == null || descriptorData.getValue() == null) {
+            return new NameTemplate(
+                descriptor,
+                null,
+                Collections.singletonList(descriptor),
+                Collections.emptyList(),
+                Collections.emptyList()
+            );
+        }
+
+        List<String> expressions = descriptorData.getValue();
+        List<String> literals = new ArrayList<>(expressions.size() + 1);
+        List<String> operators = new ArrayList<>(expressions.size());
+        List<String> operands = new ArrayList<>(expressions.size());
+        int literalStart = 0;
+        for (String expression : expressions) {
+            int expressionStart = descriptor.indexOf(expression, literalStart);
+            literals.add(descriptor.substring(literalStart, expressionStart));
+            literalStart = expressionStart + expression.length();
+
+            AbstractMap.SimpleImmutableEntry<String, String> expressionParse = NameExpressionHelper.parseExpression(
+                expression
+            );
+            operands.add(expressionParse.getKey());
+            operators.add(expressionParse.getValue());
+        }
+        literals.add(descriptor.substring(literalStart));
+
+        // literal '%' chars keep the String.format semantics the names were always generated with
+        boolean hasFormatChars = literals.stream().anyMatch(l -> l.indexOf('%') >= 0);
+        return new NameTemplate(
+            descriptor,
+            hasFormatChars ? descriptorData.getKey() : null,
+            ImmutableList.copyOf(literals),
+            Collections.unmodifiableList(operators),
+            ImmutableList.copyOf(operands)
+        );
+    }
+
+    /**
+     * Indicates if the descriptor contains any expressions
+     *
+     * @return true if the descriptor contains expressions; otherwise false
+     */
+    boolean hasExpressions() {
+        return !operators.isEmpty();
+    }
+
+    /**
+     * Indicates if the generated names depend only on the market specifiers, so the generated names may be
+     * shared by all the sport events
+     *
+     * @return true if the generated names depend only on the market specifiers; otherwise false
+     */
+    boolean isSpecifierOnly() {
+        return specifierOnly;
+    }
+
+    /**
+     * Builds the expressions of the template for the provided sport event and market specifiers
+     *
+     * @param expressionFactory the factory used to build the expressions
+     * @param sportEvent the sport event associated with the market
+     * @param specifiers the market specifiers
+     * @return the built expressions, in the order of their occurrence in the descriptor
+     */
+    List<NameExpression> buildExpressions(
+        NameExpressionFactory expressionFactory,
+        SportEvent sportEvent,
+        Map<String, String> specifiers
+    ) {
+        List<NameExpression> expressions = new ArrayList<>(operators.size());
+        for (int i = 0; i < operators.size(); i++) {
+            expressions.add(
+                expressionFactory.buildExpression(sportEvent, specifiers, operators.get(i), operands.get(i))
+            );
+        }
+        return expressions;
+    }
+
+    /**
+     * Generates the name by replacing the expressions of the descriptor with the provided values
+     *
+     * @param values the values of the expressions, in the order of their occurrence in the descriptor
+     * @return the generated name
+     */
+    String render(List<String> values) {
+        Preconditions.checkArgument(values.size() == operators.size());
+
+        if (values.isEmpty()) {
+            return descriptor;
+        }
+        if (format != null) {
+            return String.format(format, values.toArray());
+        }
+
+        StringBuilder name = new StringBuilder(descriptor.length() * 2);
+        for (int i = 0; i < values.size(); i++) {
+            name.append(literals.get(i)).append(values.get(i));
+        }
+        return name.append(literals.get(values.size())).toString();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.markets;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable market specifiers map backed by parallel key/value arrays. Markets carry only a few
+ * specifiers, so a linear lookup is faster and uses far less memory than a hash based map.
+ * The entries are iterated in the order in which they were received.
+ */
+public final class SpecifierMap extends AbstractMap<String, String> {
+
+    private final String[] keys;
+    private final String[] values;
+    private final int hash;
+
+    /**
+     * Initializes a new {@link SpecifierMap} instance, the provided arrays must not be modified afterwards
+     *
+     * @param keys the specifier names
+     * @param values the specifier values, matching the names by index
+     */
+    SpecifierMap(String[] keys, String[] values) {
+        this.keys = keys;
+        this.values = values;
+        this.hash = super.hashCode();
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public String get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : values[index];
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<Entry<String, String>>() {
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, String>> {
+
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return index < keys.length;
+        }
+
+        @Override
+        public Entry<String, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Entry<String, String> entry = new SimpleImmutableEntry<>(keys[index], values[index]);
+            index++;
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.markets;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Inject;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Parses the market specifiers received in the feed messages (ex: "total=2.5|hcp=0:1") into immutable
+ * {@link SpecifierMap}s. The feed repeats a limited set of specifier strings, so the parsed maps are cached
+ * and the same map instance is shared by all the markets carrying the same specifiers.
+ */
+@SuppressWarnings({ "ConstantName" })
+public class SpecifierParser {
+
+    /**
+     * The default max number of cached specifier strings
+     */
+    static final int DEFAULT_CACHE_SIZE = 10_000;
+
+    private static final Logger logger = LoggerFactory.getLogger(SpecifierParser.class);
+
+    /**
+     * The parsed specifiers, keyed by the received specifiers string
+     */
+    private final Cache<String, Map<String, String>> cache;
+
+    /**
+     * Initializes a new {@link SpecifierParser} instance with the default cache size
+     */
+    @Inject
+    public SpecifierParser() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Initializes a new {@link SpecifierParser} instance
+     *
+     * @param cacheSize the max number of cached specifier strings
+     */
+    public SpecifierParser(int cacheSize) {
+        Preconditions.checkArgument(cacheSize > 0, "cacheSize must be greater than 0");
+
+        this.cache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+    }
+
+    /**
+     * Parses the provided specifiers string
+     *
+     * @param specifiers the specifiers string as received in the feed message
+     * @return an immutable map of the specifiers, or an empty map if no or malformed specifiers were provided
+     */
+    public Map<String, String> parse(String specifiers) {
+        if (Strings.isNullOrEmpty(specifiers)) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, String> parsed = cache.getIfPresent(specifiers);
+        if (parsed != null) {
+            return parsed;
+        }
+
+        parsed = tokenize(specifiers);
+        if (parsed == null) {
+            logger.warn("Received message market with malformed specifiers: '{}'", specifiers);
+            return Collections.emptyMap();
+        }
+
+        cache.put(specifiers, parsed);
+        return parsed;
+    }
+
+    /**
+     * Splits the specifiers into name/value pairs, the '=', '|' and '\' characters are treated as delimiters
+     * and empty tokens are skipped
+     *
+     * @return the parsed specifiers, or null if the specifiers are malformed
+     */
+    private static Map<String, String> tokenize(String specifiers) {
+        List<String> tokens = split(specifiers);
+        if (tokens.size() % 2 != 0) {
+            return null;
+        }
+
+        String[] keys = new String[tokens.size() / 2];
+        String[] values = new String[keys.length];
+        int size = 0;
+        for (int i = 0; i < tokens.size(); i += 2) {
+            int index = indexOf(keys, size, tokens.get(i));
+            if (index < 0) {
+                index = size++;
+                keys[index] = tokens.get(i);
+            }
+            values[index] = tokens.get(i + 1);
+        }
+        if (size < keys.length) {
+            keys = Arrays.copyOf(keys, size);
+            values = Arrays.copyOf(values, size);
+        }
+        return new SpecifierMap(keys, values);
+    }
+
+    private static List<String> split(String specifiers) {
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= specifiers.length(); i++) {
+            if (i == specifiers.length() || isDelimiter(specifiers.charAt(i))) {
+                if (start >= 0) {
+                    tokens.add(specifiers.substring(start, i));
+                    start = -1;
+                }
+            } else if (start < 0) {
+                start = i;
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isDelimiter(char c) {
+        return c == '=' || c == '|' || c == '\\';
+    }
+
+    private static int indexOf(String[] keys, int size, String key) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
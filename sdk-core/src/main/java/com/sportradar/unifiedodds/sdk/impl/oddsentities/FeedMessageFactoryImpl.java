@@ -14,6 +14,7 @@ import com.sportradar.unifiedodds.sdk.impl.SDKProducerManager;
 import com.sportradar.unifiedodds.sdk.impl.oddsentities.markets.MarketFactory;
 import com.sportradar.unifiedodds.sdk.oddsentities.*;
 import com.sportradar.utils.URN;
+import java.util.Set;
 import lombok.NonNull;
 
 /**
@@ -155,7 +156,9 @@ public class FeedMessageFactoryImpl implements FeedMessageFactory {
         T sportEvent,
         @NonNull final UFOddsChange message,
         byte[] rawMessage,
-        MessageTimestamp timestamp
+        MessageTimestamp timestamp,
+        boolean lazyMarkets,
+        Set<Integer> marketIds
     ) {
         return new OddsChangeImpl<>(
             sportEvent,
@@ -164,7 +167,9 @@ public class FeedMessageFactoryImpl implements FeedMessageFactory {
             rawMessage,
             marketFactory,
             namedValuesProvider,
-            timestamp
+            timestamp,
+            lazyMarkets,
+            marketIds
         );
     }
 
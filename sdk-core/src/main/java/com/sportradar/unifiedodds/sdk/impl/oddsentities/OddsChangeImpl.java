@@ -4,7 +4,10 @@
 
 package com.sportradar.unifiedodds.sdk.impl.oddsentities;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.sportradar.uf.datamodel.UFOddsChange;
+import com.sportradar.uf.datamodel.UFOddsChangeMarket;
 import com.sportradar.unifiedodds.sdk.caching.NamedValuesProvider;
 import com.sportradar.unifiedodds.sdk.entities.NamedValue;
 import com.sportradar.unifiedodds.sdk.entities.SportEvent;
@@ -14,6 +17,7 @@ import com.sportradar.unifiedodds.sdk.oddsentities.*;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import org.slf4j.Logger;
@@ -30,7 +34,7 @@ class OddsChangeImpl<T extends SportEvent> extends EventMessageImpl<T> implement
     private final OddsChangeReason oddsChangeReason;
     private final Integer betstopReason;
     private final Integer bettingStatus;
-    private final List<MarketWithOdds> affectedMarkets;
+    private final Supplier<List<MarketWithOdds>> affectedMarkets;
     private final NamedValuesProvider namedValuesProvider;
     private final OddsGeneration oddsGeneration;
 
@@ -42,6 +46,24 @@ class OddsChangeImpl<T extends SportEvent> extends EventMessageImpl<T> implement
         @NonNull final MarketFactory marketFactory,
         @NonNull final NamedValuesProvider namedValuesProvider,
         MessageTimestamp timestamp
+    ) {
+        this(sportEvent, message, producer, rawMessage, marketFactory, namedValuesProvider, timestamp, false, null);
+    }
+
+    /**
+     * @param lazyMarkets an indication whether the markets should be built on the first {@link #getMarkets()} call
+     * @param marketIds the ids of the markets which should be built, or null if all markets should be built
+     */
+    OddsChangeImpl(
+        T sportEvent,
+        UFOddsChange message,
+        Producer producer,
+        byte[] rawMessage,
+        @NonNull final MarketFactory marketFactory,
+        @NonNull final NamedValuesProvider namedValuesProvider,
+        MessageTimestamp timestamp,
+        boolean lazyMarkets,
+        Set<Integer> marketIds
     ) {
         super(sportEvent, rawMessage, producer, timestamp, message.getRequestId());
         this.namedValuesProvider = namedValuesProvider;
@@ -64,27 +86,26 @@ class OddsChangeImpl<T extends SportEvent> extends EventMessageImpl<T> implement
             bettingStatus = message.getOdds().getBettingStatus();
 
             if (message.getOdds().getMarket() != null) {
+                List<UFOddsChangeMarket> markets = message.getOdds().getMarket();
+                int producerId = message.getProduct();
+                Supplier<List<MarketWithOdds>> marketsBuilder = () ->
+                    buildMarkets(sportEvent, markets, producerId, marketFactory, marketIds);
                 affectedMarkets =
-                    message
-                        .getOdds()
-                        .getMarket()
-                        .stream()
-                        .map(m -> marketFactory.buildMarketWithOdds(sportEvent, m, message.getProduct()))
-                        .filter(Optional::isPresent)
-                        .map(Optional::get)
-                        .collect(Collectors.toList());
+                    lazyMarkets
+                        ? Suppliers.memoize(marketsBuilder)
+                        : Suppliers.ofInstance(marketsBuilder.get());
             } else {
                 logger.info(
                     "Processing oddsChange message with empty odds list. sportEvent:{}, producer:{}",
                     sportEvent.getId(),
                     producer
                 );
-                affectedMarkets = Collections.emptyList();
+                affectedMarkets = Suppliers.ofInstance(Collections.emptyList());
             }
         } else {
             betstopReason = null;
             bettingStatus = null;
-            affectedMarkets = Collections.emptyList();
+            affectedMarkets = Suppliers.ofInstance(Collections.emptyList());
             logger.info(
                 "Processing oddsChange message without odds info. sportEvent:{}, producer:{}",
                 sportEvent.getId(),
@@ -98,6 +119,22 @@ class OddsChangeImpl<T extends SportEvent> extends EventMessageImpl<T> implement
                 : new OddsGenerationImpl(message.getOddsGenerationProperties());
     }
 
+    private static List<MarketWithOdds> buildMarkets(
+        SportEvent sportEvent,
+        List<UFOddsChangeMarket> markets,
+        int producerId,
+        MarketFactory marketFactory,
+        Set<Integer> marketIds
+    ) {
+        return markets
+            .stream()
+            .filter(m -> marketIds == null || marketIds.contains(m.getId()))
+            .map(m -> marketFactory.buildMarketWithOdds(sportEvent, m, producerId))
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .collect(Collectors.toList());
+    }
+
     /**
      * Get the reason why the odds changed
      *
@@ -171,12 +208,13 @@ class OddsChangeImpl<T extends SportEvent> extends EventMessageImpl<T> implement
     }
 
     /**
-     * Returns a list of {@link MarketWithOdds} associated with the message
+     * Returns a list of {@link MarketWithOdds} associated with the message. If the lazy market
+     * materialization is enabled, the markets are built on the first call
      * @return a list of {@link MarketWithOdds} associated with the message
      */
     @Override
     public List<MarketWithOdds> getMarkets() {
-        return affectedMarkets;
+        return affectedMarkets.get();
     }
 
     /**
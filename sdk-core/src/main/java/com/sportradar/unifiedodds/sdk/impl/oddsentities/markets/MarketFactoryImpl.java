@@ -5,7 +5,6 @@
 package com.sportradar.unifiedodds.sdk.impl.oddsentities.markets;
 
 import com.google.common.base.Preconditions;
-import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.sportradar.uf.datamodel.UFBetSettlementMarket;
@@ -19,9 +18,9 @@ import com.sportradar.unifiedodds.sdk.entities.Match;
 import com.sportradar.unifiedodds.sdk.entities.SportEvent;
 import com.sportradar.unifiedodds.sdk.entities.markets.MarketDescription;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CacheItemNotFoundException;
-import com.sportradar.unifiedodds.sdk.impl.UnifiedFeedConstants;
 import com.sportradar.unifiedodds.sdk.impl.markets.NameProvider;
 import com.sportradar.unifiedodds.sdk.impl.markets.NameProviderFactory;
+import com.sportradar.unifiedodds.sdk.impl.markets.SpecifierParser;
 import com.sportradar.unifiedodds.sdk.oddsentities.*;
 import com.sportradar.utils.URN;
 import java.util.*;
@@ -53,24 +52,28 @@ public class MarketFactoryImpl implements MarketFactory {
     private final NamedValuesProvider namedValuesProvider;
     private final Locale defaultLocale;
     private final ExceptionHandlingStrategy exceptionHandlingStrategy;
+    private final SpecifierParser specifierParser;
 
     @Inject
     public MarketFactoryImpl(
         MarketDescriptionProvider marketDescriptionProvider,
         NameProviderFactory nameProviderFactory,
         NamedValuesProvider namedValuesProvider,
-        SDKInternalConfiguration config
+        SDKInternalConfiguration config,
+        SpecifierParser specifierParser
     ) {
         Preconditions.checkNotNull(marketDescriptionProvider);
         Preconditions.checkNotNull(nameProviderFactory);
         Preconditions.checkNotNull(namedValuesProvider);
         Preconditions.checkNotNull(config);
+        Preconditions.checkNotNull(specifierParser);
 
         this.marketDescriptionProvider = marketDescriptionProvider;
         this.nameProviderFactory = nameProviderFactory;
         this.namedValuesProvider = namedValuesProvider;
         this.defaultLocale = config.getDefaultLocale();
         this.exceptionHandlingStrategy = config.getExceptionHandlingStrategy();
+        this.specifierParser = specifierParser;
     }
 
     @Override
@@ -78,7 +81,7 @@ public class MarketFactoryImpl implements MarketFactory {
         Preconditions.checkNotNull(sportEvent);
         Preconditions.checkNotNull(market);
 
-        Map<String, String> specifiersMap = parseSpecifiers(market.getSpecifiers());
+        Map<String, String> specifiersMap = specifierParser.parse(market.getSpecifiers());
 
         MarketDescription marketDescriptor;
         try {
@@ -94,7 +97,7 @@ public class MarketFactoryImpl implements MarketFactory {
                 market.getId(),
                 nameProviderFactory.buildNameProvider(sportEvent, market.getId(), specifiersMap, producerId),
                 specifiersMap,
-                parseSpecifiers(market.getExtendedSpecifiers()),
+                specifierParser.parse(market.getExtendedSpecifiers()),
                 new MarketDefinitionImpl(
                     sportEvent,
                     marketDescriptor,
@@ -119,7 +122,7 @@ public class MarketFactoryImpl implements MarketFactory {
         Preconditions.checkNotNull(sportEvent);
         Preconditions.checkNotNull(market);
 
-        Map<String, String> specifiersMap = parseSpecifiers(market.getSpecifiers());
+        Map<String, String> specifiersMap = specifierParser.parse(market.getSpecifiers());
 
         MarketDescription marketDescriptor;
         try {
@@ -142,7 +145,7 @@ public class MarketFactoryImpl implements MarketFactory {
                 market.getId(),
                 nameProvider,
                 specifiersMap,
-                parseSpecifiers(market.getExtendedSpecifiers()),
+                specifierParser.parse(market.getExtendedSpecifiers()),
                 new MarketDefinitionImpl(
                     sportEvent,
                     marketDescriptor,
@@ -178,7 +181,7 @@ public class MarketFactoryImpl implements MarketFactory {
         Preconditions.checkNotNull(sportEvent);
         Preconditions.checkNotNull(market);
 
-        Map<String, String> specifiersMap = parseSpecifiers(market.getSpecifiers());
+        Map<String, String> specifiersMap = specifierParser.parse(market.getSpecifiers());
 
         MarketDescription marketDescriptor;
         try {
@@ -201,7 +204,7 @@ public class MarketFactoryImpl implements MarketFactory {
                 market.getId(),
                 nameProvider,
                 specifiersMap,
-                parseSpecifiers(market.getExtendedSpecifiers()),
+                specifierParser.parse(market.getExtendedSpecifiers()),
                 new MarketDefinitionImpl(
                     sportEvent,
                     marketDescriptor,
@@ -236,7 +239,7 @@ public class MarketFactoryImpl implements MarketFactory {
         Preconditions.checkNotNull(sportEvent);
         Preconditions.checkNotNull(market);
 
-        Map<String, String> specifiersMap = parseSpecifiers(market.getSpecifiers());
+        Map<String, String> specifiersMap = specifierParser.parse(market.getSpecifiers());
 
         MarketDescription marketDescriptor;
         try {
@@ -259,7 +262,7 @@ public class MarketFactoryImpl implements MarketFactory {
                 market.getId(),
                 nameProvider,
                 specifiersMap,
-                parseSpecifiers(market.getExtendedSpecifiers()),
+                specifierParser.parse(market.getExtendedSpecifiers()),
                 new MarketDefinitionImpl(
                     sportEvent,
                     marketDescriptor,
@@ -291,7 +294,7 @@ public class MarketFactoryImpl implements MarketFactory {
         Preconditions.checkNotNull(sportEvent);
         Preconditions.checkNotNull(market);
 
-        Map<String, String> specifiersMap = parseSpecifiers(market.getSpecifiers());
+        Map<String, String> specifiersMap = specifierParser.parse(market.getSpecifiers());
 
         MarketDescription marketDescriptor;
         try {
@@ -307,7 +310,7 @@ public class MarketFactoryImpl implements MarketFactory {
                 market.getId(),
                 nameProviderFactory.buildNameProvider(sportEvent, market.getId(), specifiersMap, producerId),
                 specifiersMap,
-                parseSpecifiers(market.getExtendedSpecifiers()),
+                specifierParser.parse(market.getExtendedSpecifiers()),
                 new MarketDefinitionImpl(
                     sportEvent,
                     marketDescriptor,
@@ -325,30 +328,6 @@ public class MarketFactoryImpl implements MarketFactory {
         );
     }
 
-    private Map<String, String> parseSpecifiers(String specifiers) {
-        if (Strings.isNullOrEmpty(specifiers)) {
-            return Collections.emptyMap();
-        }
-
-        Map<String, String> specifiersMap = new HashMap<>();
-
-        StringTokenizer st = new StringTokenizer(specifiers, "=" + UnifiedFeedConstants.SPECIFIERS_DELIMITER);
-
-        int tokenisedSpecifiers = st.countTokens();
-        if (tokenisedSpecifiers % 2 != 0) {
-            logger.warn("Received message market with malformed specifiers: '{}'", specifiers);
-            return Collections.emptyMap();
-        }
-
-        while (st.hasMoreTokens()) {
-            String key = st.nextToken();
-            String value = st.nextToken();
-            specifiersMap.put(key, value);
-        }
-
-        return specifiersMap;
-    }
-
     private MarketDescription getMarketDescription(
         int marketId,
         URN sportId,
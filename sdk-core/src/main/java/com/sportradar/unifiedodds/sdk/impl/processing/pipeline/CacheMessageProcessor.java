@@ -5,18 +5,19 @@
 package com.sportradar.unifiedodds.sdk.impl.processing.pipeline;
 
 import com.google.common.base.Preconditions;
-import com.sportradar.uf.datamodel.UFBetSettlement;
-import com.sportradar.uf.datamodel.UFBetStop;
 import com.sportradar.uf.datamodel.UFFixtureChange;
 import com.sportradar.uf.datamodel.UFOddsChange;
 import com.sportradar.unifiedodds.sdk.ProducerScope;
 import com.sportradar.unifiedodds.sdk.caching.DataRouterListener;
 import com.sportradar.unifiedodds.sdk.caching.SportEventCache;
 import com.sportradar.unifiedodds.sdk.caching.SportEventStatusCache;
+import com.sportradar.unifiedodds.sdk.impl.FeedMessageEnvelope;
 import com.sportradar.unifiedodds.sdk.impl.FeedMessageProcessor;
 import com.sportradar.unifiedodds.sdk.impl.RoutingKeyInfo;
 import com.sportradar.unifiedodds.sdk.impl.SDKProducerManager;
+import com.sportradar.unifiedodds.sdk.impl.UnifiedOddsStatistics;
 import com.sportradar.unifiedodds.sdk.impl.dto.SportEventStatusDTO;
+import com.sportradar.unifiedodds.sdk.instrumentation.FeedMessageStage;
 import com.sportradar.unifiedodds.sdk.oddsentities.MessageTimestamp;
 import com.sportradar.unifiedodds.sdk.oddsentities.Producer;
 import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
@@ -59,6 +60,11 @@ public class CacheMessageProcessor implements FeedMessageProcessor {
 
     private Set<Integer> ignoredProducersForFixtureEndpoint;
 
+    /**
+     * The {@link UnifiedOddsStatistics} used to record the time spent processing the messages, if any
+     */
+    private final UnifiedOddsStatistics statistics;
+
     /**
      * Initializes a new {@link CacheMessageProcessor} instance
      *
@@ -72,6 +78,25 @@ public class CacheMessageProcessor implements FeedMessageProcessor {
         SportEventCache sportEventCache,
         ProcessedFixtureChangesTracker processedFixtureChangesTracker,
         SDKProducerManager producerManager
+    ) {
+        this(sportEventStatusCache, sportEventCache, processedFixtureChangesTracker, producerManager, null);
+    }
+
+    /**
+     * Initializes a new {@link CacheMessageProcessor} instance
+     *
+     * @param sportEventStatusCache the {@link SportEventStatusCache} used by the associated SDK instance
+     * @param sportEventCache the {@link SportEventCache} used by the associated SDK instance
+     * @param processedFixtureChangesTracker used to track processed fixture change messages
+     * @param producerManager to get 'virtual' producers to ignore for fixture_change_fixture endpoint
+     * @param statistics the {@link UnifiedOddsStatistics} used to record the processing time, or null
+     */
+    public CacheMessageProcessor(
+        SportEventStatusCache sportEventStatusCache,
+        SportEventCache sportEventCache,
+        ProcessedFixtureChangesTracker processedFixtureChangesTracker,
+        SDKProducerManager producerManager,
+        UnifiedOddsStatistics statistics
     ) {
         Preconditions.checkNotNull(sportEventStatusCache);
         Preconditions.checkNotNull(sportEventCache);
@@ -82,6 +107,7 @@ public class CacheMessageProcessor implements FeedMessageProcessor {
         this.sportEventStatusCache = sportEventStatusCache;
         this.sportEventCache = sportEventCache;
         this.processedFixtureChangesTracker = processedFixtureChangesTracker;
+        this.statistics = statistics;
         Collection<Producer> producers = producerManager.getAvailableProducers().values();
         this.ignoredProducersForFixtureEndpoint =
             producers
@@ -95,54 +121,50 @@ public class CacheMessageProcessor implements FeedMessageProcessor {
      * Processes the provided message. If the {@link #nextMessageProcessor} is defined, the instance will forward the
      * message to the {@link #nextMessageProcessor}
      *
-     * @param message - the message that should be processed
+     * @param envelope - the message that should be processed with its resolved fields
      * @param body - the raw body of the received message
      * @param routingKeyInfo - a {@link RoutingKeyInfo} instance describing the message routing key
      * @param timestamp - all message timestamps
      */
     @Override
     public void processMessage(
-        UnmarshalledMessage message,
+        FeedMessageEnvelope envelope,
         byte[] body,
         RoutingKeyInfo routingKeyInfo,
         MessageTimestamp timestamp
     ) {
-        if (message instanceof UFOddsChange) {
-            UFOddsChange fm = (UFOddsChange) message;
-            sportEventStatusCache.addEventIdForTimelineIgnore(
-                URN.parse(fm.getEventId()),
-                fm.getProduct(),
-                fm.getClass().getSimpleName()
-            );
-            processOddsChangeMessage(fm);
-        } else if (message instanceof UFFixtureChange) {
-            UFFixtureChange fm = (UFFixtureChange) message;
-            sportEventStatusCache.addEventIdForTimelineIgnore(
-                URN.parse(fm.getEventId()),
-                fm.getProduct(),
-                fm.getClass().getSimpleName()
-            );
-            processFixtureChangeMessage(fm);
-        } else if (message instanceof UFBetStop) {
-            UFBetStop fm = (UFBetStop) message;
-            sportEventStatusCache.addEventIdForTimelineIgnore(
-                URN.parse(fm.getEventId()),
-                fm.getProduct(),
-                fm.getClass().getSimpleName()
-            );
-            processBetStopMessage(fm);
-        } else if (message instanceof UFBetSettlement) {
-            UFBetSettlement fm = (UFBetSettlement) message;
-            sportEventStatusCache.addEventIdForTimelineIgnore(
-                URN.parse(fm.getEventId()),
-                fm.getProduct(),
-                fm.getClass().getSimpleName()
+        UnmarshalledMessage message = envelope.getMessage();
+        long start = System.nanoTime();
+        switch (envelope.getKind()) {
+            case OddsChange:
+                ignoreTimelineOf(envelope);
+                processOddsChangeMessage((UFOddsChange) message, envelope.getEventId());
+                break;
+            case FixtureChange:
+                ignoreTimelineOf(envelope);
+                processFixtureChangeMessage((UFFixtureChange) message, envelope.getEventId());
+                break;
+            case BetStop:
+                ignoreTimelineOf(envelope);
+                processBetStopMessage(envelope.getEventId());
+                break;
+            case BetSettlement:
+                ignoreTimelineOf(envelope);
+                processBetSettlementMessage(envelope.getEventId());
+                break;
+            default:
+                break;
+        }
+        if (statistics != null) {
+            statistics.onMessageStageCompleted(
+                envelope,
+                FeedMessageStage.CacheProcessing,
+                System.nanoTime() - start
             );
-            processBetSettlementMessage(fm);
         }
 
         if (nextMessageProcessor != null) {
-            nextMessageProcessor.processMessage(message, body, routingKeyInfo, timestamp);
+            nextMessageProcessor.processMessage(envelope, body, routingKeyInfo, timestamp);
         }
     }
 
@@ -156,15 +178,21 @@ public class CacheMessageProcessor implements FeedMessageProcessor {
         this.nextMessageProcessor = nextMessageProcessor;
     }
 
-    private void processFixtureChangeMessage(UFFixtureChange message) {
+    private void ignoreTimelineOf(FeedMessageEnvelope envelope) {
+        sportEventStatusCache.addEventIdForTimelineIgnore(
+            envelope.getEventId(),
+            envelope.getProducerId(),
+            envelope.getMessage().getClass().getSimpleName()
+        );
+    }
+
+    private void processFixtureChangeMessage(UFFixtureChange message, URN relatedEventId) {
         Preconditions.checkNotNull(message);
 
         if (processedFixtureChangesTracker.onFixtureChangeReceived(message)) {
             return;
         }
 
-        URN relatedEventId = URN.parse(message.getEventId());
-
         sportEventCache.purgeCacheItem(relatedEventId);
         sportEventStatusCache.purgeSportEventStatus(relatedEventId);
         if (!ignoredProducersForFixtureEndpoint.contains(message.getProduct())) {
@@ -172,14 +200,13 @@ public class CacheMessageProcessor implements FeedMessageProcessor {
         }
     }
 
-    private void processOddsChangeMessage(UFOddsChange message) {
+    private void processOddsChangeMessage(UFOddsChange message, URN eventId) {
         Preconditions.checkNotNull(message);
 
         if (message.getSportEventStatus() == null) {
             return;
         }
 
-        URN eventId = URN.parse(message.getEventId());
         SportEventStatusDTO sportEventStatusDTO = new SportEventStatusDTO(message.getSportEventStatus());
         ((DataRouterListener) sportEventStatusCache).onSportEventStatusFetched(
                 eventId,
@@ -189,11 +216,7 @@ public class CacheMessageProcessor implements FeedMessageProcessor {
             );
     }
 
-    private void processBetStopMessage(UFBetStop message) {
-        Preconditions.checkNotNull(message);
-
-        URN relatedEventId = URN.parse(message.getEventId());
-
+    private void processBetStopMessage(URN relatedEventId) {
         sportEventStatusCache.purgeSportEventStatus(relatedEventId);
 
         if (isDrawEvent(relatedEventId)) {
@@ -201,11 +224,7 @@ public class CacheMessageProcessor implements FeedMessageProcessor {
         }
     }
 
-    private void processBetSettlementMessage(UFBetSettlement message) {
-        Preconditions.checkNotNull(message);
-
-        URN relatedEventId = URN.parse(message.getEventId());
-
+    private void processBetSettlementMessage(URN relatedEventId) {
         if (isDrawEvent(relatedEventId)) {
             sportEventCache.purgeCacheItem(relatedEventId);
         }
@@ -6,10 +6,10 @@ package com.sportradar.unifiedodds.sdk.impl.processing.pipeline;
 
 import com.google.common.base.Preconditions;
 import com.sportradar.unifiedodds.sdk.impl.CompositeFeedMessageProcessor;
+import com.sportradar.unifiedodds.sdk.impl.FeedMessageEnvelope;
 import com.sportradar.unifiedodds.sdk.impl.FeedMessageProcessor;
 import com.sportradar.unifiedodds.sdk.impl.RoutingKeyInfo;
 import com.sportradar.unifiedodds.sdk.oddsentities.MessageTimestamp;
-import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
 import java.util.List;
 import java.util.UUID;
 
@@ -88,14 +88,14 @@ public class CompositeMessageProcessor implements CompositeFeedMessageProcessor
     /**
      * Starts the processing pipeline by calling the {@link #firstProcessor}
      *
-     * @param message - the message that should be processed
+     * @param envelope - the message that should be processed with its resolved fields
      * @param body - the raw body of the received message
      * @param routingKeyInfo - a {@link RoutingKeyInfo} instance describing the message routing key
      * @param timestamp - all message timestamps
      */
     @Override
     public void processMessage(
-        UnmarshalledMessage message,
+        FeedMessageEnvelope envelope,
         byte[] body,
         RoutingKeyInfo routingKeyInfo,
         MessageTimestamp timestamp
@@ -103,7 +103,7 @@ public class CompositeMessageProcessor implements CompositeFeedMessageProcessor
         if (!initialized) {
             throw new IllegalStateException("The composite message processor needs to be initialized");
         }
-        this.firstProcessor.processMessage(message, body, routingKeyInfo, timestamp);
+        this.firstProcessor.processMessage(envelope, body, routingKeyInfo, timestamp);
     }
 
     /**
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.rabbitconnection;
+
+import com.google.common.base.Preconditions;
+import com.rabbitmq.client.Channel;
+import com.sportradar.unifiedodds.sdk.impl.ProcessedMessageListener;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Acknowledges the messages received on a manual-ack channel in batches. The broker stops delivering
+ * messages once the prefetch window of the channel is full, so a batch is acknowledged (with multiple=true)
+ * when half of the window was processed - which keeps the window open without acknowledging each message.
+ * The messages may be processed out of order (ex: on parallel dispatch lanes), so a batch only covers
+ * the messages up to the lowest delivery tag which is not yet processed; the messages which failed to be
+ * processed are rejected instead. The delivery tags are channel specific, so a new instance must be created
+ * for each opened channel.
+ */
+@SuppressWarnings({ "ConstantName", "IllegalCatch" })
+class BatchingMessageAcknowledger {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchingMessageAcknowledger.class);
+
+    private final Channel channel;
+    private final int batchSize;
+
+    /**
+     * The processed messages whose delivery tag follows a message which is not yet processed,
+     * mapped to an indication if the processing was successful
+     */
+    private final Map<Long, Boolean> processedOutOfOrder = new HashMap<>();
+
+    /**
+     * The delivery tag up to which all the messages were processed
+     */
+    private long processedUpTo;
+
+    /**
+     * The delivery tag of the last successfully processed message up to {@link #processedUpTo}
+     */
+    private long lastDeliveryTag;
+
+    /**
+     * The number of successfully processed messages up to {@link #processedUpTo} which were not yet acknowledged
+     */
+    private int pendingCount;
+
+    /**
+     * Initializes a new {@link BatchingMessageAcknowledger} instance
+     *
+     * @param channel the channel on which the messages are received
+     * @param prefetchCount the prefetch count configured on the channel
+     */
+    BatchingMessageAcknowledger(Channel channel, int prefetchCount) {
+        Preconditions.checkNotNull(channel);
+        Preconditions.checkArgument(prefetchCount > 0, "prefetchCount must be greater than 0");
+
+        this.channel = channel;
+        this.batchSize = Math.max(1, prefetchCount / 2);
+    }
+
+    /**
+     * Returns a {@link ProcessedMessageListener} which records the outcome of the processing of the message
+     *
+     * @param deliveryTag the delivery tag of the message
+     * @return a listener recording the outcome of the processing of the message
+     */
+    ProcessedMessageListener listenerFor(long deliveryTag) {
+        return successful -> {
+            if (successful) {
+                onProcessed(deliveryTag);
+            } else {
+                onFailed(deliveryTag);
+            }
+        };
+    }
+
+    /**
+     * Records the processed message and acknowledges the pending batch if it is full
+     *
+     * @param deliveryTag the delivery tag of the processed message
+     */
+    synchronized void onProcessed(long deliveryTag) {
+        settle(deliveryTag, true);
+    }
+
+    /**
+     * Rejects the message which failed to be processed, without requeueing it
+     *
+     * @param deliveryTag the delivery tag of the message
+     */
+    synchronized void onFailed(long deliveryTag) {
+        try {
+            channel.basicReject(deliveryTag, false);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to reject message with delivery tag {}: {}", deliveryTag, e.getMessage());
+        }
+        settle(deliveryTag, false);
+    }
+
+    /**
+     * Acknowledges all the processed messages which were not yet acknowledged
+     */
+    synchronized void flush() {
+        if (pendingCount == 0) {
+            return;
+        }
+
+        try {
+            channel.basicAck(lastDeliveryTag, true);
+        } catch (IOException | RuntimeException e) {
+            // the channel was closed, the unacknowledged messages are discarded together with its exclusive queue
+            logger.warn("Failed to acknowledge messages up to delivery tag {}: {}", lastDeliveryTag, e.getMessage());
+        }
+        pendingCount = 0;
+    }
+
+    private void settle(long deliveryTag, boolean successful) {
+        if (deliveryTag <= processedUpTo) {
+            return;
+        }
+
+        processedOutOfOrder.put(deliveryTag, successful);
+        while (processedOutOfOrder.containsKey(processedUpTo + 1)) {
+            processedUpTo++;
+            if (processedOutOfOrder.remove(processedUpTo)) {
+                lastDeliveryTag = processedUpTo;
+                pendingCount++;
+            }
+        }
+        if (pendingCount >= batchSize) {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.rabbitconnection;
+
+import com.google.common.base.Preconditions;
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.sportradar.unifiedodds.sdk.impl.RoutingKeyParser;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Creates the supervisors of the channel groups, used when the messages of a session are spread over
+ * sport-partitioned channels
+ */
+class ChannelGroupFactory {
+
+    private final Provider<OnDemandChannelSupervisor> channelProvider;
+    private final RoutingKeyParser routingKeyParser;
+    private final RabbitMqMonitoringThreads rabbitMqMonitoringThreads;
+
+    /**
+     * Initializes a new {@link ChannelGroupFactory} instance
+     *
+     * @param channelProvider the provider of the single channel supervisors
+     * @param routingKeyParser a {@link RoutingKeyParser} used to discard the messages of the partitioned sports
+     * @param rabbitMqMonitoringThreads the threads supervising the channels
+     */
+    @Inject
+    ChannelGroupFactory(
+        Provider<OnDemandChannelSupervisor> channelProvider,
+        RoutingKeyParser routingKeyParser,
+        RabbitMqMonitoringThreads rabbitMqMonitoringThreads
+    ) {
+        Preconditions.checkNotNull(channelProvider);
+        Preconditions.checkNotNull(routingKeyParser);
+        Preconditions.checkNotNull(rabbitMqMonitoringThreads);
+
+        this.channelProvider = channelProvider;
+        this.routingKeyParser = routingKeyParser;
+        this.rabbitMqMonitoringThreads = rabbitMqMonitoringThreads;
+    }
+
+    /**
+     * Creates a supervised {@link ChannelGroupSupervisor} for the provided sport partitions
+     *
+     * @param sportPartitions the sport ids received on dedicated channels, one set per channel
+     * @return the supervisor of the channel group
+     */
+    ChannelSupervisor create(List<Set<Integer>> sportPartitions) {
+        return new ChannelSupervisionScheduler(
+            new ChannelGroupSupervisor(channelProvider, routingKeyParser, sportPartitions),
+            rabbitMqMonitoringThreads
+        );
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.rabbitconnection;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.inject.Provider;
+import com.sportradar.unifiedodds.sdk.impl.ChannelMessageConsumer;
+import com.sportradar.unifiedodds.sdk.impl.RoutingKeyParser;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link OnDemandChannelSupervisor} which spreads the messages of a single session over multiple channels,
+ * all opened on the shared connection. Each provided sport partition gets its own channel (and queue) bound only
+ * to the sports of the partition. The first channel receives the system messages and the messages of the
+ * remaining sports: it is bound to the original routing keys, so it also receives the sports which are not known
+ * yet, and the messages of the partitioned sports are discarded before they are decoded.
+ *
+ * All the messages of a sport event are received on the same channel, so their order is preserved. The
+ * snapshot_complete messages are received on all the channels and dispatched only once received on each of them,
+ * see {@link SnapshotCompleteBarrier}. The channels are opened, closed and inspected together.
+ */
+@SuppressWarnings({ "ConstantName" })
+public class ChannelGroupSupervisor implements OnDemandChannelSupervisor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChannelGroupSupervisor.class);
+
+    private static final String SEGMENT_SEPARATOR = ".";
+    private static final String ANY_SEGMENT = "*";
+    private static final String SYSTEM_ROUTING_KEY_PREFIX = "-.-.-.";
+    private static final int SPORT_SEGMENT_INDEX = 4;
+
+    private final Provider<OnDemandChannelSupervisor> channelProvider;
+    private final RoutingKeyParser routingKeyParser;
+    private final List<Set<Integer>> sportPartitions;
+    private final List<OnDemandChannelSupervisor> channels = new ArrayList<>();
+
+    /**
+     * Initializes a new {@link ChannelGroupSupervisor} instance
+     *
+     * @param channelProvider the provider of the supervisors of the single channels
+     * @param routingKeyParser a {@link RoutingKeyParser} used to discard the messages of the partitioned sports
+     * @param sportPartitions the sport ids received on the dedicated channels, one set per channel
+     */
+    public ChannelGroupSupervisor(
+        Provider<OnDemandChannelSupervisor> channelProvider,
+        RoutingKeyParser routingKeyParser,
+        List<Set<Integer>> sportPartitions
+    ) {
+        Preconditions.checkNotNull(channelProvider);
+        Preconditions.checkNotNull(routingKeyParser);
+        Preconditions.checkNotNull(sportPartitions);
+
+        this.channelProvider = channelProvider;
+        this.routingKeyParser = routingKeyParser;
+        this.sportPartitions = ImmutableList.copyOf(sportPartitions);
+    }
+
+    @Override
+    public synchronized void open(
+        List<String> routingKeys,
+        ChannelMessageConsumer channelMessageConsumer,
+        String messageInterest
+    ) throws IOException {
+        Preconditions.checkNotNull(routingKeys);
+        Preconditions.checkNotNull(channelMessageConsumer);
+
+        if (sportPartitions.isEmpty() || !canBePartitioned(routingKeys)) {
+            if (!sportPartitions.isEmpty()) {
+                logger.warn("Routing keys {} cannot be partitioned by sport, opening a single channel", routingKeys);
+            }
+            channel(0).open(routingKeys, channelMessageConsumer, messageInterest);
+            return;
+        }
+
+        ImmutableSet.Builder<Integer> partitionedSportsBuilder = ImmutableSet.builder();
+        sportPartitions.forEach(partitionedSportsBuilder::addAll);
+        Set<Integer> partitionedSports = partitionedSportsBuilder.build();
+        ChannelMessageConsumer barrier = new SnapshotCompleteBarrier(
+            channelMessageConsumer,
+            sportPartitions.size() + 1
+        );
+
+        channel(0)
+            .open(
+                routingKeys,
+                new ExcludedSportsChannelMessageConsumer(barrier, routingKeyParser, partitionedSports),
+                messageInterest
+            );
+        for (int i = 0; i < sportPartitions.size(); i++) {
+            channel(i + 1).open(partitionRoutingKeys(routingKeys, sportPartitions.get(i)), barrier, messageInterest);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        IOException failure = null;
+        for (OnDemandChannelSupervisor channel : channels) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public ChannelStatus checkStatus() {
+        List<OnDemandChannelSupervisor> current;
+        synchronized (this) {
+            current = new ArrayList<>(channels);
+        }
+
+        boolean permanentlyClosed = false;
+        for (OnDemandChannelSupervisor channel : current) {
+            permanentlyClosed |=
+                channel.checkStatus().getUnderlyingConnectionStatus() ==
+                ChannelStatus.UnderlyingConnectionStatus.PERMANENTLY_CLOSED;
+        }
+        return new ChannelStatus(
+            permanentlyClosed
+                ? ChannelStatus.UnderlyingConnectionStatus.PERMANENTLY_CLOSED
+                : ChannelStatus.UnderlyingConnectionStatus.CAN_BE_OPEN
+        );
+    }
+
+    /**
+     * Returns the routing keys limited to the provided sports. Only the routing keys which do not restrict
+     * the sport are expected, see {@link #canBePartitioned(List)}; of the system routing keys only the
+     * snapshot_complete ones are kept, see {@link SnapshotCompleteBarrier}.
+     *
+     * @param routingKeys the session routing keys
+     * @param sportIds the ids of the sports which should be received
+     * @return the routing keys limited to the provided sports
+     */
+    static List<String> partitionRoutingKeys(List<String> routingKeys, Set<Integer> sportIds) {
+        List<String> result = new ArrayList<>();
+        for (String routingKey : routingKeys) {
+            if (SnapshotCompleteBarrier.isSnapshotCompleteRoutingKey(routingKey)) {
+                result.add(routingKey);
+            } else if (!routingKey.startsWith(SYSTEM_ROUTING_KEY_PREFIX)) {
+                addSportRoutingKeys(result, routingKey, sportIds);
+            }
+        }
+        return result;
+    }
+
+    private static void addSportRoutingKeys(List<String> result, String routingKey, Set<Integer> sportIds) {
+        String[] segments = routingKey.split("\\.");
+        for (Integer sportId : sportIds) {
+            segments[SPORT_SEGMENT_INDEX] = String.valueOf(sportId);
+            result.add(String.join(SEGMENT_SEPARATOR, segments));
+        }
+    }
+
+    /**
+     * Checks whether all the routing keys are either system routing keys or routing keys matching any sport
+     * on an explicit sport segment (ex: "*.*.live.*.*.*.*.-.#"), so they can be limited to the partitioned sports
+     *
+     * @param routingKeys the session routing keys
+     * @return true if the routing keys can be partitioned by sport; otherwise false
+     */
+    static boolean canBePartitioned(List<String> routingKeys) {
+        for (String routingKey : routingKeys) {
+            if (routingKey.startsWith(SYSTEM_ROUTING_KEY_PREFIX)) {
+                continue;
+            }
+            String[] segments = routingKey.split("\\.");
+            if (segments.length <= SPORT_SEGMENT_INDEX || !ANY_SEGMENT.equals(segments[SPORT_SEGMENT_INDEX])) {
+                return false;
+            }
+            for (int i = 0; i < SPORT_SEGMENT_INDEX; i++) {
+                if ("#".equals(segments[i])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the channels of the group
+     *
+     * @return the channels of the group
+     */
+    synchronized List<OnDemandChannelSupervisor> getChannels() {
+        return Collections.unmodifiableList(new ArrayList<>(channels));
+    }
+
+    private OnDemandChannelSupervisor channel(int index) {
+        while (channels.size() <= index) {
+            channels.add(channelProvider.get());
+        }
+        return channels.get(index);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.rabbitconnection;
+
+import com.google.common.base.Preconditions;
+import com.rabbitmq.client.AMQP;
+import com.sportradar.unifiedodds.sdk.impl.ChannelMessageConsumer;
+import com.sportradar.unifiedodds.sdk.impl.MessageConsumer;
+import com.sportradar.unifiedodds.sdk.impl.ProcessedMessageListener;
+import com.sportradar.unifiedodds.sdk.impl.RoutingKeyInfo;
+import com.sportradar.unifiedodds.sdk.impl.RoutingKeyParser;
+import com.sportradar.utils.URN;
+import java.util.Set;
+
+/**
+ * A {@link ChannelMessageConsumer} which discards the messages of the provided sports, which are received
+ * on dedicated channels of a {@link ChannelGroupSupervisor}
+ */
+class ExcludedSportsChannelMessageConsumer implements ChannelMessageConsumer {
+
+    private final ChannelMessageConsumer channelMessageConsumer;
+    private final RoutingKeyParser routingKeyParser;
+    private final Set<Integer> excludedSportIds;
+
+    /**
+     * Initializes a new {@link ExcludedSportsChannelMessageConsumer} instance
+     *
+     * @param channelMessageConsumer the consumer which receives the messages of the other sports
+     * @param routingKeyParser a {@link RoutingKeyParser} used to extract the sport id from the routing key
+     * @param excludedSportIds the ids of the sports whose messages should be discarded
+     */
+    ExcludedSportsChannelMessageConsumer(
+        ChannelMessageConsumer channelMessageConsumer,
+        RoutingKeyParser routingKeyParser,
+        Set<Integer> excludedSportIds
+    ) {
+        Preconditions.checkNotNull(channelMessageConsumer);
+        Preconditions.checkNotNull(routingKeyParser);
+        Preconditions.checkNotNull(excludedSportIds);
+
+        this.channelMessageConsumer = channelMessageConsumer;
+        this.routingKeyParser = routingKeyParser;
+        this.excludedSportIds = excludedSportIds;
+    }
+
+    @Override
+    public void open(MessageConsumer messageConsumer) {
+        channelMessageConsumer.open(messageConsumer);
+    }
+
+    @Override
+    public void onMessageReceived(
+        String routingKey,
+        byte[] body,
+        AMQP.BasicProperties properties,
+        long receivedAt
+    ) {
+        if (!isExcluded(routingKey)) {
+            channelMessageConsumer.onMessageReceived(routingKey, body, properties, receivedAt);
+        }
+    }
+
+    @Override
+    public void onMessageReceived(
+        String routingKey,
+        byte[] body,
+        AMQP.BasicProperties properties,
+        long receivedAt,
+        ProcessedMessageListener listener
+    ) {
+        if (isExcluded(routingKey)) {
+            listener.onProcessed(true);
+            return;
+        }
+
+        channelMessageConsumer.onMessageReceived(routingKey, body, properties, receivedAt, listener);
+    }
+
+    private boolean isExcluded(String routingKey) {
+        RoutingKeyInfo routingKeyInfo = routingKeyParser.getRoutingKeyInfo(routingKey);
+        URN sportId = routingKeyInfo.getSportId();
+        return sportId != null && excludedSportIds.contains((int) sportId.getId());
+    }
+}
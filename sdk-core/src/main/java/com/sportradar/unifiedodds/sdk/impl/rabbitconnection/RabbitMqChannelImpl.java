@@ -8,6 +8,7 @@ import com.google.common.base.Preconditions;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import com.rabbitmq.client.*;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.impl.ChannelMessageConsumer;
 import com.sportradar.unifiedodds.sdk.impl.RabbitMqSystemListener;
 import com.sportradar.unifiedodds.sdk.impl.TimeUtils;
@@ -105,6 +106,35 @@ public class RabbitMqChannelImpl implements OnDemandChannelSupervisor {
 
     private TimeUtils timeUtils;
 
+    /**
+     * The max number of unacknowledged messages delivered to the channel, 0 if the messages are auto-acknowledged
+     */
+    private final int prefetchCount;
+
+    /**
+     * The {@link BatchingMessageAcknowledger} of the current channel, null if the messages are auto-acknowledged
+     */
+    private BatchingMessageAcknowledger acknowledger;
+
+    /**
+     * Initializes a new instance of the {@link RabbitMqChannelImpl}
+     *
+     * @param rabbitMqSystemListener a {@link RabbitMqSystemListener} instance used to dispatch system events
+     * @param whoAmIReader           a {@link WhoAmIReader} used to access current SDK instance context information
+     * @param sdkVersion             version of the sdk
+     * @param connectionFactory      Connection factory for getting actual connection
+     * @param timeUtils              a time utility class
+     */
+    public RabbitMqChannelImpl(
+        RabbitMqSystemListener rabbitMqSystemListener,
+        WhoAmIReader whoAmIReader,
+        String sdkVersion,
+        AMQPConnectionFactory connectionFactory,
+        TimeUtils timeUtils
+    ) {
+        this(rabbitMqSystemListener, whoAmIReader, sdkVersion, connectionFactory, timeUtils, 0);
+    }
+
     /**
      * Initializes a new instance of the {@link RabbitMqChannelImpl}
      *
@@ -113,6 +143,7 @@ public class RabbitMqChannelImpl implements OnDemandChannelSupervisor {
      * @param sdkVersion             version of the sdk
      * @param connectionFactory      Connection factory for getting actual connection
      * @param timeUtils              a time utility class
+     * @param config                 the {@link SDKInternalConfiguration} providing the messaging prefetch count
      */
     @Inject
     public RabbitMqChannelImpl(
@@ -120,12 +151,42 @@ public class RabbitMqChannelImpl implements OnDemandChannelSupervisor {
         WhoAmIReader whoAmIReader,
         @Named("version") String sdkVersion,
         AMQPConnectionFactory connectionFactory,
-        TimeUtils timeUtils
+        TimeUtils timeUtils,
+        SDKInternalConfiguration config
+    ) {
+        this(
+            rabbitMqSystemListener,
+            whoAmIReader,
+            sdkVersion,
+            connectionFactory,
+            timeUtils,
+            config.getMessagingPrefetchCount()
+        );
+    }
+
+    /**
+     * Initializes a new instance of the {@link RabbitMqChannelImpl}
+     *
+     * @param rabbitMqSystemListener a {@link RabbitMqSystemListener} instance used to dispatch system events
+     * @param whoAmIReader           a {@link WhoAmIReader} used to access current SDK instance context information
+     * @param sdkVersion             version of the sdk
+     * @param connectionFactory      Connection factory for getting actual connection
+     * @param timeUtils              a time utility class
+     * @param prefetchCount          the max number of unacknowledged messages, 0 to auto-acknowledge the messages
+     */
+    RabbitMqChannelImpl(
+        RabbitMqSystemListener rabbitMqSystemListener,
+        WhoAmIReader whoAmIReader,
+        String sdkVersion,
+        AMQPConnectionFactory connectionFactory,
+        TimeUtils timeUtils,
+        int prefetchCount
     ) {
         Preconditions.checkNotNull(rabbitMqSystemListener);
         Preconditions.checkNotNull(whoAmIReader);
         Preconditions.checkNotNull(connectionFactory);
         Preconditions.checkNotNull(timeUtils);
+        Preconditions.checkArgument(prefetchCount >= 0, "prefetchCount must not be negative");
 
         this.rabbitMqSystemListener = rabbitMqSystemListener;
         this.sdkMdcContextDescription = whoAmIReader.getAssociatedSdkMdcContextMap();
@@ -134,6 +195,7 @@ public class RabbitMqChannelImpl implements OnDemandChannelSupervisor {
         this.channelLastMessage = LocalDateTime.MIN;
         this.channelStarted = 0;
         this.timeUtils = timeUtils;
+        this.prefetchCount = prefetchCount;
     }
 
     /**
@@ -196,11 +258,23 @@ public class RabbitMqChannelImpl implements OnDemandChannelSupervisor {
             }
         }
 
+        boolean autoAck = prefetchCount == 0;
+        BatchingMessageAcknowledger channelAcknowledger = null;
+        if (!autoAck) {
+            channel.basicQos(prefetchCount);
+            channelAcknowledger = new BatchingMessageAcknowledger(channel, prefetchCount);
+        }
+        final BatchingMessageAcknowledger deliveryAcknowledger = channelAcknowledger;
+
         String qName = channel.queueDeclare().getQueue();
-        for (String routingKey : routingKeys) {
-            logger.debug("Binding queue={} with routingKey={}", qName, routingKey);
-            channel.queueBind(qName, UF_EXCHANGE, routingKey);
+        // the broker processes the bindings in order, so only the last one waits for the confirmation
+        int lastIndex = routingKeys.size() - 1;
+        for (int i = 0; i < lastIndex; i++) {
+            logger.debug("Binding queue={} with routingKey={}", qName, routingKeys.get(i));
+            channel.queueBindNoWait(qName, UF_EXCHANGE, routingKeys.get(i), null);
         }
+        logger.debug("Binding queue={} with routingKey={}", qName, routingKeys.get(lastIndex));
+        channel.queueBind(qName, UF_EXCHANGE, routingKeys.get(lastIndex));
 
         DefaultConsumer consumer = new DefaultConsumer(channel) {
             @Override
@@ -217,12 +291,23 @@ public class RabbitMqChannelImpl implements OnDemandChannelSupervisor {
                             Instant.ofEpochMilli(timeUtils.now()),
                             ZoneId.systemDefault()
                         );
-                    channelMessageConsumer.onMessageReceived(
-                        envelope.getRoutingKey(),
-                        body,
-                        properties,
-                        new TimeUtilsImpl().now()
-                    );
+                    if (deliveryAcknowledger == null) {
+                        channelMessageConsumer.onMessageReceived(
+                            envelope.getRoutingKey(),
+                            body,
+                            properties,
+                            new TimeUtilsImpl().now()
+                        );
+                    } else {
+                        // the consumer may process the message on another thread, it is acknowledged once processed
+                        channelMessageConsumer.onMessageReceived(
+                            envelope.getRoutingKey(),
+                            body,
+                            properties,
+                            new TimeUtilsImpl().now(),
+                            deliveryAcknowledger.listenerFor(envelope.getDeliveryTag())
+                        );
+                    }
                 } catch (Exception e) {
                     logger.error(
                         String.format(
@@ -232,6 +317,9 @@ public class RabbitMqChannelImpl implements OnDemandChannelSupervisor {
                         ),
                         e
                     );
+                    if (deliveryAcknowledger != null) {
+                        deliveryAcknowledger.onFailed(envelope.getDeliveryTag());
+                    }
                 }
                 MDC.clear();
             }
@@ -247,7 +335,8 @@ public class RabbitMqChannelImpl implements OnDemandChannelSupervisor {
             new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()),
             SdkHelper.getUuid(8)
         );
-        channel.basicConsume(qName, true, consumerTag, consumer);
+        channel.basicConsume(qName, autoAck, consumerTag, consumer);
+        acknowledger = deliveryAcknowledger;
         logger.info(
             "BasicConsume for channel={}, queue={} and consumer tag {} executed.",
             channel.getChannelNumber(),
@@ -290,6 +379,12 @@ public class RabbitMqChannelImpl implements OnDemandChannelSupervisor {
     }
 
     private void stagesNotExitingTheLoopButPrematurilyTerminatingCurrentIteration() {
+        // acknowledge the messages processed since the last full batch, so they do not linger while the feed is quiet
+        BatchingMessageAcknowledger currentAcknowledger = acknowledger;
+        if (currentAcknowledger != null) {
+            currentAcknowledger.flush();
+        }
+
         if (channel == null) {
             try {
                 logger.info("No channel. Creating connection channel ...");
@@ -395,6 +490,7 @@ public class RabbitMqChannelImpl implements OnDemandChannelSupervisor {
             logger.error(String.format("Error closing channel: %s", e.getMessage()));
         } finally {
             channel = null;
+            acknowledger = null;
             channelStarted = 0;
         }
     }
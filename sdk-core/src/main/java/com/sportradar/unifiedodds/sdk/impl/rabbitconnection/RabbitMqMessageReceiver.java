@@ -5,18 +5,33 @@
 package com.sportradar.unifiedodds.sdk.impl.rabbitconnection;
 
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.sportradar.unifiedodds.sdk.impl.ChannelMessageConsumer;
 import com.sportradar.unifiedodds.sdk.impl.MessageConsumer;
 import com.sportradar.unifiedodds.sdk.impl.MessageReceiver;
+import com.sportradar.unifiedodds.sdk.impl.PartitionedChannelMessageConsumer;
+import com.sportradar.unifiedodds.sdk.impl.RoutingKeyParser;
+import com.sportradar.unifiedodds.sdk.impl.apireaders.WhoAmIReader;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A RabbitMQ message receiver
  */
+@SuppressWarnings({ "ClassFanOutComplexity", "ConstantName" })
 public class RabbitMqMessageReceiver implements MessageReceiver {
 
+    private static final Logger logger = LoggerFactory.getLogger(RabbitMqMessageReceiver.class);
+
     /**
      * The {@link ChannelSupervisor} instance which will provide the message payloads
      */
@@ -27,21 +42,81 @@ public class RabbitMqMessageReceiver implements MessageReceiver {
      */
     private final ChannelMessageConsumer channelMessageConsumer;
 
+    /**
+     * A {@link RoutingKeyParser} used to assign the payloads to the dispatch lanes
+     */
+    private final RoutingKeyParser routingKeyParser;
+
+    /**
+     * A {@link WhoAmIReader} used to access current SDK instance context information
+     */
+    private final WhoAmIReader whoAmIReader;
+
+    /**
+     * The factory of the channel groups, used when the session messages are spread over multiple channels
+     */
+    private final ChannelGroupFactory channelGroupFactory;
+
+    /**
+     * The sport ids received on dedicated channels, one set per channel
+     */
+    private List<Set<Integer>> sportChannelPartitions = Collections.emptyList();
+
+    /**
+     * The supervisor of the opened channel(s)
+     */
+    private ChannelSupervisor openedSupervisor;
+
+    /**
+     * The lane consumer, if the receiver was opened with per-event dispatch lanes
+     */
+    private PartitionedChannelMessageConsumer partitionedConsumer;
+
+    /**
+     * The name under which the lane statistics are registered
+     */
+    private ObjectName laneStatisticsName;
+
     /**
      * Initializes a new instance of {@link RabbitMqMessageReceiver}
      *
      * @param channelSupervisor a {@link ChannelSupervisor} instance which will provide the message payloads
      * @param channelMessageConsumer the raw message consumer
+     * @param routingKeyParser a {@link RoutingKeyParser} used to assign the payloads to the dispatch lanes
+     * @param whoAmIReader a {@link WhoAmIReader} used to access current SDK instance context information
+     * @param channelGroupFactory the factory of the channel groups
      */
     @Inject
     RabbitMqMessageReceiver(
         ChannelSupervisor channelSupervisor,
-        ChannelMessageConsumer channelMessageConsumer
+        ChannelMessageConsumer channelMessageConsumer,
+        RoutingKeyParser routingKeyParser,
+        WhoAmIReader whoAmIReader,
+        ChannelGroupFactory channelGroupFactory
     ) {
         Preconditions.checkNotNull(channelSupervisor);
+        Preconditions.checkNotNull(routingKeyParser);
+        Preconditions.checkNotNull(whoAmIReader);
+        Preconditions.checkNotNull(channelGroupFactory);
 
         this.channelSupervisor = channelSupervisor;
         this.channelMessageConsumer = channelMessageConsumer;
+        this.routingKeyParser = routingKeyParser;
+        this.whoAmIReader = whoAmIReader;
+        this.channelGroupFactory = channelGroupFactory;
+    }
+
+    /**
+     * Spreads the received messages over multiple channels, one for each provided sport partition plus
+     * one for the remaining messages, must be invoked before the receiver is opened
+     *
+     * @param partitions the sport ids received on dedicated channels, one set per channel
+     */
+    @Override
+    public void setSportChannelPartitions(List<Set<Integer>> partitions) {
+        Preconditions.checkNotNull(partitions);
+
+        this.sportChannelPartitions = partitions;
     }
 
     /**
@@ -55,11 +130,43 @@ public class RabbitMqMessageReceiver implements MessageReceiver {
     public void open(List<String> routingKeys, MessageConsumer messageConsumer) throws IOException {
         channelMessageConsumer.open(messageConsumer);
 
-        channelSupervisor.openChannel(
-            routingKeys,
-            channelMessageConsumer,
-            messageConsumer.getMessageInterest().toShortString()
-        );
+        openChannel(routingKeys, channelMessageConsumer, messageConsumer.getMessageInterest().toShortString());
+    }
+
+    /**
+     * Opens the current instance so it starts receiving messages, which are dispatched to the
+     * provided {@link MessageConsumer} on per-event ordered lanes
+     *
+     * @param routingKeys a {@link List} of requested routing keys
+     * @param messageConsumer a {@link MessageConsumer} instance which will receive messages
+     * @param laneCount the number of lanes processing the messages in parallel
+     * @param laneQueueCapacity the max number of messages waiting on a single lane
+     * @throws IOException if the RabbitMq channel failed to open
+     */
+    @Override
+    public void open(
+        List<String> routingKeys,
+        MessageConsumer messageConsumer,
+        int laneCount,
+        int laneQueueCapacity
+    ) throws IOException {
+        String interest = messageConsumer.getMessageInterest().toShortString();
+        partitionedConsumer =
+            new PartitionedChannelMessageConsumer(
+                channelMessageConsumer,
+                routingKeyParser,
+                laneCount,
+                laneQueueCapacity,
+                new ThreadFactoryBuilder()
+                    .setNameFormat(whoAmIReader.getSdkContextDescription() + "-" + interest + "-lane-%d")
+                    .build(),
+                whoAmIReader.getAssociatedSdkMdcContextMap()
+            );
+        registerLaneStatistics(messageConsumer);
+
+        partitionedConsumer.open(messageConsumer);
+
+        openChannel(routingKeys, partitionedConsumer, interest);
     }
 
     /**
@@ -69,6 +176,54 @@ public class RabbitMqMessageReceiver implements MessageReceiver {
      */
     @Override
     public void close() throws IOException {
-        channelSupervisor.closeChannel();
+        if (openedSupervisor != null) {
+            openedSupervisor.closeChannel();
+        }
+
+        if (partitionedConsumer != null) {
+            partitionedConsumer.close();
+            unregisterLaneStatistics();
+        }
+    }
+
+    private void openChannel(List<String> routingKeys, ChannelMessageConsumer consumer, String interest)
+        throws IOException {
+        if (openedSupervisor == null) {
+            openedSupervisor =
+                sportChannelPartitions.isEmpty()
+                    ? channelSupervisor
+                    : channelGroupFactory.create(sportChannelPartitions);
+        }
+
+        openedSupervisor.openChannel(routingKeys, consumer, interest);
+    }
+
+    private void registerLaneStatistics(MessageConsumer messageConsumer) {
+        MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            laneStatisticsName =
+                new ObjectName(
+                    "com.sportradar.unifiedodds.sdk.impl:type=DispatchLanes,session=" +
+                    ObjectName.quote(
+                        messageConsumer.getConsumerDescription() + "-" + System.identityHashCode(messageConsumer)
+                    )
+                );
+            if (!mbeanServer.isRegistered(laneStatisticsName)) {
+                mbeanServer.registerMBean(partitionedConsumer.getStatistics(), laneStatisticsName);
+            }
+        } catch (JMException e) {
+            logger.warn("DispatchLaneStatistics registration failed w/ ex.:", e);
+        }
+    }
+
+    private void unregisterLaneStatistics() {
+        MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            if (laneStatisticsName != null && mbeanServer.isRegistered(laneStatisticsName)) {
+                mbeanServer.unregisterMBean(laneStatisticsName);
+            }
+        } catch (JMException e) {
+            logger.warn("DispatchLaneStatistics unregistration failed w/ ex.:", e);
+        }
     }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.rabbitconnection;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.rabbitmq.client.AMQP;
+import com.sportradar.unifiedodds.sdk.impl.ChannelMessageConsumer;
+import com.sportradar.unifiedodds.sdk.impl.MessageConsumer;
+import com.sportradar.unifiedodds.sdk.impl.ProcessedMessageListener;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link ChannelMessageConsumer} shared by all the channels of a {@link ChannelGroupSupervisor}. Each channel
+ * of the group is bound to the snapshot_complete routing keys, so each of them receives its own copy of
+ * a snapshot_complete message - after the snapshot messages received on the same channel. The message is
+ * dispatched once its copy was received on all the channels, so it can not overtake the snapshot messages
+ * still waiting on the other channels. The other messages are dispatched as they are received.
+ */
+class SnapshotCompleteBarrier implements ChannelMessageConsumer {
+
+    private static final String SNAPSHOT_COMPLETE_ROUTING_KEY_PREFIX = "-.-.-.snapshot_complete.";
+
+    private final ChannelMessageConsumer channelMessageConsumer;
+    private final int channelCount;
+
+    /**
+     * The number of received copies of the snapshot_complete messages which were not yet received on all
+     * the channels. A channel which was restarted may miss its copy, such messages are discarded after a while
+     * and the recovery which requested them is repeated once it times out.
+     */
+    private final ConcurrentMap<String, Integer> receivedCopies = CacheBuilder
+        .newBuilder()
+        .expireAfterWrite(1, TimeUnit.HOURS)
+        .<String, Integer>build()
+        .asMap();
+
+    /**
+     * Initializes a new {@link SnapshotCompleteBarrier} instance
+     *
+     * @param channelMessageConsumer the consumer which receives the messages
+     * @param channelCount the number of channels in the group
+     */
+    SnapshotCompleteBarrier(ChannelMessageConsumer channelMessageConsumer, int channelCount) {
+        Preconditions.checkNotNull(channelMessageConsumer);
+        Preconditions.checkArgument(channelCount > 0, "channelCount must be greater than 0");
+
+        this.channelMessageConsumer = channelMessageConsumer;
+        this.channelCount = channelCount;
+    }
+
+    /**
+     * Indicates if the provided routing key is a snapshot_complete routing key, which all the channels
+     * of the group must be bound to
+     *
+     * @param routingKey the routing key
+     * @return true if the routing key is a snapshot_complete routing key; otherwise false
+     */
+    static boolean isSnapshotCompleteRoutingKey(String routingKey) {
+        return routingKey.startsWith(SNAPSHOT_COMPLETE_ROUTING_KEY_PREFIX);
+    }
+
+    @Override
+    public void open(MessageConsumer messageConsumer) {
+        channelMessageConsumer.open(messageConsumer);
+    }
+
+    @Override
+    public void onMessageReceived(String routingKey, byte[] body, AMQP.BasicProperties properties, long receivedAt) {
+        if (isLastCopy(routingKey, body)) {
+            channelMessageConsumer.onMessageReceived(routingKey, body, properties, receivedAt);
+        }
+    }
+
+    @Override
+    public void onMessageReceived(
+        String routingKey,
+        byte[] body,
+        AMQP.BasicProperties properties,
+        long receivedAt,
+        ProcessedMessageListener listener
+    ) {
+        if (isLastCopy(routingKey, body)) {
+            channelMessageConsumer.onMessageReceived(routingKey, body, properties, receivedAt, listener);
+        } else {
+            listener.onProcessed(true);
+        }
+    }
+
+    private boolean isLastCopy(String routingKey, byte[] body) {
+        if (channelCount == 1 || !isSnapshotCompleteRoutingKey(routingKey)) {
+            return true;
+        }
+
+        String message = routingKey + '\n' + (body == null ? "" : new String(body, StandardCharsets.UTF_8));
+        Integer copies = receivedCopies.merge(message, 1, Integer::sum);
+        if (copies < channelCount) {
+            return false;
+        }
+        receivedCopies.remove(message);
+        return true;
+    }
+}
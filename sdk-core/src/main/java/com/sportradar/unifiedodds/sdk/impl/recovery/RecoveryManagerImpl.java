@@ -149,10 +149,7 @@ public class RecoveryManagerImpl
         long now
     ) {
         messageProcessingTimes.put(uniqueMessageProcessorIdentifier, now);
-        provideProducerInfo(producerId).setLastMessageReceivedTimestamp(now);
-        if (requestId != null && requestId > 0) {
-            provideProducerInfo(producerId).setLastRecoveryMessageReceivedTimestamp(now);
-        }
+        onMessageReceived(producerId, requestId, now);
     }
 
     @Override
@@ -178,7 +175,35 @@ public class RecoveryManagerImpl
         }
 
         long endedAt = timeUtils.now();
-        long processingTime = endedAt - messageProcessingStartedTime;
+        warnOnLongProcessing(producerId, eventId, endedAt - messageProcessingStartedTime);
+
+        messageProcessingTimes.put(uniqueMessageProcessorIdentifier, 0L);
+    }
+
+    @Override
+    public void onMessageProcessed(
+        int producerId,
+        Long requestId,
+        long receivedAt,
+        Long processedMessageGenTimestamp,
+        String eventId,
+        long processingTime
+    ) {
+        onMessageReceived(producerId, requestId, receivedAt);
+        if (processedMessageGenTimestamp != null) {
+            provideProducerInfo(producerId).setLastProcessedMessageGenTimestamp(processedMessageGenTimestamp);
+        }
+        warnOnLongProcessing(producerId, eventId, processingTime);
+    }
+
+    private void onMessageReceived(int producerId, Long requestId, long receivedAt) {
+        provideProducerInfo(producerId).setLastMessageReceivedTimestamp(receivedAt);
+        if (requestId != null && requestId > 0) {
+            provideProducerInfo(producerId).setLastRecoveryMessageReceivedTimestamp(receivedAt);
+        }
+    }
+
+    private void warnOnLongProcessing(int producerId, String eventId, long processingTime) {
         if (processingTime > MAX_RECOMMENDED_PROCESSING_TIME) {
             logger.warn(
                 String.format(
@@ -190,8 +215,6 @@ public class RecoveryManagerImpl
                 )
             );
         }
-
-        messageProcessingTimes.put(uniqueMessageProcessorIdentifier, 0L);
     }
 
     @Override
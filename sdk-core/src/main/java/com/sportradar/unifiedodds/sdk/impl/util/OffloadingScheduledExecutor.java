@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.util;
+
+import com.google.common.base.Preconditions;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ScheduledThreadPoolExecutor} of which the single thread only keeps the time. Once a task is due, it is
+ * handed to the task executor (ex: a virtual thread per task executor), so the due tasks run concurrently instead
+ * of waiting for each other. A periodic task does not overlap with itself, the executions which are due while the
+ * previous one is still running are skipped. The futures of the scheduled runnables complete once the task was
+ * handed to the task executor, the callables still run on the timer thread.
+ */
+@SuppressWarnings({ "ConstantName", "IllegalCatch" })
+final class OffloadingScheduledExecutor extends ScheduledThreadPoolExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(OffloadingScheduledExecutor.class);
+
+    private final ExecutorService taskExecutor;
+
+    /**
+     * Initializes a new {@link OffloadingScheduledExecutor} instance
+     *
+     * @param timerThreadFactory the factory creating the thread which keeps the time
+     * @param taskExecutor the executor running the due tasks, it is shut down together with this executor
+     */
+    OffloadingScheduledExecutor(ThreadFactory timerThreadFactory, ExecutorService taskExecutor) {
+        super(1, timerThreadFactory);
+        Preconditions.checkNotNull(taskExecutor);
+
+        this.taskExecutor = taskExecutor;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return super.schedule(offload(command), delay, unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        return super.scheduleAtFixedRate(offload(command), initialDelay, period, unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        return super.scheduleWithFixedDelay(offload(command), initialDelay, delay, unit);
+    }
+
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        taskExecutor.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        taskExecutor.shutdownNow();
+        return super.shutdownNow();
+    }
+
+    private Runnable offload(Runnable command) {
+        Preconditions.checkNotNull(command);
+
+        AtomicBoolean running = new AtomicBoolean();
+        return () -> {
+            if (running.compareAndSet(false, true)) {
+                handOver(command, running);
+            } else {
+                logger.debug("Skipping the execution of {}, the previous one is still running", command);
+            }
+        };
+    }
+
+    private void handOver(Runnable command, AtomicBoolean running) {
+        try {
+            taskExecutor.execute(() -> runOffloaded(command, running));
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    private static void runOffloaded(Runnable command, AtomicBoolean running) {
+        try {
+            command.run();
+        } catch (RuntimeException e) {
+            logger.warn("An exception occurred while running a scheduled task", e);
+        } finally {
+            running.set(false);
+        }
+    }
+}
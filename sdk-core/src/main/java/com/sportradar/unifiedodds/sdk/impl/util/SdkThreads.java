@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.util;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates the threads running the blocking SDK work. When enabled by the configuration and supported by the
+ * runtime (Java 21 or newer), the threads are virtual, so the work blocked on the API requests does not hold
+ * platform threads. The SDK is compiled for older Java versions, so the virtual threads are created reflectively.
+ */
+@SuppressWarnings({ "ConstantName" })
+public final class SdkThreads {
+
+    private static final Logger logger = LoggerFactory.getLogger(SdkThreads.class);
+
+    private static final int VIRTUAL_THREADS_FEATURE_VERSION = 21;
+    private static final Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual");
+    private static final boolean VIRTUAL_THREADS_SUPPORTED =
+        getRuntimeFeatureVersion() >= VIRTUAL_THREADS_FEATURE_VERSION && OF_VIRTUAL != null;
+    private static final AtomicBoolean UNSUPPORTED_WARNING_LOGGED = new AtomicBoolean();
+
+    private SdkThreads() {}
+
+    /**
+     * Indicates if the current runtime supports virtual threads. The virtual threads of Java 19 and 20 are a
+     * preview feature, so they are not used on those runtimes.
+     *
+     * @return true if the current runtime supports virtual threads; otherwise false
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_THREADS_SUPPORTED;
+    }
+
+    /**
+     * Indicates if the virtual threads should be used, logging a warning (once) if they are enabled by the
+     * configuration but not supported by the current runtime
+     *
+     * @param useVirtualThreads the configured value indicating if the virtual threads should be used
+     * @return true if the virtual threads are enabled and supported; otherwise false
+     */
+    public static boolean shouldUseVirtualThreads(boolean useVirtualThreads) {
+        if (useVirtualThreads && !isVirtualThreadSupported()) {
+            if (UNSUPPORTED_WARNING_LOGGED.compareAndSet(false, true)) {
+                logger.warn("Virtual threads require Java 21 or newer, the SDK will use platform threads");
+            }
+            return false;
+        }
+        return useVirtualThreads;
+    }
+
+    /**
+     * Creates a {@link ThreadFactory} creating threads named by the provided prefix and a sequence number
+     *
+     * @param namePrefix the prefix of the created thread names (ex: UfSdk-t-)
+     * @param useVirtualThreads the configured value indicating if the created threads should be virtual
+     * @return the {@link ThreadFactory} creating virtual threads if they are enabled and supported; otherwise
+     *         a {@link ThreadFactory} creating platform threads
+     */
+    public static ThreadFactory newThreadFactory(String namePrefix, boolean useVirtualThreads) {
+        Preconditions.checkNotNull(namePrefix);
+
+        if (shouldUseVirtualThreads(useVirtualThreads)) {
+            return newVirtualThreadFactory(namePrefix);
+        }
+        return new ThreadFactoryBuilder().setNameFormat(namePrefix + "%d").build();
+    }
+
+    /**
+     * Creates a {@link ScheduledExecutorService} running the scheduled tasks. When the virtual threads are enabled
+     * and supported, its single platform thread only keeps the time and the due tasks run on a virtual thread
+     * each, so the tasks blocked on the API requests do not delay the other tasks.
+     *
+     * @param namePrefix the prefix of the names of the threads running the tasks
+     * @param useVirtualThreads the configured value indicating if the tasks should run on virtual threads
+     * @return the {@link ScheduledExecutorService} running the scheduled tasks
+     */
+    public static ScheduledExecutorService newScheduledExecutor(String namePrefix, boolean useVirtualThreads) {
+        Preconditions.checkNotNull(namePrefix);
+
+        if (shouldUseVirtualThreads(useVirtualThreads)) {
+            return new OffloadingScheduledExecutor(
+                newThreadFactory(namePrefix + "timer-", false),
+                newVirtualThreadPerTaskExecutor(namePrefix)
+            );
+        }
+        return Executors.newScheduledThreadPool(1, newThreadFactory(namePrefix, false));
+    }
+
+    /**
+     * Creates an {@link ExecutorService} starting a new virtual thread for each task. Such executor does not
+     * have to be sized, since the blocked virtual threads do not hold platform threads.
+     *
+     * @param namePrefix the prefix of the created thread names
+     * @return an {@link ExecutorService} starting a new virtual thread for each task
+     * @throws UnsupportedOperationException if the current runtime does not support virtual threads
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(String namePrefix) {
+        ThreadFactory threadFactory = newVirtualThreadFactory(namePrefix);
+        Method newThreadPerTaskExecutor = findMethod(
+            Executors.class,
+            "newThreadPerTaskExecutor",
+            ThreadFactory.class
+        );
+        Preconditions.checkState(newThreadPerTaskExecutor != null);
+        return (ExecutorService) invoke(newThreadPerTaskExecutor, null, threadFactory);
+    }
+
+    private static ThreadFactory newVirtualThreadFactory(String namePrefix) {
+        if (!isVirtualThreadSupported()) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or newer");
+        }
+
+        Object builder = invoke(OF_VIRTUAL, null);
+        Class<?> builderType = OF_VIRTUAL.getReturnType();
+        Method name = findMethod(builderType, "name", String.class, long.class);
+        Object namedBuilder = invoke(name, builder, namePrefix, 0L);
+        return (ThreadFactory) invoke(findMethod(builderType, "factory"), namedBuilder);
+    }
+
+    /**
+     * Returns the feature release number of the current runtime (ex: 8 or 21), as Runtime.version().feature(),
+     * which is not available on Java 8
+     */
+    static int getRuntimeFeatureVersion() {
+        String version = System.getProperty("java.specification.version", "");
+        if (version.startsWith("1.")) {
+            version = version.substring(2);
+        }
+        try {
+            return Integer.parseInt(version);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static Method findMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Virtual threads could not be created", e);
+        }
+    }
+}
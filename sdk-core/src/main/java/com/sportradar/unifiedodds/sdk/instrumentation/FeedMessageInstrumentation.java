@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.instrumentation;
+
+/**
+ * Defines methods invoked by the SDK while a received feed message is processed, which can be used to export
+ * the processing latencies to a metrics or tracing system. The methods are invoked on the threads processing
+ * the messages, so the implementations must be thread-safe and should return quickly. The instrumentation is
+ * set on the configuration builder; if none is set, the timings are not reported.
+ *
+ * @see InMemoryFeedMessageMetrics
+ */
+public interface FeedMessageInstrumentation {
+    /**
+     * Invoked when a processing stage of the message completes
+     *
+     * @param stage the completed {@link FeedMessageStage}
+     * @param message the metadata of the processed message
+     * @param durationNanos the time spent in the stage, in nanoseconds
+     */
+    void onStageCompleted(FeedMessageStage stage, FeedMessageMetadata message, long durationNanos);
+
+    /**
+     * Invoked when a message is received, with the time elapsed between the message was sent by the AMQP broker
+     * (the timestamp_in_ms message header) and the message was received by the SDK
+     *
+     * @param message the metadata of the received message
+     * @param lagMillis the broker to SDK lag, in milliseconds
+     */
+    void onBrokerLag(FeedMessageMetadata message, long lagMillis);
+}
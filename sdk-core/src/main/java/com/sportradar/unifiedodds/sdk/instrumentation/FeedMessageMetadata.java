@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.instrumentation;
+
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+import com.sportradar.utils.URN;
+
+/**
+ * Defines methods used to access the metadata of a received feed message
+ */
+public interface FeedMessageMetadata {
+    /**
+     * Returns the unmarshalled feed message
+     *
+     * @return the unmarshalled feed message
+     */
+    UnmarshalledMessage getMessage();
+
+    /**
+     * Returns the id of the producer which dispatched the message
+     *
+     * @return the id of the producer which dispatched the message
+     */
+    int getProducerId();
+
+    /**
+     * Returns the id of the associated sport event
+     *
+     * @return the id of the associated sport event, or null if the message is not associated with a sport event
+     */
+    URN getEventId();
+
+    /**
+     * Returns the id of the recovery request which triggered the message
+     *
+     * @return the id of the recovery request which triggered the message, or null if the message is not part of
+     * a recovery
+     */
+    Long getRequestId();
+
+    /**
+     * Returns the timestamp (in milliseconds since EPOCH UTC) when the message was generated
+     *
+     * @return the timestamp when the message was generated
+     */
+    long getTimestamp();
+}
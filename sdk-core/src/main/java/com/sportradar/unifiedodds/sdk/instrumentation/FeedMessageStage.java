@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.instrumentation;
+
+/**
+ * Defines the stages a received feed message goes through, used to track where the processing time is spent
+ */
+@SuppressWarnings({ "NoEnumTrailingComma" })
+public enum FeedMessageStage {
+    /**
+     * Unmarshalling of the received payload
+     */
+    Decode,
+
+    /**
+     * Validation of the unmarshalled message
+     */
+    Validation,
+
+    /**
+     * Updating of the SDK caches with the message data
+     */
+    CacheProcessing,
+
+    /**
+     * Building of the SDK message (including the associated sport event) which is dispatched to the user listener
+     */
+    MessageBuilding,
+
+    /**
+     * Execution of the user listener callback
+     */
+    ListenerCallback,
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.instrumentation;
+
+import com.google.common.base.Preconditions;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link FeedMessageInstrumentation} which aggregates the reported timings in memory. The stage latencies are
+ * recorded (in microseconds) per message type and stage, the broker to SDK lag (in milliseconds) across all
+ * messages. The recorded values are never reset, the percentiles cover all the messages received since the
+ * instance was created.
+ */
+public final class InMemoryFeedMessageMetrics implements FeedMessageInstrumentation {
+
+    private final ConcurrentMap<Class<?>, LatencyHistogram[]> stageLatencies = new ConcurrentHashMap<>();
+    private final LatencyHistogram brokerLag = new LatencyHistogram();
+
+    @Override
+    public void onStageCompleted(FeedMessageStage stage, FeedMessageMetadata message, long durationNanos) {
+        histogramsOf(message.getMessage().getClass())[stage.ordinal()].recordValue(
+                TimeUnit.NANOSECONDS.toMicros(durationNanos)
+            );
+    }
+
+    @Override
+    public void onBrokerLag(FeedMessageMetadata message, long lagMillis) {
+        brokerLag.recordValue(lagMillis);
+    }
+
+    /**
+     * Returns the number of messages of the provided type which completed the provided stage
+     *
+     * @param messageType the type of the feed message (ex: UFOddsChange.class)
+     * @param stage the processing stage
+     * @return the number of messages which completed the stage
+     */
+    public long getStageCount(Class<? extends UnmarshalledMessage> messageType, FeedMessageStage stage) {
+        Preconditions.checkNotNull(messageType);
+        Preconditions.checkNotNull(stage);
+
+        LatencyHistogram[] histograms = stageLatencies.get(messageType);
+        return histograms == null ? 0 : histograms[stage.ordinal()].getCount();
+    }
+
+    /**
+     * Returns the latency of the provided stage below which the provided percentage of the messages falls
+     *
+     * @param messageType the type of the feed message (ex: UFOddsChange.class)
+     * @param stage the processing stage
+     * @param percentile the requested percentile, between 0 and 100
+     * @return the latency in microseconds, or 0 if no messages completed the stage
+     */
+    public long getStageLatencyInMicros(
+        Class<? extends UnmarshalledMessage> messageType,
+        FeedMessageStage stage,
+        double percentile
+    ) {
+        Preconditions.checkNotNull(messageType);
+        Preconditions.checkNotNull(stage);
+
+        LatencyHistogram[] histograms = stageLatencies.get(messageType);
+        return histograms == null ? 0 : histograms[stage.ordinal()].getValueAtPercentile(percentile);
+    }
+
+    /**
+     * Returns the number of messages whose broker to SDK lag was recorded
+     *
+     * @return the number of messages whose broker to SDK lag was recorded
+     */
+    public long getBrokerLagCount() {
+        return brokerLag.getCount();
+    }
+
+    /**
+     * Returns the broker to SDK lag below which the provided percentage of the messages falls
+     *
+     * @param percentile the requested percentile, between 0 and 100
+     * @return the lag in milliseconds, or 0 if no lag was recorded
+     */
+    public long getBrokerLagInMillis(double percentile) {
+        return brokerLag.getValueAtPercentile(percentile);
+    }
+
+    private LatencyHistogram[] histogramsOf(Class<?> messageType) {
+        LatencyHistogram[] histograms = stageLatencies.get(messageType);
+        if (histograms != null) {
+            return histograms;
+        }
+        return stageLatencies.computeIfAbsent(messageType, type -> newHistograms());
+    }
+
+    private static LatencyHistogram[] newHistograms() {
+        LatencyHistogram[] histograms = new LatencyHistogram[FeedMessageStage.values().length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        return histograms;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.instrumentation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of latencies with a fixed relative precision. The recorded values are
+ * counted in log-linear buckets (similar to the HdrHistogram layout): each power of two range is split into
+ * {@value #SUB_BUCKET_COUNT} equally wide buckets, so the reported percentiles are at most ~6% above the recorded
+ * values, while the memory footprint stays fixed regardless of the number of recorded values.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_MAGNITUDE = 40;
+    private static final int BUCKET_COUNT = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+    private static final double MAX_PERCENTILE = 100;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * Records the provided value, negative values are recorded as 0
+     *
+     * @param value the recorded value (ex: a duration in microseconds)
+     */
+    public void recordValue(long value) {
+        counts.incrementAndGet(bucketOf(Math.max(0, value)));
+    }
+
+    /**
+     * Returns the number of recorded values
+     *
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Returns the value below which the provided percentage of the recorded values falls
+     *
+     * @param percentile the requested percentile, between 0 and 100
+     * @return the highest value of the bucket containing the percentile, or 0 if no values
+     * were recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(total * Math.min(percentile, MAX_PERCENTILE) / MAX_PERCENTILE));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += counts.get(i);
+            if (cumulative >= target) {
+                return highestValueOf(i);
+            }
+        }
+        return highestValueOf(BUCKET_COUNT - 1);
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int magnitude = Math.min(MAX_MAGNITUDE, Long.SIZE - 1 - Long.numberOfLeadingZeros(value));
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) Math.min(SUB_BUCKET_COUNT - 1, (value >>> shift) - SUB_BUCKET_COUNT);
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        long subBucket = bucket % SUB_BUCKET_COUNT;
+        return ((SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+    }
+}
@@ -7,7 +7,10 @@ package com.sportradar.utils;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.sportradar.unifiedodds.sdk.entities.ResourceTypeGroup;
 import com.sportradar.unifiedodds.sdk.exceptions.UnsupportedUrnFormatException;
 import java.util.regex.Matcher;
@@ -21,13 +24,19 @@ import org.slf4j.LoggerFactory;
 @SuppressWarnings(
     {
         "AbbreviationAsWordInName",
+        "BooleanExpressionComplexity",
         "ConstantName",
+        "CyclomaticComplexity",
         "DeclarationOrder",
         "EqualsAvoidNull",
         "IllegalCatch",
         "LineLength",
         "MagicNumber",
+        "MultipleStringLiterals",
+        "NPathComplexity",
         "NeedBraces",
+        "ReturnCount",
+        "UnnecessaryParentheses",
     }
 )
 public class URN {
@@ -100,6 +109,30 @@ public class URN {
         .put("group", ResourceTypeGroup.OTHER)
         .build();
 
+    /**
+     * Prefixes which are reused instead of being copied from the parsed string
+     */
+    private static final String[] KNOWN_PREFIXES = { "sr", "vf", "wns", "vbl", "vdr", "vhc", "vti", "vto", "rx" };
+
+    /**
+     * Types which are reused instead of being copied from the parsed string
+     */
+    private static final String[] KNOWN_TYPES = ImmutableSet
+        .<String>builder()
+        .addAll(TYPES.keySet())
+        .add("stage", "draw", "lottery")
+        .build()
+        .toArray(new String[0]);
+
+    /**
+     * The optional pool of parsed instances, so equal URN strings resolve to the same instance.
+     * Disabled (null) unless a size is provided with the sportradar.urn.pool.size system property or with
+     * {@link #setInternPoolSize(int)}
+     */
+    private static volatile Cache<String, URN> internPool = createInternPool(
+        Integer.getInteger("sportradar.urn.pool.size", 0)
+    );
+
     /**
      * Prefix of the current instance
      */
@@ -120,6 +153,11 @@ public class URN {
      */
     private ResourceTypeGroup group;
 
+    /**
+     * The precomputed hash code, equal to the hash code of the {@link #toString()} value
+     */
+    private final int hash;
+
     /**
      * Initializes a new instance of the {@link URN} class
      *
@@ -136,15 +174,95 @@ public class URN {
         this.type = type;
         this.id = id;
         this.group = TYPES.getOrDefault(type, ResourceTypeGroup.OTHER);
+        this.hash = computeHash(prefix, type, id);
     }
 
     /**
-     * Constructs a {@link URN} instance by parsing the provided {@link String}
+     * Constructs a {@link URN} instance by parsing the provided {@link String}.
+     * If the URN pool is enabled, equal strings resolve to the same pooled instance
      *
      * @param urnString - {@link String} representation of the URN
      * @return the {@link URN} constructed by parsing the provided string representation
      */
     public static URN parse(String urnString) {
+        Cache<String, URN> pool = internPool;
+        if (pool == null || urnString == null) {
+            return parseUrn(urnString);
+        }
+
+        URN urn = pool.getIfPresent(urnString);
+        if (urn == null) {
+            urn = parseUrn(urnString);
+            pool.put(urnString, urn);
+        }
+        return urn;
+    }
+
+    /**
+     * Sets the max number of instances kept in the URN pool used by {@link #parse(String)}, 0 disables the pool
+     *
+     * @param maximumSize the max number of pooled instances
+     */
+    public static void setInternPoolSize(int maximumSize) {
+        checkArgument(maximumSize >= 0, "maximumSize must not be negative");
+
+        internPool = createInternPool(maximumSize);
+    }
+
+    private static Cache<String, URN> createInternPool(int maximumSize) {
+        return maximumSize > 0 ? CacheBuilder.newBuilder().maximumSize(maximumSize).build() : null;
+    }
+
+    private static URN parseUrn(String urnString) {
+        URN urn = urnString == null ? null : tryParseWellFormed(urnString);
+        return urn != null ? urn : parseWithRegex(urnString);
+    }
+
+    /**
+     * Parses the provided string without regex if it is a well formed URN
+     *
+     * @return the parsed {@link URN}, or null if the string should be handled by the regex parser
+     */
+    private static URN tryParseWellFormed(String urnString) {
+        int length = urnString.length();
+        int typeStart = urnString.indexOf(':') + 1;
+        int idStart = typeStart == 0 ? 0 : urnString.indexOf(':', typeStart) + 1;
+        if (typeStart <= 1 || idStart <= typeStart + 1 || idStart >= length) {
+            return null;
+        }
+
+        for (int i = 0; i < typeStart - 1; i++) {
+            if (!isLetter(urnString.charAt(i))) return null;
+        }
+        for (int i = typeStart; i < idStart - 1; i++) {
+            char c = urnString.charAt(i);
+            if (!isLetter(c) && c != '_' && c != '2') return null;
+        }
+
+        boolean negative = urnString.charAt(idStart) == '-';
+        int digitsStart = negative ? idStart + 1 : idStart;
+        if (digitsStart == length || urnString.charAt(digitsStart) == '0') {
+            // missing or zero padded ids are left to the regex parser
+            return null;
+        }
+        long id = 0;
+        for (int i = digitsStart; i < length; i++) {
+            int digit = urnString.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || id > (Long.MAX_VALUE - digit) / 10) return null;
+            id = id * 10 + digit;
+        }
+
+        URN urn = new URN(
+            reuseKnown(urnString, 0, typeStart - 1, KNOWN_PREFIXES),
+            reuseKnown(urnString, typeStart, idStart - 1, KNOWN_TYPES),
+            negative ? -id : id
+        );
+        // the string is in the canonical form, so it can be reused as the string representation
+        urn.toStringCache = urnString;
+        return urn;
+    }
+
+    private static URN parseWithRegex(String urnString) {
         try {
             checkNotNull(urnString, "urnString can not be null");
 
@@ -165,6 +283,48 @@ public class URN {
         }
     }
 
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static String reuseKnown(String value, int start, int end, String[] known) {
+        int length = end - start;
+        for (String candidate : known) {
+            if (candidate.length() == length && value.regionMatches(start, candidate, 0, length)) {
+                return candidate;
+            }
+        }
+        return value.substring(start, end);
+    }
+
+    /**
+     * Computes the hash code of the "prefix:type:id" string without building it
+     */
+    private static int computeHash(String prefix, String type, long id) {
+        if (id == Long.MIN_VALUE) {
+            return (prefix + ":" + type + ":" + id).hashCode();
+        }
+
+        int h = prefix.hashCode();
+        h = 31 * h + ':';
+        for (int i = 0; i < type.length(); i++) {
+            h = 31 * h + type.charAt(i);
+        }
+        h = 31 * h + ':';
+        if (id < 0) {
+            h = 31 * h + '-';
+        }
+        long magnitude = Math.abs(id);
+        long divisor = 1;
+        while (magnitude / divisor >= 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            h = 31 * h + (char) ('0' + (magnitude / divisor) % 10);
+        }
+        return h;
+    }
+
     /**
      * Returns the prefix of the current instance
      *
@@ -244,7 +404,7 @@ public class URN {
      */
     @Override
     public int hashCode() {
-        return toString().hashCode();
+        return hash;
     }
 
     public boolean isSimpleTeam() {
@@ -18,7 +18,7 @@ import org.junit.Test;
  * Created on 11/04/2018.
  * // TODO @eti: Javadoc
  */
-@SuppressWarnings({ "AbbreviationAsWordInName", "MagicNumber" })
+@SuppressWarnings({ "AbbreviationAsWordInName", "ExecutableStatementCount", "MagicNumber" })
 public class SDKConfigurationYamlReaderTests {
 
     @Test
@@ -26,7 +26,7 @@ public class SDKConfigurationYamlReaderTests {
         SDKConfigurationYamlReader sdkConfigurationYamlReader = new SDKConfigurationYamlReader();
         Map<String, String> stringStringMap = sdkConfigurationYamlReader.readConfiguration();
 
-        assertEquals(31, stringStringMap.size());
+        assertEquals(36, stringStringMap.size());
     }
 
     @Test
@@ -58,6 +58,11 @@ public class SDKConfigurationYamlReaderTests {
         assertEquals(20, (int) reader.readRecoveryHttpClientTimeout().get());
         assertEquals(21, (int) reader.readRecoveryHttpClientMaxConnTotal().get());
         assertEquals(22, (int) reader.readRecoveryHttpClientMaxConnPerRoute().get());
+        assertEquals(200, (int) reader.readMessagingPrefetchCount().get());
+        assertFalse(reader.readHttpClientCompression().get());
+        assertEquals(4, (int) reader.readCacheImportParallelism().get());
+        assertTrue(reader.readUseVirtualThreads().get());
+        assertEquals(SpecifierValidationMode.OncePerMarket, reader.readSpecifierValidationMode().get());
         assertTrue(reader.readSimpleVariantCaching().get());
         assertTrue(reader.readSchedulerTasksToSkip().containsAll(getExpectedTasksToSkip()));
     }
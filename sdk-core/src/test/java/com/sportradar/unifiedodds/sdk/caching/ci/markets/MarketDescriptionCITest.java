@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.caching.ci.markets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableList;
+import com.sportradar.uf.sportsapi.datamodel.DescMarket;
+import com.sportradar.uf.sportsapi.datamodel.DescOutcomes;
+import com.sportradar.uf.sportsapi.datamodel.DescVariant;
+import com.sportradar.uf.sportsapi.datamodel.DescVariantOutcomes;
+import com.sportradar.unifiedodds.sdk.entities.markets.MarketDescription;
+import com.sportradar.unifiedodds.sdk.entities.markets.OutcomeDescription;
+import com.sportradar.unifiedodds.sdk.impl.markets.MappingValidatorFactory;
+import com.sportradar.unifiedodds.sdk.impl.markets.MarketDescriptionImpl;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import org.junit.Test;
+
+@SuppressWarnings({ "AbbreviationAsWordInName", "ClassDataAbstractionCoupling", "MagicNumber" })
+public class MarketDescriptionCITest {
+
+    private static final List<Locale> ENGLISH = ImmutableList.of(Locale.ENGLISH);
+    private static final String VARIANT_ID = "sr:exact_goals:4+";
+
+    private final MappingValidatorFactory mappingValidatorFactory = mock(MappingValidatorFactory.class);
+    private final MarketDescriptionCI cachedItem = new MarketDescriptionCI(
+        market("Exact goals"),
+        mappingValidatorFactory,
+        Locale.ENGLISH,
+        "test"
+    );
+
+    @Test
+    public void snapshotShouldBeSharedForEqualLocales() {
+        MarketDescription first = cachedItem.getSnapshot(ENGLISH, MarketDescriptionImpl::new);
+
+        MarketDescription second = cachedItem.getSnapshot(
+            new ArrayList<>(ENGLISH),
+            MarketDescriptionImpl::new
+        );
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void snapshotShouldBeRebuiltOnceCacheItemIsMerged() {
+        MarketDescription beforeMerge = cachedItem.getSnapshot(ENGLISH, MarketDescriptionImpl::new);
+
+        cachedItem.merge(market("Exact goals updated"), Locale.ENGLISH);
+
+        MarketDescription afterMerge = cachedItem.getSnapshot(ENGLISH, MarketDescriptionImpl::new);
+        assertThat(afterMerge).isNotSameAs(beforeMerge);
+        assertThat(afterMerge.getName(Locale.ENGLISH)).isEqualTo("Exact goals updated");
+        assertThat(beforeMerge.getName(Locale.ENGLISH)).isEqualTo("Exact goals");
+    }
+
+    @Test
+    public void snapshotShouldBeRebuiltOnceDataReceivedTimeChanges() {
+        MarketDescription before = cachedItem.getSnapshot(ENGLISH, MarketDescriptionImpl::new);
+
+        cachedItem.setLastDataReceived(new Date());
+
+        assertThat(cachedItem.getSnapshot(ENGLISH, MarketDescriptionImpl::new)).isNotSameAs(before);
+    }
+
+    @Test
+    public void mergedVariantSnapshotShouldNotModifyMarketSnapshot() {
+        MarketDescriptionImpl marketSnapshot = (MarketDescriptionImpl) cachedItem.getSnapshot(
+            ENGLISH,
+            MarketDescriptionImpl::new
+        );
+        VariantDescriptionCI variant = new VariantDescriptionCI(
+            variant(),
+            mappingValidatorFactory,
+            Locale.ENGLISH,
+            "test"
+        );
+
+        MarketDescription variantSnapshot = variant.getMergedSnapshot(
+            marketSnapshot,
+            d -> ((MarketDescriptionImpl) d).withVariantDescription(variant, ENGLISH)
+        );
+
+        assertThat(outcomeIds(variantSnapshot)).containsExactly("1", "sr:exact_goals:4+:1");
+        assertThat(outcomeIds(marketSnapshot)).containsExactly("1");
+        assertThat(variant.getMergedSnapshot(marketSnapshot, d -> null)).isSameAs(variantSnapshot);
+    }
+
+    private static List<String> outcomeIds(MarketDescription description) {
+        return description.getOutcomes().stream().map(OutcomeDescription::getId).collect(Collectors.toList());
+    }
+
+    private static DescMarket market(String name) {
+        DescOutcomes.Outcome outcome = new DescOutcomes.Outcome();
+        outcome.setId("1");
+        outcome.setName("Outcome");
+        DescOutcomes outcomes = new DescOutcomes();
+        outcomes.getOutcome().add(outcome);
+        DescMarket market = new DescMarket();
+        market.setId(21);
+        market.setName(name);
+        market.setOutcomes(outcomes);
+        return market;
+    }
+
+    private static DescVariant variant() {
+        DescVariantOutcomes.Outcome outcome = new DescVariantOutcomes.Outcome();
+        outcome.setId(VARIANT_ID + ":1");
+        outcome.setName("0");
+        DescVariantOutcomes outcomes = new DescVariantOutcomes();
+        outcomes.getOutcome().add(outcome);
+        DescVariant variant = new DescVariant();
+        variant.setId(VARIANT_ID);
+        variant.setOutcomes(outcomes);
+        return variant;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.caching.exportable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.DeflaterOutputStream;
+import org.junit.Test;
+
+@SuppressWarnings({ "ClassDataAbstractionCoupling", "MagicNumber" })
+public class CacheSnapshotTest {
+
+    private static final String ENGLAND = "sr:category:1";
+    private static final String SOCCER = "sr:sport:1";
+
+    @Test
+    public void itemsAreReadInTheWrittenOrder() throws IOException {
+        ExportableSportCI sport = new ExportableSportCI(
+            SOCCER,
+            ImmutableMap.of(Locale.ENGLISH, "Soccer", Locale.GERMAN, "Fussball"),
+            Arrays.asList(ENGLAND, "sr:category:7"),
+            Arrays.asList(Locale.ENGLISH, Locale.GERMAN),
+            false
+        );
+        ExportableCI category = new ExportableCI(ENGLAND, ImmutableMap.of(Locale.ENGLISH, "England"));
+
+        List<ExportableCI> items = readAll(write(Arrays.asList(sport, category)));
+
+        assertThat(items).hasSize(2);
+        ExportableSportCI readSport = (ExportableSportCI) items.get(0);
+        assertThat(readSport.getId()).isEqualTo(SOCCER);
+        assertThat(readSport.getNames()).containsEntry(Locale.GERMAN, "Fussball");
+        assertThat(readSport.getAssociatedCategories()).containsExactly(ENGLAND, "sr:category:7");
+        assertThat(items.get(1).getId()).isEqualTo(ENGLAND);
+        assertThat(items.get(1).getNames()).containsEntry(Locale.ENGLISH, "England");
+    }
+
+    @Test
+    public void largeSnapshotsAreReadCompletely() throws IOException {
+        List<ExportableCI> written = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            written.add(new ExportableCI("sr:player:" + i, ImmutableMap.of(Locale.ENGLISH, "Player " + i)));
+        }
+
+        List<ExportableCI> items = readAll(write(written));
+
+        assertThat(items).hasSize(2000);
+        assertThat(items.get(1999).getId()).isEqualTo("sr:player:1999");
+        assertThat(items.get(1999).getNames()).containsEntry(Locale.ENGLISH, "Player 1999");
+    }
+
+    @Test
+    public void emptySnapshotContainsNoItems() throws IOException {
+        assertThat(readAll(write(new ArrayList<>()))).isEmpty();
+    }
+
+    @Test
+    public void writerCountsWrittenItems() throws IOException {
+        CacheSnapshotWriter writer = new CacheSnapshotWriter(new ByteArrayOutputStream());
+        writer.write(new ExportableCI(SOCCER, ImmutableMap.of(Locale.ENGLISH, "Soccer")));
+        writer.write(new ExportableCI("sr:sport:2", ImmutableMap.of(Locale.ENGLISH, "Basketball")));
+        writer.close();
+
+        assertThat(writer.getItemCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void snapshotWhichWasNotFinishedIsRejected() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (CacheSnapshotWriter writer = new CacheSnapshotWriter(output)) {
+            writer.write(new ExportableCI(SOCCER, ImmutableMap.of(Locale.ENGLISH, "Soccer")));
+        }
+
+        try (CacheSnapshotReader reader = new CacheSnapshotReader(new ByteArrayInputStream(output.toByteArray()))) {
+            assertThat(reader.read().getId()).isEqualTo(SOCCER);
+            assertThatThrownBy(reader::read).isInstanceOf(IOException.class);
+        }
+    }
+
+    @Test
+    public void streamWithoutSnapshotHeaderIsRejected() {
+        byte[] data = "not a snapshot".getBytes();
+
+        assertThatThrownBy(() -> new CacheSnapshotReader(new ByteArrayInputStream(data)))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("does not contain a cache snapshot");
+    }
+
+    @Test
+    public void unsupportedFormatVersionIsRejected() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(output);
+        header.writeInt(CacheSnapshotWriter.MAGIC);
+        header.writeShort(CacheSnapshotWriter.FORMAT_VERSION + 1);
+
+        assertThatThrownBy(() -> new CacheSnapshotReader(new ByteArrayInputStream(output.toByteArray())))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("Unsupported cache snapshot format version");
+    }
+
+    @Test
+    public void classesOutsideOfTheAllowedPackagesAreRejected() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(output);
+        header.writeInt(CacheSnapshotWriter.MAGIC);
+        header.writeShort(CacheSnapshotWriter.FORMAT_VERSION);
+        DeflaterOutputStream deflater = new DeflaterOutputStream(output);
+        ObjectOutputStream objects = new ObjectOutputStream(deflater);
+        objects.writeByte(CacheSnapshotWriter.ITEM_RECORD);
+        objects.writeObject(new java.text.SimpleDateFormat());
+        objects.close();
+
+        try (CacheSnapshotReader reader = new CacheSnapshotReader(new ByteArrayInputStream(output.toByteArray()))) {
+            assertThatThrownBy(reader::read).isInstanceOf(InvalidClassException.class);
+        }
+    }
+
+    private static byte[] write(List<ExportableCI> items) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (CacheSnapshotWriter writer = new CacheSnapshotWriter(output)) {
+            for (ExportableCI item : items) {
+                writer.write(item);
+            }
+            writer.finish();
+        }
+        return output.toByteArray();
+    }
+
+    private static List<ExportableCI> readAll(byte[] snapshot) throws IOException {
+        List<ExportableCI> items = new ArrayList<>();
+        try (CacheSnapshotReader reader = new CacheSnapshotReader(new ByteArrayInputStream(snapshot))) {
+            ExportableCI item;
+            while ((item = reader.read()) != null) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+}
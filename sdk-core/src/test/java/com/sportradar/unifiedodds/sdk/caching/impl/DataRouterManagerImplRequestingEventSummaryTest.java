@@ -8,7 +8,10 @@ import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
@@ -21,20 +24,28 @@ import com.sportradar.unifiedodds.sdk.impl.DataProvider;
 import com.sportradar.unifiedodds.sdk.impl.SDKProducerManager;
 import com.sportradar.unifiedodds.sdk.impl.SDKTaskScheduler;
 import com.sportradar.utils.URN;
+import java.util.Arrays;
 import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 
+@SuppressWarnings({ "MagicNumber" })
 public class DataRouterManagerImplRequestingEventSummaryTest {
 
     private static final String NON_NULL_URL = "http://nonNullUrl.com";
     private static final Locale ANY_LANGUAGE = Locale.FRENCH;
     private static final CacheItem ANY_CACHE_ITEM = mock(CacheItem.class);
     private final DataProvider eventsSummaries = mock(DataProvider.class);
+    private final DataRouter dataRouter = mock(DataRouter.class);
     private final DataRouterManager manager = new DataRouterManagerImpl(
         mock(SDKInternalConfiguration.class),
         mock(SDKTaskScheduler.class),
         mock(SDKProducerManager.class),
-        mock(DataRouter.class),
+        dataRouter,
         eventsSummaries,
         mock(DataProvider.class),
         mock(DataProvider.class),
@@ -124,4 +135,85 @@ public class DataRouterManagerImplRequestingEventSummaryTest {
 
         assertEquals(dataProviderException, exception.getCause());
     }
+
+    @Test
+    public void concurrentRequestsForSameSummaryShouldBeSentOnceAndDispatchedToEachRequester() throws Exception {
+        Object summary = new Object();
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        CountDownLatch responseReceived = new CountDownLatch(1);
+        when(eventsSummaries.getData(any(), any()))
+            .thenAnswer(invocation -> {
+                requestStarted.countDown();
+                responseReceived.await(5, TimeUnit.SECONDS);
+                return summary;
+            });
+        URN id = urnForAnyTournament();
+        CacheItem firstRequester = mock(CacheItem.class);
+        CacheItem secondRequester = mock(CacheItem.class);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<?> first = executor.submit(() -> requestSummary(id, firstRequester));
+            requestStarted.await(5, TimeUnit.SECONDS);
+            final Future<?> second = executor.submit(() -> requestSummary(id, secondRequester));
+            while (manager.getDeduplicatedRequestCount() == 0) {
+                Thread.sleep(1);
+            }
+            responseReceived.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(eventsSummaries, times(1)).getData(any(), any());
+        verify(dataRouter).onSummaryFetched(id, summary, ANY_LANGUAGE, firstRequester);
+        verify(dataRouter).onSummaryFetched(id, summary, ANY_LANGUAGE, secondRequester);
+        assertEquals(1, manager.getDeduplicatedRequestCount());
+    }
+
+    @Test
+    public void summariesInMultipleLanguagesShouldBeRequestedConcurrently() throws Exception {
+        CountDownLatch allRequestsStarted = new CountDownLatch(2);
+        when(eventsSummaries.getData(any(), any()))
+            .thenAnswer(invocation -> {
+                allRequestsStarted.countDown();
+                if (!allRequestsStarted.await(5, TimeUnit.SECONDS)) {
+                    throw new DataProviderException("Summaries were requested sequentially");
+                }
+                return invocation.getArgument(0);
+            });
+        URN id = urnForAnyTournament();
+
+        manager.requestSummaryEndpointInLocales(Arrays.asList(Locale.ENGLISH, Locale.GERMAN), id, ANY_CACHE_ITEM);
+
+        verify(dataRouter).onSummaryFetched(id, Locale.ENGLISH, Locale.ENGLISH, ANY_CACHE_ITEM);
+        verify(dataRouter).onSummaryFetched(id, Locale.GERMAN, Locale.GERMAN, ANY_CACHE_ITEM);
+    }
+
+    @Test
+    public void failureInOneLanguageShouldNotPreventMergingSummariesInOtherLanguages() throws Exception {
+        Object summary = new Object();
+        when(eventsSummaries.getData(any(), any())).thenReturn(summary);
+        when(eventsSummaries.getData(eq(Locale.GERMAN), any())).thenThrow(DataProviderException.class);
+        URN id = urnForAnyTournament();
+
+        CommunicationException exception = catchThrowableOfType(
+            () ->
+                manager.requestSummaryEndpointInLocales(
+                    Arrays.asList(Locale.GERMAN, Locale.ENGLISH, Locale.ITALIAN),
+                    id,
+                    ANY_CACHE_ITEM
+                ),
+            CommunicationException.class
+        );
+
+        assertEquals("Error executing summary request for id=" + id + ", locale=de", exception.getMessage());
+        verify(dataRouter).onSummaryFetched(id, summary, Locale.ENGLISH, ANY_CACHE_ITEM);
+        verify(dataRouter).onSummaryFetched(id, summary, Locale.ITALIAN, ANY_CACHE_ITEM);
+    }
+
+    private Void requestSummary(URN id, CacheItem requester) throws CommunicationException {
+        manager.requestSummaryEndpoint(ANY_LANGUAGE, id, requester);
+        return null;
+    }
 }
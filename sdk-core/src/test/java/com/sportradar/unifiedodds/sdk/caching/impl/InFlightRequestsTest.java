@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.caching.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+
+import com.sportradar.unifiedodds.sdk.exceptions.internal.DataProviderException;
+import com.sportradar.utils.URN;
+import java.util.Locale;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+
+@SuppressWarnings({ "IllegalCatch", "MagicNumber" })
+public class InFlightRequestsTest {
+
+    private static final String SUMMARY = "summary";
+    private static final URN MATCH_ID = URN.parse("sr:match:1");
+    private static final String COALESCED = "the request should be coalesced";
+
+    private final InFlightRequests requests = new InFlightRequests();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @After
+    public void shutdownExecutor() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void concurrentRequestsForSameResourceShareOneExecution() throws Exception {
+        Object data = new Object();
+        final Future<Object> first = submit(Locale.ENGLISH, () -> blockingFetch(data));
+        started.await(5, TimeUnit.SECONDS);
+        final Future<Object> second = submit(Locale.ENGLISH, () -> fail(COALESCED));
+        awaitDeduplicatedCount(1);
+
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(data);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(data);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void failureIsSharedWithWaitingCallers() throws Exception {
+        DataProviderException failure = new DataProviderException("request failed");
+        final Future<Object> first = submit(
+            Locale.ENGLISH,
+            () -> {
+                blockingFetch(null);
+                throw failure;
+            }
+        );
+        started.await(5, TimeUnit.SECONDS);
+        final Future<Object> second = submit(Locale.ENGLISH, () -> fail(COALESCED));
+        awaitDeduplicatedCount(1);
+
+        release.countDown();
+
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).hasCause(failure);
+    }
+
+    @Test
+    public void asynchronousRequestsShareRequestInFlight() throws Exception {
+        CompletableFuture<Object> response = new CompletableFuture<>();
+        Object data = new Object();
+
+        CompletableFuture<Object> first = requests.executeAsync(SUMMARY, Locale.ENGLISH, MATCH_ID, () -> response);
+        CompletableFuture<Object> second = requests.executeAsync(
+            SUMMARY,
+            Locale.ENGLISH,
+            MATCH_ID,
+            () -> fail(COALESCED)
+        );
+        response.complete(data);
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(data);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(data);
+        assertThat(requests.getDeduplicatedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void blockingRequestSharesAsynchronousRequestInFlight() throws Exception {
+        CompletableFuture<Object> response = new CompletableFuture<>();
+        requests.executeAsync(SUMMARY, Locale.ENGLISH, MATCH_ID, () -> response);
+        final Future<Object> blocking = submit(Locale.ENGLISH, () -> fail(COALESCED));
+        awaitDeduplicatedCount(1);
+
+        response.complete("summary");
+
+        assertThat(blocking.get(5, TimeUnit.SECONDS)).isEqualTo("summary");
+    }
+
+    @Test
+    public void requestsForOtherLocalesAreNotCoalesced() throws Exception {
+        submit(Locale.ENGLISH, () -> blockingFetch(null));
+        started.await(5, TimeUnit.SECONDS);
+
+        Object data = requests.execute(SUMMARY, Locale.GERMAN, MATCH_ID, () -> "german");
+
+        assertThat(data).isEqualTo("german");
+        assertThat(requests.getDeduplicatedCount()).isZero();
+    }
+
+    @Test
+    public void completedRequestsAreNotReused() throws DataProviderException {
+        requests.execute(SUMMARY, Locale.ENGLISH, MATCH_ID, executions::incrementAndGet);
+        requests.execute(SUMMARY, Locale.ENGLISH, MATCH_ID, executions::incrementAndGet);
+
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(requests.getDeduplicatedCount()).isZero();
+    }
+
+    private Future<Object> submit(Locale locale, InFlightRequests.Request<Object> request) {
+        return executor.submit(() -> requests.execute(SUMMARY, locale, MATCH_ID, request));
+    }
+
+    private Object blockingFetch(Object data) {
+        executions.incrementAndGet();
+        started.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return data;
+    }
+
+    private void awaitDeduplicatedCount(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (requests.getDeduplicatedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(requests.getDeduplicatedCount()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.caching.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import com.sportradar.unifiedodds.sdk.OperationManager;
+import com.sportradar.unifiedodds.sdk.caching.SportEventCache;
+import com.sportradar.unifiedodds.sdk.caching.SportEventStatusCI;
+import com.sportradar.unifiedodds.sdk.impl.dto.SportEventStatusDTO;
+import com.sportradar.utils.URN;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import org.junit.After;
+import org.junit.Test;
+
+public class SportEventStatusCacheImplTest {
+
+    private static final URN EVENT_ID = URN.parse("sr:match:1");
+    private static final String ODDS_CHANGE = "UFOddsChange";
+    private static final String SUMMARY = "SummaryEndpoint";
+    private static final String TIMELINE = "TimelineEndpoint";
+    private static final int BETPAL_PRODUCER_ID = 4;
+
+    private final Cache<URN, SportEventStatusCI> statuses = CacheBuilder.newBuilder().build();
+    private final Cache<URN, Date> ignoredTimelines = CacheBuilder.newBuilder().build();
+    private final SportEventStatusCacheImpl cache = new SportEventStatusCacheImpl(
+        statuses,
+        mock(SportEventCache.class),
+        ignoredTimelines
+    );
+
+    @After
+    public void resetIgnoredTimelines() {
+        OperationManager.setIgnoreBetPalTimelineSportEventStatus(false);
+    }
+
+    @Test
+    public void oddsChangeStatusShouldBeStoredAsFeedStatus() {
+        SportEventStatusDTO status = mock(SportEventStatusDTO.class);
+
+        cache.onSportEventStatusFetched(EVENT_ID, status, null, ODDS_CHANGE);
+
+        SportEventStatusCI cached = cache.getSportEventStatusCI(EVENT_ID, false);
+        assertThat(cached.getFeedStatusDTO()).isSameAs(status);
+        assertThat(cached.getSapiStatusDTO()).isNull();
+    }
+
+    @Test
+    public void summaryStatusShouldUpdateSapiStatusOfCachedItem() {
+        SportEventStatusDTO feedStatus = mock(SportEventStatusDTO.class);
+        SportEventStatusDTO sapiStatus = mock(SportEventStatusDTO.class);
+        cache.onSportEventStatusFetched(EVENT_ID, feedStatus, null, ODDS_CHANGE);
+
+        cache.onSportEventStatusFetched(EVENT_ID, sapiStatus, null, SUMMARY);
+
+        SportEventStatusCI cached = cache.getSportEventStatusCI(EVENT_ID, false);
+        assertThat(cached.getFeedStatusDTO()).isSameAs(feedStatus);
+        assertThat(cached.getSapiStatusDTO()).isSameAs(sapiStatus);
+    }
+
+    @Test
+    public void statusFromOtherSourcesShouldOnlyBeStoredIfNoneIsCached() {
+        SportEventStatusDTO firstStatus = mock(SportEventStatusDTO.class);
+        cache.onSportEventStatusFetched(EVENT_ID, firstStatus, null, TIMELINE);
+
+        cache.onSportEventStatusFetched(EVENT_ID, mock(SportEventStatusDTO.class), null, TIMELINE);
+
+        assertThat(cache.getSportEventStatusCI(EVENT_ID, false).getSapiStatusDTO()).isSameAs(firstStatus);
+    }
+
+    @Test
+    public void ignoredStatusShouldNotReplaceCachedItem() {
+        List<RemovalCause> removals = new ArrayList<>();
+        Cache<URN, SportEventStatusCI> notifyingStatuses = CacheBuilder
+            .newBuilder()
+            .removalListener((RemovalNotification<URN, SportEventStatusCI> removal) -> removals.add(removal.getCause()))
+            .build();
+        SportEventStatusCacheImpl notifyingCache = new SportEventStatusCacheImpl(
+            notifyingStatuses,
+            mock(SportEventCache.class),
+            ignoredTimelines
+        );
+        notifyingCache.onSportEventStatusFetched(EVENT_ID, mock(SportEventStatusDTO.class), null, ODDS_CHANGE);
+
+        notifyingCache.onSportEventStatusFetched(EVENT_ID, mock(SportEventStatusDTO.class), null, TIMELINE);
+
+        assertThat(removals).isEmpty();
+    }
+
+    @Test
+    public void timelineStatusShouldBeIgnoredForBetPalEvents() {
+        OperationManager.setIgnoreBetPalTimelineSportEventStatus(true);
+        cache.addEventIdForTimelineIgnore(EVENT_ID, BETPAL_PRODUCER_ID, "UFOddsChange");
+
+        cache.onSportEventStatusFetched(EVENT_ID, mock(SportEventStatusDTO.class), null, TIMELINE);
+
+        assertThat(ignoredTimelines.getIfPresent(EVENT_ID)).isNotNull();
+        assertThat(cache.getSportEventStatusCI(EVENT_ID, false)).isNull();
+    }
+
+    @Test
+    public void purgedStatusShouldBeRemoved() {
+        cache.onSportEventStatusFetched(EVENT_ID, mock(SportEventStatusDTO.class), null, ODDS_CHANGE);
+
+        cache.purgeSportEventStatus(URN.parse("sr:match:1"));
+
+        assertThat(statuses.size()).isZero();
+    }
+}
@@ -198,7 +198,7 @@ public class RaceStageCiImplStageTypeTest {
 
                 stage.getStageType();
 
-                verify(dataRouterManager, never()).requestSummaryEndpoint(any(), any(), any());
+                verify(dataRouterManager, never()).requestSummaryEndpointInLocales(any(), any(), any());
             }
         }
 
@@ -218,7 +218,7 @@ public class RaceStageCiImplStageTypeTest {
                     val stageType = stage.getStageType();
 
                     assertThat(stageType).isNull();
-                    verify(dataRouterManager).requestSummaryEndpoint(any(), any(), any());
+                    verify(dataRouterManager).requestSummaryEndpointInLocales(any(), any(), any());
                 }
 
                 @Test
@@ -228,7 +228,7 @@ public class RaceStageCiImplStageTypeTest {
                     val stageType = stage.getStageType();
 
                     assertThat(stageType).isNull();
-                    verify(dataRouterManager).requestSummaryEndpoint(any(), any(), any());
+                    verify(dataRouterManager).requestSummaryEndpointInLocales(any(), any(), any());
                 }
 
                 @Test
@@ -240,7 +240,7 @@ public class RaceStageCiImplStageTypeTest {
                     val stageType = stage.getStageType();
 
                     assertThat(stageType).isNull();
-                    verify(dataRouterManager).requestSummaryEndpoint(any(), any(), any());
+                    verify(dataRouterManager).requestSummaryEndpointInLocales(any(), any(), any());
                 }
 
                 @Test
@@ -252,7 +252,7 @@ public class RaceStageCiImplStageTypeTest {
                     val stageType = stage.getStageType();
 
                     assertThat(stageType).isNull();
-                    verify(dataRouterManager).requestSummaryEndpoint(any(), any(), any());
+                    verify(dataRouterManager).requestSummaryEndpointInLocales(any(), any(), any());
                 }
 
                 @Test
@@ -265,7 +265,7 @@ public class RaceStageCiImplStageTypeTest {
                     val stageType = importedRaceStage.getStageType();
 
                     assertThat(stageType).isNull();
-                    verify(dataRouterManager).requestSummaryEndpoint(any(), any(), any());
+                    verify(dataRouterManager).requestSummaryEndpointInLocales(any(), any(), any());
                 }
             }
 
@@ -332,7 +332,7 @@ public class RaceStageCiImplStageTypeTest {
                 ) throws CommunicationException {
                     does(() -> stage.getValue().merge(raceStageSummary, Languages.any()))
                         .when(dataRouterManager)
-                        .requestSummaryEndpoint(any(), any(), any());
+                        .requestSummaryEndpointInLocales(any(), any(), any());
                 }
 
                 private static Stubber does(Runnable action) {
@@ -363,7 +363,7 @@ public class RaceStageCiImplStageTypeTest {
                             .constructFrom(new SAPISportEvent());
                         doThrow(communicationError)
                             .when(dataRouterManager)
-                            .requestSummaryEndpoint(any(), any(), any());
+                            .requestSummaryEndpointInLocales(any(), any(), any());
 
                         assertThatThrownBy(() -> stage.getStageType()).hasRootCause(communicationError);
                     }
@@ -376,7 +376,7 @@ public class RaceStageCiImplStageTypeTest {
                             .constructFrom(new SAPIFixture());
                         doThrow(communicationError)
                             .when(dataRouterManager)
-                            .requestSummaryEndpoint(any(), any(), any());
+                            .requestSummaryEndpointInLocales(any(), any(), any());
 
                         assertThatThrownBy(() -> stage.getStageType()).hasRootCause(communicationError);
                     }
@@ -390,7 +390,7 @@ public class RaceStageCiImplStageTypeTest {
                             .constructFrom(new SAPISportEventChildren.SAPISportEvent());
                         doThrow(communicationError)
                             .when(dataRouterManager)
-                            .requestSummaryEndpoint(any(), any(), any());
+                            .requestSummaryEndpointInLocales(any(), any(), any());
 
                         assertThatThrownBy(() -> stage.getStageType()).hasRootCause(communicationError);
                     }
@@ -403,7 +403,7 @@ public class RaceStageCiImplStageTypeTest {
                             .constructFrom(new SAPIParentStage());
                         doThrow(communicationError)
                             .when(dataRouterManager)
-                            .requestSummaryEndpoint(any(), any(), any());
+                            .requestSummaryEndpointInLocales(any(), any(), any());
 
                         assertThatThrownBy(() -> stage.getStageType()).hasRootCause(communicationError);
                     }
@@ -418,7 +418,7 @@ public class RaceStageCiImplStageTypeTest {
                             .construct();
                         doThrow(communicationError)
                             .when(dataRouterManager)
-                            .requestSummaryEndpoint(any(), any(), any());
+                            .requestSummaryEndpointInLocales(any(), any(), any());
 
                         assertThatThrownBy(() -> importedStage.getStageType())
                             .hasRootCause(communicationError);
@@ -446,7 +446,7 @@ public class RaceStageCiImplStageTypeTest {
                             .constructFrom(new SAPISportEvent());
                         doThrow(communicationError)
                             .when(dataRouterManager)
-                            .requestSummaryEndpoint(any(), any(), any());
+                            .requestSummaryEndpointInLocales(any(), any(), any());
 
                         assertThat(stage.getStageType()).isNull();
                     }
@@ -459,7 +459,7 @@ public class RaceStageCiImplStageTypeTest {
                             .constructFrom(new SAPIFixture());
                         doThrow(communicationError)
                             .when(dataRouterManager)
-                            .requestSummaryEndpoint(any(), any(), any());
+                            .requestSummaryEndpointInLocales(any(), any(), any());
 
                         assertThat(stage.getStageType()).isNull();
                     }
@@ -473,7 +473,7 @@ public class RaceStageCiImplStageTypeTest {
                             .constructFrom(new SAPISportEventChildren.SAPISportEvent());
                         doThrow(communicationError)
                             .when(dataRouterManager)
-                            .requestSummaryEndpoint(any(), any(), any());
+                            .requestSummaryEndpointInLocales(any(), any(), any());
 
                         assertThat(stage.getStageType()).isNull();
                     }
@@ -487,7 +487,7 @@ public class RaceStageCiImplStageTypeTest {
                             .constructFrom(new SAPIParentStage());
                         doThrow(communicationError)
                             .when(dataRouterManager)
-                            .requestSummaryEndpoint(any(), any(), any());
+                            .requestSummaryEndpointInLocales(any(), any(), any());
 
                         assertThat(stage.getStageType()).isNull();
                     }
@@ -502,7 +502,7 @@ public class RaceStageCiImplStageTypeTest {
                             .construct();
                         doThrow(communicationError)
                             .when(dataRouterManager)
-                            .requestSummaryEndpoint(any(), any(), any());
+                            .requestSummaryEndpointInLocales(any(), any(), any());
 
                         assertThat(importedStage.getStageType()).isNull();
                     }
@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.caching.markets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.sportradar.uf.sportsapi.datamodel.DescMarket;
+import com.sportradar.uf.sportsapi.datamodel.DescOutcomes;
+import com.sportradar.uf.sportsapi.datamodel.Mappings;
+import com.sportradar.uf.sportsapi.datamodel.MarketDescriptions;
+import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketDescriptionCI;
+import com.sportradar.unifiedodds.sdk.entities.markets.MarketDescription;
+import com.sportradar.unifiedodds.sdk.impl.DataProvider;
+import com.sportradar.unifiedodds.sdk.impl.ObservableDataProvider;
+import com.sportradar.unifiedodds.sdk.impl.SDKTaskScheduler;
+import com.sportradar.unifiedodds.sdk.impl.markets.MappingValidatorFactory;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+@SuppressWarnings(
+    {
+        "ClassDataAbstractionCoupling",
+        "ClassFanOutComplexity",
+        "MagicNumber",
+        "VariableDeclarationUsageDistance",
+    }
+)
+public class InvariantMarketDescriptionCacheTest {
+
+    private static final List<Locale> ENGLISH = ImmutableList.of(Locale.ENGLISH);
+    private static final List<Locale> GERMAN = ImmutableList.of(Locale.GERMAN);
+    private static final String WINNER = "Winner";
+
+    @SuppressWarnings("unchecked")
+    private final DataProvider<MarketDescriptions> dataProvider = mock(DataProvider.class);
+
+    @SuppressWarnings("unchecked")
+    private final ObservableDataProvider<MarketDescriptions> additionalMappingsProvider = mock(
+        ObservableDataProvider.class
+    );
+
+    private final Cache<String, MarketDescriptionCI> ciCache = CacheBuilder.newBuilder().build();
+    private final InvariantMarketDescriptionCache cache = new InvariantMarketDescriptionCache(
+        ciCache,
+        dataProvider,
+        additionalMappingsProvider,
+        mock(MappingValidatorFactory.class),
+        mock(SDKTaskScheduler.class),
+        ENGLISH
+    );
+
+    @Test
+    public void refreshShouldReplaceOnlyChangedMarkets() throws Exception {
+        stubData(Locale.ENGLISH, market(1, WINNER), market(2, "Total"));
+        cache.loadMarketDescriptions();
+        MarketDescription unchanged = cache.getMarketDescriptor(1, null, ENGLISH);
+        MarketDescription changed = cache.getMarketDescriptor(2, null, ENGLISH);
+
+        stubData(Locale.ENGLISH, market(1, WINNER), market(2, "Total goals"), market(3, "Handicap"));
+        MarketDescriptionsRefreshReport report = cache.refreshMarketDescriptions();
+
+        assertThat(report.getAddedMarkets()).containsExactly(3);
+        assertThat(report.getChangedMarkets()).containsExactly(2);
+        assertThat(report.getUnchangedMarketCount()).isEqualTo(1);
+        assertThat(cache.getMarketDescriptor(1, null, ENGLISH)).isSameAs(unchanged);
+        assertThat(cache.getMarketDescriptor(2, null, ENGLISH)).isNotSameAs(changed);
+        assertThat(cache.getMarketDescriptor(2, null, ENGLISH).getName(Locale.ENGLISH)).isEqualTo("Total goals");
+        assertThat(cache.getMarketDescriptor(3, null, ENGLISH).getName(Locale.ENGLISH)).isEqualTo("Handicap");
+    }
+
+    @Test
+    public void refreshWithoutChangesShouldNotNotifyListeners() throws Exception {
+        AtomicInteger reloads = new AtomicInteger();
+        stubData(Locale.ENGLISH, market(1, WINNER));
+        cache.loadMarketDescriptions();
+        cache.addReloadListener(reloads::incrementAndGet);
+
+        MarketDescriptionsRefreshReport report = cache.refreshMarketDescriptions();
+
+        assertThat(report.hasChanges()).isFalse();
+        assertThat(reloads).hasValue(0);
+    }
+
+    @Test
+    public void changedAdditionalMappingsShouldReplaceMarket() throws Exception {
+        stubData(Locale.ENGLISH, market(1, WINNER));
+        cache.loadMarketDescriptions();
+        MarketDescription beforeRefresh = cache.getMarketDescriptor(1, null, ENGLISH);
+
+        when(additionalMappingsProvider.getData()).thenReturn(descriptions(additionalMappings(1)));
+        MarketDescriptionsRefreshReport report = cache.refreshMarketDescriptions();
+
+        assertThat(report.getChangedMarkets()).containsExactly(1);
+        assertThat(cache.getMarketDescriptor(1, null, ENGLISH)).isNotSameAs(beforeRefresh);
+        assertThat(cache.getMarketDescriptor(1, null, ENGLISH).getMappings()).hasSize(1);
+        assertThat(cache.refreshMarketDescriptions().hasChanges()).isFalse();
+    }
+
+    @Test
+    public void missingLocaleShouldBeFetchedWhileRefreshIsInProgress() throws Exception {
+        stubData(Locale.ENGLISH, market(1, WINNER));
+        stubData(Locale.GERMAN, market(1, "Sieger"));
+        cache.loadMarketDescriptions();
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch fetchCompleted = new CountDownLatch(1);
+        when(dataProvider.getData(eq(Locale.ENGLISH)))
+            .thenAnswer(invocation -> {
+                refreshStarted.countDown();
+                fetchCompleted.await(10, TimeUnit.SECONDS);
+                return descriptions(market(1, WINNER));
+            });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<MarketDescriptionsRefreshReport> refresh = executor.submit(cache::refreshMarketDescriptions);
+            assertThat(refreshStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+            MarketDescription description = cache.getMarketDescriptor(1, null, ImmutableList.of(Locale.GERMAN));
+            fetchCompleted.countDown();
+
+            assertThat(description.getName(Locale.GERMAN)).isEqualTo("Sieger");
+            assertThat(refresh.get(10, TimeUnit.SECONDS).hasChanges()).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void refreshShouldUpdateLocalesFetchedOnDemand() throws Exception {
+        stubData(Locale.ENGLISH, market(1, WINNER));
+        stubData(Locale.GERMAN, market(1, "Sieger"));
+        cache.loadMarketDescriptions();
+        cache.getMarketDescriptor(1, null, GERMAN);
+
+        stubData(Locale.GERMAN, market(1, "Gewinner"));
+        MarketDescriptionsRefreshReport report = cache.refreshMarketDescriptions();
+
+        assertThat(report.getChangedMarkets()).containsExactly(1);
+        assertThat(cache.getMarketDescriptor(1, null, GERMAN).getName(Locale.GERMAN)).isEqualTo("Gewinner");
+        assertThat(cache.refreshMarketDescriptions().hasChanges()).isFalse();
+    }
+
+    @Test
+    public void additionalMappingsShouldBeAddedToMarketWithoutMappings() throws Exception {
+        DescMarket market = market(1, WINNER);
+        market.setMappings(null);
+        stubData(Locale.ENGLISH, market);
+        when(additionalMappingsProvider.getData()).thenReturn(descriptions(additionalMappings(1)));
+
+        cache.loadMarketDescriptions();
+
+        assertThat(cache.getMarketDescriptor(1, null, ENGLISH).getMappings()).hasSize(1);
+    }
+
+    private void stubData(Locale locale, DescMarket... markets) throws Exception {
+        when(dataProvider.getData(eq(locale))).thenReturn(descriptions(markets));
+    }
+
+    private static MarketDescriptions descriptions(DescMarket... markets) {
+        MarketDescriptions descriptions = new MarketDescriptions();
+        descriptions.getMarket().addAll(ImmutableList.copyOf(markets));
+        return descriptions;
+    }
+
+    private static DescMarket market(int id, String name) {
+        DescOutcomes.Outcome outcome = new DescOutcomes.Outcome();
+        outcome.setId("1");
+        outcome.setName(name + " outcome");
+        DescOutcomes outcomes = new DescOutcomes();
+        outcomes.getOutcome().add(outcome);
+        DescMarket market = new DescMarket();
+        market.setId(id);
+        market.setName(name);
+        market.setOutcomes(outcomes);
+        market.setMappings(new Mappings());
+        return market;
+    }
+
+    private static DescMarket additionalMappings(int id) {
+        Mappings.Mapping mapping = new Mappings.Mapping();
+        mapping.setProductId(1);
+        mapping.setProductIds("1|4");
+        mapping.setSportId("sr:sport:1");
+        mapping.setMarketId("10");
+        Mappings mappings = new Mappings();
+        mappings.getMapping().add(mapping);
+        DescMarket market = new DescMarket();
+        market.setId(id);
+        market.setMappings(mappings);
+        return market;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.caching.markets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.sportradar.uf.sportsapi.datamodel.DescMarket;
+import com.sportradar.uf.sportsapi.datamodel.MarketDescriptions;
+import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketDescriptionCI;
+import com.sportradar.unifiedodds.sdk.entities.markets.MarketDescription;
+import com.sportradar.unifiedodds.sdk.impl.DataProvider;
+import com.sportradar.unifiedodds.sdk.impl.markets.MappingValidatorFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+@SuppressWarnings({ "MagicNumber" })
+public class VariantMarketDescriptionCacheTest {
+
+    private static final int MARKET_ID = 534;
+    private static final String VARIANT = "pre:markettext:41312";
+
+    @SuppressWarnings("unchecked")
+    private final DataProvider<MarketDescriptions> dataProvider = mock(DataProvider.class);
+
+    private final MappingValidatorFactory mappingValidatorFactory = mock(MappingValidatorFactory.class);
+    private final Cache<String, MarketDescriptionCI> ciCache = CacheBuilder.newBuilder().build();
+    private final VariantMarketDescriptionCache cache = new VariantMarketDescriptionCache(
+        ciCache,
+        dataProvider,
+        mappingValidatorFactory,
+        false
+    );
+
+    @Test
+    public void cachedDescriptionShouldBeReturnedWithoutFetching() throws Exception {
+        ciCache.put(MARKET_ID + "_" + VARIANT, cachedDescription(Locale.ENGLISH));
+
+        MarketDescription description = cache.getMarketDescriptor(
+            MARKET_ID,
+            VARIANT,
+            ImmutableList.of(Locale.ENGLISH)
+        );
+
+        assertThat(description.getName(Locale.ENGLISH)).isEqualTo("Name en");
+        verify(dataProvider, never()).getData(any(Locale.class), anyString(), anyString());
+    }
+
+    @Test
+    public void missingDescriptionShouldBeFetchedOnce() throws Exception {
+        stubData(Locale.ENGLISH);
+
+        cache.getMarketDescriptor(MARKET_ID, VARIANT, ImmutableList.of(Locale.ENGLISH));
+        cache.getMarketDescriptor(MARKET_ID, VARIANT, ImmutableList.of(Locale.ENGLISH));
+
+        verify(dataProvider, times(1)).getData(eq(Locale.ENGLISH), anyString(), anyString());
+    }
+
+    @Test
+    public void onlyMissingLocaleShouldBeFetchedForCachedDescription() throws Exception {
+        ciCache.put(MARKET_ID + "_" + VARIANT, cachedDescription(Locale.ENGLISH));
+        stubData(Locale.GERMAN);
+
+        MarketDescription description = cache.getMarketDescriptor(
+            MARKET_ID,
+            VARIANT,
+            ImmutableList.of(Locale.ENGLISH, Locale.GERMAN)
+        );
+
+        assertThat(description.getName(Locale.GERMAN)).isEqualTo("Name de");
+        verify(dataProvider, never()).getData(eq(Locale.ENGLISH), anyString(), anyString());
+        verify(dataProvider, times(1)).getData(eq(Locale.GERMAN), anyString(), anyString());
+    }
+
+    @Test
+    public void missingLocaleShouldBeFetchedOnceByConcurrentReaders() throws Exception {
+        ciCache.put(MARKET_ID + "_" + VARIANT, cachedDescription(Locale.ENGLISH));
+        stubData(Locale.GERMAN);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<MarketDescription>> results = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                results.add(
+                    executor.submit(() ->
+                        cache.getMarketDescriptor(MARKET_ID, VARIANT, ImmutableList.of(Locale.ENGLISH, Locale.GERMAN))
+                    )
+                );
+            }
+            for (Future<MarketDescription> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getName(Locale.GERMAN)).isEqualTo("Name de");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(dataProvider, times(1)).getData(eq(Locale.GERMAN), anyString(), anyString());
+    }
+
+    private void stubData(Locale locale) throws Exception {
+        MarketDescriptions data = new MarketDescriptions();
+        data.getMarket().add(descMarket(locale));
+        when(dataProvider.getData(eq(locale), anyString(), anyString())).thenReturn(data);
+    }
+
+    private MarketDescriptionCI cachedDescription(Locale locale) {
+        return new MarketDescriptionCI(descMarket(locale), mappingValidatorFactory, locale, "test");
+    }
+
+    private static DescMarket descMarket(Locale locale) {
+        DescMarket market = new DescMarket();
+        market.setId(MARKET_ID);
+        market.setName("Name " + locale.getLanguage());
+        market.setVariant(VARIANT);
+        return market;
+    }
+}
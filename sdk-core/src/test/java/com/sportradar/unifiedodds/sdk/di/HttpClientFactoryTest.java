@@ -24,4 +24,11 @@ public class HttpClientFactoryTest {
 
         assertNotNull(client);
     }
+
+    @Test
+    public void should_create_http_client_without_content_compression() {
+        CloseableHttpClient client = new HttpClientFactory(false).create(5000, 2, 3);
+
+        assertNotNull(client);
+    }
 }
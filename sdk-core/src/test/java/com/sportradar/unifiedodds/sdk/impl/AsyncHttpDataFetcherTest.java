@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.impl;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.DataProviderException;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.DeserializationException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+@SuppressWarnings({ "ClassFanOutComplexity", "MagicNumber" })
+public class AsyncHttpDataFetcherTest {
+
+    private static final String ACCESS_TOKEN = "anyAccessToken";
+    private static final String SUMMARY_PATH = "/v1/sports/en/sport_events/sr:match:1/summary.xml";
+    private static final String SUMMARY = "<summary/>";
+
+    @Rule
+    public final WireMockRule wireMock = new WireMockRule(0);
+
+    private final SDKInternalConfiguration config = mock(SDKInternalConfiguration.class);
+    private final CloseableHttpAsyncClient httpClient = HttpAsyncClients.createDefault();
+    private final ExecutorService completionExecutor = Executors.newSingleThreadExecutor(
+        new ThreadFactoryBuilder().setNameFormat("completion-%d").build()
+    );
+    private final Deserializer deserializer = mock(Deserializer.class);
+    private final AsyncHttpDataFetcher fetcher;
+
+    public AsyncHttpDataFetcherTest() {
+        when(config.getAccessToken()).thenReturn(ACCESS_TOKEN);
+        fetcher =
+            new AsyncHttpDataFetcher(
+                config,
+                httpClient,
+                mock(UnifiedOddsStatistics.class),
+                deserializer,
+                completionExecutor
+            );
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        httpClient.close();
+        completionExecutor.shutdownNow();
+    }
+
+    @Test
+    public void shouldFetchContentWithAccessToken() throws Exception {
+        wireMock.stubFor(get(urlPathEqualTo(SUMMARY_PATH)).willReturn(WireMock.ok(SUMMARY)));
+
+        DataWrapper<String> fetched = fetcher
+            .get(localhost(SUMMARY_PATH), this::readString)
+            .get(5, TimeUnit.SECONDS);
+
+        assertThat(fetched.getData()).isEqualTo(SUMMARY);
+        wireMock.verify(
+            getRequestedFor(urlPathEqualTo(SUMMARY_PATH)).withHeader("x-access-token", equalTo(ACCESS_TOKEN))
+        );
+    }
+
+    @Test
+    public void shouldReadContentOnCompletionExecutor() throws Exception {
+        wireMock.stubFor(get(urlPathEqualTo(SUMMARY_PATH)).willReturn(WireMock.ok(SUMMARY)));
+
+        DataWrapper<String> fetched = fetcher
+            .get(localhost(SUMMARY_PATH), content -> Thread.currentThread().getName())
+            .get(5, TimeUnit.SECONDS);
+
+        assertThat(fetched.getData()).isEqualTo("completion-0");
+    }
+
+    @Test
+    public void shouldDecompressGzipContent() throws Exception {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(SUMMARY.getBytes(StandardCharsets.UTF_8));
+        }
+        wireMock.stubFor(
+            get(urlPathEqualTo(SUMMARY_PATH))
+                .willReturn(aResponse().withHeader("Content-Encoding", "gzip").withBody(compressed.toByteArray()))
+        );
+
+        DataWrapper<String> fetched = fetcher
+            .get(localhost(SUMMARY_PATH), this::readString)
+            .get(5, TimeUnit.SECONDS);
+
+        assertThat(fetched.getData()).isEqualTo(SUMMARY);
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyWithStatusCodeOfBadResponse() {
+        wireMock.stubFor(get(urlPathEqualTo(SUMMARY_PATH)).willReturn(aResponse().withStatus(404)));
+
+        Throwable failure = catchThrowable(() ->
+            fetcher.get(localhost(SUMMARY_PATH), this::readString).get(5, TimeUnit.SECONDS)
+        );
+
+        assertThat(failure)
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(CommunicationException.class);
+        assertThat(((CommunicationException) failure.getCause()).getHttpStatusCode()).isEqualTo(404);
+    }
+
+    @Test
+    public void dataProviderShouldProvideDeserializedDataAsynchronously() throws Exception {
+        wireMock.stubFor(get(urlPathEqualTo(SUMMARY_PATH)).willReturn(WireMock.ok(SUMMARY)));
+        Object summary = new Object();
+        when(deserializer.deserialize(any())).thenReturn(summary);
+
+        Object provided = dataProvider().getDataAsync(Locale.ENGLISH, "sr:match:1").get(5, TimeUnit.SECONDS);
+
+        assertThat(provided).isSameAs(summary);
+    }
+
+    @Test
+    public void dataProviderShouldReportInaccessibleDataAsDataProviderException() {
+        wireMock.stubFor(get(urlPathEqualTo(SUMMARY_PATH)).willReturn(aResponse().withStatus(500)));
+
+        Throwable failure = catchThrowable(() ->
+            dataProvider().getDataAsync(Locale.ENGLISH, "sr:match:1").get(5, TimeUnit.SECONDS)
+        );
+
+        assertThat(failure)
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(DataProviderException.class)
+            .hasRootCauseInstanceOf(CommunicationException.class);
+    }
+
+    private DataProvider<Object> dataProvider() {
+        return new DataProvider<>(
+            localhost("/v1/sports/%s/sport_events/%s/summary.xml"),
+            config,
+            mock(HttpDataFetcher.class),
+            fetcher,
+            deserializer
+        );
+    }
+
+    private String readString(InputStream content) throws DeserializationException {
+        try {
+            return new String(ByteStreams.toByteArray(content), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new DeserializationException("Content could not be read", e);
+        }
+    }
+
+    private String localhost(String path) {
+        return "http://localhost:" + wireMock.port() + path;
+    }
+}
@@ -75,7 +75,7 @@ public class CacheMessageProcessorTest {
         fixtureChange.setEventId(routingKey.getEventId().toString());
         fixtureChange.setProduct(1);
         Assert.assertEquals(eventId.toString(), fixtureChange.getEventId());
-        cacheMessageProcessor.processMessage(fixtureChange, new byte[0], routingKey, timestamp);
+        cacheMessageProcessor.processMessage(FeedMessageEnvelope.of(fixtureChange), new byte[0], routingKey, timestamp);
 
         verify(sportEventCache, times(1)).purgeCacheItem(eventId);
         verify(sportEventCache, times(1)).addFixtureTimestamp(eventId);
@@ -101,7 +101,7 @@ public class CacheMessageProcessorTest {
         fixtureChange.setProduct(virtualProducerId);
         Assert.assertEquals(eventId.toString(), fixtureChange.getEventId());
         setupCacheMessageProcessor();
-        cacheMessageProcessor.processMessage(fixtureChange, new byte[0], routingKey, timestamp);
+        cacheMessageProcessor.processMessage(FeedMessageEnvelope.of(fixtureChange), new byte[0], routingKey, timestamp);
 
         verify(sportEventCache, times(1)).purgeCacheItem(eventId);
         verify(sportEventCache, times(0)).addFixtureTimestamp(eventId);
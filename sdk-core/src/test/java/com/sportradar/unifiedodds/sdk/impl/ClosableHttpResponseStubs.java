@@ -7,8 +7,13 @@ package com.sportradar.unifiedodds.sdk.impl;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.google.common.io.CharStreams;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.DeserializationException;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import lombok.val;
 import org.apache.http.HttpEntity;
 import org.apache.http.StatusLine;
@@ -44,6 +49,14 @@ public class ClosableHttpResponseStubs {
         return entity;
     }
 
+    public static String readAsString(InputStream content) throws DeserializationException {
+        try {
+            return CharStreams.toString(new InputStreamReader(content, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new DeserializationException("Failed to read the content", e);
+        }
+    }
+
     public static CloseableHttpResponse emptyResponseWithCode(final int httpCode, final String content)
         throws IOException {
         val response = mock(CloseableHttpResponse.class);
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sportradar.uf.datamodel.*;
+import com.sportradar.unifiedodds.sdk.exceptions.UnsupportedUrnFormatException;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+import com.sportradar.utils.URN;
+import org.junit.Test;
+
+@SuppressWarnings({ "MagicNumber", "MultipleStringLiterals" })
+public class FeedMessageEnvelopeTest {
+
+    private static final String EVENT_ID = "sr:match:1234";
+
+    @Test
+    public void resolvesOddsChangeFields() {
+        UFOddsChange oddsChange = new UFOddsChange();
+        oddsChange.setProduct(1);
+        oddsChange.setEventId(EVENT_ID);
+        oddsChange.setRequestId(55L);
+        oddsChange.setTimestamp(1000L);
+
+        FeedMessageEnvelope envelope = FeedMessageEnvelope.of(oddsChange);
+
+        assertThat(envelope.getMessage()).isSameAs(oddsChange);
+        assertThat(envelope.getKind()).isEqualTo(FeedMessageKind.OddsChange);
+        assertThat(envelope.getProducerId()).isEqualTo(1);
+        assertThat(envelope.getEventId()).isEqualTo(URN.parse(EVENT_ID));
+        assertThat(envelope.getEventIdDescription()).isEqualTo(EVENT_ID);
+        assertThat(envelope.getRequestId()).isEqualTo(55L);
+        assertThat(envelope.getGenTimestamp()).isEqualTo(1000L);
+        assertThat(envelope.getTimestamp()).isEqualTo(1000L);
+    }
+
+    @Test
+    public void resolvesBetSettlementFieldsWithoutGenTimestamp() {
+        UFBetSettlement betSettlement = new UFBetSettlement();
+        betSettlement.setProduct(3);
+        betSettlement.setEventId(EVENT_ID);
+        betSettlement.setTimestamp(2000L);
+
+        FeedMessageEnvelope envelope = FeedMessageEnvelope.of(betSettlement);
+
+        assertThat(envelope.getKind()).isEqualTo(FeedMessageKind.BetSettlement);
+        assertThat(envelope.getProducerId()).isEqualTo(3);
+        assertThat(envelope.getRequestId()).isNull();
+        assertThat(envelope.getGenTimestamp()).isNull();
+        assertThat(envelope.getTimestamp()).isEqualTo(2000L);
+    }
+
+    @Test
+    public void resolvesSystemMessageFields() {
+        UFSnapshotComplete snapshotComplete = new UFSnapshotComplete();
+        snapshotComplete.setProduct(1);
+        snapshotComplete.setRequestId(7L);
+        snapshotComplete.setTimestamp(3000L);
+
+        FeedMessageEnvelope envelope = FeedMessageEnvelope.of(snapshotComplete);
+
+        assertThat(envelope.getKind()).isEqualTo(FeedMessageKind.SnapshotComplete);
+        assertThat(envelope.getEventId()).isNull();
+        assertThat(envelope.getEventIdDescription()).isEqualTo("System message");
+        assertThat(envelope.getRequestId()).isEqualTo(7L);
+        assertThat(envelope.getGenTimestamp()).isNull();
+    }
+
+    @Test
+    public void resolvesAliveGenTimestamp() {
+        UFAlive alive = new UFAlive();
+        alive.setProduct(1);
+        alive.setTimestamp(4000L);
+
+        FeedMessageEnvelope envelope = FeedMessageEnvelope.of(alive);
+
+        assertThat(envelope.getKind()).isEqualTo(FeedMessageKind.Alive);
+        assertThat(envelope.getRequestId()).isNull();
+        assertThat(envelope.getGenTimestamp()).isEqualTo(4000L);
+    }
+
+    @Test
+    public void unsupportedMessagesHaveUnknownProducer() {
+        FeedMessageEnvelope envelope = FeedMessageEnvelope.of(new UnmarshalledMessage() {});
+
+        assertThat(envelope.getKind()).isEqualTo(FeedMessageKind.Unknown);
+        assertThat(envelope.getProducerId()).isEqualTo(UnifiedFeedConstants.UNKNOWN_PRODUCER_ID);
+        assertThat(envelope.getEventId()).isNull();
+    }
+
+    @Test
+    public void eventIdIsParsedOnce() {
+        UFBetStop betStop = new UFBetStop();
+        betStop.setEventId(EVENT_ID);
+
+        FeedMessageEnvelope envelope = FeedMessageEnvelope.of(betStop);
+
+        assertThat(envelope.getEventId()).isSameAs(envelope.getEventId());
+    }
+
+    @Test
+    public void invalidEventIdIsReportedOnAccess() {
+        UFBetCancel betCancel = new UFBetCancel();
+        betCancel.setEventId("invalid");
+
+        FeedMessageEnvelope envelope = FeedMessageEnvelope.of(betCancel);
+
+        assertThat(envelope.getEventIdDescription()).isEqualTo("invalid");
+        assertThatThrownBy(envelope::getEventId).isInstanceOf(UnsupportedUrnFormatException.class);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.sportradar.uf.datamodel.UFBetCancel;
+import com.sportradar.uf.datamodel.UFMarket;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.SpecifierValidationMode;
+import com.sportradar.unifiedodds.sdk.caching.NamedValuesProvider;
+import com.sportradar.unifiedodds.sdk.caching.markets.MarketDescriptionProvider;
+import com.sportradar.unifiedodds.sdk.entities.markets.MarketDescription;
+import com.sportradar.unifiedodds.sdk.entities.markets.Specifier;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.CacheItemNotFoundException;
+import com.sportradar.utils.URN;
+import java.util.Locale;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+@SuppressWarnings({ "ClassFanOutComplexity", "MagicNumber", "MultipleStringLiterals" })
+public class FeedMessageValidatorImplTest {
+
+    private static final int MARKET_ID = 18;
+
+    private final MarketDescriptionProvider descriptionProvider = mock(MarketDescriptionProvider.class);
+    private final RoutingKeyInfo routingKeyInfo = new RoutingKeyInfo(
+        "hi.-.live.bet_cancel.1.sr:match.1.-",
+        URN.parse("sr:sport:1"),
+        URN.parse("sr:match:1")
+    );
+
+    @Test
+    public void resultShouldBeCachedForSpecifiersWithSameKeys() throws Exception {
+        FeedMessageValidator validator = buildValidator(SpecifierValidationMode.Cached);
+
+        assertThat(validator.validate(betCancel("total=2.5"), routingKeyInfo)).isEqualTo(ValidationResult.Success);
+        assertThat(validator.validate(betCancel("total=3.5"), routingKeyInfo)).isEqualTo(ValidationResult.Success);
+
+        verifyDescriptionLookups(1);
+    }
+
+    @Test
+    public void failedValidationShouldBeCachedForSpecifiersWithSameKeys() throws Exception {
+        FeedMessageValidator validator = buildValidator(SpecifierValidationMode.Cached);
+
+        assertThat(validator.validate(betCancel("hcp=1:0"), routingKeyInfo))
+            .isEqualTo(ValidationResult.ProblemsDetected);
+        assertThat(validator.validate(betCancel("hcp=0:1"), routingKeyInfo))
+            .isEqualTo(ValidationResult.ProblemsDetected);
+
+        verifyDescriptionLookups(1);
+    }
+
+    @Test
+    public void resultsShouldBeDiscardedOnceMarketDescriptionsAreReloaded() throws Exception {
+        FeedMessageValidator validator = buildValidator(SpecifierValidationMode.Cached);
+        ArgumentCaptor<Runnable> reloadListener = ArgumentCaptor.forClass(Runnable.class);
+        verify(descriptionProvider).addReloadListener(reloadListener.capture());
+        validator.validate(betCancel("total=2.5"), routingKeyInfo);
+
+        reloadListener.getValue().run();
+        validator.validate(betCancel("total=2.5"), routingKeyInfo);
+
+        verifyDescriptionLookups(2);
+    }
+
+    @Test
+    public void unavailableMarketDescriptionShouldNotBeCached() throws Exception {
+        FeedMessageValidator validator = buildValidator(SpecifierValidationMode.Cached);
+        when(descriptionProvider.getMarketDescription(anyInt(), any(), anyList(), anyBoolean()))
+            .thenThrow(new CacheItemNotFoundException("not found"));
+
+        validator.validate(betCancel("total=2.5"), routingKeyInfo);
+        validator.validate(betCancel("total=2.5"), routingKeyInfo);
+
+        verifyDescriptionLookups(2);
+    }
+
+    @Test
+    public void marketShouldNotBeValidatedAgainOnceItPassedInOncePerMarketMode() throws Exception {
+        FeedMessageValidator validator = buildValidator(SpecifierValidationMode.OncePerMarket);
+
+        validator.validate(betCancel("total=2.5"), routingKeyInfo);
+
+        assertThat(validator.validate(betCancel("hcp=1:0"), routingKeyInfo)).isEqualTo(ValidationResult.Success);
+        verifyDescriptionLookups(1);
+    }
+
+    @Test
+    public void specifiersShouldBeValidatedEachTimeInAlwaysMode() throws Exception {
+        FeedMessageValidator validator = buildValidator(SpecifierValidationMode.Always);
+
+        validator.validate(betCancel("total=2.5"), routingKeyInfo);
+        validator.validate(betCancel("total=2.5"), routingKeyInfo);
+
+        verifyDescriptionLookups(2);
+    }
+
+    private FeedMessageValidator buildValidator(SpecifierValidationMode mode) throws Exception {
+        SDKInternalConfiguration config = mock(SDKInternalConfiguration.class);
+        when(config.getDefaultLocale()).thenReturn(Locale.ENGLISH);
+        when(config.getSpecifierValidationMode()).thenReturn(mode);
+        MarketDescription description = totalsMarket();
+        when(descriptionProvider.getMarketDescription(anyInt(), any(), anyList(), anyBoolean()))
+            .thenReturn(description);
+
+        return new FeedMessageValidatorImpl(descriptionProvider, config, mock(NamedValuesProvider.class));
+    }
+
+    private void verifyDescriptionLookups(int count) throws Exception {
+        verify(descriptionProvider, times(count)).getMarketDescription(anyInt(), any(), anyList(), anyBoolean());
+    }
+
+    private static MarketDescription totalsMarket() {
+        Specifier total = mock(Specifier.class);
+        when(total.getName()).thenReturn("total");
+        MarketDescription description = mock(MarketDescription.class);
+        when(description.getId()).thenReturn(MARKET_ID);
+        when(description.getSpecifiers()).thenReturn(ImmutableList.of(total));
+        return description;
+    }
+
+    private static UFBetCancel betCancel(String specifiers) {
+        UFMarket market = new UFMarket();
+        market.setId(MARKET_ID);
+        market.setSpecifiers(specifiers);
+        UFBetCancel message = new UFBetCancel();
+        message.getMarket().add(market);
+        return message;
+    }
+}
@@ -16,19 +16,23 @@ import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException
 import com.sportradar.unifiedodds.sdk.exceptions.internal.DeserializationException;
 import java.io.IOException;
 import lombok.val;
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.message.BasicHeader;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 
+@SuppressWarnings({ "ClassFanOutComplexity" })
 public abstract class HttpDataFetcherTest {
 
     private static final String ANY = "any";
     private static final String NO_CONTENT = "";
     private static final String TOKEN = "someToken";
     private static final String ANY_URI = "https://sportradar.com";
+    private static final String HEADER = "Date";
     private final CloseableHttpClient httpClient = mock(CloseableHttpClient.class);
     private Deserializer deserializer = mock(Deserializer.class);
     private SDKInternalConfiguration config = mock(SDKInternalConfiguration.class);
@@ -189,6 +193,74 @@ public abstract class HttpDataFetcherTest {
         verifyRequestSubmittedHasToken(TOKEN);
     }
 
+    @Test
+    public void streamedApiResponseShouldBeHandedToReader()
+        throws IOException, CommunicationException, DeserializationException {
+        val httpOk = httpOk(ANY);
+        when(httpOk.getAllHeaders()).thenReturn(new Header[] { new BasicHeader(HEADER, ANY) });
+        when(httpClient.execute(any())).thenReturn(httpOk);
+        when(config.getAccessToken()).thenReturn(TOKEN);
+
+        DataWrapper<String> result = httpFetcher.get(ANY_URI, ClosableHttpResponseStubs::readAsString);
+
+        assertThat(result.getData()).isEqualTo(ANY);
+        assertThat(result.getHeaders()).containsEntry(HEADER, ANY);
+        verifyRequestSubmittedHasToken(TOKEN);
+    }
+
+    @Test
+    public void streamedApiResponseContainingNoContentShouldResultInExceptionExplainingThat()
+        throws IOException {
+        val httpOk = httpOk(NO_CONTENT);
+        when(httpClient.execute(any())).thenReturn(httpOk);
+        when(config.getAccessToken()).thenReturn(TOKEN);
+
+        CommunicationException exception = catchThrowableOfType(
+            () -> httpFetcher.get(ANY_URI, ClosableHttpResponseStubs::readAsString),
+            CommunicationException.class
+        );
+
+        assertEquals("Invalid server response. Message=no message", exception.getMessage());
+    }
+
+    @Test
+    public void streamedApiResponseWithErrorCodeShouldNotBeHandedToReader()
+        throws IOException, DeserializationException {
+        final int notFound = 404;
+        val notFoundResponse = ClosableHttpResponseStubs.emptyResponseWithCode(notFound, NO_CONTENT);
+        when(httpClient.execute(any())).thenReturn(notFoundResponse);
+        when(deserializer.deserialize(any())).thenReturn(parsedMessageAndAction());
+        when(config.getAccessToken()).thenReturn(TOKEN);
+        HttpDataFetcher.ContentReader<String> reader = mock(HttpDataFetcher.ContentReader.class);
+
+        CommunicationException exception = catchThrowableOfType(
+            () -> httpFetcher.get(ANY_URI, reader),
+            CommunicationException.class
+        );
+
+        assertEquals(notFound, exception.getHttpStatusCode());
+        verify(reader, never()).read(any());
+    }
+
+    @Test
+    public void streamedApiResponseShouldPropagateReaderFailure() throws IOException {
+        val httpOk = httpOk(ANY);
+        when(httpClient.execute(any())).thenReturn(httpOk);
+        when(config.getAccessToken()).thenReturn(TOKEN);
+        DeserializationException failure = new DeserializationException(ANY, null);
+
+        Throwable thrown = catchThrowable(() ->
+            httpFetcher.get(
+                ANY_URI,
+                content -> {
+                    throw failure;
+                }
+            )
+        );
+
+        assertThat(thrown).isSameAs(failure);
+    }
+
     private void verifyRequestSubmittedHasToken(final String token) throws IOException {
         val request = ArgumentCaptor.forClass(HttpRequestBase.class);
         verify(httpClient).execute(request.capture());
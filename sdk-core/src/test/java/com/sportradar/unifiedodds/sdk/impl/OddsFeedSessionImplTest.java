@@ -9,6 +9,9 @@ import static com.sportradar.unifiedodds.sdk.cfg.Environment.GlobalReplay;
 import static com.sportradar.unifiedodds.sdk.cfg.Environment.Replay;
 import static com.sportradar.unifiedodds.sdk.oddsentities.ProducerStubs.stubLiveProducer;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.google.common.cache.Cache;
@@ -32,6 +35,8 @@ import org.junit.runner.RunWith;
 public class OddsFeedSessionImplTest {
 
     private static final int LIVE_PRODUCER_ID = 1;
+    private static final int DISPATCH_LANES = 4;
+    private static final int DISPATCH_LANE_CAPACITY = 100;
     private final RoutingKeyInfo anyRoutingKey = RoutingKeys.getForPreMatchOddsChangeForAnyFootballMatch();
     private final List<String> anyRoutingKeys = Arrays.asList("any");
     private final MessageTimestamp timestamp = mock(MessageTimestamp.class);
@@ -90,11 +95,28 @@ public class OddsFeedSessionImplTest {
         when(producerManager.isProducerEnabled(LIVE_PRODUCER_ID)).thenReturn(true);
         when(messageValidator.validate(any(), any())).thenReturn(ValidationResult.Success);
 
-        session.onMessageReceived(oddsChange, new byte[0], anyRoutingKey, timestamp);
+        session.onMessageReceived(FeedMessageEnvelope.of(oddsChange), new byte[0], anyRoutingKey, timestamp);
 
         verify(processor).processMessage(any(), any(), any(), any());
     }
 
+    @Test
+    public void processedMessagesShouldBeReportedWithoutPerSessionProcessingState() throws IOException {
+        session.open(anyRoutingKeys, AllMessages, listener, extListener);
+        val oddsChange = new UFOddsChange();
+        when(configuration.getEnvironment()).thenReturn(Environment.Production);
+        when(producerManager.getProducer(LIVE_PRODUCER_ID)).thenReturn(stubLiveProducer());
+        oddsChange.setProduct(LIVE_PRODUCER_ID);
+        when(producerManager.isProducerEnabled(LIVE_PRODUCER_ID)).thenReturn(true);
+        when(messageValidator.validate(any(), any())).thenReturn(ValidationResult.Success);
+
+        session.onMessageReceived(FeedMessageEnvelope.of(oddsChange), new byte[0], anyRoutingKey, timestamp);
+
+        verify(recoveryManager).onMessageProcessed(eq(LIVE_PRODUCER_ID), any(), anyLong(), any(), any(), anyLong());
+        verify(recoveryManager, never()).onMessageProcessingStarted(anyInt(), anyInt(), any(), anyLong());
+        verify(recoveryManager, never()).onMessageProcessingEnded(anyInt(), anyInt(), any(), any());
+    }
+
     @Test
     public void validMessagesNotOfInterestToProducerShouldBeNotBeProcessed() throws IOException {
         session.open(anyRoutingKeys, PrematchMessagesOnly, listener, extListener);
@@ -105,7 +127,7 @@ public class OddsFeedSessionImplTest {
         when(producerManager.isProducerEnabled(LIVE_PRODUCER_ID)).thenReturn(true);
         when(messageValidator.validate(any(), any())).thenReturn(ValidationResult.Success);
 
-        session.onMessageReceived(oddsChange, new byte[0], anyRoutingKey, timestamp);
+        session.onMessageReceived(FeedMessageEnvelope.of(oddsChange), new byte[0], anyRoutingKey, timestamp);
 
         verify(processor, times(0)).processMessage(any(), any(), any(), any());
     }
@@ -120,7 +142,7 @@ public class OddsFeedSessionImplTest {
         val oddsChange = new UFOddsChange();
         when(producerManager.isProducerEnabled(LIVE_PRODUCER_ID)).thenReturn(false);
 
-        session.onMessageReceived(oddsChange, new byte[0], anyRoutingKey, timestamp);
+        session.onMessageReceived(FeedMessageEnvelope.of(oddsChange), new byte[0], anyRoutingKey, timestamp);
 
         verify(processor, times(0)).processMessage(any(), any(), any(), any());
     }
@@ -137,8 +159,24 @@ public class OddsFeedSessionImplTest {
         when(producerManager.isProducerEnabled(LIVE_PRODUCER_ID)).thenReturn(false);
         when(messageValidator.validate(any(), any())).thenReturn(ValidationResult.Success);
 
-        session.onMessageReceived(oddsChange, new byte[0], anyRoutingKey, timestamp);
+        session.onMessageReceived(FeedMessageEnvelope.of(oddsChange), new byte[0], anyRoutingKey, timestamp);
 
         verify(processor).processMessage(any(), any(), any(), any());
     }
+
+    @Test
+    public void sessionShouldOpenReceiverSequentiallyByDefault() throws IOException {
+        session.open(anyRoutingKeys, AllMessages, listener, extListener);
+
+        verify(messageReceiver).open(anyRoutingKeys, session);
+    }
+
+    @Test
+    public void sessionWithParallelDispatchShouldOpenReceiverWithDispatchLanes() throws IOException {
+        session.setParallelDispatch(DISPATCH_LANES, DISPATCH_LANE_CAPACITY);
+
+        session.open(anyRoutingKeys, AllMessages, listener, extListener);
+
+        verify(messageReceiver).open(anyRoutingKeys, session, DISPATCH_LANES, DISPATCH_LANE_CAPACITY);
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.ImmutableMap;
+import com.sportradar.unifiedodds.sdk.caching.exportable.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import org.junit.Test;
+
+@SuppressWarnings({ "ClassDataAbstractionCoupling", "MagicNumber", "MultipleStringLiterals" })
+public class PartitionedCacheImporterTest {
+
+    private final RecordingCache sportDataCache = new RecordingCache();
+    private final RecordingCache profileCache = new RecordingCache();
+    private final RecordingCache sportEventCache = new RecordingCache();
+
+    @Test
+    public void itemsAreImportedOnlyIntoTheirCache() {
+        List<ExportableCI> items = Arrays.asList(
+            sport("sr:sport:1"),
+            new ExportableCategoryCI("sr:category:1", names(), "sr:sport:1", null, "EN", null),
+            sportEvent("sr:match:1"),
+            new ExportableCI("sr:unknown:1", names())
+        );
+
+        importer(1).importItems(items);
+
+        assertThat(sportDataCache.importedIds()).containsExactlyInAnyOrder("sr:sport:1", "sr:category:1");
+        assertThat(sportEventCache.importedIds()).containsExactly("sr:match:1");
+        assertThat(profileCache.importedIds()).isEmpty();
+        assertThat(profileCache.batches).isEmpty();
+    }
+
+    @Test
+    public void reportContainsItemCountAndCacheStatusOfEachCache() {
+        Map<CacheType, CacheImportReport> reports = importer(1)
+            .importItems(Arrays.asList(sport("sr:sport:1"), sport("sr:sport:2")));
+
+        assertThat(reports).containsOnlyKeys(CacheType.SportData, CacheType.Profile, CacheType.SportEvent);
+        assertThat(reports.get(CacheType.SportData).getItemCount()).isEqualTo(2);
+        assertThat(reports.get(CacheType.SportData).getCacheStatus()).containsEntry("RecordingCache", 2L);
+        assertThat(reports.get(CacheType.SportEvent).getItemCount()).isZero();
+        assertThat(reports.get(CacheType.SportEvent).getElapsedMillis()).isZero();
+    }
+
+    @Test
+    public void largePartitionsAreSplitByIdAcrossThreads() {
+        List<ExportableCI> items = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            items.add(sportEvent("sr:match:" + i % 1500));
+        }
+
+        Map<CacheType, CacheImportReport> reports = importer(4).importItems(items);
+
+        assertThat(reports.get(CacheType.SportEvent).getItemCount()).isEqualTo(3000);
+        assertThat(sportEventCache.batches).hasSize(4);
+        assertThat(sportEventCache.importedIds()).hasSize(3000);
+        for (int i = 0; i < 1500; i++) {
+            String id = "sr:match:" + i;
+            assertThat(sportEventCache.batches.stream().filter(batch -> containsId(batch, id))).hasSize(1);
+        }
+    }
+
+    @Test
+    public void smallPartitionsAreNotSplit() {
+        importer(4).importItems(Arrays.asList(sportEvent("sr:match:1"), sportEvent("sr:match:2")));
+
+        assertThat(sportEventCache.batches).hasSize(1);
+    }
+
+    @Test
+    public void importFailureIsPropagated() {
+        sportEventCache.failure = new IllegalArgumentException("invalid item");
+        List<ExportableCI> items = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            items.add(sportEvent("sr:match:" + i));
+        }
+
+        assertThatThrownBy(() -> importer(4).importItems(items))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("invalid item");
+    }
+
+    private PartitionedCacheImporter importer(int parallelism) {
+        Map<CacheType, ExportableSdkCache> caches = new EnumMap<>(CacheType.class);
+        caches.put(CacheType.SportData, sportDataCache);
+        caches.put(CacheType.Profile, profileCache);
+        caches.put(CacheType.SportEvent, sportEventCache);
+        return new PartitionedCacheImporter(caches, parallelism);
+    }
+
+    private static boolean containsId(List<ExportableCI> batch, String id) {
+        return batch.stream().anyMatch(item -> item.getId().equals(id));
+    }
+
+    private static Map<Locale, String> names() {
+        return ImmutableMap.of(Locale.ENGLISH, "name");
+    }
+
+    private static ExportableSportCI sport(String id) {
+        return new ExportableSportCI(id, names(), new ArrayList<>(), new ArrayList<>(), false);
+    }
+
+    private static ExportableSportEventCI sportEvent(String id) {
+        return new ExportableLotteryCI(
+            id,
+            names(),
+            null,
+            null,
+            null,
+            null,
+            Locale.ENGLISH,
+            null,
+            null,
+            null,
+            null,
+            null
+        );
+    }
+
+    private static final class RecordingCache implements ExportableSdkCache {
+
+        private final Queue<List<ExportableCI>> batches = new ConcurrentLinkedQueue<>();
+        private RuntimeException failure;
+
+        @Override
+        public List<ExportableCI> exportItems() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public void importItems(List<ExportableCI> items) {
+            if (failure != null) {
+                throw failure;
+            }
+            batches.add(items);
+        }
+
+        @Override
+        public Map<String, Long> cacheStatus() {
+            return ImmutableMap.of("RecordingCache", (long) importedIds().size());
+        }
+
+        private List<String> importedIds() {
+            return batches.stream().flatMap(List::stream).map(ExportableCI::getId).collect(Collectors.toList());
+        }
+    }
+}
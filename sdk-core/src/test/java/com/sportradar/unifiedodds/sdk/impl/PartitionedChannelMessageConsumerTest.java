@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+
+@SuppressWarnings({ "MagicNumber", "MultipleStringLiterals" })
+public class PartitionedChannelMessageConsumerTest {
+
+    private static final String SYSTEM_ROUTING_KEY = "-.-.-.snapshot_complete.-.-.-.1";
+
+    private PartitionedChannelMessageConsumer consumer;
+
+    @After
+    public void closeConsumer() {
+        if (consumer != null) {
+            consumer.close();
+        }
+    }
+
+    @Test
+    public void opensUnderlyingConsumer() {
+        ChannelMessageConsumer underlying = mock(ChannelMessageConsumer.class);
+        MessageConsumer messageConsumer = mock(MessageConsumer.class);
+        consumer = createConsumer(underlying, 2, 10);
+
+        consumer.open(messageConsumer);
+
+        verify(underlying).open(messageConsumer);
+    }
+
+    @Test
+    public void preservesOrderOfMessagesOfTheSameEvent() throws InterruptedException {
+        Map<String, List<Long>> received = new ConcurrentHashMap<>();
+        CountDownLatch allReceived = new CountDownLatch(300);
+        consumer =
+            createConsumer(
+                (routingKey, body, properties, receivedAt) -> {
+                    received
+                        .computeIfAbsent(routingKey, k -> Collections.synchronizedList(new ArrayList<>()))
+                        .add(receivedAt);
+                    allReceived.countDown();
+                },
+                4,
+                10
+            );
+
+        for (long i = 0; i < 100; i++) {
+            consumer.onMessageReceived(oddsChangeKeyFor(1), new byte[0], null, i);
+            consumer.onMessageReceived(oddsChangeKeyFor(2), new byte[0], null, i);
+            consumer.onMessageReceived(oddsChangeKeyFor(3), new byte[0], null, i);
+        }
+
+        assertThat(allReceived.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).hasSize(3);
+        for (List<Long> timestamps : received.values()) {
+            assertThat(timestamps).hasSize(100).isSorted();
+        }
+        assertThat(consumer.getStatistics().getNumberOfDispatchedMessages()).isEqualTo(300);
+    }
+
+    @Test
+    public void processesMessagesOfDifferentLanesInParallel() throws InterruptedException {
+        CountDownLatch releaseBlockedLane = new CountDownLatch(1);
+        CountDownLatch otherLaneProcessed = new CountDownLatch(1);
+        String blockedKey = oddsChangeKeyFor(matchIdOnLane(0));
+        consumer =
+            createConsumer(
+                (routingKey, body, properties, receivedAt) -> {
+                    if (routingKey.equals(blockedKey)) {
+                        awaitQuietly(releaseBlockedLane);
+                    } else {
+                        otherLaneProcessed.countDown();
+                    }
+                },
+                2,
+                10
+            );
+
+        consumer.onMessageReceived(blockedKey, new byte[0], null, 0);
+        consumer.onMessageReceived(oddsChangeKeyFor(matchIdOnLane(1)), new byte[0], null, 0);
+
+        assertThat(otherLaneProcessed.await(10, TimeUnit.SECONDS)).isTrue();
+        releaseBlockedLane.countDown();
+    }
+
+    @Test
+    public void messagesWithoutEventAreProcessedAfterMessagesQueuedOnAllLanes() throws InterruptedException {
+        CountDownLatch releaseBlockedLane = new CountDownLatch(1);
+        CountDownLatch allReceived = new CountDownLatch(4);
+        String blockedKey = oddsChangeKeyFor(matchIdOnLane(0));
+        final String laterKey = oddsChangeKeyFor(matchIdOnLane(1));
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        consumer =
+            createConsumer(
+                (routingKey, body, properties, receivedAt) -> {
+                    if (routingKey.equals(blockedKey)) {
+                        awaitQuietly(releaseBlockedLane);
+                    }
+                    received.add(routingKey);
+                    allReceived.countDown();
+                },
+                2,
+                10
+            );
+
+        consumer.onMessageReceived(blockedKey, new byte[0], null, 0);
+        consumer.onMessageReceived(SYSTEM_ROUTING_KEY, new byte[0], null, 1);
+        consumer.onMessageReceived(laterKey, new byte[0], null, 2);
+        consumer.onMessageReceived(SYSTEM_ROUTING_KEY, new byte[0], null, 3);
+        Thread.sleep(100);
+        assertThat(received).isEmpty();
+
+        releaseBlockedLane.countDown();
+
+        assertThat(allReceived.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).containsExactly(blockedKey, SYSTEM_ROUTING_KEY, laterKey, SYSTEM_ROUTING_KEY);
+        assertThat(consumer.getStatistics().getNumberOfDispatchedMessages()).isEqualTo(4);
+    }
+
+    @Test
+    public void notifiesListenerOnceLaneProcessedMessage() throws InterruptedException {
+        CountDownLatch releaseLane = new CountDownLatch(1);
+        String failingKey = oddsChangeKeyFor(2);
+        consumer =
+            createConsumer(
+                (routingKey, body, properties, receivedAt) -> {
+                    awaitQuietly(releaseLane);
+                    if (routingKey.equals(failingKey)) {
+                        throw new IllegalStateException("processing failed");
+                    }
+                },
+                2,
+                10
+            );
+        Map<String, Boolean> outcomes = new ConcurrentHashMap<>();
+        CountDownLatch allProcessed = new CountDownLatch(2);
+
+        for (String routingKey : new String[] { oddsChangeKeyFor(1), failingKey }) {
+            consumer.onMessageReceived(
+                routingKey,
+                new byte[0],
+                null,
+                0,
+                successful -> {
+                    outcomes.put(routingKey, successful);
+                    allProcessed.countDown();
+                }
+            );
+        }
+        assertThat(outcomes).isEmpty();
+        releaseLane.countDown();
+
+        assertThat(allProcessed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(outcomes).containsEntry(oddsChangeKeyFor(1), true).containsEntry(failingKey, false);
+    }
+
+    @Test
+    public void blocksDispatchWhenLaneQueueIsFull() throws InterruptedException {
+        CountDownLatch releaseLane = new CountDownLatch(1);
+        CountDownLatch laneStarted = new CountDownLatch(1);
+        consumer =
+            createConsumer(
+                (routingKey, body, properties, receivedAt) -> {
+                    laneStarted.countDown();
+                    awaitQuietly(releaseLane);
+                },
+                1,
+                1
+            );
+
+        consumer.onMessageReceived(oddsChangeKeyFor(1), new byte[0], null, 0);
+        assertThat(laneStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        consumer.onMessageReceived(oddsChangeKeyFor(1), new byte[0], null, 1);
+        assertThat(consumer.getStatistics().getNumberOfQueuedMessages()).isEqualTo(1);
+        assertThat(consumer.getStatistics().getMaxLaneQueueSize()).isEqualTo(1);
+
+        Thread dispatcher = new Thread(() ->
+            consumer.onMessageReceived(oddsChangeKeyFor(1), new byte[0], null, 2)
+        );
+        dispatcher.start();
+        dispatcher.join(200);
+        assertThat(dispatcher.isAlive()).isTrue();
+
+        releaseLane.countDown();
+        dispatcher.join(10000);
+        assertThat(dispatcher.isAlive()).isFalse();
+        assertThat(consumer.getStatistics().getNumberOfBlockedDispatches()).isEqualTo(1);
+        assertThat(consumer.getStatistics().getNumberOfDispatchedMessages()).isEqualTo(3);
+    }
+
+    @Test
+    public void exposesLaneConfiguration() {
+        consumer = createConsumer(mock(ChannelMessageConsumer.class), 3, 7);
+
+        assertThat(consumer.getStatistics().getNumberOfLanes()).isEqualTo(3);
+        assertThat(consumer.getStatistics().getLaneQueueCapacity()).isEqualTo(7);
+    }
+
+    private PartitionedChannelMessageConsumer createConsumer(
+        ChannelMessageConsumer underlying,
+        int laneCount,
+        int laneQueueCapacity
+    ) {
+        return new PartitionedChannelMessageConsumer(
+            underlying,
+            new RegexRoutingKeyParser(),
+            laneCount,
+            laneQueueCapacity,
+            new ThreadFactoryBuilder().setNameFormat("test-lane-%d").build(),
+            Collections.emptyMap()
+        );
+    }
+
+    private static String oddsChangeKeyFor(long matchId) {
+        return String.format("hi.pre.-.odds_change.1.sr:match.%d.-", matchId);
+    }
+
+    private static long matchIdOnLane(int lane) {
+        long matchId = 1;
+        while (Math.floorMod(("sr:match:" + matchId).hashCode(), 2) != lane) {
+            matchId++;
+        }
+        return matchId;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sportradar.unifiedodds.sdk.exceptions.UnsupportedUrnFormatException;
+import com.sportradar.utils.URN;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitParamsRunner.class)
+@SuppressWarnings({ "MultipleStringLiterals" })
+public class SinglePassRoutingKeyParserTest {
+
+    private final RoutingKeyParser parser = new SinglePassRoutingKeyParser();
+    private final RoutingKeyParser regexParser = new RegexRoutingKeyParser();
+
+    @Test
+    public void betSettlementKeyIsParsedCorrectly() {
+        RoutingKeyInfo info = parser.getRoutingKeyInfo("lo.-.live.bet_settlement.5.sr:match.9583179");
+
+        assertThat(info.getSportId()).isEqualTo(URN.parse("sr:sport:5"));
+        assertThat(info.getEventId()).isEqualTo(URN.parse("sr:match:9583179"));
+        assertThat(info.isSystemRoutingKey()).isFalse();
+    }
+
+    @Test
+    public void oddsChangeKeyIsParsedCorrectly() {
+        RoutingKeyInfo info = parser.getRoutingKeyInfo("hi.-.live.odds_change.6.sr:match.9536715");
+
+        assertThat(info.getSportId()).isEqualTo(URN.parse("sr:sport:6"));
+    }
+
+    @Test
+    public void sportIdsAreReused() {
+        RoutingKeyInfo first = parser.getRoutingKeyInfo("hi.-.live.odds_change.6.sr:match.1");
+        RoutingKeyInfo second = parser.getRoutingKeyInfo("hi.-.live.odds_change.6.sr:match.2");
+
+        assertThat(first.getSportId()).isSameAs(second.getSportId());
+    }
+
+    @Test
+    @Parameters(
+        {
+            "hi.-.live.odds_change.6.sr:match.9536715",
+            "hi.-.live.odds_change.6.sr:match.9536715.-",
+            "hi.-.live.odds_change.6.sr:match.9536715.12",
+            "hi.-.live.odds_change.6.sr:match.9536715.-12",
+            "hi.-.live.odds_change.6.sr:match.9536715.--",
+            "lo.pre.-.bet_settlement.1.sr:simple_tournament.2",
+            "lo.pre.-.fixture_change.1000.sr:stage.100",
+            "lo.pre.-.fixture_change.007.vf:season.100",
+            "lo.pre.-.fixture_change.1.sr:stage.-",
+            "lo.pre.-.fixture_change.-.sr:stage.15",
+            "lo.pre.-.fixture_change.1.-.15",
+            "lo.pre.-.fixture_change.1.Sr:match.15",
+            "lo.pre.-.fixture_change.1.sr:h2h2_tournament.15",
+            "lo.pre.-.fixture_change.1.sr:match.0",
+            "lo.pre.-.fixture_change.1.sr:match.99999999999999999999",
+            "lo.pre.-.fixture_change.1.sr:match:x.15",
+            "lo.pre.-.fixture_change.1.srmatch.15",
+            "lo.pre.-.fixture_change.1.:match.15",
+            "lo.pre.-.fixture_change.1.sr:.15",
+            "-.-.-.snapshot_complete.-.-.-.1",
+            "-.-.-.alive.-.-.-.-",
+            "-.-.-.product_down.-.-.-.1",
+            "hi.-.live.oddschange.6.sr:match.9536715",
+            "hi.-.live.odds_change.6sr:match.9536715",
+            "hi.-.live.odds_change.6b.sr:match.9536715",
+            "hi..live.odds_change.6.sr:match.9536715",
+            "hi.-.live.odds_change.6.sr:match.9536715.",
+            "hi.-.live.odds_change.6.sr:match.9536715.1.2",
+            "hi.-.live.odds_change.6.sr:match",
+            ".-.live.odds_change.6.sr:match.9536715",
+        }
+    )
+    public void parsesSameAsRegexParser(String routingKey) {
+        RoutingKeyInfo expected = regexParser.getRoutingKeyInfo(routingKey);
+
+        RoutingKeyInfo actual = parser.getRoutingKeyInfo(routingKey);
+
+        assertThat(actual.getFullRoutingKey()).isEqualTo(expected.getFullRoutingKey());
+        assertThat(actual.isSystemRoutingKey()).isEqualTo(expected.isSystemRoutingKey());
+        assertThat(actual.getSportId()).isEqualTo(expected.getSportId());
+        assertThat(actual.getEventId()).isEqualTo(expected.getEventId());
+        if (expected.getEventId() != null) {
+            assertThat(actual.getEventId().getGroup()).isEqualTo(expected.getEventId().getGroup());
+        }
+    }
+
+    @Test
+    @Parameters({ "hi.-.live.odds_change.0.sr:match.1", "hi.-.live.odds_change.99999999999999999999.sr:match.1" })
+    public void throwsForInvalidSportIdsAsRegexParser(String routingKey) {
+        assertThatThrownBy(() -> regexParser.getRoutingKeyInfo(routingKey))
+            .isInstanceOf(UnsupportedUrnFormatException.class);
+        assertThatThrownBy(() -> parser.getRoutingKeyInfo(routingKey))
+            .isInstanceOf(UnsupportedUrnFormatException.class);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+@SuppressWarnings({ "MagicNumber", "MultipleStringLiterals" })
+public class SpecifierValidationCacheTest {
+
+    private final SpecifierValidationCache cache = new SpecifierValidationCache(10);
+
+    @Test
+    public void keyShouldContainMarketIdAndSpecifierKeysOnly() {
+        assertThat(SpecifierValidationCache.buildKey(18, "total=2.5")).isEqualTo("18|total");
+        assertThat(SpecifierValidationCache.buildKey(18, "total=2.5|hcp=1:0")).isEqualTo("18|total|hcp");
+        assertThat(SpecifierValidationCache.buildKey(18, "total=3.5"))
+            .isEqualTo(SpecifierValidationCache.buildKey(18, "total=2.5"));
+    }
+
+    @Test
+    public void malformedSpecifiersShouldHaveNoKey() {
+        assertThat(SpecifierValidationCache.buildKey(18, "total")).isNull();
+        assertThat(SpecifierValidationCache.buildKey(18, "total=")).isNull();
+        assertThat(SpecifierValidationCache.buildKey(18, "total=2=5")).isNull();
+        assertThat(SpecifierValidationCache.buildKey(18, "total=2.5|")).isNull();
+        assertThat(SpecifierValidationCache.buildKey(18, "total=2.5||hcp=1")).isNull();
+        assertThat(SpecifierValidationCache.buildKey(18, "total|hcp=1")).isNull();
+    }
+
+    @Test
+    public void passedMarketShouldBeValidated() {
+        cache.putResult(cache.getGeneration(), 18, "18|total", true);
+        cache.putResult(cache.getGeneration(), 19, "19|total", false);
+
+        assertThat(cache.getResult("18|total")).isTrue();
+        assertThat(cache.getResult("19|total")).isFalse();
+        assertThat(cache.isValidatedMarket(18)).isTrue();
+        assertThat(cache.isValidatedMarket(19)).isFalse();
+    }
+
+    @Test
+    public void resultOfInvalidatedGenerationShouldNotBeCached() {
+        long generation = cache.getGeneration();
+
+        cache.invalidate();
+        cache.putResult(generation, 18, "18|total", true);
+
+        assertThat(cache.getResult("18|total")).isNull();
+        assertThat(cache.isValidatedMarket(18)).isFalse();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.sportradar.unifiedodds.sdk.ExceptionHandlingStrategy;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.caching.ProfileCache;
+import com.sportradar.unifiedodds.sdk.caching.SportEventCache;
+import com.sportradar.unifiedodds.sdk.caching.SportsDataCache;
+import com.sportradar.unifiedodds.sdk.entities.SportEvent;
+import com.sportradar.unifiedodds.sdk.entities.Tournament;
+import com.sportradar.utils.URN;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+@SuppressWarnings({ "ClassFanOutComplexity" })
+public class SportEntityFactoryImplTest {
+
+    private static final URN TOURNAMENT_ID = URN.parse("sr:tournament:1");
+    private static final URN SPORT_ID = URN.parse("sr:sport:1");
+    private static final List<Locale> LOCALES = ImmutableList.of(Locale.ENGLISH);
+
+    private final SportEventCache sportEventCache = mock(SportEventCache.class);
+    private final SportEntityFactoryImpl factory;
+
+    public SportEntityFactoryImplTest() {
+        MappingTypeProvider mappingTypeProvider = mock(MappingTypeProvider.class);
+        when(mappingTypeProvider.getMappingType(any())).thenReturn(Optional.of(Tournament.class));
+        SDKInternalConfiguration config = mock(SDKInternalConfiguration.class);
+        when(config.getExceptionHandlingStrategy()).thenReturn(ExceptionHandlingStrategy.Catch);
+        when(config.getDefaultLocale()).thenReturn(Locale.ENGLISH);
+
+        factory =
+            new SportEntityFactoryImpl(
+                mock(SportsDataCache.class),
+                sportEventCache,
+                mock(ProfileCache.class),
+                mock(SportEventStatusFactory.class),
+                mappingTypeProvider,
+                config
+            );
+    }
+
+    @Test
+    public void repeatedlyBuiltSportEventShouldBeReused() throws Exception {
+        SportEvent first = factory.buildSportEvent(TOURNAMENT_ID, SPORT_ID, LOCALES, true);
+
+        SportEvent second = factory.buildSportEvent(TOURNAMENT_ID, SPORT_ID, ImmutableList.of(Locale.ENGLISH), true);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void sportEventBuiltForOtherLocalesShouldNotBeReused() throws Exception {
+        SportEvent english = factory.buildSportEvent(TOURNAMENT_ID, SPORT_ID, LOCALES, true);
+
+        SportEvent german = factory.buildSportEvent(TOURNAMENT_ID, SPORT_ID, ImmutableList.of(Locale.GERMAN), true);
+
+        assertThat(german).isNotSameAs(english);
+        assertThat(german.getId()).isEqualTo(TOURNAMENT_ID);
+    }
+
+    @Test
+    public void sportEventBuiltForOtherSportShouldNotBeReused() throws Exception {
+        SportEvent withSport = factory.buildSportEvent(TOURNAMENT_ID, SPORT_ID, LOCALES, true);
+
+        SportEvent withoutSport = factory.buildSportEvent(TOURNAMENT_ID, LOCALES, true);
+
+        assertThat(withoutSport).isNotSameAs(withSport);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void sportEventShouldBeRebuiltAfterEventIsPurged() throws Exception {
+        ArgumentCaptor<Consumer<URN>> purgeListener = ArgumentCaptor.forClass(Consumer.class);
+        verify(sportEventCache).addPurgeListener(purgeListener.capture());
+        SportEvent beforePurge = factory.buildSportEvent(TOURNAMENT_ID, SPORT_ID, LOCALES, true);
+
+        purgeListener.getValue().accept(URN.parse("sr:tournament:1"));
+
+        assertThat(factory.buildSportEvent(TOURNAMENT_ID, SPORT_ID, LOCALES, true)).isNotSameAs(beforePurge);
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import org.apache.http.impl.client.CloseableHttpClient;
+
+/**
+ * Runs the fetcher tests without the traffic logging, so the responses are streamed to the readers
+ */
+public class StreamingHttpDataFetcherTest extends HttpDataFetcherTest {
+
+    @Override
+    public HttpDataFetcher createHttpDataFetcher(
+        SDKInternalConfiguration config,
+        CloseableHttpClient httpClient,
+        UnifiedOddsStatistics statsBean,
+        Deserializer apiDeserializer
+    ) {
+        return new HttpDataFetcher(config, httpClient, statsBean, apiDeserializer) {};
+    }
+}
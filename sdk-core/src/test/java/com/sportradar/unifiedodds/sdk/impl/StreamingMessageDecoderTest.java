@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.xmlunit.matchers.CompareMatcher.isIdenticalTo;
+
+import com.sportradar.uf.datamodel.UFBetSettlement;
+import com.sportradar.uf.datamodel.UFFixtureChange;
+import com.sportradar.uf.datamodel.UFMarketStatus;
+import com.sportradar.uf.datamodel.UFOddsChange;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.DeserializationException;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitParamsRunner.class)
+@SuppressWarnings({ "MagicNumber", "MultipleStringLiterals" })
+public class StreamingMessageDecoderTest {
+
+    private static final JAXBContext CONTEXT = createContext();
+
+    private final JaxbMessageDecoder jaxbDecoder = new JaxbMessageDecoder(CONTEXT);
+    private final StreamingMessageDecoder streamingDecoder = new StreamingMessageDecoder(jaxbDecoder);
+
+    @Test
+    @Parameters(
+        {
+            "odds_change.xml",
+            "test/feed_xml/odds_change.xml",
+            "test/feed_xml/odds_change_no_markets.xml",
+            "test/feed_xml/odds_change_no_outcomes.xml",
+            "test/feed_xml/odds_change_single_market.xml",
+            "test/feed_xml/probabilities.xml",
+            "test/feed_xml/bet_stop.xml",
+            "test/feed_xml/bet_settlement.xml",
+            "test/feed_xml/alive.xml",
+            "test/feed_xml/bet_cancel.xml",
+            "test/feed_xml/fixture_change.xml",
+            "test/feed_xml/snapshot_completed.xml",
+            "test/feed_xml/rollback_bet_settlement.xml",
+            "test/feed_xml/rollback_bet_cancel.xml",
+        }
+    )
+    public void decodesSameMessageAsJaxb(String resource) throws Exception {
+        byte[] body = readResource(resource);
+
+        UnmarshalledMessage expected = jaxbDecoder.decode(body);
+        UnmarshalledMessage actual = streamingDecoder.decode(body);
+
+        assertThat(actual).isExactlyInstanceOf(expected.getClass());
+        assertThat(marshal(actual), isIdenticalTo(marshal(expected)).ignoreWhitespace());
+    }
+
+    @Test
+    public void decodesOddsChangeSportEventStatusPlacedBetweenSiblings() throws Exception {
+        byte[] body = (
+            "<odds_change product=\"1\" event_id=\"sr:match:1\" timestamp=\"2\">" +
+            "<sport_event_status status=\"1\" match_status=\"6\" home_score=\"1\" away_score=\"0\">" +
+            "<clock match_time=\"10:00\"/></sport_event_status><odds_generation_properties expected_totals=\"INF\"/>" +
+            "<odds betting_status=\"1\"><market id=\"1\" status=\"-1\"><outcome id=\"1\" odds=\"1.5\" active=\"1\"/>" +
+            "</market></odds></odds_change>"
+        ).getBytes(StandardCharsets.UTF_8);
+
+        UFOddsChange message = (UFOddsChange) streamingDecoder.decode(body);
+
+        assertThat(message.getSportEventStatus().getClock().getMatchTime()).isEqualTo("10:00");
+        assertThat(message.getOddsGenerationProperties().getExpectedTotals())
+            .isEqualTo(Double.POSITIVE_INFINITY);
+        assertThat(message.getOdds().getMarket()).hasSize(1);
+        assertThat(message.getOdds().getMarket().get(0).getStatus()).isEqualTo(UFMarketStatus.SUSPENDED);
+        assertThat(marshal(message), isIdenticalTo(marshal(jaxbDecoder.decode(body))));
+    }
+
+    @Test
+    public void fallsBackToJaxbForValuesNotUnderstoodByStreamingParser() throws Exception {
+        byte[] body = (
+            "<bet_settlement product=\"1\" event_id=\"sr:match:1\" timestamp=\"2\" certainty=\"2\">" +
+            "<outcomes><market id=\"1\"><outcome id=\"1\" result=\"7\"/></market></outcomes></bet_settlement>"
+        ).getBytes(StandardCharsets.UTF_8);
+
+        UFBetSettlement message = (UFBetSettlement) streamingDecoder.decode(body);
+
+        assertThat(marshal(message), isIdenticalTo(marshal(jaxbDecoder.decode(body))));
+    }
+
+    @Test
+    public void delegatesNotStreamedMessageTypesToJaxb() throws Exception {
+        UnmarshalledMessage message = streamingDecoder.decode(readResource("test/feed_xml/fixture_change.xml"));
+
+        assertThat(message).isInstanceOf(UFFixtureChange.class);
+    }
+
+    @Test
+    public void throwsForInvalidPayload() {
+        assertThatThrownBy(() -> streamingDecoder.decode(new byte[] { 1, 2, 3, 4 }))
+            .isInstanceOf(DeserializationException.class);
+    }
+
+    @Test
+    public void throwsForEmptyPayload() {
+        assertThatThrownBy(() -> streamingDecoder.decode(new byte[0]))
+            .isInstanceOf(DeserializationException.class);
+    }
+
+    private static String marshal(Object message) throws JAXBException {
+        Marshaller marshaller = CONTEXT.createMarshaller();
+        StringWriter writer = new StringWriter();
+        marshaller.marshal(message, writer);
+        return writer.toString();
+    }
+
+    private byte[] readResource(String resource) throws Exception {
+        return Files.readAllBytes(Paths.get(this.getClass().getClassLoader().getResource(resource).toURI()));
+    }
+
+    private static JAXBContext createContext() {
+        try {
+            return JAXBContext.newInstance("com.sportradar.uf.datamodel");
+        } catch (JAXBException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
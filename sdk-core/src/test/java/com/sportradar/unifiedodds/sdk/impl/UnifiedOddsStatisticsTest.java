@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.sportradar.uf.datamodel.UFBetSettlement;
+import com.sportradar.uf.datamodel.UFBetStop;
+import com.sportradar.uf.datamodel.UFOddsChange;
+import com.sportradar.unifiedodds.sdk.instrumentation.FeedMessageInstrumentation;
+import com.sportradar.unifiedodds.sdk.instrumentation.FeedMessageStage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+@SuppressWarnings({ "MagicNumber" })
+public class UnifiedOddsStatisticsTest {
+
+    private static final int LIVE_PRODUCER_ID = 1;
+    private static final int PREMATCH_PRODUCER_ID = 3;
+
+    private final UnifiedOddsStatistics statistics = new UnifiedOddsStatistics();
+
+    @Test
+    public void countsMessagesByKindAndOrigin() {
+        UFOddsChange oddsChange = new UFOddsChange();
+        oddsChange.setProduct(LIVE_PRODUCER_ID);
+        UFBetSettlement settlement = new UFBetSettlement();
+        settlement.setProduct(PREMATCH_PRODUCER_ID);
+        settlement.setRequestId(7L);
+
+        statistics.onMessageReceived(0, 1, FeedMessageEnvelope.of(oddsChange), 100);
+        statistics.onMessageReceived(0, 1, FeedMessageEnvelope.of(settlement), 50);
+
+        assertThat(statistics.getNumberOfMessagesReceived()).isEqualTo(2);
+        assertThat(statistics.getNumberOfOddsChangesReceived()).isEqualTo(1);
+        assertThat(statistics.getNumberOfBetSettlementsReceived()).isEqualTo(1);
+        assertThat(statistics.getNumberOfRecoveryMessagesReceived()).isEqualTo(1);
+        assertThat(statistics.getNumberOfLiveMessages()).isEqualTo(1);
+        assertThat(statistics.getNumberOfPrematchMessages()).isEqualTo(1);
+        assertThat(statistics.getBytesReceived()).isEqualTo(150);
+    }
+
+    @Test
+    public void longProcessingIsCounted() {
+        UFOddsChange oddsChange = new UFOddsChange();
+
+        statistics.onMessageReceived(1000, 1200, FeedMessageEnvelope.of(oddsChange), 0);
+
+        assertThat(statistics.getNumberOfLongProcessingTimes()).isEqualTo(1);
+        assertThat(statistics.getLongMessageProcessingTimeInMs()).isEqualTo(200);
+        assertThat(statistics.getTimeOfLastMessageReceived()).isEqualTo(1000);
+    }
+
+    @Test
+    public void concurrentUpdatesAreNotLost() throws InterruptedException {
+        FeedMessageEnvelope envelope = FeedMessageEnvelope.of(new UFOddsChange());
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(
+                new Thread(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        statistics.onMessageReceived(0, 0, envelope, 1);
+                        statistics.onMessageStageCompleted(envelope, FeedMessageStage.ListenerCallback, 1);
+                    }
+                })
+            );
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(statistics.getNumberOfMessagesReceived()).isEqualTo(80_000);
+        assertThat(statistics.getNumberOfOddsChangesReceived()).isEqualTo(80_000);
+        assertThat(statistics.getBytesReceived()).isEqualTo(80_000);
+        assertThat(statistics.getMessageLatencyPercentiles())
+            .containsExactly("OddsChange ListenerCallback: count=80000, p50=0us, p99=0us, p999=0us");
+    }
+
+    @Test
+    public void stageLatenciesAreReportedPerKindAndStage() {
+        statistics.onMessageStageCompleted(
+            FeedMessageEnvelope.of(new UFOddsChange()),
+            FeedMessageStage.Decode,
+            TimeUnit.MICROSECONDS.toNanos(10)
+        );
+        statistics.onMessageStageCompleted(
+            FeedMessageEnvelope.of(new UFBetStop()),
+            FeedMessageStage.CacheProcessing,
+            TimeUnit.MICROSECONDS.toNanos(3)
+        );
+
+        assertThat(statistics.getMessageLatencyInMicros("OddsChange", "Decode", 99)).isEqualTo(10);
+        assertThat(statistics.getMessageLatencyInMicros("BetStop", "CacheProcessing", 50)).isEqualTo(3);
+        assertThat(statistics.getMessageLatencyInMicros("BetStop", "ListenerCallback", 50)).isZero();
+        assertThat(statistics.getMessageLatencyPercentiles()).hasSize(2);
+    }
+
+    @Test
+    public void brokerLagIsReported() {
+        statistics.onBrokerLag(FeedMessageEnvelope.of(new UFOddsChange()), 12);
+
+        assertThat(statistics.getBrokerLagInMillis(50)).isEqualTo(12);
+        assertThat(statistics.getMessageLatencyPercentiles())
+            .containsExactly("BrokerLag: count=1, p50=12ms, p99=12ms, p999=12ms");
+    }
+
+    @Test
+    public void decodeTimeIsRecordedWithoutInstrumentation() {
+        statistics.onMessageStageCompleted(
+            FeedMessageEnvelope.of(new UFOddsChange()),
+            FeedMessageStage.Decode,
+            TimeUnit.MILLISECONDS.toNanos(3)
+        );
+
+        assertThat(statistics.getXmlDeserilizationTimeInMs()).isEqualTo(3);
+        assertThat(statistics.getMessageLatencyPercentiles()).hasSize(1);
+    }
+
+    @Test
+    public void timingsAreForwardedToInstrumentation() {
+        FeedMessageInstrumentation instrumentation = mock(FeedMessageInstrumentation.class);
+        UnifiedOddsStatistics instrumented = new UnifiedOddsStatistics(instrumentation);
+        FeedMessageEnvelope envelope = FeedMessageEnvelope.of(new UFOddsChange());
+
+        instrumented.onMessageStageCompleted(envelope, FeedMessageStage.Validation, 7);
+        instrumented.onBrokerLag(envelope, 12);
+
+        verify(instrumentation).onStageCompleted(FeedMessageStage.Validation, envelope, 7);
+        verify(instrumentation).onBrokerLag(envelope, 12);
+    }
+
+    @Test
+    public void instrumentationFailuresDoNotPropagate() {
+        FeedMessageInstrumentation instrumentation = mock(FeedMessageInstrumentation.class);
+        doThrow(new IllegalStateException()).when(instrumentation).onStageCompleted(any(), any(), anyLong());
+        UnifiedOddsStatistics instrumented = new UnifiedOddsStatistics(instrumentation);
+
+        instrumented.onMessageStageCompleted(FeedMessageEnvelope.of(new UFOddsChange()), FeedMessageStage.Decode, 5);
+
+        assertThat(instrumented.getMessageLatencyPercentiles()).hasSize(1);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.impl.markets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.sportradar.uf.sportsapi.datamodel.DescMarket;
+import com.sportradar.uf.sportsapi.datamodel.DescOutcomes;
+import com.sportradar.unifiedodds.sdk.ExceptionHandlingStrategy;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.caching.ProfileCache;
+import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketDescriptionCI;
+import com.sportradar.unifiedodds.sdk.caching.markets.MarketDescriptionProvider;
+import com.sportradar.unifiedodds.sdk.entities.SportEvent;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+@SuppressWarnings({ "ClassDataAbstractionCoupling", "ClassFanOutComplexity", "MagicNumber" })
+public class NameProviderImplTest {
+
+    private static final int MARKET_ID = 18;
+    private static final int PRODUCER_ID = 3;
+    private static final String OVER = "12";
+    private static final String UNDER = "13";
+    private static final List<Locale> LOCALES = ImmutableList.of(Locale.ENGLISH);
+    private static final Map<String, String> SPECIFIERS = ImmutableMap.of("total", "2.5");
+
+    private final MarketDescriptionProvider descriptionProvider = mock(MarketDescriptionProvider.class);
+    private final NameProviderFactoryImpl factory;
+
+    public NameProviderImplTest() throws Exception {
+        ProfileCache profileCache = mock(ProfileCache.class);
+        SDKInternalConfiguration config = mock(SDKInternalConfiguration.class);
+        when(config.getExceptionHandlingStrategy()).thenReturn(ExceptionHandlingStrategy.Catch);
+        when(descriptionProvider.getMarketDescription(anyInt(), anyMap(), anyList(), anyBoolean()))
+            .thenReturn(new MarketDescriptionImpl(totalsMarket(), LOCALES));
+
+        factory =
+            new NameProviderFactoryImpl(
+                descriptionProvider,
+                profileCache,
+                new NameExpressionFactoryImpl(new OperandFactoryImpl(), profileCache),
+                config
+            );
+    }
+
+    @Test
+    public void outcomeNameShouldBeGeneratedFromSpecifiers() {
+        NameProvider nameProvider = buildNameProvider(SPECIFIERS);
+
+        assertThat(nameProvider.getOutcomeName(UNDER, Locale.ENGLISH)).isEqualTo("under 2.5");
+        assertThat(nameProvider.getMarketName(Locale.ENGLISH)).isEqualTo("Total 2.5");
+    }
+
+    @Test
+    public void specifierOnlyNameShouldBeSharedByNameProvidersOfOtherEvents() throws Exception {
+        buildNameProvider(SPECIFIERS).getOutcomeName(OVER, Locale.ENGLISH);
+
+        String name = buildNameProvider(ImmutableMap.of("total", "2.5")).getOutcomeName(OVER, Locale.ENGLISH);
+
+        assertThat(name).isEqualTo("over 2.5");
+        verify(descriptionProvider, times(1)).getMarketDescription(anyInt(), anyMap(), anyList(), anyBoolean());
+    }
+
+    @Test
+    public void nameForOtherSpecifiersShouldNotBeShared() {
+        buildNameProvider(SPECIFIERS).getOutcomeName(OVER, Locale.ENGLISH);
+
+        String name = buildNameProvider(ImmutableMap.of("total", "3.5")).getOutcomeName(OVER, Locale.ENGLISH);
+
+        assertThat(name).isEqualTo("over 3.5");
+    }
+
+    @Test
+    public void namesShouldBeRegeneratedAfterMarketDescriptionsAreReloaded() throws Exception {
+        ArgumentCaptor<Runnable> reloadListener = ArgumentCaptor.forClass(Runnable.class);
+        verify(descriptionProvider).addReloadListener(reloadListener.capture());
+        NameProvider nameProvider = buildNameProvider(SPECIFIERS);
+        nameProvider.getOutcomeName(OVER, Locale.ENGLISH);
+
+        reloadListener.getValue().run();
+        nameProvider.getOutcomeName(OVER, Locale.ENGLISH);
+
+        verify(descriptionProvider, times(2)).getMarketDescription(anyInt(), anyMap(), anyList(), anyBoolean());
+    }
+
+    private NameProvider buildNameProvider(Map<String, String> specifiers) {
+        return factory.buildNameProvider(mock(SportEvent.class), MARKET_ID, specifiers, PRODUCER_ID);
+    }
+
+    private static MarketDescriptionCI totalsMarket() {
+        DescMarket market = new DescMarket();
+        market.setId(MARKET_ID);
+        market.setName("Total {total}");
+        DescOutcomes outcomes = new DescOutcomes();
+        outcomes.getOutcome().add(outcome(OVER, "over {total}"));
+        outcomes.getOutcome().add(outcome(UNDER, "under {total}"));
+        market.setOutcomes(outcomes);
+        return new MarketDescriptionCI(market, mock(MappingValidatorFactory.class), Locale.ENGLISH, "test");
+    }
+
+    private static DescOutcomes.Outcome outcome(String id, String name) {
+        DescOutcomes.Outcome outcome = new DescOutcomes.Outcome();
+        outcome.setId(id);
+        outcome.setName(name);
+        return outcome;
+    }
+}
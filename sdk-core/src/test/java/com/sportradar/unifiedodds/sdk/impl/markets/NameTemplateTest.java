@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.impl.markets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Collections;
+import org.junit.Test;
+
+@SuppressWarnings({ "MultipleStringLiterals" })
+public class NameTemplateTest {
+
+    @Test
+    public void descriptorWithoutExpressionsShouldBeRenderedAsIs() {
+        NameTemplate template = NameTemplate.compile("Draw");
+
+        assertThat(template.hasExpressions()).isFalse();
+        assertThat(template.isSpecifierOnly()).isTrue();
+        assertThat(template.render(Collections.emptyList())).isEqualTo("Draw");
+    }
+
+    @Test
+    public void expressionsShouldBeReplacedInOrder() {
+        NameTemplate template = NameTemplate.compile("{!periodnr} period - {$competitor1} ({+hcp})");
+
+        assertThat(template.render(ImmutableList.of("1st", "Home", "+1.5"))).isEqualTo("1st period - Home (+1.5)");
+    }
+
+    @Test
+    public void repeatedExpressionsShouldBeReplacedInOrder() {
+        NameTemplate template = NameTemplate.compile("{total} to {total}");
+
+        assertThat(template.render(ImmutableList.of("1", "2"))).isEqualTo("1 to 2");
+    }
+
+    @Test
+    public void literalPercentCharsShouldKeepFormatSemantics() {
+        NameTemplate template = NameTemplate.compile("{total}%% over");
+
+        assertThat(template.render(ImmutableList.of("50"))).isEqualTo(String.format("%s%% over", "50"));
+    }
+
+    @Test
+    public void templateWithSpecifierExpressionsOnlyShouldBeSpecifierOnly() {
+        assertThat(NameTemplate.compile("over {total}").isSpecifierOnly()).isTrue();
+        assertThat(NameTemplate.compile("{!goalnr} goal {-hcp}").isSpecifierOnly()).isTrue();
+    }
+
+    @Test
+    public void templateWithCompetitorOrProfileExpressionsShouldNotBeSpecifierOnly() {
+        assertThat(NameTemplate.compile("{$competitor1} ({+hcp})").isSpecifierOnly()).isFalse();
+        assertThat(NameTemplate.compile("{%player} to score").isSpecifierOnly()).isFalse();
+    }
+
+    @Test
+    public void unclosedExpressionShouldNotBeCompiled() {
+        assertThatThrownBy(() -> NameTemplate.compile("over {total")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
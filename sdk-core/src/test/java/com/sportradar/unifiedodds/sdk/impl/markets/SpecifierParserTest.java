@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.impl.markets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+@SuppressWarnings({ "MagicNumber", "MultipleStringLiterals" })
+public class SpecifierParserTest {
+
+    private final SpecifierParser parser = new SpecifierParser(2);
+
+    @Test
+    public void parsesSpecifiersInReceivedOrder() {
+        Map<String, String> specifiers = parser.parse("total=2.5|hcp=0:1");
+
+        assertThat(specifiers).containsExactly(entry("total", "2.5"), entry("hcp", "0:1"));
+        assertThat(specifiers.get("hcp")).isEqualTo("0:1");
+        assertThat(specifiers.get("missing")).isNull();
+    }
+
+    @Test
+    public void parsesBackslashDelimitedSpecifiers() {
+        assertThat(parser.parse("variant=sr:exact_goals:4+\\total=2.5"))
+            .containsOnly(entry("variant", "sr:exact_goals:4+"), entry("total", "2.5"));
+    }
+
+    @Test
+    public void lastDuplicateSpecifierWins() {
+        Map<String, String> specifiers = parser.parse("total=2.5|total=3.5");
+
+        assertThat(specifiers).hasSize(1).containsEntry("total", "3.5");
+    }
+
+    @Test
+    public void missingSpecifiersAreEmpty() {
+        assertThat(parser.parse(null)).isEmpty();
+        assertThat(parser.parse("")).isEmpty();
+    }
+
+    @Test
+    public void malformedSpecifiersAreEmpty() {
+        assertThat(parser.parse("total=2.5|hcp")).isEmpty();
+    }
+
+    @Test
+    public void sameSpecifiersShareParsedMap() {
+        Map<String, String> first = parser.parse("total=2.5");
+
+        assertThat(parser.parse(new String("total=2.5"))).isSameAs(first);
+    }
+
+    @Test
+    public void parsedMapEqualsHashMap() {
+        Map<String, String> expected = new HashMap<>();
+        expected.put("total", "2.5");
+        expected.put("hcp", "0:1");
+
+        Map<String, String> specifiers = parser.parse("hcp=0:1|total=2.5");
+
+        assertThat(specifiers).isEqualTo(expected);
+        assertThat(expected).isEqualTo(specifiers);
+        assertThat(specifiers.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    public void parsedMapIsImmutable() {
+        Map<String, String> specifiers = parser.parse("total=2.5");
+
+        assertThatThrownBy(() -> specifiers.put("hcp", "0:1")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> specifiers.entrySet().iterator().next().setValue("3.5"))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
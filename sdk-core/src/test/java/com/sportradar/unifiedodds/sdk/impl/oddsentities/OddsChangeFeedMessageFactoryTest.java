@@ -8,6 +8,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.sportradar.uf.datamodel.UFOddsChange;
@@ -204,6 +207,52 @@ public class OddsChangeFeedMessageFactoryTest {
         assertEquals(Arrays.asList(market), oddsChange.getMarkets());
     }
 
+    @Test
+    public void shouldNotBuildMarketsBeforeFirstAccessIfMarketsAreLazy() {
+        val market = mock(MarketWithOdds.class);
+        val xmlOdds = mock(UFOdds.class);
+        val xmlMarket = mock(UFOddsChangeMarket.class);
+        when(xmlOdds.getMarket()).thenReturn(Arrays.asList(xmlMarket));
+        when(marketFactory.buildMarketWithOdds(any(), eq(xmlMarket), anyInt()))
+            .thenReturn(Optional.of(market));
+        message.setOdds(xmlOdds);
+
+        val oddsChange = factory.buildOddsChange(sportEvent, message, rawMessage, timestamp, true, null);
+
+        verify(marketFactory, never()).buildMarketWithOdds(any(), any(UFOddsChangeMarket.class), anyInt());
+        assertEquals(Arrays.asList(market), oddsChange.getMarkets());
+        assertEquals(Arrays.asList(market), oddsChange.getMarkets());
+        verify(marketFactory, times(1)).buildMarketWithOdds(any(), eq(xmlMarket), anyInt());
+    }
+
+    @Test
+    public void shouldBuildOnlyFilteredMarkets() {
+        final int includedMarketId = 1;
+        final int excludedMarketId = 2;
+        val market = mock(MarketWithOdds.class);
+        val xmlOdds = mock(UFOdds.class);
+        val includedXmlMarket = mock(UFOddsChangeMarket.class);
+        val excludedXmlMarket = mock(UFOddsChangeMarket.class);
+        when(includedXmlMarket.getId()).thenReturn(includedMarketId);
+        when(excludedXmlMarket.getId()).thenReturn(excludedMarketId);
+        when(xmlOdds.getMarket()).thenReturn(Arrays.asList(includedXmlMarket, excludedXmlMarket));
+        when(marketFactory.buildMarketWithOdds(any(), eq(includedXmlMarket), anyInt()))
+            .thenReturn(Optional.of(market));
+        message.setOdds(xmlOdds);
+
+        val oddsChange = factory.buildOddsChange(
+            sportEvent,
+            message,
+            rawMessage,
+            timestamp,
+            false,
+            Collections.singleton(includedMarketId)
+        );
+
+        assertEquals(Arrays.asList(market), oddsChange.getMarkets());
+        verify(marketFactory, never()).buildMarketWithOdds(any(), eq(excludedXmlMarket), anyInt());
+    }
+
     @Test
     public void shouldPreserveBetstopReason() {
         final int betstopReasonId = 3;
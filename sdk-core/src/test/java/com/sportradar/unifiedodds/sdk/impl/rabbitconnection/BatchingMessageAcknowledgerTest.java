@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.impl.rabbitconnection;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import com.rabbitmq.client.AlreadyClosedException;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ShutdownSignalException;
+import java.io.IOException;
+import org.junit.Test;
+
+@SuppressWarnings({ "MagicNumber" })
+public class BatchingMessageAcknowledgerTest {
+
+    private final Channel channel = mock(Channel.class);
+
+    @Test
+    public void acknowledgesFullBatchesWithMultipleFlag() throws IOException {
+        BatchingMessageAcknowledger acknowledger = new BatchingMessageAcknowledger(channel, 6);
+
+        for (long deliveryTag = 1; deliveryTag <= 7; deliveryTag++) {
+            acknowledger.onProcessed(deliveryTag);
+        }
+
+        verify(channel).basicAck(3, true);
+        verify(channel).basicAck(6, true);
+        verifyNoMoreInteractions(channel);
+    }
+
+    @Test
+    public void flushAcknowledgesPendingMessages() throws IOException {
+        BatchingMessageAcknowledger acknowledger = new BatchingMessageAcknowledger(channel, 10);
+        acknowledger.onProcessed(1);
+        acknowledger.onProcessed(2);
+
+        acknowledger.flush();
+        acknowledger.flush();
+
+        verify(channel, times(1)).basicAck(2, true);
+    }
+
+    @Test
+    public void flushWithoutPendingMessagesDoesNotAcknowledge() throws IOException {
+        new BatchingMessageAcknowledger(channel, 10).flush();
+
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    public void singleMessagePrefetchAcknowledgesEachMessage() throws IOException {
+        BatchingMessageAcknowledger acknowledger = new BatchingMessageAcknowledger(channel, 1);
+
+        acknowledger.onProcessed(1);
+        acknowledger.onProcessed(2);
+
+        verify(channel).basicAck(1, true);
+        verify(channel).basicAck(2, true);
+    }
+
+    @Test
+    public void acknowledgesOnlyUpToLowestMessageNotYetProcessed() throws IOException {
+        BatchingMessageAcknowledger acknowledger = new BatchingMessageAcknowledger(channel, 4);
+
+        acknowledger.onProcessed(2);
+        acknowledger.onProcessed(3);
+        acknowledger.onProcessed(4);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+
+        acknowledger.onProcessed(1);
+
+        verify(channel).basicAck(4, true);
+    }
+
+    @Test
+    public void flushDoesNotAcknowledgeMessagesFollowingUnprocessedMessage() throws IOException {
+        BatchingMessageAcknowledger acknowledger = new BatchingMessageAcknowledger(channel, 10);
+        acknowledger.onProcessed(1);
+        acknowledger.onProcessed(3);
+
+        acknowledger.flush();
+
+        verify(channel).basicAck(1, true);
+        verifyNoMoreInteractions(channel);
+    }
+
+    @Test
+    public void failedMessagesAreRejectedAndNotAcknowledged() throws IOException {
+        BatchingMessageAcknowledger acknowledger = new BatchingMessageAcknowledger(channel, 4);
+
+        acknowledger.listenerFor(1).onProcessed(true);
+        acknowledger.listenerFor(2).onProcessed(false);
+        acknowledger.listenerFor(3).onProcessed(false);
+        acknowledger.flush();
+
+        verify(channel).basicReject(2, false);
+        verify(channel).basicReject(3, false);
+        verify(channel).basicAck(1, true);
+        verifyNoMoreInteractions(channel);
+    }
+
+    @Test
+    public void acknowledgingOnClosedChannelIsIgnored() throws IOException {
+        doThrow(new AlreadyClosedException(mock(ShutdownSignalException.class)))
+            .when(channel)
+            .basicAck(anyLong(), anyBoolean());
+        BatchingMessageAcknowledger acknowledger = new BatchingMessageAcknowledger(channel, 2);
+
+        acknowledger.onProcessed(1);
+        acknowledger.onProcessed(2);
+        acknowledger.flush();
+
+        verify(channel, times(1)).basicAck(2, true);
+    }
+
+    @Test
+    public void prefetchCountMustBePositive() {
+        assertThatThrownBy(() -> new BatchingMessageAcknowledger(channel, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.impl.rabbitconnection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.google.common.collect.ImmutableSet;
+import com.sportradar.unifiedodds.sdk.impl.ChannelMessageConsumer;
+import com.sportradar.unifiedodds.sdk.impl.ProcessedMessageListener;
+import com.sportradar.unifiedodds.sdk.impl.SinglePassRoutingKeyParser;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+@SuppressWarnings({ "MagicNumber", "MultipleStringLiterals" })
+public class ChannelGroupSupervisorTest {
+
+    private static final String INTEREST = "live";
+    private static final String LIVE_KEY = "*.*.live.*.*.*.*.-.#";
+    private static final String ALIVE_KEY = "-.-.-.alive.#";
+    private static final String SNAPSHOT_KEY = "-.-.-.snapshot_complete.-.-.-.-";
+
+    private final List<OnDemandChannelSupervisor> createdChannels = new ArrayList<>();
+    private final ChannelMessageConsumer consumer = mock(ChannelMessageConsumer.class);
+
+    @Test
+    public void partitionedRoutingKeysAreLimitedToSportsAndKeepOnlySnapshotCompleteSystemKeys() {
+        List<String> keys = ChannelGroupSupervisor.partitionRoutingKeys(
+            Arrays.asList(SNAPSHOT_KEY, LIVE_KEY, ALIVE_KEY),
+            ImmutableSet.of(1, 5)
+        );
+
+        assertThat(keys).containsExactly(SNAPSHOT_KEY, "*.*.live.*.1.*.*.-.#", "*.*.live.*.5.*.*.-.#");
+    }
+
+    @Test
+    public void specificEventRoutingKeysCannotBePartitioned() {
+        assertThat(ChannelGroupSupervisor.canBePartitioned(Arrays.asList(LIVE_KEY, ALIVE_KEY))).isTrue();
+        assertThat(ChannelGroupSupervisor.canBePartitioned(Arrays.asList("#.sr:match:1.-.#", ALIVE_KEY))).isFalse();
+    }
+
+    @Test
+    public void opensSingleChannelWithoutPartitions() throws IOException {
+        ChannelGroupSupervisor group = groupOf(Collections.emptyList());
+
+        group.open(Arrays.asList(LIVE_KEY, ALIVE_KEY), consumer, INTEREST);
+
+        assertThat(createdChannels).hasSize(1);
+        verify(createdChannels.get(0)).open(Arrays.asList(LIVE_KEY, ALIVE_KEY), consumer, INTEREST);
+    }
+
+    @Test
+    public void opensChannelPerPartitionPlusRemainder() throws IOException {
+        ChannelGroupSupervisor group = groupOf(Arrays.asList(ImmutableSet.of(1), ImmutableSet.of(2, 5)));
+
+        group.open(Arrays.asList(LIVE_KEY, ALIVE_KEY), consumer, INTEREST);
+
+        assertThat(createdChannels).hasSize(3);
+        verify(createdChannels.get(0)).open(eq(Arrays.asList(LIVE_KEY, ALIVE_KEY)), any(), eq(INTEREST));
+        verify(createdChannels.get(1)).open(eq(Collections.singletonList("*.*.live.*.1.*.*.-.#")), any(), eq(INTEREST));
+        verify(createdChannels.get(2))
+            .open(eq(Arrays.asList("*.*.live.*.2.*.*.-.#", "*.*.live.*.5.*.*.-.#")), any(), eq(INTEREST));
+    }
+
+    @Test
+    public void remainderChannelDiscardsMessagesOfPartitionedSportsOnly() throws IOException {
+        ChannelGroupSupervisor group = groupOf(Collections.singletonList(ImmutableSet.of(1)));
+        group.open(Arrays.asList(LIVE_KEY, ALIVE_KEY), consumer, INTEREST);
+        ArgumentCaptor<ChannelMessageConsumer> remainder = ArgumentCaptor.forClass(ChannelMessageConsumer.class);
+        verify(createdChannels.get(0)).open(eq(Arrays.asList(LIVE_KEY, ALIVE_KEY)), remainder.capture(), any());
+
+        remainder.getValue().onMessageReceived("hi.-.live.odds_change.1.sr:match.1.-", new byte[0], null, 0);
+        remainder.getValue().onMessageReceived("hi.-.live.odds_change.2.sr:match.2.-", new byte[0], null, 0);
+        remainder.getValue().onMessageReceived("hi.-.live.odds_change.999.sr:match.3.-", new byte[0], null, 0);
+        remainder.getValue().onMessageReceived("-.-.-.alive.-.-.-.-", new byte[0], null, 0);
+
+        verify(consumer, never())
+            .onMessageReceived(eq("hi.-.live.odds_change.1.sr:match.1.-"), any(), any(), anyLong());
+        verify(consumer).onMessageReceived(eq("hi.-.live.odds_change.2.sr:match.2.-"), any(), any(), anyLong());
+        verify(consumer).onMessageReceived(eq("hi.-.live.odds_change.999.sr:match.3.-"), any(), any(), anyLong());
+        verify(consumer).onMessageReceived(eq("-.-.-.alive.-.-.-.-"), any(), any(), anyLong());
+    }
+
+    @Test
+    public void snapshotCompleteIsDispatchedOnceReceivedOnAllChannels() throws IOException {
+        ChannelGroupSupervisor group = groupOf(Arrays.asList(ImmutableSet.of(1), ImmutableSet.of(2)));
+        group.open(Arrays.asList(SNAPSHOT_KEY, LIVE_KEY, ALIVE_KEY), consumer, INTEREST);
+        List<ChannelMessageConsumer> channelConsumers = new ArrayList<>();
+        for (OnDemandChannelSupervisor channel : createdChannels) {
+            ArgumentCaptor<ChannelMessageConsumer> captor = ArgumentCaptor.forClass(ChannelMessageConsumer.class);
+            verify(channel).open(any(), captor.capture(), any());
+            channelConsumers.add(captor.getValue());
+        }
+        byte[] snapshotComplete = "<snapshot_complete request_id=\"1\"/>".getBytes(StandardCharsets.UTF_8);
+        ProcessedMessageListener listener = mock(ProcessedMessageListener.class);
+
+        channelConsumers.get(0).onMessageReceived(SNAPSHOT_KEY, snapshotComplete, null, 0, listener);
+        channelConsumers.get(2).onMessageReceived(SNAPSHOT_KEY, snapshotComplete, null, 0, listener);
+        verify(consumer, never()).onMessageReceived(any(), any(), any(), anyLong(), any());
+        verify(listener, times(2)).onProcessed(true);
+
+        channelConsumers.get(1).onMessageReceived(SNAPSHOT_KEY, snapshotComplete, null, 0, listener);
+
+        verify(consumer).onMessageReceived(SNAPSHOT_KEY, snapshotComplete, null, 0, listener);
+    }
+
+    @Test
+    public void fallsBackToSingleChannelForSpecificEvents() throws IOException {
+        ChannelGroupSupervisor group = groupOf(Collections.singletonList(ImmutableSet.of(1)));
+        List<String> keys = Arrays.asList("#.sr:match:1.-.#", ALIVE_KEY);
+
+        group.open(keys, consumer, INTEREST);
+
+        assertThat(createdChannels).hasSize(1);
+        verify(createdChannels.get(0)).open(keys, consumer, INTEREST);
+    }
+
+    @Test
+    public void channelsAreClosedAsGroup() throws IOException {
+        ChannelGroupSupervisor group = groupOf(Collections.singletonList(ImmutableSet.of(1)));
+        group.open(Arrays.asList(LIVE_KEY, ALIVE_KEY), consumer, INTEREST);
+
+        group.close();
+
+        for (OnDemandChannelSupervisor channel : createdChannels) {
+            verify(channel).close();
+        }
+    }
+
+    @Test
+    public void groupIsPermanentlyClosedIfAnyChannelIs() throws IOException {
+        ChannelGroupSupervisor group = groupOf(Collections.singletonList(ImmutableSet.of(1)));
+        group.open(Arrays.asList(LIVE_KEY, ALIVE_KEY), consumer, INTEREST);
+        when(createdChannels.get(0).checkStatus())
+            .thenReturn(new ChannelStatus(ChannelStatus.UnderlyingConnectionStatus.CAN_BE_OPEN));
+        when(createdChannels.get(1).checkStatus())
+            .thenReturn(new ChannelStatus(ChannelStatus.UnderlyingConnectionStatus.PERMANENTLY_CLOSED));
+
+        ChannelStatus status = group.checkStatus();
+
+        assertThat(status.getUnderlyingConnectionStatus())
+            .isEqualTo(ChannelStatus.UnderlyingConnectionStatus.PERMANENTLY_CLOSED);
+        verify(createdChannels.get(0)).checkStatus();
+    }
+
+    private ChannelGroupSupervisor groupOf(List<Set<Integer>> partitions) {
+        return new ChannelGroupSupervisor(
+            () -> {
+                OnDemandChannelSupervisor channel = mock(OnDemandChannelSupervisor.class);
+                createdChannels.add(channel);
+                return channel;
+            },
+            new SinglePassRoutingKeyParser(),
+            partitions
+        );
+    }
+}
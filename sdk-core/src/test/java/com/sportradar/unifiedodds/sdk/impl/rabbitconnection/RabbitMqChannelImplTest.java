@@ -11,16 +11,20 @@ import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 import com.rabbitmq.client.*;
 import com.sportradar.unifiedodds.sdk.impl.ChannelMessageConsumer;
+import com.sportradar.unifiedodds.sdk.impl.ProcessedMessageListener;
 import com.sportradar.unifiedodds.sdk.impl.RabbitMqSystemListener;
 import com.sportradar.unifiedodds.sdk.impl.TimeUtils;
 import com.sportradar.unifiedodds.sdk.impl.apireaders.WhoAmIReader;
 import java.io.IOException;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeoutException;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -384,6 +388,148 @@ public class RabbitMqChannelImplTest {
         assertContainsLogLine("Error closing connection:");
     }
 
+    @Test
+    public void messagesShouldBeAutoAcknowledgedByDefault() throws IOException {
+        Connection connection = mock(Connection.class);
+        when(connection.createChannel()).thenReturn(channel);
+        OnDemandChannelSupervisor supervisor = new RabbitMqChannelImpl(
+            mock(RabbitMqSystemListener.class),
+            mock(WhoAmIReader.class),
+            ANY,
+            AmqpConnectionFactoryStubs.holdingConnectionCreatedAt(MIDNIGHT.get(), connection),
+            timeUtils
+        );
+
+        supervisor.open(Arrays.asList(ANY), mock(ChannelMessageConsumer.class), ANY);
+
+        verify(channel, never()).basicQos(anyInt());
+        verify(channel).basicConsume(anyString(), eq(true), anyString(), any());
+    }
+
+    @Test
+    @SuppressWarnings("MagicNumber")
+    public void manualAckChannelShouldLimitUnacknowledgedMessages() throws IOException {
+        Connection connection = mock(Connection.class);
+        when(connection.createChannel()).thenReturn(channel);
+        OnDemandChannelSupervisor supervisor = new RabbitMqChannelImpl(
+            mock(RabbitMqSystemListener.class),
+            mock(WhoAmIReader.class),
+            ANY,
+            AmqpConnectionFactoryStubs.holdingConnectionCreatedAt(MIDNIGHT.get(), connection),
+            timeUtils,
+            10
+        );
+
+        supervisor.open(Arrays.asList(ANY), mock(ChannelMessageConsumer.class), ANY);
+
+        verify(channel).basicQos(10);
+        verify(channel).basicConsume(anyString(), eq(false), anyString(), any());
+    }
+
+    @Test
+    @SuppressWarnings("MagicNumber")
+    public void manualAckChannelShouldAcknowledgeProcessedMessagesInBatches() throws IOException {
+        Connection connection = mock(Connection.class);
+        when(connection.createChannel()).thenReturn(channel);
+        ChannelMessageConsumer messageConsumer = mock(ChannelMessageConsumer.class);
+        doCallRealMethod().when(messageConsumer).onMessageReceived(any(), any(), any(), anyLong(), any());
+        OnDemandChannelSupervisor supervisor = new RabbitMqChannelImpl(
+            mock(RabbitMqSystemListener.class),
+            mock(WhoAmIReader.class),
+            ANY,
+            AmqpConnectionFactoryStubs.holdingConnectionCreatedAt(MIDNIGHT.get(), connection),
+            timeUtils,
+            4
+        );
+        supervisor.open(Arrays.asList(ANY), messageConsumer, ANY);
+        ArgumentCaptor<Consumer> consumer = ArgumentCaptor.forClass(Consumer.class);
+        verify(channel).basicConsume(anyString(), anyBoolean(), anyString(), consumer.capture());
+
+        for (long deliveryTag = 1; deliveryTag <= 3; deliveryTag++) {
+            consumer.getValue().handleDelivery(ANY, envelopeWith(deliveryTag), null, new byte[] {});
+        }
+
+        verify(messageConsumer, times(3)).onMessageReceived(any(), any(), any(), anyLong());
+        verify(channel).basicAck(2, true);
+        verify(channel, never()).basicAck(eq(3L), anyBoolean());
+    }
+
+    @Test
+    @SuppressWarnings("MagicNumber")
+    public void manualAckChannelShouldAcknowledgeMessagesOnceProcessedAsynchronously() throws IOException {
+        Connection connection = mock(Connection.class);
+        when(connection.createChannel()).thenReturn(channel);
+        List<ProcessedMessageListener> pending = new ArrayList<>();
+        ChannelMessageConsumer messageConsumer = new ChannelMessageConsumer() {
+            @Override
+            public void onMessageReceived(String routingKey, byte[] body, AMQP.BasicProperties properties, long at) {}
+
+            @Override
+            public void onMessageReceived(
+                String routingKey,
+                byte[] body,
+                AMQP.BasicProperties properties,
+                long receivedAt,
+                ProcessedMessageListener listener
+            ) {
+                pending.add(listener);
+            }
+        };
+        OnDemandChannelSupervisor supervisor = new RabbitMqChannelImpl(
+            mock(RabbitMqSystemListener.class),
+            mock(WhoAmIReader.class),
+            ANY,
+            AmqpConnectionFactoryStubs.holdingConnectionCreatedAt(MIDNIGHT.get(), connection),
+            timeUtils,
+            4
+        );
+        supervisor.open(Arrays.asList(ANY), messageConsumer, ANY);
+        ArgumentCaptor<Consumer> consumer = ArgumentCaptor.forClass(Consumer.class);
+        verify(channel).basicConsume(anyString(), anyBoolean(), anyString(), consumer.capture());
+        for (long deliveryTag = 1; deliveryTag <= 3; deliveryTag++) {
+            consumer.getValue().handleDelivery(ANY, envelopeWith(deliveryTag), null, new byte[] {});
+        }
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+
+        pending.get(1).onProcessed(true);
+        pending.get(2).onProcessed(false);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        pending.get(0).onProcessed(true);
+
+        verify(channel).basicReject(3, false);
+        verify(channel).basicAck(2, true);
+    }
+
+    @Test
+    public void manualAckChannelShouldRejectMessageWhichFailedToBeDispatched() throws IOException {
+        Connection connection = mock(Connection.class);
+        when(connection.createChannel()).thenReturn(channel);
+        ChannelMessageConsumer messageConsumer = mock(ChannelMessageConsumer.class);
+        doThrow(new IllegalStateException())
+            .when(messageConsumer)
+            .onMessageReceived(any(), any(), any(), anyLong(), any());
+        OnDemandChannelSupervisor supervisor = new RabbitMqChannelImpl(
+            mock(RabbitMqSystemListener.class),
+            mock(WhoAmIReader.class),
+            ANY,
+            AmqpConnectionFactoryStubs.holdingConnectionCreatedAt(MIDNIGHT.get(), connection),
+            timeUtils,
+            2
+        );
+        supervisor.open(Arrays.asList(ANY), messageConsumer, ANY);
+        ArgumentCaptor<Consumer> consumer = ArgumentCaptor.forClass(Consumer.class);
+        verify(channel).basicConsume(anyString(), anyBoolean(), anyString(), consumer.capture());
+
+        consumer.getValue().handleDelivery(ANY, envelopeWith(1), null, new byte[] {});
+
+        verify(channel).basicReject(1, false);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    private static Envelope envelopeWith(long deliveryTag) {
+        return new Envelope(deliveryTag, false, ANY, ANY);
+    }
+
     private void assertContainsLogLine(final String text) {
         for (ILoggingEvent loggingEvent : appender.list) {
             if (loggingEvent.getFormattedMessage().contains(text)) {
@@ -1020,6 +1020,19 @@ public class RecoveryManagerTests {
         assertEquals(receivedMessageGenTimestamp, producer.getLastProcessedMessageGenTimestamp());
     }
 
+    @Test
+    public void producerLastProcessedMessageTimestampsUpdateWithProcessingTimeTest() {
+        Producer producer = producerManager.getProducer(3);
+        adjustMockedTimeUtils(1);
+
+        long onMessageReceivedTimestamp = mockedTimeUtils.now();
+        long receivedMessageGenTimestamp = getAdjustedMilliseconds(-1);
+        recoveryManager.onMessageProcessed(3, null, onMessageReceivedTimestamp, receivedMessageGenTimestamp, null, 5);
+
+        assertEquals(onMessageReceivedTimestamp, producer.getLastMessageTimestamp());
+        assertEquals(receivedMessageGenTimestamp, producer.getLastProcessedMessageGenTimestamp());
+    }
+
     private void adjustMockedTimeUtils(int seconds) {
         Instant instant = mockedTimeUtils.nowInstant();
 
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.impl.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+
+@SuppressWarnings({ "MagicNumber" })
+public class OffloadingScheduledExecutorTest {
+
+    private final OffloadingScheduledExecutor executor = new OffloadingScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("timer-%d").build(),
+        Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("task-%d").build())
+    );
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void dueTasksRunConcurrentlyOnTaskExecutor() throws InterruptedException {
+        CountDownLatch secondStarted = new CountDownLatch(1);
+        CountDownLatch firstCompleted = new CountDownLatch(1);
+        AtomicInteger taskThreads = new AtomicInteger();
+
+        executor.execute(() -> {
+            if (Thread.currentThread().getName().startsWith("task-")) {
+                taskThreads.incrementAndGet();
+            }
+            awaitQuietly(secondStarted);
+            firstCompleted.countDown();
+        });
+        executor.schedule(secondStarted::countDown, 1, TimeUnit.MILLISECONDS);
+
+        assertThat(firstCompleted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(taskThreads).hasValue(1);
+    }
+
+    @Test
+    public void periodicTaskDoesNotOverlapWithItself() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch executedAfterRelease = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        executor.scheduleAtFixedRate(
+            () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                if (release.getCount() > 0) {
+                    awaitQuietly(release);
+                } else {
+                    executedAfterRelease.countDown();
+                }
+                running.decrementAndGet();
+            },
+            0,
+            1,
+            TimeUnit.MILLISECONDS
+        );
+        Thread.sleep(50);
+        release.countDown();
+
+        assertThat(executedAfterRelease.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxRunning).hasValue(1);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
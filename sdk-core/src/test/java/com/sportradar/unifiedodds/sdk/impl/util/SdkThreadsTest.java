@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.impl.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.slf4j.MDC;
+
+@SuppressWarnings({ "MagicNumber" })
+public class SdkThreadsTest {
+
+    private static final String NAME_PREFIX = "UfSdk-test-";
+    private static final String FIRST_THREAD_NAME = NAME_PREFIX + "0";
+    private static final String MDC_KEY = "uf-sdk-tag";
+    private static final Runnable NO_OP = () -> {};
+
+    @Test
+    public void platformThreadsShouldBeNamedByPrefixAndSequence() {
+        ThreadFactory threadFactory = SdkThreads.newThreadFactory(NAME_PREFIX, false);
+
+        assertThat(threadFactory.newThread(NO_OP).getName()).isEqualTo(FIRST_THREAD_NAME);
+        assertThat(threadFactory.newThread(NO_OP).getName()).isEqualTo(NAME_PREFIX + "1");
+    }
+
+    @Test
+    public void runtimeFeatureVersionShouldBeRecognized() {
+        assertThat(SdkThreads.getRuntimeFeatureVersion()).isEqualTo(Runtime.version().feature());
+        assertThat(SdkThreads.isVirtualThreadSupported()).isEqualTo(Runtime.version().feature() >= 21);
+    }
+
+    @Test
+    public void scheduledTasksShouldRunOnNamedPlatformThreadWhenVirtualThreadsAreNotConfigured() throws Exception {
+        ScheduledExecutorService executor = SdkThreads.newScheduledExecutor(NAME_PREFIX, false);
+
+        try {
+            String threadName = executor
+                .schedule(() -> Thread.currentThread().getName(), 1, TimeUnit.MILLISECONDS)
+                .get(5, TimeUnit.SECONDS);
+
+            assertThat(threadName).isEqualTo(FIRST_THREAD_NAME);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void virtualThreadsShouldNotBeUsedWhenNotConfigured() {
+        assertThat(SdkThreads.shouldUseVirtualThreads(false)).isFalse();
+    }
+
+    @Test
+    public void platformThreadsShouldBeUsedWhenVirtualThreadsAreNotSupported() {
+        assumeFalse(SdkThreads.isVirtualThreadSupported());
+
+        assertThat(SdkThreads.shouldUseVirtualThreads(true)).isFalse();
+        assertThat(SdkThreads.newThreadFactory(NAME_PREFIX, true).newThread(NO_OP).getName())
+            .isEqualTo(FIRST_THREAD_NAME);
+        assertThatThrownBy(() -> SdkThreads.newVirtualThreadPerTaskExecutor(NAME_PREFIX))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void virtualThreadsShouldBeCreatedWhenConfiguredAndSupported() throws Exception {
+        assumeTrue(SdkThreads.isVirtualThreadSupported());
+
+        Thread thread = SdkThreads.newThreadFactory(NAME_PREFIX, true).newThread(NO_OP);
+
+        assertThat(thread.getName()).isEqualTo(FIRST_THREAD_NAME);
+        assertThat(Thread.class.getMethod("isVirtual").invoke(thread)).isEqualTo(true);
+    }
+
+    @Test
+    public void perTaskExecutorShouldRunTasksOnVirtualThreads() throws Exception {
+        assumeTrue(SdkThreads.isVirtualThreadSupported());
+        ExecutorService executor = SdkThreads.newVirtualThreadPerTaskExecutor(NAME_PREFIX);
+
+        try {
+            Object isVirtual = executor
+                .submit(() -> Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()))
+                .get(5, TimeUnit.SECONDS);
+
+            assertThat(isVirtual).isEqualTo(true);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void mdcContextShouldBePropagatedToTasksOnConfiguredThreads() throws Exception {
+        boolean useVirtualThreads = SdkThreads.isVirtualThreadSupported();
+        ScheduledExecutorService executor = new MdcScheduledExecutorService(
+            Executors.newScheduledThreadPool(1, SdkThreads.newThreadFactory(NAME_PREFIX, useVirtualThreads)),
+            ImmutableMap.of(MDC_KEY, "sdk-1")
+        );
+
+        try {
+            String tag = executor.schedule(() -> MDC.get(MDC_KEY), 1, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS);
+
+            assertThat(tag).isEqualTo("sdk-1");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.instrumentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.sportradar.uf.datamodel.UFBetStop;
+import com.sportradar.uf.datamodel.UFOddsChange;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+@SuppressWarnings({ "MagicNumber" })
+public class InMemoryFeedMessageMetricsTest {
+
+    private final InMemoryFeedMessageMetrics metrics = new InMemoryFeedMessageMetrics();
+
+    @Test
+    public void stageLatenciesAreAggregatedPerMessageTypeInMicros() {
+        FeedMessageMetadata oddsChange = messageOf(new UFOddsChange());
+
+        metrics.onStageCompleted(FeedMessageStage.Decode, oddsChange, TimeUnit.MICROSECONDS.toNanos(8));
+        metrics.onStageCompleted(FeedMessageStage.Decode, oddsChange, TimeUnit.MICROSECONDS.toNanos(8));
+        metrics.onStageCompleted(FeedMessageStage.ListenerCallback, oddsChange, TimeUnit.MICROSECONDS.toNanos(3));
+
+        assertThat(metrics.getStageCount(UFOddsChange.class, FeedMessageStage.Decode)).isEqualTo(2);
+        assertThat(metrics.getStageLatencyInMicros(UFOddsChange.class, FeedMessageStage.Decode, 99)).isEqualTo(8);
+        assertThat(metrics.getStageLatencyInMicros(UFOddsChange.class, FeedMessageStage.ListenerCallback, 50))
+            .isEqualTo(3);
+        assertThat(metrics.getStageCount(UFOddsChange.class, FeedMessageStage.Validation)).isZero();
+    }
+
+    @Test
+    public void unknownMessageTypesReportZero() {
+        metrics.onStageCompleted(FeedMessageStage.Decode, messageOf(new UFOddsChange()), 1000);
+
+        assertThat(metrics.getStageCount(UFBetStop.class, FeedMessageStage.Decode)).isZero();
+        assertThat(metrics.getStageLatencyInMicros(UFBetStop.class, FeedMessageStage.Decode, 50)).isZero();
+    }
+
+    @Test
+    public void brokerLagIsAggregatedInMillis() {
+        metrics.onBrokerLag(messageOf(new UFOddsChange()), 5);
+        metrics.onBrokerLag(messageOf(new UFBetStop()), 9);
+
+        assertThat(metrics.getBrokerLagCount()).isEqualTo(2);
+        assertThat(metrics.getBrokerLagInMillis(50)).isEqualTo(5);
+        assertThat(metrics.getBrokerLagInMillis(100)).isEqualTo(9);
+    }
+
+    private static FeedMessageMetadata messageOf(UnmarshalledMessage message) {
+        FeedMessageMetadata metadata = mock(FeedMessageMetadata.class);
+        when(metadata.getMessage()).thenReturn(message);
+        return metadata;
+    }
+}
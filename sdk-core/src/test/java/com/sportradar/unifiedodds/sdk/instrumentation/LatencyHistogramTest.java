@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.unifiedodds.sdk.instrumentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.Test;
+
+@SuppressWarnings({ "MagicNumber" })
+public class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void emptyHistogramReportsZero() {
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.getValueAtPercentile(99)).isZero();
+    }
+
+    @Test
+    public void smallValuesAreRecordedExactly() {
+        for (long value = 0; value < 16; value++) {
+            assertThat(LatencyHistogram.highestValueOf(LatencyHistogram.bucketOf(value))).isEqualTo(value);
+        }
+    }
+
+    @Test
+    public void bucketContainsItsValue() {
+        for (long value = 1; value < 10_000_000; value = value * 3 + 1) {
+            long highest = LatencyHistogram.highestValueOf(LatencyHistogram.bucketOf(value));
+
+            assertThat(highest).isGreaterThanOrEqualTo(value);
+            assertThat((double) highest).isCloseTo(value, within(value * 0.0625));
+        }
+    }
+
+    @Test
+    public void percentilesAreWithinPrecision() {
+        for (long value = 1; value <= 1000; value++) {
+            histogram.recordValue(value);
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(1000);
+        assertThat((double) histogram.getValueAtPercentile(50)).isCloseTo(500, within(500 * 0.0625));
+        assertThat((double) histogram.getValueAtPercentile(99)).isCloseTo(990, within(990 * 0.0625));
+        assertThat((double) histogram.getValueAtPercentile(100)).isCloseTo(1000, within(1000 * 0.0625));
+    }
+
+    @Test
+    public void negativeValuesAreRecordedAsZero() {
+        histogram.recordValue(-5);
+
+        assertThat(histogram.getCount()).isEqualTo(1);
+        assertThat(histogram.getValueAtPercentile(50)).isZero();
+    }
+}
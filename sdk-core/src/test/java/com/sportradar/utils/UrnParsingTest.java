@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+package com.sportradar.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sportradar.unifiedodds.sdk.exceptions.UnsupportedUrnFormatException;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitParamsRunner.class)
+@SuppressWarnings({ "MagicNumber", "MultipleStringLiterals" })
+public class UrnParsingTest {
+
+    @After
+    public void disablePool() {
+        URN.setInternPoolSize(0);
+    }
+
+    @Test
+    @Parameters(
+        {
+            "sr:match:12345, sr, match, 12345, sr:match:12345",
+            "sr:simple_tournament:1, sr, simple_tournament, 1, sr:simple_tournament:1",
+            "vf:h2h2_tournament:42, vf, h2h2_tournament, 42, vf:h2h2_tournament:42",
+            "Ccc:Custom:7, Ccc, Custom, 7, Ccc:Custom:7",
+            "sr:match:-5, sr, match, -5, sr:match:-5",
+            "sr:match:007, sr, match, 7, sr:match:7",
+            "sr:match:9223372036854775807, sr, match, 9223372036854775807, sr:match:9223372036854775807",
+            "sr:match:-9223372036854775808, sr, match, -9223372036854775808, sr:match:-9223372036854775808",
+        }
+    )
+    public void parsesValidUrns(String value, String prefix, String type, long id, String canonical) {
+        URN urn = URN.parse(value);
+
+        assertThat(urn.getPrefix()).isEqualTo(prefix);
+        assertThat(urn.getType()).isEqualTo(type);
+        assertThat(urn.getId()).isEqualTo(id);
+        assertThat(urn.toString()).isEqualTo(canonical);
+        assertThat(urn).isEqualTo(new URN(prefix, type, id));
+        assertThat(urn.hashCode()).isEqualTo(canonical.hashCode());
+    }
+
+    @Test
+    @Parameters(
+        {
+            "sr:match:0",
+            "sr:match:-0",
+            "sr:match:",
+            "sr:match:-",
+            "sr:match:1-2",
+            "sr:match:--1",
+            "sr:match:1:2",
+            "sr:match:9223372036854775808",
+            "sr::1",
+            ":match:1",
+            "s1:match:1",
+            "sr:ma-tch:1",
+            "sr:match",
+            "srmatch1",
+        }
+    )
+    public void rejectsInvalidUrns(String value) {
+        assertThatThrownBy(() -> URN.parse(value)).isInstanceOf(UnsupportedUrnFormatException.class);
+    }
+
+    @Test
+    public void rejectsNull() {
+        assertThatThrownBy(() -> URN.parse(null)).isInstanceOf(UnsupportedUrnFormatException.class);
+    }
+
+    @Test
+    public void reusesKnownPrefixesAndTypes() {
+        URN urn = URN.parse(new String("sr:match:1"));
+
+        assertThat(urn.getPrefix()).isSameAs("sr");
+        assertThat(urn.getType()).isSameAs("match");
+    }
+
+    @Test
+    public void createsNewInstancesWithoutPool() {
+        assertThat(URN.parse("sr:match:1")).isNotSameAs(URN.parse("sr:match:1"));
+    }
+
+    @Test
+    public void resolvesEqualStringsToSameInstanceWithPool() {
+        URN.setInternPoolSize(100);
+
+        URN first = URN.parse(new String("sr:match:1"));
+        URN second = URN.parse(new String("sr:match:1"));
+
+        assertThat(first).isSameAs(second);
+        assertThat(URN.parse("sr:match:2")).isNotSameAs(first);
+    }
+
+    @Test
+    public void rejectsNegativePoolSize() {
+        assertThatThrownBy(() -> URN.setInternPoolSize(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}